@@ -0,0 +1,39 @@
+package com.example.wagemanager.benchmark;
+
+import com.example.wagemanager.domain.salary.util.DeductionCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 공제 유형별 세금/4대보험 계산
+ */
+@State(Scope.Benchmark)
+public class DeductionCalculatorBenchmark {
+
+    private static final LocalDate PAYMENT_DATE = LocalDate.of(2024, 6, 10);
+
+    @Param({"FREELANCER", "PART_TIME_NONE", "PART_TIME_TAX_ONLY", "PART_TIME_TAX_AND_INSURANCE"})
+    public DeductionCalculator.PayrollDeductionType deductionType;
+
+    // 간이 소득세 구간별 급여 (100만원 미만 / 200만원 미만 / 200만원 이상, 근무 기록 합산 자릿수 포함)
+    @Param({"850000", "1534250.50", "2987654.3275"})
+    public String grossPay;
+
+    private BigDecimal gross;
+
+    @Setup
+    public void setUp() {
+        gross = new BigDecimal(grossPay);
+    }
+
+    @Benchmark
+    public DeductionCalculator.TaxResult calculate() {
+        return DeductionCalculator.calculate(gross, deductionType, PAYMENT_DATE);
+    }
+}
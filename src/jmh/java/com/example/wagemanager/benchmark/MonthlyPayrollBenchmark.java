@@ -0,0 +1,46 @@
+package com.example.wagemanager.benchmark;
+
+import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.salary.util.DeductionCalculator;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 월 급여 집계 (근무 기록 합산 + 주간 수당 이월 + 공제)
+ * SalaryService.calculateSalaryByWorkRecords에서 저장소 조회를 뺀 계산 부분과 같다.
+ */
+@State(Scope.Benchmark)
+public class MonthlyPayrollBenchmark {
+
+    @Param({"PART_TIME_NONE", "PART_TIME_TAX_AND_INSURANCE"})
+    public DeductionCalculator.PayrollDeductionType deductionType;
+
+    private WorkerContract contract;
+    private PayrollCalculator.PayPeriod period;
+    private List<WorkRecord> workRecords;
+    private List<WeeklyAllowance> currentMonthAllowances;
+    private List<WeeklyAllowance> previousMonthAllowances;
+
+    @Setup
+    public void setUp() {
+        contract = PayrollFixtures.contract(deductionType);
+        period = PayrollCalculator.payPeriod(PayrollFixtures.PAYMENT_DAY, 2024, 3);
+        workRecords = PayrollFixtures.monthOfRecords(contract, period.getStartDate(), period.getEndDate());
+        currentMonthAllowances = PayrollFixtures.allowances(contract, period.getPaymentDate().withDayOfMonth(1), 5);
+        previousMonthAllowances = PayrollFixtures.allowances(contract, period.getStartDate().withDayOfMonth(1), 5);
+    }
+
+    @Benchmark
+    public PayrollCalculator.Result calculateMonth() {
+        PayrollCalculator.WorkTotals totals = PayrollCalculator.WorkTotals.sum(workRecords);
+        return PayrollCalculator.calculate(contract, period, totals, currentMonthAllowances, previousMonthAllowances);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.wagemanager.benchmark;
+
+import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.salary.util.DeductionCalculator;
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 메모리 내 급여 데이터 (DB 없이 엔티티 빌더로 생성)
+ */
+final class PayrollFixtures {
+
+    static final BigDecimal HOURLY_WAGE = new BigDecimal("10030.00");
+    static final int PAYMENT_DAY = 25;
+
+    private PayrollFixtures() {
+    }
+
+    static WorkerContract contract(DeductionCalculator.PayrollDeductionType deductionType) {
+        return WorkerContract.builder()
+                .id(1L)
+                .hourlyWage(HOURLY_WAGE)
+                .workSchedules("[]")
+                .contractStartDate(LocalDate.of(2024, 1, 1))
+                .paymentDay(PAYMENT_DAY)
+                .payrollDeductionType(deductionType)
+                .build();
+    }
+
+    /**
+     * 완료 처리된 근무 기록 (시간/급여 칼럼 계산 완료)
+     */
+    static WorkRecord completedRecord(WorkerContract contract, LocalDate workDate, LocalTime start, LocalTime end) {
+        WorkRecord workRecord = WorkRecord.builder()
+                .contract(contract)
+                .workDate(workDate)
+                .startTime(start)
+                .endTime(end)
+                .breakMinutes(30)
+                .build();
+        workRecord.complete();
+        return workRecord;
+    }
+
+    /**
+     * 월요일부터 하루 한두 건씩 배치한 한 주의 근무 기록 (주간/야간/주말 근무 혼합)
+     */
+    static List<WorkRecord> weekOfRecords(WorkerContract contract, LocalDate monday, int recordCount) {
+        List<WorkRecord> records = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            LocalDate workDate = monday.plusDays(i % 7);
+            boolean secondShift = i >= 7;
+            records.add(secondShift
+                    ? completedRecord(contract, workDate, LocalTime.of(18, 0), LocalTime.of(23, 30))
+                    : completedRecord(contract, workDate, LocalTime.of(9, 0), LocalTime.of(15, 0)));
+        }
+        return records;
+    }
+
+    static WeeklyAllowance weeklyAllowance(WorkerContract contract, LocalDate monday, List<WorkRecord> records) {
+        WeeklyAllowance allowance = WeeklyAllowance.builder()
+                .contract(contract)
+                .weekStartDate(monday)
+                .weekEndDate(monday.plusDays(6))
+                .workRecords(new ArrayList<>(records))
+                .build();
+        allowance.calculateTotalWorkHours();
+        allowance.calculateWeeklyPaidLeave();
+        allowance.calculateOvertime();
+        return allowance;
+    }
+
+    /**
+     * from 이후 첫 월요일부터 weeks 주 동안의 주간 수당
+     */
+    static List<WeeklyAllowance> allowances(WorkerContract contract, LocalDate from, int weeks) {
+        LocalDate monday = from.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        List<WeeklyAllowance> allowances = new ArrayList<>(weeks);
+        for (int week = 0; week < weeks; week++) {
+            LocalDate weekStart = monday.plusWeeks(week);
+            allowances.add(weeklyAllowance(contract, weekStart, weekOfRecords(contract, weekStart, 7)));
+        }
+        return allowances;
+    }
+
+    /**
+     * 기간 내 매일 한 건의 근무 기록 (일요일은 예정 상태로 남겨 급여 합산에서 제외)
+     */
+    static List<WorkRecord> monthOfRecords(WorkerContract contract, LocalDate startDate, LocalDate endDate) {
+        List<WorkRecord> records = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                records.add(WorkRecord.builder()
+                        .contract(contract)
+                        .workDate(date)
+                        .startTime(LocalTime.of(10, 0))
+                        .endTime(LocalTime.of(16, 0))
+                        .status(WorkRecordStatus.SCHEDULED)
+                        .build());
+            } else if (date.getDayOfMonth() % 3 == 0) {
+                records.add(completedRecord(contract, date, LocalTime.of(17, 0), LocalTime.of(23, 0)));
+            } else {
+                records.add(completedRecord(contract, date, LocalTime.of(9, 0), LocalTime.of(18, 0)));
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.wagemanager.benchmark;
+
+import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.salary.util.DeductionCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 주간 근무 시간 합산과 주휴수당/연장수당 계산
+ */
+@State(Scope.Benchmark)
+public class WeeklyAllowanceBenchmark {
+
+    // 주 7건(하루 한 건) / 14건(하루 두 건, 40시간 초과)
+    @Param({"7", "14"})
+    public int recordCount;
+
+    private WeeklyAllowance allowance;
+
+    @Setup
+    public void setUp() {
+        WorkerContract contract = PayrollFixtures.contract(DeductionCalculator.PayrollDeductionType.PART_TIME_NONE);
+        LocalDate monday = LocalDate.of(2024, 1, 15);
+        allowance = PayrollFixtures.weeklyAllowance(contract, monday,
+                PayrollFixtures.weekOfRecords(contract, monday, recordCount));
+    }
+
+    // WeeklyAllowanceService.recalculateAllowances와 같은 순서로 계산
+    @Benchmark
+    public BigDecimal recalculate() {
+        allowance.calculateTotalWorkHours();
+        allowance.calculateWeeklyPaidLeave();
+        allowance.calculateOvertime();
+        return allowance.getOvertimeAmount();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.wagemanager.benchmark;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.salary.util.DeductionCalculator;
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 근무 기록 시간 분류(일반/야간/휴일)와 일급 계산
+ */
+@State(Scope.Benchmark)
+public class WorkRecordBenchmark {
+
+    public enum Shift {
+        DAY,        // 평일 09:00 ~ 18:00
+        NIGHT,      // 평일 04:00 ~ 23:30 (새벽·심야 구간 모두 포함)
+        HOLIDAY     // 토요일 18:00 ~ 23:00
+    }
+
+    @Param({"DAY", "NIGHT", "HOLIDAY"})
+    public Shift shift;
+
+    private WorkRecord workRecord;
+
+    @Setup
+    public void setUp() {
+        WorkerContract contract = PayrollFixtures.contract(DeductionCalculator.PayrollDeductionType.PART_TIME_NONE);
+        workRecord = switch (shift) {
+            case DAY -> PayrollFixtures.completedRecord(contract, LocalDate.of(2024, 1, 15), LocalTime.of(9, 0), LocalTime.of(18, 0));
+            case NIGHT -> PayrollFixtures.completedRecord(contract, LocalDate.of(2024, 1, 16), LocalTime.of(4, 0), LocalTime.of(23, 30));
+            case HOLIDAY -> PayrollFixtures.completedRecord(contract, LocalDate.of(2024, 1, 20), LocalTime.of(18, 0), LocalTime.of(23, 0));
+        };
+    }
+
+    // 근무 완료 처리 시 시간 분류와 급여 계산이 함께 수행됨
+    @Benchmark
+    public BigDecimal classifyAndPay() {
+        workRecord.complete();
+        return workRecord.getTotalSalary();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.wagemanager.api.correctionrequest;
 
 import com.example.wagemanager.common.dto.ApiResponse;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.correction.dto.CorrectionRequestDto;
 import com.example.wagemanager.domain.correction.enums.CorrectionStatus;
 import com.example.wagemanager.domain.correction.enums.RequestType;
@@ -23,6 +24,7 @@ public class EmployerCorrectionRequestController {
 
     private final CorrectionRequestService correctionRequestService;
     private final WorkRecordQueryService workRecordQueryService;
+    private final ContractWriteSerializer contractWriteSerializer;
 
     @Operation(summary = "승인 대기중인 모든 요청 조회 (통합)",
                description = "사업장의 승인 대기중인 근무 생성/수정/삭제 요청을 통합하여 조회합니다. 필터를 통해 특정 타입만 조회할 수 있습니다.")
@@ -59,7 +61,7 @@ public class EmployerCorrectionRequestController {
     public ApiResponse<CorrectionRequestDto.Response> approveCorrectionRequest(
             @Parameter(description = "정정요청 ID", required = true) @PathVariable Long id) {
         return ApiResponse.success(
-                correctionRequestService.approveCorrectionRequest(id));
+                contractWriteSerializer.execute(() -> correctionRequestService.approveCorrectionRequest(id)));
     }
 
     @Operation(summary = "정정요청 거절", description = "근로자의 정정요청을 거절합니다.")
@@ -3,6 +3,7 @@ package com.example.wagemanager.api.employer;
 import com.example.wagemanager.common.dto.ApiResponse;
 import com.example.wagemanager.domain.contract.dto.ContractDto;
 import com.example.wagemanager.domain.contract.service.ContractService;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,6 +22,7 @@ import java.util.List;
 public class EmployerContractController {
 
     private final ContractService contractService;
+    private final ContractWriteSerializer contractWriteSerializer;
 
     @Operation(summary = "사업장에 근로자 추가", description = "사업장에 근로자를 추가하고 계약을 생성합니다.")
     @PreAuthorize("@workplacePermission.canAccess(#workplaceId)")
@@ -53,7 +55,7 @@ public class EmployerContractController {
     public ApiResponse<ContractDto.Response> updateContract(
             @Parameter(description = "계약 ID", required = true) @PathVariable Long id,
             @Valid @RequestBody ContractDto.UpdateRequest request) {
-        return ApiResponse.success(contractService.updateContract(id, request));
+        return ApiResponse.success(contractWriteSerializer.execute(() -> contractService.updateContract(id, request)));
     }
 
     @Operation(summary = "계약 종료", description = "근로 계약을 종료 처리합니다.")
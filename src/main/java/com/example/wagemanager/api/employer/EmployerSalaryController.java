@@ -1,13 +1,20 @@
 package com.example.wagemanager.api.employer;
 
 import com.example.wagemanager.common.dto.ApiResponse;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.salary.dto.PayrollRunDto;
 import com.example.wagemanager.domain.salary.dto.SalaryDto;
+import com.example.wagemanager.domain.salary.service.PayrollRunOrchestrator;
+import com.example.wagemanager.domain.salary.service.PayrollRunService;
 import com.example.wagemanager.domain.salary.service.SalaryService;
+import com.example.wagemanager.domain.salary.service.WorkplacePayrollSummaryService;
+import com.example.wagemanager.domain.user.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,6 +27,10 @@ import java.util.List;
 public class EmployerSalaryController {
 
     private final SalaryService salaryService;
+    private final PayrollRunService payrollRunService;
+    private final PayrollRunOrchestrator payrollRunOrchestrator;
+    private final WorkplacePayrollSummaryService workplacePayrollSummaryService;
+    private final ContractWriteSerializer contractWriteSerializer;
 
     @Operation(summary = "급여 목록 조회", description = "특정 사업장의 전체 급여 목록을 조회합니다.")
     @PreAuthorize("@salaryPermission.canAccessWorkplaceSalaries(#workplaceId)")
@@ -39,6 +50,16 @@ public class EmployerSalaryController {
         return ApiResponse.success(salaryService.getSalariesByWorkplaceAndYearMonth(workplaceId, year, month));
     }
 
+    @Operation(summary = "사업장 월별 급여 요약", description = "특정 사업장의 특정 연월 급여 인원, 총 지급액/공제액/실수령액, 송금 완료/미송금 건수를 조회합니다.")
+    @PreAuthorize("@salaryPermission.canAccessWorkplaceSalaries(#workplaceId)")
+    @GetMapping("/summary")
+    public ApiResponse<SalaryDto.WorkplaceSummaryResponse> getWorkplaceSummary(
+            @Parameter(description = "사업장 ID", required = true) @RequestParam Long workplaceId,
+            @Parameter(description = "연도", required = true) @RequestParam Integer year,
+            @Parameter(description = "월", required = true) @RequestParam Integer month) {
+        return ApiResponse.success(workplacePayrollSummaryService.getSummary(workplaceId, year, month));
+    }
+
     @Operation(summary = "급여 상세 조회", description = "특정 급여의 상세 정보를 조회합니다.")
     @PreAuthorize("@salaryPermission.canAccess(#id)")
     @GetMapping("/{id}")
@@ -54,6 +75,50 @@ public class EmployerSalaryController {
             @Parameter(description = "계약 ID", required = true) @PathVariable Long contractId,
             @Parameter(description = "연도", required = true) @RequestParam Integer year,
             @Parameter(description = "월", required = true) @RequestParam Integer month) {
-        return ApiResponse.success(salaryService.calculateSalaryByWorkRecords(contractId, year, month));
+        return ApiResponse.success(contractWriteSerializer.execute(() -> salaryService.calculateSalaryByWorkRecords(contractId, year, month)));
+    }
+
+    @Operation(summary = "사업장 급여 일괄 계산", description = "사업장의 모든 활성 계약에 대해 해당 연월 급여를 일괄 계산합니다. 계약별 성공/실패 결과를 반환합니다.")
+    @PreAuthorize("@salaryPermission.canAccessWorkplaceSalaries(#workplaceId)")
+    @PostMapping("/payroll-runs")
+    public ApiResponse<PayrollRunDto.Response> runPayrollForWorkplace(
+            @Parameter(description = "사업장 ID", required = true) @RequestParam Long workplaceId,
+            @Parameter(description = "연도", required = true) @RequestParam Integer year,
+            @Parameter(description = "월", required = true) @RequestParam Integer month) {
+        return ApiResponse.success(contractWriteSerializer.execute(() -> payrollRunService.runForWorkplace(workplaceId, year, month)));
+    }
+
+    @Operation(summary = "전체 사업장 급여 일괄 계산", description = "로그인한 고용주의 모든 활성 사업장에 대해 해당 연월 급여를 일괄 계산합니다.")
+    @PostMapping("/payroll-runs/all")
+    public ApiResponse<PayrollRunDto.Response> runPayrollForEmployer(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "연도", required = true) @RequestParam Integer year,
+            @Parameter(description = "월", required = true) @RequestParam Integer month) {
+        return ApiResponse.success(contractWriteSerializer.execute(() -> payrollRunService.runForEmployer(user.getId(), year, month)));
+    }
+
+    @Operation(summary = "월말 급여 정산 시작", description = "로그인한 고용주의 모든 활성 사업장 계약을 청크로 나누어 병렬로 급여를 계산합니다. 실행은 백그라운드에서 진행되며 진행 상태를 반환합니다.")
+    @PostMapping("/payroll-runs/month-end")
+    public ApiResponse<PayrollRunDto.Progress> startMonthEndPayrollRun(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "연도", required = true) @RequestParam Integer year,
+            @Parameter(description = "월", required = true) @RequestParam Integer month) {
+        return ApiResponse.success(payrollRunOrchestrator.start(user.getId(), year, month));
+    }
+
+    @Operation(summary = "월말 급여 정산 진행 상태 조회", description = "청크별 처리 상태를 집계한 진행률을 조회합니다.")
+    @PreAuthorize("@salaryPermission.canAccessPayrollRun(#runId)")
+    @GetMapping("/payroll-runs/{runId}")
+    public ApiResponse<PayrollRunDto.Progress> getPayrollRunProgress(
+            @Parameter(description = "급여 정산 실행 ID", required = true) @PathVariable Long runId) {
+        return ApiResponse.success(payrollRunOrchestrator.getProgress(runId));
+    }
+
+    @Operation(summary = "월말 급여 정산 재개", description = "완료되지 않은(대기/실패) 청크만 다시 실행합니다.")
+    @PreAuthorize("@salaryPermission.canAccessPayrollRun(#runId)")
+    @PostMapping("/payroll-runs/{runId}/resume")
+    public ApiResponse<PayrollRunDto.Progress> resumePayrollRun(
+            @Parameter(description = "급여 정산 실행 ID", required = true) @PathVariable Long runId) {
+        return ApiResponse.success(payrollRunOrchestrator.resume(runId));
     }
 }
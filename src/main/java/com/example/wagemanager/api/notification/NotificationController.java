@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -42,10 +43,13 @@ public class NotificationController {
         return ApiResponse.success(resp);
     }
 
-    @Operation(summary = "실시간 알림 구독 (SSE)", description = "Server-Sent Events를 통해 실시간 알림을 구독합니다.")
+    @Operation(summary = "실시간 알림 구독 (SSE)", description = "Server-Sent Events를 통해 실시간 알림을 구독합니다. 재연결 시 Last-Event-ID 이후 알림을 먼저 전송합니다. 이미 받은 알림이 다시 올 수 있으므로 이벤트 id(알림 ID)로 중복을 제거해야 합니다.")
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@AuthenticationPrincipal User user) {
-        return sseEmitterService.createEmitter(user.getId());
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "마지막으로 받은 알림 이벤트 ID (브라우저가 재연결 시 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return sseEmitterService.createEmitter(user.getId(), lastEventId);
     }
 
     @Operation(summary = "읽지 않은 알림 개수 조회", description = "로그인한 사용자의 읽지 않은 알림 개수를 조회합니다.")
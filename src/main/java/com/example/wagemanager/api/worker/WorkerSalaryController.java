@@ -1,6 +1,7 @@
 package com.example.wagemanager.api.worker;
 
 import com.example.wagemanager.common.dto.ApiResponse;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.salary.dto.SalaryDto;
 import com.example.wagemanager.domain.salary.service.SalaryService;
 import com.example.wagemanager.domain.user.entity.User;
@@ -27,6 +28,7 @@ public class WorkerSalaryController {
 
     private final SalaryService salaryService;
     private final WorkerRepository workerRepository;
+    private final ContractWriteSerializer contractWriteSerializer;
 
     @Operation(summary = "내 급여 목록 조회", description = "로그인한 근로자의 모든 급여 목록을 조회합니다.")
     @GetMapping
@@ -52,6 +54,6 @@ public class WorkerSalaryController {
             @Parameter(description = "계약 ID", required = true) @PathVariable Long contractId,
             @Parameter(description = "연도", required = true) @RequestParam Integer year,
             @Parameter(description = "월", required = true) @RequestParam Integer month) {
-        return ApiResponse.success(salaryService.calculateSalaryByWorkRecords(contractId, year, month));
+        return ApiResponse.success(contractWriteSerializer.execute(() -> salaryService.calculateSalaryByWorkRecords(contractId, year, month)));
     }
 }
@@ -1,18 +1,27 @@
 package com.example.wagemanager.api.workrecord;
 
 import com.example.wagemanager.common.dto.ApiResponse;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
 import com.example.wagemanager.domain.workrecord.service.WorkRecordCommandService;
 import com.example.wagemanager.domain.workrecord.service.WorkRecordQueryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -22,15 +31,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmployerWorkRecordController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
     private final WorkRecordQueryService workRecordQueryService;
     private final WorkRecordCommandService workRecordCommandService;
+    private final ObjectMapper objectMapper;
+    private final ContractWriteSerializer contractWriteSerializer;
 
     @Operation(summary = "근무 일정 등록", description = "고용주가 단일 근무 일정을 생성합니다. 생성 시 근로자에게 알람이 전송됩니다.")
     @PreAuthorize("@contractPermission.canAccessAsEmployer(#request.contractId)")
     @PostMapping
     public ApiResponse<WorkRecordDto.Response> createWorkRecord(
             @Valid @RequestBody WorkRecordDto.CreateRequest request) {
-        return ApiResponse.success(workRecordCommandService.createWorkRecordByEmployer(request));
+        return ApiResponse.success(contractWriteSerializer.execute(() -> workRecordCommandService.createWorkRecordByEmployer(request)));
     }
 
     @Operation(summary = "근무 일정 일괄 등록", description = "고용주가 여러 날짜에 동일한 근무 일정을 일괄 생성합니다. 중복된 날짜는 자동으로 스킵됩니다.")
@@ -38,7 +52,7 @@ public class EmployerWorkRecordController {
     @PostMapping("/batch")
     public ApiResponse<WorkRecordDto.BatchCreateResponse> createWorkRecordsBatch(
             @Valid @RequestBody WorkRecordDto.BatchCreateRequest request) {
-        return ApiResponse.success(workRecordCommandService.createWorkRecordsBatch(request));
+        return ApiResponse.success(contractWriteSerializer.execute(() -> workRecordCommandService.createWorkRecordsBatch(request)));
     }
 
     @Operation(summary = "근무 기록 조회 (캘린더)", description = "특정 사업장의 기간별 근무 기록을 캘린더 형식으로 조회합니다.")
@@ -52,6 +66,45 @@ public class EmployerWorkRecordController {
                 workRecordQueryService.getWorkRecordsByWorkplaceAndDateRange(workplaceId, startDate, endDate));
     }
 
+    @Operation(summary = "근무 기록 스트리밍 조회 (캘린더)",
+            description = "특정 사업장의 기간별 근무 기록을 한 줄에 하나씩 NDJSON(application/x-ndjson)으로 스트리밍합니다. 근무일, ID 순으로 정렬되며 가상 스케줄 모드의 예정 근무는 포함하지 않습니다.")
+    @PreAuthorize("@workRecordPermission.canAccessWorkplaceRecords(#workplaceId)")
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamWorkRecords(
+            @Parameter(description = "사업장 ID", required = true) @RequestParam Long workplaceId,
+            @Parameter(description = "조회 시작일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE);
+            workRecordQueryService.streamWorkRecordsByWorkplaceAndDateRange(workplaceId, startDate, endDate, item -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(item));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    @Operation(summary = "근무 기록 커서 페이지 조회 (캘린더)",
+            description = "특정 사업장의 기간별 근무 기록을 (근무일, ID) 커서로 나누어 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 가상 스케줄 모드의 예정 근무는 포함하지 않습니다.")
+    @PreAuthorize("@workRecordPermission.canAccessWorkplaceRecords(#workplaceId)")
+    @GetMapping("/page")
+    public ApiResponse<WorkRecordDto.CalendarPageResponse> getWorkRecordPage(
+            @Parameter(description = "사업장 ID", required = true) @RequestParam Long workplaceId,
+            @Parameter(description = "조회 시작일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500)") @RequestParam(defaultValue = "100") int size) {
+        return ApiResponse.success(
+                workRecordQueryService.getWorkRecordPageByWorkplace(workplaceId, startDate, endDate, cursor, size));
+    }
+
     @Operation(summary = "근무 기록 상세 조회", description = "특정 근무 기록의 상세 정보를 조회합니다.")
     @PreAuthorize("@workRecordPermission.canAccessAsEmployer(#id)")
     @GetMapping("/{id}")
@@ -66,7 +119,15 @@ public class EmployerWorkRecordController {
     public ApiResponse<WorkRecordDto.Response> updateWorkRecord(
             @Parameter(description = "근무 기록 ID", required = true) @PathVariable Long id,
             @RequestBody WorkRecordDto.UpdateRequest request) {
-        return ApiResponse.success(workRecordCommandService.updateWorkRecord(id, request));
+        return ApiResponse.success(contractWriteSerializer.execute(() -> workRecordCommandService.updateWorkRecord(id, request)));
+    }
+
+    @Operation(summary = "근무 기록 일괄 수정", description = "근무 기록 ID 목록 또는 기간(계약) 필터로 지정한 여러 근무 기록에 같은 수정 내용을 한 번에 적용합니다. 근로자별로 알람이 한 번씩 전송됩니다.")
+    @PreAuthorize("@workRecordPermission.canAccessWorkplaceRecords(#request.workplaceId)")
+    @PutMapping("/bulk")
+    public ApiResponse<WorkRecordDto.BulkUpdateResponse> bulkUpdateWorkRecords(
+            @Valid @RequestBody WorkRecordDto.BulkUpdateRequest request) {
+        return ApiResponse.success(contractWriteSerializer.execute(() -> workRecordCommandService.bulkUpdateWorkRecords(request)));
     }
 
     @Operation(summary = "근무 완료 처리", description = "근무 일정을 완료 상태로 변경합니다.")
@@ -74,7 +135,7 @@ public class EmployerWorkRecordController {
     @PutMapping("/{id}/complete")
     public ApiResponse<Void> completeWorkRecord(
             @Parameter(description = "근무 기록 ID", required = true) @PathVariable Long id) {
-        workRecordCommandService.completeWorkRecord(id);
+        contractWriteSerializer.run(() -> workRecordCommandService.completeWorkRecord(id));
         return ApiResponse.success(null);
     }
 
@@ -83,7 +144,7 @@ public class EmployerWorkRecordController {
     @DeleteMapping("/{id}")
     public ApiResponse<Void> deleteWorkRecord(
             @Parameter(description = "근무 기록 ID", required = true) @PathVariable Long id) {
-        workRecordCommandService.deleteWorkRecord(id);
+        contractWriteSerializer.run(() -> workRecordCommandService.deleteWorkRecord(id));
         return ApiResponse.success(null);
     }
 
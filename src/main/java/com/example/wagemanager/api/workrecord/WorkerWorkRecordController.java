@@ -1,6 +1,7 @@
 package com.example.wagemanager.api.workrecord;
 
 import com.example.wagemanager.common.dto.ApiResponse;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.user.entity.User;
 import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
 import com.example.wagemanager.domain.workrecord.service.WorkRecordCommandService;
@@ -26,6 +27,7 @@ public class WorkerWorkRecordController {
 
     private final WorkRecordQueryService workRecordQueryService;
     private final WorkRecordCommandService workRecordCommandService;
+    private final ContractWriteSerializer contractWriteSerializer;
 
     @Operation(summary = "내 근무 일정 조회", description = "로그인한 근로자의 기간별 근무 일정을 조회합니다.")
     @GetMapping
@@ -50,7 +52,7 @@ public class WorkerWorkRecordController {
     @PutMapping("/{id}/complete")
     public ApiResponse<Void> completeWorkRecord(
             @Parameter(description = "근무 기록 ID", required = true) @PathVariable Long id) {
-        workRecordCommandService.completeWorkRecord(id);
+        contractWriteSerializer.run(() -> workRecordCommandService.completeWorkRecord(id));
         return ApiResponse.success(null);
     }
 }
@@ -0,0 +1,15 @@
+package com.example.wagemanager.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ConflictException extends RuntimeException {
+    private final String errorCode;
+    private final String errorMessage;
+
+    public ConflictException(String errorCode, String errorMessage) {
+        super(errorMessage);
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -29,6 +29,9 @@ public class ErrorCode {
     // Salary domain
     public static final String SALARY_NOT_FOUND = "SALARY_NOT_FOUND";
 
+    // PayrollRun domain
+    public static final String PAYROLL_RUN_NOT_FOUND = "PAYROLL_RUN_NOT_FOUND";
+
     // Payment domain
     public static final String PAYMENT_NOT_FOUND = "PAYMENT_NOT_FOUND";
 
@@ -59,15 +62,23 @@ public class ErrorCode {
     public static final String INVALID_USER_TYPE = "INVALID_USER_TYPE";
     public static final String DUPLICATE_CONTRACT = "DUPLICATE_CONTRACT";
     public static final String WORK_DAY_CONVERSION_ERROR = "WORK_DAY_CONVERSION_ERROR";
+    public static final String INVALID_WORK_SCHEDULE = "INVALID_WORK_SCHEDULE";
     public static final String INVALID_WORK_RECORD_STATUS = "INVALID_WORK_RECORD_STATUS";
+    public static final String INVALID_BULK_UPDATE_REQUEST = "INVALID_BULK_UPDATE_REQUEST";
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
     public static final String DUPLICATE_CORRECTION_REQUEST = "DUPLICATE_CORRECTION_REQUEST";
     public static final String INVALID_CORRECTION_STATUS = "INVALID_CORRECTION_STATUS";
     public static final String INVALID_REQUEST_TYPE = "INVALID_REQUEST_TYPE";
     public static final String SALARY_NOT_CALCULATED = "SALARY_NOT_CALCULATED";
     public static final String PAYMENT_ALREADY_COMPLETED = "PAYMENT_ALREADY_COMPLETED";
+    public static final String PAYROLL_CALCULATION_FAILED = "PAYROLL_CALCULATION_FAILED";
+    public static final String PAYROLL_RUN_IN_PROGRESS = "PAYROLL_RUN_IN_PROGRESS";
     public static final String KAKAO_USER_INFO_FAILED = "KAKAO_USER_INFO_FAILED";
     public static final String KAKAO_SERVER_ERROR = "KAKAO_SERVER_ERROR";
 
+    // Concurrency
+    public static final String CONCURRENT_MODIFICATION = "CONCURRENT_MODIFICATION";
+
     private ErrorCode() {
         // 인스턴스화 방지
     }
@@ -32,6 +32,13 @@ public class GlobalExceptionHandler {
         return ApiResponse.error(e.getErrorCode(), e.getErrorMessage());
     }
 
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiResponse<Void> handleConflictException(ConflictException e) {
+        log.error("ConflictException: {}", e.getErrorMessage());
+        return ApiResponse.error(e.getErrorCode(), e.getErrorMessage());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiResponse<Void> handleIllegalArgumentException(IllegalArgumentException e) {
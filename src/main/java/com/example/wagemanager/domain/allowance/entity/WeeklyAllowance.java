@@ -14,6 +14,10 @@ import java.util.List;
 
 @Entity
 @Table(name = "weekly_allowance",
+        uniqueConstraints = {
+                // 계약별 주(월요일 시작) 당 한 행
+                @UniqueConstraint(name = "uk_weekly_allowance_contract_week", columnNames = {"contract_id", "week_start_date"})
+        },
         indexes = {
                 @Index(name = "idx_contract_id", columnList = "contract_id")
         })
@@ -37,6 +41,12 @@ public class WeeklyAllowance extends BaseEntity {
     @JoinColumn(name = "contract_id", nullable = false)
     private WorkerContract contract;
 
+    // 낙관적 락: 같은 행을 동시에 읽고-수정-쓰기 하면 나중 커밋이 실패 (ContractWriteSerializer가 재시도)
+    @Version
+    @Column(name = "version", nullable = false)
+    @Builder.Default
+    private Long version = 0L;
+
     /**
      * 해당 주의 시작일 (월요일)
      */
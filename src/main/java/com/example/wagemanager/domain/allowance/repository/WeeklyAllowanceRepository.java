@@ -1,12 +1,16 @@
 package com.example.wagemanager.domain.allowance.repository;
 
 import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,21 +38,64 @@ public interface WeeklyAllowanceRepository extends JpaRepository<WeeklyAllowance
     );
 
     /**
-     * 특정 날짜가 속한 주(월요일~일요일)의 WeeklyAllowance 조회
-     * 같은 주에 이미 생성된 WeeklyAllowance가 있으면 반환
-     * WorkRecord의 workDate를 기준으로 주차를 계산
+     * 여러 계약의 WeeklyAllowance를 생성일(createdAt) 범위로 한 번에 조회 (일괄 급여 정산용)
+     */
+    @Query("""
+            SELECT wa FROM WeeklyAllowance wa
+            WHERE wa.contract.id IN :contractIds
+            AND wa.createdAt >= :from
+            AND wa.createdAt < :to
+            """)
+    List<WeeklyAllowance> findByContractIdsAndCreatedAtRange(
+            @Param("contractIds") List<Long> contractIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 계약의 특정 주 WeeklyAllowance 조회 (uk_weekly_allowance_contract_week 인덱스 사용)
+     *
+     * @param weekStartDate 주의 시작일 (월요일)
      */
     @Query("""
             SELECT wa FROM WeeklyAllowance wa
-            JOIN wa.workRecords wr
             WHERE wa.contract.id = :contractId
-            AND FUNCTION('YEAR', wr.workDate) = FUNCTION('YEAR', :targetDate)
-            AND FUNCTION('WEEK', wr.workDate) = FUNCTION('WEEK', :targetDate)
+            AND wa.weekStartDate = :weekStartDate
             """)
-    List<WeeklyAllowance> findAllByContractAndWeek(@Param("contractId") Long contractId, @Param("targetDate") LocalDate targetDate);
+    Optional<WeeklyAllowance> findByContractIdAndWeekStartDate(
+            @Param("contractId") Long contractId,
+            @Param("weekStartDate") LocalDate weekStartDate
+    );
+
+    /**
+     * 계약의 특정 주 WeeklyAllowance가 없을 때만 생성 (호출한 트랜잭션 안에서 실행)
+     * 이미 있으면 uk_weekly_allowance_contract_week 충돌로 아무것도 바꾸지 않고, 그 행에 잠금만 건다.
+     * 다른 트랜잭션이 같은 주를 생성 중이면 그 트랜잭션이 끝날 때까지 기다린다.
+     * (드라이버 설정에 따라 충돌 시에도 1을 반환할 수 있으므로 반환값으로 생성 여부를 판단하지 않음)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO weekly_allowance (contract_id, version, week_start_date, week_end_date,
+                total_work_hours, weekly_paid_leave_amount, overtime_hours, overtime_amount, created_at, updated_at)
+            VALUES (:contractId, 0, :weekStartDate, :weekEndDate, 0, 0, 0, 0, :now, :now)
+            ON DUPLICATE KEY UPDATE id = id
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("contractId") Long contractId,
+            @Param("weekStartDate") LocalDate weekStartDate,
+            @Param("weekEndDate") LocalDate weekEndDate,
+            @Param("now") LocalDateTime now
+    );
 
-    default Optional<WeeklyAllowance> findByContractAndWeek(Long contractId, LocalDate targetDate) {
-        List<WeeklyAllowance> results = findAllByContractAndWeek(contractId, targetDate);
-        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
-    }
+    // 생성 직후 재조회용: 잠금 읽기는 트랜잭션 시작 이후 다른 트랜잭션이 커밋한 행도 읽음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT wa FROM WeeklyAllowance wa
+            WHERE wa.contract.id = :contractId
+            AND wa.weekStartDate = :weekStartDate
+            """)
+    Optional<WeeklyAllowance> findForUpdate(
+            @Param("contractId") Long contractId,
+            @Param("weekStartDate") LocalDate weekStartDate
+    );
 }
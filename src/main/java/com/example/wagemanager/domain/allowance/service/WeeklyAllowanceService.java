@@ -4,7 +4,6 @@ import com.example.wagemanager.common.exception.ErrorCode;
 import com.example.wagemanager.common.exception.NotFoundException;
 import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
 import com.example.wagemanager.domain.allowance.repository.WeeklyAllowanceRepository;
-import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -13,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Optional;
@@ -31,33 +31,34 @@ public class WeeklyAllowanceService {
 
     /**
      * WorkRecord 생성/수정 시 호출
-     * 해당 주의 WeeklyAllowance를 조회하거나 생성하고, 수당을 재계산
+     * 해당 주의 WeeklyAllowance를 (계약 ID, 주 시작일) 유니크 키로 조회하거나 생성
+     *
+     * 같은 주를 동시에 생성해도 INSERT ... ON DUPLICATE KEY UPDATE로 한 행만 남고, 생성은 호출한 트랜잭션에 포함된다.
+     * (호출한 트랜잭션이 롤백되면 빈 주간 수당도 함께 롤백됨)
      */
     @Transactional
     public WeeklyAllowance getOrCreateWeeklyAllowanceForDate(Long contractId, LocalDate workDate) {
-        // 해당 주에 이미 WeeklyAllowance가 있는지 조회
-        Optional<WeeklyAllowance> existingAllowance = weeklyAllowanceRepository.findByContractAndWeek(contractId, workDate);
+        // 해당 날짜가 속한 주의 시작일(월요일)과 종료일(일요일) 계산
+        LocalDate weekStart = workDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate weekEnd = workDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
 
+        Optional<WeeklyAllowance> existingAllowance =
+                weeklyAllowanceRepository.findByContractIdAndWeekStartDate(contractId, weekStart);
         if (existingAllowance.isPresent()) {
-            // 기존 WeeklyAllowance가 있으면 반환
             return existingAllowance.get();
         }
 
         // 없으면 새로 생성
-        WorkerContract contract = workerContractRepository.findById(contractId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
-
-        // 해당 날짜가 속한 주의 시작일(월요일)과 종료일(일요일) 계산
-        LocalDate weekStart = workDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        LocalDate weekEnd = workDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        if (!workerContractRepository.existsById(contractId)) {
+            throw new NotFoundException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다.");
+        }
 
-        WeeklyAllowance newAllowance = WeeklyAllowance.builder()
-                .contract(contract)
-                .weekStartDate(weekStart)
-                .weekEndDate(weekEnd)
-                .build();
+        // 다른 트랜잭션이 같은 주를 먼저 생성했으면 아무것도 바꾸지 않음
+        weeklyAllowanceRepository.insertIfAbsent(contractId, weekStart, weekEnd, LocalDateTime.now());
 
-        return weeklyAllowanceRepository.save(newAllowance);
+        // 현재 트랜잭션의 영속성 컨텍스트에서 관리되는 엔티티로 다시 조회
+        return weeklyAllowanceRepository.findForUpdate(contractId, weekStart)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.WEEKLY_ALLOWANCE_NOT_FOUND, "주간 수당 정보를 찾을 수 없습니다."));
     }
 
     /**
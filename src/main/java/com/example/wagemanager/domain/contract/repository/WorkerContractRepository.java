@@ -1,6 +1,7 @@
 package com.example.wagemanager.domain.contract.repository;
 
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -35,5 +36,41 @@ public interface WorkerContractRepository extends JpaRepository<WorkerContract,
             "WHERE w.id = :workerId AND wp.id = :workplaceId")
     Optional<WorkerContract> findByWorkerIdAndWorkplaceId(@Param("workerId") Long workerId, @Param("workplaceId") Long workplaceId);
 
+    @Query("SELECT c FROM WorkerContract c " +
+            "JOIN FETCH c.worker w " +
+            "JOIN FETCH w.user u " +
+            "JOIN FETCH c.workplace wp " +
+            "WHERE wp.id IN :workplaceIds AND c.isActive = true " +
+            "ORDER BY c.id ASC")
+    List<WorkerContract> findActiveByWorkplaceIdsWithWorker(@Param("workplaceIds") List<Long> workplaceIds);
+
+    @Query("SELECT c.id FROM WorkerContract c " +
+            "WHERE c.workplace.id IN :workplaceIds AND c.isActive = true " +
+            "ORDER BY c.id ASC")
+    List<Long> findActiveIdsByWorkplaceIds(@Param("workplaceIds") List<Long> workplaceIds);
+
+    // 키셋 페이지 조회: afterId보다 큰 활성 계약 ID (Pageable은 크기만 사용)
+    @Query("SELECT c.id FROM WorkerContract c " +
+            "WHERE c.isActive = true AND c.id > :afterId " +
+            "ORDER BY c.id ASC")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT DISTINCT c.workplace.id FROM WorkerContract c " +
+            "WHERE c.id IN :contractIds")
+    List<Long> findWorkplaceIdsByIds(@Param("contractIds") List<Long> contractIds);
+
+    // 근로자가 계약한 적 있는 사업장 (이름 변경 시 캘린더 캐시 무효화용, 종료된 계약 포함)
+    @Query("SELECT DISTINCT c.workplace.id FROM WorkerContract c " +
+            "WHERE c.worker.user.id = :userId")
+    List<Long> findWorkplaceIdsByWorkerUserId(@Param("userId") Long userId);
+
+    @Query("SELECT c FROM WorkerContract c " +
+            "JOIN FETCH c.worker w " +
+            "JOIN FETCH w.user u " +
+            "JOIN FETCH c.workplace wp " +
+            "WHERE c.id IN :contractIds " +
+            "ORDER BY c.id ASC")
+    List<WorkerContract> findByIdsWithWorker(@Param("contractIds") List<Long> contractIds);
+
     Integer countByWorkplaceIdAndIsActive(Long workplaceId, Boolean isActive);
 }
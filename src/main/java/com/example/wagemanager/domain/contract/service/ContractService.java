@@ -6,16 +6,19 @@ import com.example.wagemanager.common.exception.NotFoundException;
 import com.example.wagemanager.domain.contract.dto.ContractDto;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.util.CompiledWorkSchedule;
 import com.example.wagemanager.domain.worker.entity.Worker;
 import com.example.wagemanager.domain.worker.repository.WorkerRepository;
 import com.example.wagemanager.domain.workplace.entity.Workplace;
 import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import com.example.wagemanager.domain.workrecord.event.WorkRecordChangedEvent;
 import com.example.wagemanager.domain.workrecord.service.WorkRecordGenerationService;
 import com.example.wagemanager.domain.workrecord.service.WorkRecordCommandService;
 import com.example.wagemanager.domain.contract.dto.WorkScheduleDto;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +36,8 @@ public class ContractService {
     private final WorkRecordGenerationService workRecordGenerationService;
     private final WorkRecordCommandService workRecordCommandService;
     private final ObjectMapper objectMapper;
+    private final WorkScheduleCache workScheduleCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ContractDto.Response addWorkerToWorkplace(Long workplaceId, ContractDto.CreateRequest request) {
@@ -70,6 +75,8 @@ public class ContractService {
 
         // 2개월치 WorkRecord 자동 생성
         workRecordGenerationService.generateInitialWorkRecords(savedContract);
+        // 가상 스케줄 모드의 예정 근무가 여러 주에 걸쳐 생기므로 사업장 캘린더 캐시 전체 무효화
+        eventPublisher.publishEvent(WorkRecordChangedEvent.ofWorkplace(workplaceId));
 
         return ContractDto.Response.from(savedContract);
     }
@@ -110,6 +117,8 @@ public class ContractService {
         // 근무 스케줄 변경 여부 확인
         boolean workScheduleChanged = workSchedulesJson != null
                 && !workSchedulesJson.equals(contract.getWorkSchedules());
+        // 변경된 요일만 다시 생성하기 위해 변경 전 스케줄 보관
+        CompiledWorkSchedule previousSchedule = workScheduleChanged ? workScheduleCache.get(contract) : null;
 
         contract.update(
                 request.getHourlyWage(),
@@ -119,10 +128,13 @@ public class ContractService {
                 request.getPayrollDeductionType()
         );
 
-        // 근무 스케줄이 변경된 경우 미래 WorkRecord 재생성
+        // 근무 스케줄이 변경된 경우 컴파일된 스케줄 캐시 제거 후 미래 WorkRecord에 변경분 반영
         if (workScheduleChanged) {
-            workRecordCommandService.regenerateFutureWorkRecords(contractId);
+            workScheduleCache.evict(contractId);
+            workRecordCommandService.regenerateFutureWorkRecords(contractId, previousSchedule);
         }
+        // 시급/스케줄은 캘린더의 모든 행에 나타나므로 사업장 캘린더 캐시 전체 무효화
+        eventPublisher.publishEvent(WorkRecordChangedEvent.ofWorkplace(contract.getWorkplace().getId()));
 
         return ContractDto.Response.from(contract);
     }
@@ -133,9 +145,18 @@ public class ContractService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
 
         contract.terminate();
+        workScheduleCache.evict(contractId);
+        eventPublisher.publishEvent(WorkRecordChangedEvent.ofWorkplace(contract.getWorkplace().getId()));
     }
 
     private String convertWorkSchedulesToJson(List<WorkScheduleDto> workSchedules) {
+        // 저장 전에 컴파일해 보아 근무 기록 생성 시점이 아닌 요청 시점에 잘못된 스케줄을 거부
+        try {
+            CompiledWorkSchedule.compile(workSchedules);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorCode.INVALID_WORK_SCHEDULE, e.getMessage());
+        }
+
         try {
             return objectMapper.writeValueAsString(workSchedules);
         } catch (JsonProcessingException e) {
@@ -0,0 +1,216 @@
+package com.example.wagemanager.domain.contract.service;
+
+import com.example.wagemanager.common.exception.ConflictException;
+import com.example.wagemanager.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 계약 단위 쓰기 직렬화
+ *
+ * 같은 계약의 근무 기록 변경은 WeeklyAllowance / Salary를 읽고-수정-쓰기 하므로 동시에 실행되면 합계가 유실될 수 있다.
+ * - lock: 계약 ID에 대응하는 스트라이프 락(고정 개수의 ReentrantLock)을 현재 트랜잭션이 끝날 때(커밋/롤백 이후)까지 보유
+ *   다른 계약은 대부분 다른 락에 대응하므로 병렬로 실행된다.
+ * - 여러 계약은 lockAll로 스트라이프 순서대로 잡고, wait-ms 안에 잡지 못하면 CannotAcquireLockException (교착 방지)
+ * - 락은 한 인스턴스 안에서만 유효하므로 WeeklyAllowance / Salary의 @Version으로 다른 인스턴스와의 충돌을 감지
+ * - execute: 락 대기 실패나 버전 충돌이 나면 트랜잭션 전체를 max-attempts까지 다시 실행
+ * - execute 안에서는 트랜잭션 중에 락을 기다리지 않는다. 바로 잡을 수 없으면 트랜잭션을 롤백하여 DB 연결을 반환하고,
+ *   트랜잭션 밖에서 필요한 스트라이프를 순서대로 잡은 뒤 다시 실행한다. (트랜잭션 안의 lockAll은 재진입으로 바로 통과)
+ */
+@Slf4j
+@Component
+public class ContractWriteSerializer {
+
+    private static final String RESOURCE_KEY = ContractWriteSerializer.class.getName() + ".HELD";
+
+    // execute가 실행 중인 스레드의 상태 (트랜잭션 밖에서 미리 잡을 스트라이프)
+    private static final ThreadLocal<Set<Integer>> PRE_ACQUIRE = new ThreadLocal<>();
+
+    private final ReentrantLock[] stripes;
+    private final long waitMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public ContractWriteSerializer(@Value("${wagemanager.contract-lock.stripes:256}") int stripeCount,
+                                   @Value("${wagemanager.contract-lock.wait-ms:5000}") long waitMillis,
+                                   @Value("${wagemanager.contract-lock.max-attempts:3}") int maxAttempts,
+                                   @Value("${wagemanager.contract-lock.backoff-ms:50}") long backoffMillis) {
+        if (stripeCount < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("stripes와 max-attempts는 1 이상이어야 합니다.");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.waitMillis = waitMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * 쓰기 작업 실행 (동시 수정 충돌 시 재시도)
+     * work 안에서 트랜잭션이 시작되고 끝나야 재시도할 수 있으므로, 이미 트랜잭션 안이면 한 번만 실행한다.
+     */
+    public <T> T execute(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        Set<Integer> previous = PRE_ACQUIRE.get();
+        Set<Integer> preAcquire = new TreeSet<>();
+        PRE_ACQUIRE.set(preAcquire);
+        try {
+            return executeWithRetry(work, preAcquire);
+        } finally {
+            if (previous != null) {
+                PRE_ACQUIRE.set(previous);
+            } else {
+                PRE_ACQUIRE.remove();
+            }
+        }
+    }
+
+    private <T> T executeWithRetry(Supplier<T> work, Set<Integer> preAcquire) {
+        for (int attempt = 1; ; ) {
+            List<ReentrantLock> acquired = new ArrayList<>();
+            try {
+                // 이전 시도에서 기다려야 했던 스트라이프를 트랜잭션 밖에서 순서대로 잡음
+                for (int index : preAcquire) {
+                    acquire(stripes[index]);
+                    acquired.add(stripes[index]);
+                }
+                return work.get();
+            } catch (StripesBusyException e) {
+                // 트랜잭션은 롤백됨. 충돌이 아니므로 시도 횟수에 포함하지 않음 (잡을 스트라이프는 늘어나기만 하므로 유한)
+                log.debug("계약 쓰기 락 대기를 트랜잭션 밖으로 옮겨 다시 실행: stripes={}", preAcquire);
+            } catch (OptimisticLockingFailureException | PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("동시 수정 충돌로 쓰기 실패: {}회 시도", attempt, e);
+                    throw new ConflictException(ErrorCode.CONCURRENT_MODIFICATION,
+                            "다른 요청과 동시에 수정되어 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                log.debug("동시 수정 충돌로 재시도: {}회차 ({})", attempt, e.getMessage());
+                backoff(attempt);
+                attempt++;
+            } finally {
+                acquired.forEach(ReentrantLock::unlock);
+            }
+        }
+    }
+
+    public void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 계약의 쓰기 락 보유
+     */
+    public void lock(Long contractId) {
+        lockAll(List.of(contractId));
+    }
+
+    /**
+     * 여러 계약의 쓰기 락을 스트라이프 순서대로 보유 (일괄 수정용)
+     * 트랜잭션 밖에서는 변경이 바로 커밋되므로 보유할 구간이 없어 아무것도 하지 않는다.
+     * execute 안에서 바로 잡을 수 없는 스트라이프가 있으면 기다리지 않고 트랜잭션을 중단한다. (execute가 밖에서 기다린 뒤 재실행)
+     */
+    public void lockAll(Collection<Long> contractIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Set<Integer> held = heldStripes();
+        int[] targets = contractIds.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .filter(index -> !held.contains(index))
+                .sorted()
+                .toArray();
+        Set<Integer> preAcquire = PRE_ACQUIRE.get();
+        for (int index : targets) {
+            if (preAcquire == null) {
+                acquire(stripes[index]);
+            } else if (!stripes[index].tryLock()) {
+                for (int target : targets) {
+                    preAcquire.add(target);
+                }
+                throw new StripesBusyException();
+            }
+            held.add(index);
+        }
+    }
+
+    private Set<Integer> heldStripes() {
+        @SuppressWarnings("unchecked")
+        Set<Integer> held = (Set<Integer>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (held != null) {
+            return held;
+        }
+
+        Set<Integer> newHeld = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, newHeld);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+                newHeld.forEach(index -> stripes[index].unlock());
+            }
+        });
+        return newHeld;
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new CannotAcquireLockException("계약 쓰기 락을 " + waitMillis + "ms 안에 얻지 못했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("계약 쓰기 락 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private int stripeOf(Long contractId) {
+        return Math.floorMod(Long.hashCode(contractId), stripes.length);
+    }
+
+    /**
+     * execute 안에서 트랜잭션 중에 락을 기다려야 할 때 트랜잭션을 중단하기 위한 예외 (execute 밖으로 나가지 않음)
+     */
+    private static class StripesBusyException extends RuntimeException {
+        StripesBusyException() {
+            super("계약 쓰기 락 대기", null, false, false);
+        }
+    }
+
+    private void backoff(int attempt) {
+        // 같은 계약을 기다리던 요청들이 동시에 다시 충돌하지 않도록 지터 추가
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException(ErrorCode.CONCURRENT_MODIFICATION, "재시도 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+}
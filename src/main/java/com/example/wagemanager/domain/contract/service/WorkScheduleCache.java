@@ -0,0 +1,90 @@
+package com.example.wagemanager.domain.contract.service;
+
+import com.example.wagemanager.domain.contract.dto.WorkScheduleDto;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.util.CompiledWorkSchedule;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계약별 컴파일된 근무 스케줄 캐시
+ *
+ * 계약의 근무 스케줄 JSON과 함께 보관하여, JSON이 바뀐 계약(다른 버전)은 조회 시 다시 컴파일한다.
+ * 계약 수정/종료 시 evict로 바로 제거하며, 항목 수가 상한을 넘으면 가장 오래 사용하지 않은 계약부터 하나씩 제거한다 (LRU).
+ */
+@Slf4j
+@Component
+public class WorkScheduleCache {
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Object lock = new Object();
+    private final Map<Long, Entry> cache;
+
+    public WorkScheduleCache(ObjectMapper objectMapper,
+                             @Value("${wagemanager.work-schedule.cache-max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        // 접근 순서 LinkedHashMap: 상한을 넘으면 가장 오래 사용하지 않은 항목 한 건만 제거
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > WorkScheduleCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 계약의 컴파일된 근무 스케줄
+     */
+    public CompiledWorkSchedule get(WorkerContract contract) {
+        String source = contract.getWorkSchedules();
+        Long contractId = contract.getId();
+        if (contractId == null) {
+            return compile(source);
+        }
+
+        synchronized (lock) {
+            Entry entry = cache.get(contractId);
+            if (entry != null && entry.source().equals(source)) {
+                return entry.schedule();
+            }
+        }
+
+        // 컴파일은 락 밖에서 (같은 계약을 동시에 컴파일해도 결과는 같음)
+        CompiledWorkSchedule schedule = compile(source);
+        synchronized (lock) {
+            cache.put(contractId, new Entry(source, schedule));
+        }
+        return schedule;
+    }
+
+    public void evict(Long contractId) {
+        synchronized (lock) {
+            cache.remove(contractId);
+        }
+    }
+
+    /**
+     * 근무 스케줄 JSON을 컴파일
+     */
+    public CompiledWorkSchedule compile(String workSchedulesJson) {
+        try {
+            List<WorkScheduleDto> schedules = objectMapper.readValue(workSchedulesJson, new TypeReference<List<WorkScheduleDto>>() {});
+            return CompiledWorkSchedule.compile(schedules);
+        } catch (Exception e) {
+            log.error("WorkSchedule 파싱 실패: {}", workSchedulesJson, e);
+            throw new RuntimeException("근무 스케줄 파싱 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private record Entry(String source, CompiledWorkSchedule schedule) {
+    }
+}
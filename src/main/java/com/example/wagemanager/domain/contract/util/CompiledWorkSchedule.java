@@ -0,0 +1,105 @@
+package com.example.wagemanager.domain.contract.util;
+
+import com.example.wagemanager.domain.contract.dto.WorkScheduleDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계약 근무 스케줄의 컴파일된 표현 (불변)
+ *
+ * 요일(월=1 ~ 일=7)마다 근무 구간 목록을 7칸 배열에 미리 만들어 두어,
+ * 날짜별 근무 여부/근무 시간을 JSON 파싱이나 시간 문자열 파싱 없이 바로 조회한다.
+ * 같은 요일에 구간이 여러 개면 입력 순서대로 모두 유지한다.
+ */
+public final class CompiledWorkSchedule {
+
+    private static final int DAYS_PER_WEEK = 7;
+
+    // 인덱스: DayOfWeek.getValue() - 1
+    private final List<List<Shift>> shiftsByDay;
+    private final boolean empty;
+
+    private CompiledWorkSchedule(List<List<Shift>> shiftsByDay) {
+        this.shiftsByDay = shiftsByDay;
+        this.empty = shiftsByDay.stream().allMatch(List::isEmpty);
+    }
+
+    /**
+     * 근무 스케줄 DTO 목록을 컴파일 (요일/시간 형식이 잘못되면 IllegalArgumentException)
+     */
+    public static CompiledWorkSchedule compile(List<WorkScheduleDto> schedules) {
+        List<List<Shift>> byDay = new ArrayList<>(DAYS_PER_WEEK);
+        for (int i = 0; i < DAYS_PER_WEEK; i++) {
+            byDay.add(new ArrayList<>());
+        }
+
+        if (schedules != null) {
+            for (WorkScheduleDto schedule : schedules) {
+                Integer dayOfWeek = schedule.getDayOfWeek();
+                if (dayOfWeek == null || dayOfWeek < 1 || dayOfWeek > DAYS_PER_WEEK) {
+                    throw new IllegalArgumentException("요일은 1(월요일)부터 7(일요일)까지입니다: " + dayOfWeek);
+                }
+                byDay.get(dayOfWeek - 1).add(Shift.of(parseTime(schedule.getStartTime()), parseTime(schedule.getEndTime())));
+            }
+        }
+
+        List<List<Shift>> frozen = new ArrayList<>(DAYS_PER_WEEK);
+        for (List<Shift> shifts : byDay) {
+            frozen.add(List.copyOf(shifts));
+        }
+        return new CompiledWorkSchedule(List.copyOf(frozen));
+    }
+
+    /**
+     * 해당 요일의 근무 구간 (근무일이 아니면 빈 목록)
+     */
+    public List<Shift> shiftsOn(DayOfWeek dayOfWeek) {
+        return shiftsByDay.get(dayOfWeek.getValue() - 1);
+    }
+
+    /**
+     * 두 스케줄의 해당 요일 근무 구간이 같은지 비교 (스케줄 변경 시 바뀐 요일만 다시 생성)
+     */
+    public boolean hasSameShifts(CompiledWorkSchedule other, DayOfWeek dayOfWeek) {
+        return other != null && shiftsOn(dayOfWeek).equals(other.shiftsOn(dayOfWeek));
+    }
+
+    public boolean isWorkDay(DayOfWeek dayOfWeek) {
+        return !shiftsOn(dayOfWeek).isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    private static LocalTime parseTime(String time) {
+        if (time == null) {
+            throw new IllegalArgumentException("근무 시작/종료 시간은 필수입니다.");
+        }
+        try {
+            return LocalTime.parse(time);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("시간 형식은 HH:mm 이어야 합니다: " + time, e);
+        }
+    }
+
+    /**
+     * 근무 구간 (종료 시간이 시작 시간보다 이르면 자정을 넘기는 근무)
+     */
+    public record Shift(LocalTime startTime, LocalTime endTime, int startMinute, int endMinute) {
+
+        static Shift of(LocalTime startTime, LocalTime endTime) {
+            return new Shift(startTime, endTime,
+                    startTime.getHour() * 60 + startTime.getMinute(),
+                    endTime.getHour() * 60 + endTime.getMinute());
+        }
+
+        public boolean matches(LocalTime startTime, LocalTime endTime) {
+            return this.startTime.equals(startTime) && this.endTime.equals(endTime);
+        }
+    }
+}
@@ -100,6 +100,14 @@ public interface CorrectionRequestRepository extends JpaRepository<CorrectionReq
             "WHERE cr.id = :id")
     Optional<CorrectionRequest> findByIdWithDetails(@Param("id") Long id);
 
+    // 계약 쓰기 락용: 정정요청을 읽기 전에 대상 계약 ID만 조회 (생성 요청은 계약, 수정/삭제 요청은 근무 기록의 계약)
+    @Query("SELECT COALESCE(cc.id, wrc.id) FROM CorrectionRequest cr " +
+            "LEFT JOIN cr.contract cc " +
+            "LEFT JOIN cr.workRecord wr " +
+            "LEFT JOIN wr.contract wrc " +
+            "WHERE cr.id = :id")
+    Optional<Long> findContractIdById(@Param("id") Long id);
+
     // 특정 근무기록에 대한 대기중인 정정요청 존재 여부 확인
     @Query("SELECT COUNT(cr) > 0 FROM CorrectionRequest cr " +
             "WHERE cr.workRecord.id = :workRecordId " +
@@ -123,15 +131,8 @@ public interface CorrectionRequestRepository extends JpaRepository<CorrectionReq
             @Param("endTime") LocalTime endTime
     );
 
-    // 계약 정보 변경 시 미래 WorkRecord를 참조하는 CorrectionRequest 삭제
+    // 근무 스케줄 변경으로 삭제되는 WorkRecord를 참조하는 CorrectionRequest 삭제
     @Modifying
-    @Query("DELETE FROM CorrectionRequest cr " +
-            "WHERE cr.workRecord.id IN " +
-            "(SELECT wr.id FROM WorkRecord wr WHERE wr.contract.id = :contractId " +
-            "AND wr.workDate > :date AND wr.status = :status)")
-    void deleteByWorkRecordContractAndDateAfterAndStatus(
-            @Param("contractId") Long contractId,
-            @Param("date") LocalDate date,
-            @Param("status") com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus status
-    );
+    @Query("DELETE FROM CorrectionRequest cr WHERE cr.workRecord.id IN :workRecordIds")
+    void deleteByWorkRecordIds(@Param("workRecordIds") List<Long> workRecordIds);
 }
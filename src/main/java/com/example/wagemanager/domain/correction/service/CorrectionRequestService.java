@@ -7,14 +7,17 @@ import com.example.wagemanager.common.exception.UnauthorizedException;
 import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.correction.dto.CorrectionRequestDto;
 import com.example.wagemanager.domain.correction.entity.CorrectionRequest;
 import com.example.wagemanager.domain.correction.enums.CorrectionStatus;
 import com.example.wagemanager.domain.correction.enums.RequestType;
 import com.example.wagemanager.domain.correction.repository.CorrectionRequestRepository;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
 import com.example.wagemanager.domain.user.entity.User;
 import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
 import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
 import com.example.wagemanager.domain.workrecord.service.WorkRecordCommandService;
 import com.example.wagemanager.domain.workrecord.service.WorkRecordCoordinatorService;
@@ -35,6 +38,7 @@ public class CorrectionRequestService {
     private final WorkerContractRepository workerContractRepository;
     private final WorkRecordCommandService workRecordCommandService;
     private final WorkRecordCoordinatorService coordinatorService;
+    private final ContractWriteSerializer contractWriteSerializer;
 
     // ===== 근로자용 API =====
 
@@ -256,6 +260,8 @@ public class CorrectionRequestService {
      */
     @Transactional
     public CorrectionRequestDto.Response approveCorrectionRequest(Long correctionRequestId) {
+        // 같은 계약의 다른 쓰기(중복 승인 포함)와 직렬화한 뒤 정정요청/근무 기록을 읽음
+        correctionRequestRepository.findContractIdById(correctionRequestId).ifPresent(contractWriteSerializer::lock);
         CorrectionRequest correctionRequest = correctionRequestRepository.findByIdWithDetails(correctionRequestId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.CORRECTION_REQUEST_NOT_FOUND, "정정요청을 찾을 수 없습니다."));
 
@@ -299,6 +305,9 @@ public class CorrectionRequestService {
         // 기존 WeeklyAllowance 저장 (재계산용)
         WeeklyAllowance oldWeeklyAllowance = workRecord.getWeeklyAllowance();
 
+        // 수정 전 급여 기여분 저장 (급여 증분 재계산용)
+        PayrollCalculator.WorkTotals before = PayrollCalculator.WorkTotals.of(workRecord);
+
         // WorkRecord 업데이트
         workRecord.updateWorkTime(
                 correctionRequest.getRequestedStartTime(),
@@ -307,23 +316,24 @@ public class CorrectionRequestService {
         );
 
         // WeeklyAllowance 및 Salary 재계산
-        coordinatorService.handleWorkRecordUpdate(workRecord, oldWeeklyAllowance, workRecord.getWeeklyAllowance());
+        coordinatorService.handleWorkRecordUpdate(workRecord, oldWeeklyAllowance, workRecord.getWeeklyAllowance(), before);
     }
 
     private void approveDeleteRequest(CorrectionRequest correctionRequest) {
         WorkRecord workRecord = correctionRequest.getWorkRecord();
 
+        // 삭제 전 상태 저장 (COMPLETED였다면 급여에서 차감해야 함)
+        WorkRecordStatus previousStatus = workRecord.getStatus();
+
         // 소프트 삭제
         workRecord.markAsDeleted();
 
-        // WeeklyAllowance 및 Salary 재계산 처리
-        if (workRecord.getWeeklyAllowance() != null) {
-            coordinatorService.handleWorkRecordDeletion(
-                    workRecord.getWeeklyAllowance(),
-                    workRecord,
-                    workRecord.getStatus()
-            );
-        }
+        // WeeklyAllowance 및 Salary 재계산 처리 (WeeklyAllowance가 없어도 급여/캘린더 반영)
+        coordinatorService.handleWorkRecordDeletion(
+                workRecord.getWeeklyAllowance(),
+                workRecord,
+                previousStatus
+        );
     }
 
     /**
@@ -0,0 +1,172 @@
+package com.example.wagemanager.domain.notification.broker;
+
+import com.example.wagemanager.domain.notification.entity.NotificationBroadcast;
+import com.example.wagemanager.domain.notification.repository.NotificationBroadcastRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 여러 노드용 브로커 (별도 메시지 브로커 없이 DB 테이블 사용)
+ *
+ * - publish: 자기 노드의 연결에 바로 전달하고 notification_broadcast에 한 행 추가
+ * - poll: 각 노드가 poll-ms마다 전달한 가장 큰 id 이후 행을 읽어 다른 노드가 발행한 이벤트를 전달
+ * - AUTO_INCREMENT id는 커밋 순서와 다를 수 있으므로, 중간 번호가 비어 있으면 gap-timeout-ms 동안
+ *   watermark를 멈추고 빈 번호만 따로 다시 조회한다. (그 이후에 커밋된 행은 전달되지 않음)
+ *   새 행은 watermark가 아니라 전달한 가장 큰 id 이후부터 읽으므로, 빈 번호가 있어도 같은 페이지를 다시 읽지 않는다.
+ * - retention-ms가 지난 행은 주기적으로 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "wagemanager.notification.broker", havingValue = "database")
+public class DatabaseNotificationBroker implements NotificationBroker {
+
+    private final NotificationBroadcastRepository notificationBroadcastRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final long retentionMillis;
+
+    private final List<Consumer<SseMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    // poll에서만 사용 (synchronized)
+    private long watermark = -1;
+    private final TreeSet<Long> deliveredAboveWatermark = new TreeSet<>();
+    private final Map<Long, Long> gapFirstSeen = new HashMap<>();
+
+    public DatabaseNotificationBroker(NotificationBroadcastRepository notificationBroadcastRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${wagemanager.notification.broker.batch-size:500}") int batchSize,
+                                      @Value("${wagemanager.notification.broker.gap-timeout-ms:2000}") long gapTimeoutMillis,
+                                      @Value("${wagemanager.notification.broker.retention-ms:60000}") long retentionMillis) {
+        this.notificationBroadcastRepository = notificationBroadcastRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionMillis = retentionMillis;
+    }
+
+    @Override
+    public void publish(SseMessage message) {
+        deliver(message);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> notificationBroadcastRepository.save(
+                    NotificationBroadcast.builder()
+                            .userId(message.userId())
+                            .eventName(message.eventName())
+                            .eventId(message.id())
+                            .payload(message.payload())
+                            .origin(nodeId)
+                            .createdAt(LocalDateTime.now())
+                            .build()));
+        } catch (DataAccessException e) {
+            log.error("SSE 이벤트 브로드캐스트 저장 실패: userId={}, event={}", message.userId(), message.eventName(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SseMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * 다른 노드가 발행한 이벤트 조회 및 전달
+     */
+    @Scheduled(fixedDelayString = "${wagemanager.notification.broker.poll-ms:500}", scheduler = "realtimeScheduler")
+    public synchronized void poll() {
+        if (watermark < 0) {
+            // 시작 이전 이벤트는 전달하지 않음
+            watermark = notificationBroadcastRepository.findMaxId();
+            return;
+        }
+
+        List<NotificationBroadcast> rows = new ArrayList<>();
+        List<Long> gaps = pendingGaps();
+        if (!gaps.isEmpty()) {
+            rows.addAll(notificationBroadcastRepository.findByIdIn(gaps));
+        }
+        long readFrom = deliveredAboveWatermark.isEmpty() ? watermark : deliveredAboveWatermark.last();
+        rows.addAll(notificationBroadcastRepository.findAfter(readFrom, PageRequest.of(0, batchSize)));
+
+        for (NotificationBroadcast row : rows) {
+            if (deliveredAboveWatermark.add(row.getId()) && !nodeId.equals(row.getOrigin())) {
+                deliver(new SseMessage(row.getUserId(), row.getEventName(), row.getEventId(), row.getPayload()));
+            }
+        }
+        advanceWatermark(System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${wagemanager.notification.broker.cleanup-ms:60000}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        Integer deleted = transactionTemplate.execute(
+                status -> notificationBroadcastRepository.deleteCreatedBefore(before));
+        log.debug("SSE 브로드캐스트 행 삭제: {}건", deleted);
+    }
+
+    // watermark와 전달한 가장 큰 id 사이의 빈 번호 (앞에서부터 최대 batchSize개)
+    private List<Long> pendingGaps() {
+        List<Long> gaps = new ArrayList<>();
+        long previous = watermark;
+        for (long delivered : deliveredAboveWatermark) {
+            for (long id = previous + 1; id < delivered; id++) {
+                if (gaps.size() >= batchSize) {
+                    return gaps;
+                }
+                gaps.add(id);
+            }
+            previous = delivered;
+        }
+        return gaps;
+    }
+
+    private void advanceWatermark(long now) {
+        while (!deliveredAboveWatermark.isEmpty()) {
+            long next = deliveredAboveWatermark.first();
+            long expected = watermark + 1;
+            if (next != expected) {
+                // 앞 번호 행이 아직 커밋되지 않았을 수 있음
+                long firstSeen = gapFirstSeen.computeIfAbsent(expected, id -> now);
+                if (now - firstSeen < gapTimeoutMillis) {
+                    return;
+                }
+            }
+            gapFirstSeen.remove(expected);
+            deliveredAboveWatermark.pollFirst();
+            watermark = next;
+        }
+    }
+
+    private void deliver(SseMessage message) {
+        for (Consumer<SseMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException e) {
+                log.error("SSE 이벤트 전달 실패: userId={}, event={}", message.userId(), message.eventName(), e);
+            }
+        }
+    }
+}
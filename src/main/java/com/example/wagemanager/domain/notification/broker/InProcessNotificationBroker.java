@@ -0,0 +1,37 @@
+package com.example.wagemanager.domain.notification.broker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 브로커 (기본값, 테스트용)
+ * 발행한 스레드에서 바로 구독자에게 전달한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "wagemanager.notification.broker", havingValue = "in-process", matchIfMissing = true)
+public class InProcessNotificationBroker implements NotificationBroker {
+
+    private final List<Consumer<SseMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(SseMessage message) {
+        for (Consumer<SseMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException e) {
+                log.error("SSE 이벤트 전달 실패: userId={}, event={}", message.userId(), message.eventName(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SseMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
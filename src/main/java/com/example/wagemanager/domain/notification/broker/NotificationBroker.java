@@ -0,0 +1,17 @@
+package com.example.wagemanager.domain.notification.broker;
+
+import java.util.function.Consumer;
+
+/**
+ * SSE 이벤트 브로커
+ *
+ * 사용자의 SSE 연결은 어느 노드에든 있을 수 있으므로, 전송할 이벤트를 모든 노드에 전달한다.
+ * 각 노드는 구독자(SseConnectionHub)로 받은 이벤트를 자기 노드에 있는 연결에만 쓴다.
+ * 구현은 wagemanager.notification.broker 설정으로 선택한다. (in-process, database)
+ */
+public interface NotificationBroker {
+
+    void publish(SseMessage message);
+
+    void subscribe(Consumer<SseMessage> subscriber);
+}
@@ -0,0 +1,16 @@
+package com.example.wagemanager.domain.notification.broker;
+
+/**
+ * 노드 간에 전달되는 SSE 이벤트
+ *
+ * @param userId    받을 사용자 ID (사용자의 모든 연결에 전송)
+ * @param eventName SSE event 이름 (notification, unread-count)
+ * @param id        SSE event id (알림 ID, 재연결 시 Last-Event-ID로 돌아옴). 없으면 null
+ * @param payload   JSON으로 직렬화한 data
+ */
+public record SseMessage(Long userId, String eventName, Long id, String payload) {
+
+    public SseMessage(Long userId, String eventName, String payload) {
+        this(userId, eventName, null, payload);
+    }
+}
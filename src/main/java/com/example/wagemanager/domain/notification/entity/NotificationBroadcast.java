@@ -0,0 +1,45 @@
+package com.example.wagemanager.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 SSE 이벤트 전달용 행 (DatabaseNotificationBroker)
+ * 각 노드가 id 순서로 읽어 자기 노드의 연결에 전송하고, retention-ms가 지나면 삭제한다.
+ */
+@Entity
+@Table(name = "notification_broadcast",
+        indexes = {
+                @Index(name = "idx_notification_broadcast_created", columnList = "created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationBroadcast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_name", nullable = false, length = 50)
+    private String eventName;
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // 발행한 노드 (자기 노드 이벤트는 발행 시 바로 전달했으므로 건너뜀)
+    @Column(name = "origin", nullable = false, length = 200)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
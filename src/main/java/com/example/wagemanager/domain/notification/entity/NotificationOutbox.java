@@ -0,0 +1,66 @@
+package com.example.wagemanager.domain.notification.entity;
+
+import com.example.wagemanager.domain.notification.enums.NotificationActionType;
+import com.example.wagemanager.domain.notification.enums.NotificationType;
+import com.example.wagemanager.domain.notification.event.NotificationEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스
+ * 알림 이벤트를 발행한 트랜잭션 안에서 함께 기록되고, NotificationOutboxRelay가 notification으로 옮긴 뒤 삭제한다.
+ * 전달에 실패하면 attempts를 늘리고 nextAttemptAt 이후 다시 시도한다.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action_type", nullable = false)
+    private NotificationActionType actionType;
+
+    @Column(name = "action_data", columnDefinition = "TEXT")
+    private String actionData;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static NotificationOutbox from(NotificationEvent event, LocalDateTime now) {
+        return NotificationOutbox.builder()
+                .userId(event.getUser().getId())
+                .type(event.getType())
+                .title(event.getTitle())
+                .actionType(event.getActionType())
+                .actionData(event.getActionData())
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
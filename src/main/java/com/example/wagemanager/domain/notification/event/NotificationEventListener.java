@@ -1,46 +1,54 @@
 package com.example.wagemanager.domain.notification.event;
 
-import com.example.wagemanager.domain.notification.entity.Notification;
-import com.example.wagemanager.domain.notification.repository.NotificationRepository;
-import com.example.wagemanager.domain.notification.service.SseEmitterService;
+import com.example.wagemanager.domain.notification.entity.NotificationOutbox;
+import com.example.wagemanager.domain.notification.repository.NotificationOutboxRepository;
+import com.example.wagemanager.domain.notification.service.NotificationOutboxRelay;
+import com.example.wagemanager.domain.notification.service.NotificationPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationEventListener {
-    private final NotificationRepository notificationRepository;
-    private final SseEmitterService sseEmitterService;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxRelay notificationOutboxRelay;
+    private final NotificationPipeline notificationPipeline;
 
-    @Async
+    /**
+     * 알림 저장 요청
+     * 아웃박스 사용 시 이벤트를 발행한 트랜잭션 안에서 notification_outbox에 기록하므로
+     * 롤백된 트랜잭션의 알림은 전달되지 않고, 커밋된 알림은 JVM이 종료되어도 relay가 전달한다.
+     * 아웃박스를 끄면 NotificationPipeline 메모리 큐에 넣는다.
+     */
     @EventListener
-    @Transactional
     public void handleNotificationEvent(NotificationEvent event) {
         log.info("알림 이벤트 처리: user={}, type={}, actionType={}",
                 event.getUser().getId(), event.getType(), event.getActionType());
 
-        // 알림 저장
-        Notification notification = Notification.builder()
-                .user(event.getUser())
-                .type(event.getType())
-                .title(event.getTitle())
-                .actionType(event.getActionType())
-                .actionData(event.getActionData())
-                .isRead(false)
-                .build();
+        if (!notificationOutboxRelay.isEnabled()) {
+            notificationPipeline.submit(event);
+            return;
+        }
 
-        if (notification != null) {
-            Notification savedNotification = notificationRepository.save(notification);
+        notificationOutboxRepository.save(NotificationOutbox.from(event, LocalDateTime.now()));
 
-            // SSE를 통한 실시간 알림 전송
-            if (savedNotification != null) {
-                sseEmitterService.sendNotification(event.getUser().getId(), savedNotification);
-            }
+        // 커밋된 뒤 relay를 깨워 poll-ms를 기다리지 않고 전달
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificationOutboxRelay.wakeUp();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationOutboxRelay.wakeUp();
+            }
+        });
     }
 }
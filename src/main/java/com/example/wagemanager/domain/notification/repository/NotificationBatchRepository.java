@@ -0,0 +1,21 @@
+package com.example.wagemanager.domain.notification.repository;
+
+import com.example.wagemanager.domain.notification.entity.Notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Notification JDBC 일괄 삽입 (NotificationRepository 확장)
+ */
+public interface NotificationBatchRepository {
+
+    /**
+     * 알림 일괄 삽입 (rewriteBatchedStatements로 다중 행 INSERT)
+     * 삽입된 행은 영속성 컨텍스트에 포함되지 않으며 생성된 ID도 엔티티에 채워지지 않는다.
+     *
+     * @param createdAt created_at / updated_at 값
+     * @return 생성된 알림 ID (입력 순서, 드라이버가 키를 돌려주지 않으면 빈 목록)
+     */
+    List<Long> batchInsert(List<Notification> notifications, LocalDateTime createdAt);
+}
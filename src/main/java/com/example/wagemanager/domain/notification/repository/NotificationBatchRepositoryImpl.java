@@ -0,0 +1,49 @@
+package com.example.wagemanager.domain.notification.repository;
+
+import com.example.wagemanager.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification (" +
+            "user_id, type, title, action_type, action_data, is_read, created_at, updated_at) " +
+            "VALUES (:userId, :type, :title, :actionType, :actionData, false, :createdAt, :createdAt)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<Long> batchInsert(List<Notification> notifications, LocalDateTime createdAt) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        SqlParameterSource[] params = notifications.stream()
+                .map(notification -> new MapSqlParameterSource()
+                        .addValue("userId", notification.getUser().getId())
+                        .addValue("type", notification.getType().name())
+                        .addValue("title", notification.getTitle())
+                        .addValue("actionType", notification.getActionType().name())
+                        .addValue("actionData", notification.getActionData())
+                        .addValue("createdAt", createdAt))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+        // 키 이름은 드라이버마다 다름 (MySQL: GENERATED_KEY, H2: ID)
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
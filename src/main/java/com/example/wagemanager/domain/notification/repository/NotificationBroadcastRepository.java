@@ -0,0 +1,30 @@
+package com.example.wagemanager.domain.notification.repository;
+
+import com.example.wagemanager.domain.notification.entity.NotificationBroadcast;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationBroadcastRepository extends JpaRepository<NotificationBroadcast, Long> {
+
+    @Query("SELECT b FROM NotificationBroadcast b WHERE b.id > :afterId ORDER BY b.id")
+    List<NotificationBroadcast> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // watermark 뒤의 빈 번호 중 늦게 커밋된 행 조회
+    @Query("SELECT b FROM NotificationBroadcast b WHERE b.id IN :ids ORDER BY b.id")
+    List<NotificationBroadcast> findByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM NotificationBroadcast b")
+    Long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM NotificationBroadcast b WHERE b.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
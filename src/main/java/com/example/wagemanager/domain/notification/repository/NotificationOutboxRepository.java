@@ -0,0 +1,53 @@
+package com.example.wagemanager.domain.notification.repository;
+
+import com.example.wagemanager.domain.notification.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 처음 전달하는 행을 잠그고 조회 (lock.timeout -2 = SKIP LOCKED: 다른 노드의 relay가 잠근 행은 건너뜀)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o " +
+            "WHERE o.attempts = 0 AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.id")
+    List<NotificationOutbox> findNew(
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 이전에 실패한 행 (한 건씩 다시 처리)
+    @Query("SELECT o.id FROM NotificationOutbox o " +
+            "WHERE o.attempts > 0 AND o.attempts < :maxAttempts AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.id")
+    List<Long> findRetryableIds(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 한 건씩 처리할 때 잠금 (다른 노드가 잡고 있거나 이미 전달되었으면 비어 있음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.id = :id")
+    Optional<NotificationOutbox> findLockedById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt " +
+            "WHERE o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationBatchRepository {
     @Query("SELECT n FROM Notification n " +
             "JOIN FETCH n.user u " +
             "WHERE u = :user " +
@@ -43,6 +43,19 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             "WHERE n.id = :id AND u = :user")
     Optional<Notification> findByIdAndUser(@Param("id") Long id, @Param("user") User user);
 
+    // SSE 재연결 시 Last-Event-ID 이후 알림 재전송
+    // ID는 커밋 순서대로 늘어나지 않으므로(작은 ID가 늦게 커밋될 수 있음) lastId 이하라도 since 이후 생성된 알림을 함께 조회
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id = :userId AND (n.id > :lastId OR n.createdAt >= :since) " +
+            "ORDER BY n.id")
+    List<Notification> findReplayByUserId(@Param("userId") Long userId,
+                                          @Param("lastId") Long lastId,
+                                          @Param("since") LocalDateTime since,
+                                          Pageable pageable);
+
+    @Query("SELECT n.createdAt FROM Notification n WHERE n.id = :id AND n.user.id = :userId")
+    Optional<LocalDateTime> findCreatedAtByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE n.user = :user AND n.isRead = false")
     int markAllAsReadByUser(@Param("user") User user, @Param("readAt") LocalDateTime readAt);
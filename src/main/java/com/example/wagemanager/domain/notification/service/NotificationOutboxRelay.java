@@ -0,0 +1,244 @@
+package com.example.wagemanager.domain.notification.service;
+
+import com.example.wagemanager.domain.notification.dto.NotificationResponse;
+import com.example.wagemanager.domain.notification.entity.Notification;
+import com.example.wagemanager.domain.notification.entity.NotificationOutbox;
+import com.example.wagemanager.domain.notification.repository.NotificationOutboxRepository;
+import com.example.wagemanager.domain.notification.repository.NotificationRepository;
+import com.example.wagemanager.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 아웃박스 전달
+ *
+ * notification_outbox를 batch-size건씩 잠가 읽어(SKIP LOCKED) notification에 다중 행 INSERT로 옮기고,
+ * 아웃박스 행을 같은 트랜잭션에서 삭제한다. 커밋된 뒤에 SSE로 전송한다.
+ * - 알림을 발행한 트랜잭션이 커밋되면 깨어나고, 그 외에는 poll-ms마다 확인 (JVM이 죽어도 남은 행은 재시작 후 전달)
+ * - 여러 노드가 동시에 실행해도 잠긴 행은 건너뛰므로 같은 행을 함께 처리하지 않음
+ * - notification 저장과 아웃박스 행 삭제가 같은 트랜잭션이므로 같은 행이 두 번 저장되지 않음
+ * - 배치가 실패하면 바로 한 건씩 다시 처리해, 실패한 행만 attempts를 늘리고 retry-backoff-ms 이후 재시도
+ *   (max-attempts에 도달한 행은 남겨 둠)
+ * - 이전에 실패한 행(attempts > 0)은 배치에 섞지 않고 한 건씩 처리해 다른 행의 전달을 막지 않게 함
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final SseEmitterService sseEmitterService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final Timer relayTimer;
+    private final Counter delivered;
+    private final Counter failures;
+
+    private final Semaphore wakeups = new Semaphore(0);
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   NotificationRepository notificationRepository,
+                                   UserRepository userRepository,
+                                   SseEmitterService sseEmitterService,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${wagemanager.notification.outbox.enabled:true}") boolean enabled,
+                                   @Value("${wagemanager.notification.outbox.batch-size:200}") int batchSize,
+                                   @Value("${wagemanager.notification.outbox.poll-ms:1000}") long pollMillis,
+                                   @Value("${wagemanager.notification.outbox.max-attempts:10}") int maxAttempts,
+                                   @Value("${wagemanager.notification.outbox.retry-backoff-ms:5000}") long retryBackoffMillis) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.sseEmitterService = sseEmitterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollMillis = pollMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        this.relayTimer = Timer.builder("wagemanager.notification.outbox.relay")
+                .description("아웃박스 배치 전달 소요 시간")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("wagemanager.notification.outbox.delivered")
+                .register(meterRegistry);
+        this.failures = Counter.builder("wagemanager.notification.outbox.failures")
+                .register(meterRegistry);
+        this.worker = Thread.ofVirtual().name("notification-outbox-relay").unstarted(this::runLoop);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            worker.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 아웃박스에 행이 커밋되었음을 알림 (poll-ms를 기다리지 않고 바로 전달)
+     */
+    public void wakeUp() {
+        if (wakeups.availablePermits() == 0) {
+            wakeups.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        wakeUp();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                // 가득 찬 배치가 나오면 남은 행이 더 있을 수 있으므로 바로 이어서 처리
+                while (running) {
+                    if (relayOnce() < batchSize) {
+                        break;
+                    }
+                }
+                wakeups.tryAcquire(pollMillis, TimeUnit.MILLISECONDS);
+                wakeups.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("아웃박스 전달 중 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 재시도할 행을 한 건씩 전달한 뒤 새 행 한 배치 전달
+     *
+     * @return 배치로 잠근 새 아웃박스 행 수
+     */
+    int relayOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        notificationOutboxRepository.findRetryableIds(maxAttempts, now, PageRequest.of(0, batchSize))
+                .forEach(id -> relayOne(id, now));
+
+        List<Long> lockedIds = new ArrayList<>();
+        long start = System.nanoTime();
+
+        List<Delivery> deliveries;
+        try {
+            deliveries = transactionTemplate.execute(status -> persist(
+                    notificationOutboxRepository.findNew(now, PageRequest.of(0, batchSize)), now, lockedIds));
+        } catch (RuntimeException e) {
+            // 어느 행이 원인인지 모르므로 한 건씩 다시 처리하고 실패한 행만 재시도 대상으로 남김
+            log.warn("아웃박스 배치 전달 실패, 한 건씩 재시도: {}건", lockedIds.size(), e);
+            lockedIds.forEach(id -> relayOne(id, now));
+            return lockedIds.size();
+        } finally {
+            relayTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        send(deliveries);
+        return lockedIds.size();
+    }
+
+    private void relayOne(Long id, LocalDateTime now) {
+        List<Delivery> deliveries;
+        try {
+            deliveries = transactionTemplate.execute(status -> notificationOutboxRepository.findLockedById(id)
+                    .map(row -> persist(List.of(row), now, new ArrayList<>()))
+                    .orElse(List.of()));
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("아웃박스 전달 실패: 행 {}", id, e);
+            markFailed(id, now);
+            return;
+        }
+        send(deliveries);
+    }
+
+    // 커밋 이후 SSE 전송
+    private void send(List<Delivery> deliveries) {
+        for (Delivery delivery : deliveries) {
+            sseEmitterService.sendNotification(delivery.userId(), delivery.response());
+        }
+    }
+
+    private List<Delivery> persist(List<NotificationOutbox> rows, LocalDateTime now, List<Long> lockedIds) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        rows.forEach(row -> lockedIds.add(row.getId()));
+
+        List<Notification> notifications = rows.stream()
+                .map(row -> Notification.builder()
+                        .user(userRepository.getReferenceById(row.getUserId()))
+                        .type(row.getType())
+                        .title(row.getTitle())
+                        .actionType(row.getActionType())
+                        .actionData(row.getActionData())
+                        .isRead(false)
+                        .build())
+                .toList();
+        List<Long> ids = notificationRepository.batchInsert(notifications, now);
+        notificationOutboxRepository.deleteAllByIdInBatch(lockedIds);
+        delivered.increment(notifications.size());
+
+        List<Delivery> deliveries = new ArrayList<>(notifications.size());
+        int index = 0;
+        for (NotificationOutbox row : rows) {
+            Long id = ids.size() == notifications.size() ? ids.get(index) : null;
+            deliveries.add(new Delivery(row.getUserId(), NotificationResponse.builder()
+                    .id(id)
+                    .type(row.getType())
+                    .title(row.getTitle())
+                    .actionType(row.getActionType())
+                    .actionData(row.getActionData())
+                    .isRead(false)
+                    .createdAt(now)
+                    .build()));
+            index++;
+        }
+        return deliveries;
+    }
+
+    private void markFailed(Long id, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.markFailed(
+                    id, now.plusNanos(TimeUnit.MILLISECONDS.toNanos(retryBackoffMillis))));
+        } catch (RuntimeException e) {
+            log.error("아웃박스 재시도 시각 갱신 실패: 행 {}", id, e);
+        }
+    }
+
+    private record Delivery(Long userId, NotificationResponse response) {
+    }
+}
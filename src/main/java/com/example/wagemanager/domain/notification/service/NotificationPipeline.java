@@ -0,0 +1,274 @@
+package com.example.wagemanager.domain.notification.service;
+
+import com.example.wagemanager.domain.notification.dto.NotificationResponse;
+import com.example.wagemanager.domain.notification.entity.Notification;
+import com.example.wagemanager.domain.notification.event.NotificationEvent;
+import com.example.wagemanager.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 일괄 저장 파이프라인
+ *
+ * 알림 이벤트를 메모리 큐에 모아 writer 스레드 하나가 batch-size건 또는 flush-ms마다 한 번의 다중 행 INSERT로 저장하고,
+ * 커밋된 뒤에 SSE로 전송한다. (사업장 전체 일정 변경 시 수백 건의 단건 INSERT 방지)
+ * - 큐가 가득 차면 offer-timeout-ms 동안 기다린 뒤 호출한 스레드에서 바로 저장 (호출자를 늦춰 유입 속도 조절)
+ * - 일괄 저장이 실패하면 한 번 더 시도하고, 그래도 실패하면 한 건씩 저장해 저장할 수 없는 알림만 버림
+ * - 지표: 큐 길이, flush 소요 시간, 배치 크기, 큐 초과 횟수, 저장 실패 건수
+ * - 종료 시 큐에 남은 알림을 모두 저장
+ */
+@Slf4j
+@Component
+public class NotificationPipeline {
+
+    private static final long IDLE_POLL_MILLIS = 500;
+    // 일괄 저장 시도 횟수와 재시도 전 대기 시간 (일시적인 커넥션/락 오류 대비)
+    private static final int BATCH_ATTEMPTS = 2;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final SseEmitterService sseEmitterService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<NotificationEvent> queue;
+    private final int batchSize;
+    private final long flushNanos;
+    private final long offerTimeoutMillis;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter overflows;
+    private final Counter failures;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public NotificationPipeline(NotificationRepository notificationRepository,
+                                SseEmitterService sseEmitterService,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${wagemanager.notification.pipeline.capacity:10000}") int capacity,
+                                @Value("${wagemanager.notification.pipeline.batch-size:200}") int batchSize,
+                                @Value("${wagemanager.notification.pipeline.flush-ms:50}") long flushMillis,
+                                @Value("${wagemanager.notification.pipeline.offer-timeout-ms:100}") long offerTimeoutMillis) {
+        this.notificationRepository = notificationRepository;
+        this.sseEmitterService = sseEmitterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushNanos = TimeUnit.MILLISECONDS.toNanos(flushMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        Gauge.builder("wagemanager.notification.pipeline.queue", queue, BlockingQueue::size)
+                .description("저장 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("wagemanager.notification.pipeline.flush")
+                .description("알림 일괄 저장 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("wagemanager.notification.pipeline.batch.size")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("wagemanager.notification.pipeline.overflow")
+                .description("큐가 가득 차 호출한 스레드에서 저장한 알림 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("wagemanager.notification.pipeline.failures")
+                .description("저장에 실패한 알림 수")
+                .register(meterRegistry);
+        this.writer = Thread.ofVirtual().name("notification-pipeline").unstarted(this::runLoop);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * 알림 저장 요청 (큐가 가득 차면 호출한 스레드에서 저장)
+     */
+    public void submit(NotificationEvent event) {
+        if (running) {
+            try {
+                if (queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            overflows.increment();
+        }
+        flush(List.of(event));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<NotificationEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private void runLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                drainOnce(IDLE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("알림 파이프라인 처리 중 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 첫 알림을 waitMillis까지 기다린 뒤, flush-ms 안에 들어오는 알림을 batch-size까지 모아 저장
+     *
+     * @return 저장한 알림 수
+     */
+    int drainOnce(long waitMillis) throws InterruptedException {
+        NotificationEvent first = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + flushNanos;
+        while (batch.size() < batchSize) {
+            // 이미 쌓인 알림은 기다리지 않고 가져옴
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            NotificationEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+
+        flush(batch);
+        return batch.size();
+    }
+
+    private void flush(List<NotificationEvent> batch) {
+        List<Notification> notifications = batch.stream()
+                .map(event -> Notification.builder()
+                        .user(event.getUser())
+                        .type(event.getType())
+                        .title(event.getTitle())
+                        .actionType(event.getActionType())
+                        .actionData(event.getActionData())
+                        .isRead(false)
+                        .build())
+                .toList();
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        long start = System.nanoTime();
+        try {
+            List<Long> ids = insertBatch(notifications, createdAt);
+            if (ids != null) {
+                send(notifications, ids, createdAt);
+                log.debug("알림 일괄 저장: {}건", notifications.size());
+            } else {
+                insertEach(notifications, createdAt);
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizes.record(batch.size());
+        }
+    }
+
+    /**
+     * 다중 행 INSERT (실패 시 BATCH_ATTEMPTS까지 재시도)
+     *
+     * @return 생성된 ID 목록, 모든 시도가 실패하면 null
+     */
+    private List<Long> insertBatch(List<Notification> notifications, LocalDateTime createdAt) {
+        for (int attempt = 1; attempt <= BATCH_ATTEMPTS; attempt++) {
+            try {
+                List<Long> ids = transactionTemplate.execute(
+                        status -> notificationRepository.batchInsert(notifications, createdAt));
+                return ids != null ? ids : List.of();
+            } catch (RuntimeException e) {
+                log.warn("알림 일괄 저장 실패 ({}/{}회): {}건", attempt, BATCH_ATTEMPTS, notifications.size(), e);
+            }
+            if (attempt < BATCH_ATTEMPTS && !sleep(RETRY_BACKOFF_MILLIS)) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    // 일괄 저장이 계속 실패하면 한 건씩 저장해 문제가 있는 알림만 버림
+    private void insertEach(List<Notification> notifications, LocalDateTime createdAt) {
+        int saved = 0;
+        for (Notification notification : notifications) {
+            List<Long> ids;
+            try {
+                ids = transactionTemplate.execute(
+                        status -> notificationRepository.batchInsert(List.of(notification), createdAt));
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("알림 저장 실패: userId={}, title={}",
+                        notification.getUser().getId(), notification.getTitle(), e);
+                continue;
+            }
+            send(List.of(notification), ids, createdAt);
+            saved++;
+        }
+        log.debug("알림 한 건씩 저장: {}/{}건", saved, notifications.size());
+    }
+
+    // 커밋 이후 SSE 전송 (ID를 돌려받지 못하면 id 없이 전송)
+    private void send(List<Notification> notifications, List<Long> ids, LocalDateTime createdAt) {
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            Long id = ids != null && ids.size() == notifications.size() ? ids.get(i) : null;
+            sseEmitterService.sendNotification(notification.getUser().getId(), NotificationResponse.builder()
+                    .id(id)
+                    .type(notification.getType())
+                    .title(notification.getTitle())
+                    .actionType(notification.getActionType())
+                    .actionData(notification.getActionData())
+                    .isRead(false)
+                    .createdAt(createdAt)
+                    .build());
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
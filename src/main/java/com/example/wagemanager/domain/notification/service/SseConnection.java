@@ -0,0 +1,255 @@
+package com.example.wagemanager.domain.notification.service;
+
+import com.example.wagemanager.domain.notification.broker.SseMessage;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 하나와 보낼 이벤트 큐
+ *
+ * 전송 요청은 큐에 넣기만 하고 바로 반환한다. (느린 클라이언트가 호출한 스레드를 막지 않음)
+ * - 큐에 이벤트가 들어오면 연결마다 하나의 writer 작업이 coalesce-ms 동안 모인 이벤트를 한 번의 flush로 쓴다.
+ * - 큐가 queue-capacity를 넘으면 가장 오래된 이벤트를 버리고, 다음 flush 앞에 dropped 이벤트로 버린 개수를 알린다.
+ *   (클라이언트는 dropped를 받으면 알림 목록을 다시 조회)
+ * - 쓰기에 실패하면 연결을 닫고 onFailure로 허브에서 제거
+ * - 재연결 직후에는 멈춘 상태로 만들어 두고, 놓친 알림(replay)을 큐 앞에 넣은 뒤 resume으로 쓰기 시작
+ * - heartbeat: 쓸 이벤트가 없으면 주석 한 줄을 써서 프록시가 유휴 연결을 끊지 않게 하고 끊긴 연결을 감지
+ */
+@Slf4j
+final class SseConnection {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final long coalesceMillis;
+    private final Executor writerExecutor;
+    private final Counter droppedCounter;
+    private final Consumer<SseConnection> onFailure;
+
+    // writer는 가상 스레드에서 실행되므로 synchronized 대신 ReentrantLock 사용 (캐리어 스레드 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<SseMessage> queue = new ArrayDeque<>();
+    private int dropped;
+    private boolean heartbeatPending;
+    private boolean paused;
+    private boolean writing;
+    private boolean closed;
+
+    SseConnection(Long userId, SseEmitter emitter, int capacity, long coalesceMillis, boolean paused,
+                  Executor writerExecutor, Counter droppedCounter, Consumer<SseConnection> onFailure) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.coalesceMillis = coalesceMillis;
+        this.paused = paused;
+        this.writerExecutor = writerExecutor;
+        this.droppedCounter = droppedCounter;
+        this.onFailure = onFailure;
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * 이벤트를 큐에 추가하고, 실행 중인 writer가 없으면 시작
+     */
+    void enqueue(SseMessage message) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (queue.size() >= capacity) {
+                queue.pollFirst();
+                dropped++;
+                droppedCounter.increment();
+            }
+            queue.addLast(message);
+            if (!claimWriter()) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        startWriter();
+    }
+
+    /**
+     * 쓸 이벤트가 없으면 heartbeat 주석 전송
+     */
+    void heartbeat() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            heartbeatPending = true;
+            if (!claimWriter()) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        startWriter();
+    }
+
+    /**
+     * 놓친 알림을 큐 앞에 넣고 쓰기 시작
+     * 멈춰 있는 동안 들어온 이벤트 중 replay에 포함된 알림(같은 ID)은 제외한다.
+     * ID는 커밋 순서대로 늘어나지 않으므로 마지막 replay ID 이하라고 해서 replay에 포함된 것은 아니다.
+     *
+     * @param replay ID 오름차순으로 정렬된 알림 이벤트
+     */
+    void resume(List<SseMessage> replay) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            paused = false;
+            if (!replay.isEmpty()) {
+                Set<Long> replayedIds = new HashSet<>();
+                replay.forEach(message -> replayedIds.add(message.id()));
+                queue.removeIf(message -> message.id() != null && replayedIds.contains(message.id()));
+                for (int i = replay.size() - 1; i >= 0; i--) {
+                    queue.addFirst(replay.get(i));
+                }
+            }
+            if (queue.isEmpty() && dropped == 0 && !heartbeatPending || !claimWriter()) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        startWriter();
+    }
+
+    /**
+     * 더 이상 쓰지 않음 (남은 이벤트는 버림)
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 연결 종료 (사용자당 연결 수 초과 등)
+     */
+    void complete() {
+        close();
+        emitter.complete();
+    }
+
+    // lock을 잡은 상태에서 호출: writer를 시작해야 하면 true
+    private boolean claimWriter() {
+        if (writing || paused) {
+            return false;
+        }
+        writing = true;
+        return true;
+    }
+
+    private void startWriter() {
+        try {
+            writerExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            close();
+        }
+    }
+
+    private void drain() {
+        if (!waitForMore()) {
+            close();
+            return;
+        }
+
+        while (true) {
+            List<SseMessage> batch;
+            int droppedCount;
+            boolean heartbeat;
+            lock.lock();
+            try {
+                if (closed || (queue.isEmpty() && dropped == 0 && !heartbeatPending)) {
+                    writing = false;
+                    return;
+                }
+                batch = new ArrayList<>(queue);
+                queue.clear();
+                droppedCount = dropped;
+                dropped = 0;
+                heartbeat = heartbeatPending;
+                heartbeatPending = false;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                emitter.send(toFrames(batch, droppedCount, heartbeat));
+            } catch (IOException | IllegalStateException e) {
+                // 끊어졌거나 이미 완료된 연결
+                log.debug("SSE 전송 실패로 연결 제거: userId={}", userId);
+                close();
+                onFailure.accept(this);
+                return;
+            }
+        }
+    }
+
+    // 짧은 시간 동안 들어오는 이벤트를 모아 한 번에 씀
+    private boolean waitForMore() {
+        if (coalesceMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(coalesceMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> toFrames(List<SseMessage> batch, int droppedCount,
+                                                                       boolean heartbeat) {
+        Set<ResponseBodyEmitter.DataWithMediaType> frames = new LinkedHashSet<>();
+        if (heartbeat && batch.isEmpty() && droppedCount == 0) {
+            frames.addAll(SseEmitter.event().comment("heartbeat").build());
+        }
+        if (droppedCount > 0) {
+            frames.addAll(SseEmitter.event()
+                    .name("dropped")
+                    .data("{\"count\":" + droppedCount + "}", MediaType.APPLICATION_JSON)
+                    .build());
+        }
+        for (SseMessage message : batch) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.eventName());
+            if (message.id() != null) {
+                event.id(String.valueOf(message.id()));
+            }
+            frames.addAll(event.data(message.payload(), MediaType.APPLICATION_JSON).build());
+        }
+        return frames;
+    }
+}
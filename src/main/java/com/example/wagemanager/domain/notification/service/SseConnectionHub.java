@@ -0,0 +1,202 @@
+package com.example.wagemanager.domain.notification.service;
+
+import com.example.wagemanager.domain.notification.broker.NotificationBroker;
+import com.example.wagemanager.domain.notification.broker.SseMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 이 노드의 SSE 연결 관리
+ *
+ * 사용자마다 여러 연결(탭/기기)을 보관하고, NotificationBroker로 받은 이벤트를 사용자의 모든 연결에 전송한다.
+ * - 사용자당 max-connections-per-user를 넘으면 가장 오래된 연결을 종료
+ * - 전송은 연결별 큐(SseConnection)에 넣기만 하고, 쓰기는 연결마다 가상 스레드 writer가 담당
+ * - 전송에 실패한 연결은 바로 제거
+ * - heartbeat-ms마다 (스케줄러 스레드 하나에서) 모든 연결에 heartbeat 요청
+ * - 재연결 시 Last-Event-ID 이후 놓친 알림을 먼저 보낸 뒤 실시간 이벤트를 이어서 전송
+ */
+@Slf4j
+@Component
+public class SseConnectionHub {
+
+    private final Map<Long, List<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final int maxConnectionsPerUser;
+    private final int queueCapacity;
+    private final long coalesceMillis;
+    private final long reconnectMillis;
+    private final Supplier<SseEmitter> emitterFactory;
+    private final Executor writerExecutor;
+    private final Counter droppedCounter;
+
+    @Autowired
+    public SseConnectionHub(NotificationBroker notificationBroker,
+                            MeterRegistry meterRegistry,
+                            @Value("${wagemanager.notification.sse.timeout-ms:1800000}") long timeoutMillis,
+                            @Value("${wagemanager.notification.sse.max-connections-per-user:10}") int maxConnectionsPerUser,
+                            @Value("${wagemanager.notification.sse.queue-capacity:100}") int queueCapacity,
+                            @Value("${wagemanager.notification.sse.coalesce-ms:20}") long coalesceMillis,
+                            @Value("${wagemanager.notification.sse.reconnect-ms:3000}") long reconnectMillis) {
+        this(notificationBroker, meterRegistry, maxConnectionsPerUser, queueCapacity, coalesceMillis, reconnectMillis,
+                () -> new SseEmitter(timeoutMillis), Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    SseConnectionHub(NotificationBroker notificationBroker,
+                     MeterRegistry meterRegistry,
+                     int maxConnectionsPerUser,
+                     int queueCapacity,
+                     long coalesceMillis,
+                     long reconnectMillis,
+                     Supplier<SseEmitter> emitterFactory,
+                     Executor writerExecutor) {
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.queueCapacity = queueCapacity;
+        this.coalesceMillis = coalesceMillis;
+        this.reconnectMillis = reconnectMillis;
+        this.emitterFactory = emitterFactory;
+        this.writerExecutor = writerExecutor;
+        this.droppedCounter = Counter.builder("wagemanager.sse.dropped")
+                .description("연결별 큐가 가득 차 버린 SSE 이벤트 수")
+                .register(meterRegistry);
+        notificationBroker.subscribe(this::deliver);
+        Gauge.builder("wagemanager.sse.connections", this, SseConnectionHub::getConnectionCount)
+                .description("이 노드의 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새로운 SSE 연결 생성 (같은 사용자의 기존 연결은 유지)
+     */
+    public SseEmitter connect(Long userId) {
+        return connect(userId, List::of);
+    }
+
+    /**
+     * 재연결: 놓친 이벤트를 먼저 보낸 뒤 실시간 이벤트 전송
+     * 연결을 등록한 뒤 replay를 조회하므로 그 사이에 발행된 이벤트도 빠지지 않는다. (중복은 알림 ID로 제거)
+     *
+     * @param replay 놓친 알림 이벤트 조회 (ID 오름차순)
+     */
+    public SseEmitter connect(Long userId, Supplier<List<SseMessage>> replay) {
+        SseEmitter emitter = emitterFactory.get();
+        SseConnection connection = new SseConnection(userId, emitter, queueCapacity, coalesceMillis, true,
+                writerExecutor, droppedCounter, this::remove);
+
+        List<SseConnection> evicted = new ArrayList<>();
+        connections.compute(userId, (id, userConnections) -> {
+            List<SseConnection> target = userConnections != null ? userConnections : new CopyOnWriteArrayList<>();
+            target.add(connection);
+            while (target.size() > maxConnectionsPerUser) {
+                evicted.add(target.remove(0));
+            }
+            return target;
+        });
+        evicted.forEach(old -> {
+            log.info("SSE 연결 수 초과로 오래된 연결 종료: userId={}", userId);
+            old.complete();
+        });
+
+        emitter.onCompletion(() -> {
+            log.info("SSE 연결 완료: userId={}", userId);
+            remove(connection);
+        });
+        emitter.onTimeout(() -> {
+            log.info("SSE 타임아웃: userId={}", userId);
+            remove(connection);
+        });
+        emitter.onError((e) -> {
+            log.error("SSE 에러: userId={}", userId, e);
+            remove(connection);
+        });
+
+        // 연결 즉시 더미 이벤트 전송 (503 에러 방지)
+        // resume 전에는 writer가 없으므로 직접 씀 (응답 시작 전에는 버퍼에만 쌓임)
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("connect")
+                    .reconnectTime(reconnectMillis)
+                    .data("Connected to notification stream"));
+        } catch (IOException e) {
+            log.error("SSE 초기 메시지 전송 실패: userId={}", userId, e);
+            remove(connection);
+            return emitter;
+        }
+
+        List<SseMessage> missed = List.of();
+        try {
+            missed = replay.get();
+        } catch (RuntimeException e) {
+            log.error("SSE 놓친 알림 조회 실패: userId={}", userId, e);
+        }
+        connection.resume(missed);
+
+        log.info("SSE 연결 생성: userId={}, connections={}, replayed={}", userId, getConnectionCount(userId), missed.size());
+        return emitter;
+    }
+
+    /**
+     * 브로커로 받은 이벤트를 이 노드에 있는 사용자의 모든 연결 큐에 추가 (쓰기를 기다리지 않음)
+     */
+    public void deliver(SseMessage message) {
+        List<SseConnection> userConnections = connections.get(message.userId());
+        if (userConnections == null) {
+            log.debug("SSE 연결 없음: userId={}", message.userId());
+            return;
+        }
+
+        for (SseConnection connection : userConnections) {
+            connection.enqueue(message);
+        }
+    }
+
+    /**
+     * 모든 연결에 heartbeat 요청 (쓸 이벤트가 없는 연결만 주석 전송)
+     * 실제 쓰기는 연결별 writer가 하므로 스케줄러 스레드는 막히지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${wagemanager.notification.sse.heartbeat-ms:15000}", scheduler = "realtimeScheduler")
+    public void sendHeartbeats() {
+        connections.values().forEach(userConnections -> userConnections.forEach(SseConnection::heartbeat));
+    }
+
+    public int getConnectionCount(Long userId) {
+        List<SseConnection> userConnections = connections.get(userId);
+        return userConnections != null ? userConnections.size() : 0;
+    }
+
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writerExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void remove(SseConnection connection) {
+        connection.close();
+        connections.computeIfPresent(connection.getUserId(), (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+}
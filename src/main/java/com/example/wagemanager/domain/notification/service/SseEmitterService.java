@@ -1,85 +1,80 @@
 package com.example.wagemanager.domain.notification.service;
 
+import com.example.wagemanager.domain.notification.broker.NotificationBroker;
+import com.example.wagemanager.domain.notification.broker.SseMessage;
 import com.example.wagemanager.domain.notification.dto.NotificationResponse;
 import com.example.wagemanager.domain.notification.entity.Notification;
+import com.example.wagemanager.domain.notification.repository.NotificationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * SSE 알림 전송
+ * 연결은 이 노드의 SseConnectionHub에 등록하고, 전송은 NotificationBroker를 거쳐
+ * 사용자의 연결이 있는 모든 노드에 전달한다.
+ * 알림 이벤트의 id는 알림 ID이므로, 재연결 시 Last-Event-ID 이후 알림을 notification 테이블에서 다시 보낸다.
+ * 알림 ID는 커밋 순서대로 늘어나지 않으므로 Last-Event-ID 알림 생성 시각 이전 replay-overlap-ms 동안의 알림도 다시 보낸다.
+ * 이미 받은 알림이 다시 올 수 있으므로 클라이언트는 이벤트 id(알림 ID)로 중복을 제거해야 한다.
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class SseEmitterService {
-    // 타임아웃 설정 (30분)
-    private static final long DEFAULT_TIMEOUT = 30 * 60 * 1000L;
 
-    // userId -> SseEmitter 맵핑
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final SseConnectionHub sseConnectionHub;
+    private final NotificationBroker notificationBroker;
+    private final ObjectMapper objectMapper;
+    private final NotificationRepository notificationRepository;
+
+    // 재연결 시 다시 보낼 최대 알림 수 (넘으면 resync 이벤트로 목록 재조회 요청)
+    @Value("${wagemanager.notification.sse.replay-limit:50}")
+    private int replayLimit;
+
+    // Last-Event-ID 알림보다 작은 ID로 늦게 커밋된 알림을 찾기 위해 다시 보는 구간
+    @Value("${wagemanager.notification.sse.replay-overlap-ms:10000}")
+    private long replayOverlapMillis;
 
     /**
      * 새로운 SSE 연결 생성
+     *
+     * @param lastEventId 브라우저가 재연결할 때 보내는 Last-Event-ID 헤더 (마지막으로 받은 알림 ID)
      */
-    public SseEmitter createEmitter(Long userId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitters.put(userId, emitter);
-
-        // 연결 완료 시 emitter 제거
-        emitter.onCompletion(() -> {
-            log.info("SSE 연결 완료: userId={}", userId);
-            emitters.remove(userId);
-        });
-
-        // 타임아웃 시 emitter 제거
-        emitter.onTimeout(() -> {
-            log.info("SSE 타임아웃: userId={}", userId);
-            emitters.remove(userId);
-        });
-
-        // 에러 발생 시 emitter 제거
-        emitter.onError((e) -> {
-            log.error("SSE 에러: userId={}", userId, e);
-            emitters.remove(userId);
-        });
-
-        // 연결 즉시 더미 이벤트 전송 (503 에러 방지)
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data("Connected to notification stream"));
-        } catch (IOException e) {
-            log.error("SSE 초기 메시지 전송 실패: userId={}", userId, e);
-            emitters.remove(userId);
+    public SseEmitter createEmitter(Long userId, String lastEventId) {
+        Long lastNotificationId = parseEventId(lastEventId);
+        if (lastNotificationId == null) {
+            return sseConnectionHub.connect(userId);
         }
-
-        log.info("SSE 연결 생성: userId={}", userId);
-        return emitter;
+        return sseConnectionHub.connect(userId, () -> findMissedNotifications(userId, lastNotificationId));
     }
 
     /**
      * 특정 사용자에게 알림 전송
      */
     public void sendNotification(Long userId, Notification notification) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                NotificationResponse response = NotificationResponse.from(notification);
-                if (response != null) {
-                    emitter.send(SseEmitter.event()
-                            .name("notification")
-                            .data(response));
-                    Long notificationId = notification.getId();
-                    log.info("SSE 알림 전송 성공: userId={}, notificationId={}", userId, notificationId != null ? notificationId : "N/A");
-                }
-            } catch (IOException e) {
-                Long notificationId = notification.getId();
-                log.error("SSE 알림 전송 실패: userId={}, notificationId={}", userId, notificationId != null ? notificationId : "N/A", e);
-                emitters.remove(userId);
-            }
-        } else {
-            log.debug("SSE 연결 없음: userId={}", userId);
+        sendNotification(userId, NotificationResponse.from(notification));
+    }
+
+    /**
+     * 특정 사용자에게 알림 전송 (JDBC로 일괄 저장해 엔티티가 없는 알림용)
+     */
+    public void sendNotification(Long userId, NotificationResponse response) {
+        try {
+            notificationBroker.publish(toMessage(userId, response));
+            Long notificationId = response.getId();
+            log.info("SSE 알림 발행: userId={}, notificationId={}", userId, notificationId != null ? notificationId : "N/A");
+        } catch (JsonProcessingException e) {
+            log.error("SSE 알림 직렬화 실패: userId={}", userId, e);
         }
     }
 
@@ -87,24 +82,52 @@ public class SseEmitterService {
      * 특정 사용자의 읽지 않은 알림 개수 전송
      */
     public void sendUnreadCount(Long userId, long count) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("unread-count")
-                        .data(count));
-                log.info("SSE 읽지 않은 알림 개수 전송: userId={}, count={}", userId, count);
-            } catch (IOException e) {
-                log.error("SSE 읽지 않은 알림 개수 전송 실패: userId={}", userId, e);
-                emitters.remove(userId);
-            }
-        }
+        notificationBroker.publish(new SseMessage(userId, "unread-count", String.valueOf(count)));
+        log.info("SSE 읽지 않은 알림 개수 발행: userId={}, count={}", userId, count);
     }
 
     /**
-     * 연결된 emitter 개수 조회
+     * 이 노드에 연결된 emitter 개수 조회
      */
     public int getEmitterCount() {
-        return emitters.size();
+        return sseConnectionHub.getConnectionCount();
+    }
+
+    private List<SseMessage> findMissedNotifications(Long userId, Long lastNotificationId) {
+        // 마지막 알림을 찾지 못하면(삭제 등) ID 기준으로만 조회
+        LocalDateTime since = notificationRepository.findCreatedAtByIdAndUserId(lastNotificationId, userId)
+                .map(createdAt -> createdAt.minus(Duration.ofMillis(replayOverlapMillis)))
+                .orElseGet(LocalDateTime::now);
+        List<Notification> missed = notificationRepository.findReplayByUserId(
+                userId, lastNotificationId, since, PageRequest.of(0, replayLimit + 1));
+        if (missed.size() > replayLimit) {
+            log.info("SSE 놓친 알림이 너무 많아 재조회 요청: userId={}, lastEventId={}", userId, lastNotificationId);
+            return List.of(new SseMessage(userId, "resync", "{}"));
+        }
+
+        List<SseMessage> messages = new ArrayList<>();
+        for (Notification notification : missed) {
+            try {
+                messages.add(toMessage(userId, NotificationResponse.from(notification)));
+            } catch (JsonProcessingException e) {
+                log.error("SSE 알림 직렬화 실패: userId={}, notificationId={}", userId, notification.getId(), e);
+            }
+        }
+        return messages;
+    }
+
+    private SseMessage toMessage(Long userId, NotificationResponse response) throws JsonProcessingException {
+        return new SseMessage(userId, "notification", response.getId(), objectMapper.writeValueAsString(response));
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
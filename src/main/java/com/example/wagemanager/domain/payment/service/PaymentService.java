@@ -8,9 +8,11 @@ import com.example.wagemanager.domain.payment.entity.Payment;
 import com.example.wagemanager.domain.payment.enums.PaymentStatus;
 import com.example.wagemanager.domain.payment.repository.PaymentRepository;
 import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.event.PayrollChangedEvent;
 import com.example.wagemanager.domain.salary.repository.SalaryRepository;
 import com.example.wagemanager.domain.payment.enums.PaymentMethod;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final SalaryRepository salaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 급여 지급 처리 (카카오페이 고정)
@@ -66,6 +69,7 @@ public class PaymentService {
         // 급여 송금 완료 처리
         payment.complete(UUID.randomUUID().toString());
         paymentRepository.save(payment);
+        eventPublisher.publishEvent(new PayrollChangedEvent(salary.getContract().getId(), salary.getYear(), salary.getMonth()));
 
         return PaymentDto.Response.from(payment);
     }
@@ -0,0 +1,117 @@
+package com.example.wagemanager.domain.salary.dto;
+
+import com.example.wagemanager.domain.salary.entity.PayrollRun;
+import com.example.wagemanager.domain.salary.entity.PayrollRunChunk;
+import com.example.wagemanager.domain.salary.enums.PayrollRunChunkStatus;
+import com.example.wagemanager.domain.salary.enums.PayrollRunStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class PayrollRunDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PayrollRunResponse")
+    public static class Response {
+        private Integer year;
+        private Integer month;
+        private Integer totalCount;
+        private Integer successCount;
+        private Integer failureCount;
+        private List<ContractResult> results;
+
+        public static Response of(Integer year, Integer month, List<ContractResult> results) {
+            int successCount = (int) results.stream().filter(ContractResult::getSuccess).count();
+            return Response.builder()
+                    .year(year)
+                    .month(month)
+                    .totalCount(results.size())
+                    .successCount(successCount)
+                    .failureCount(results.size() - successCount)
+                    .results(results)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PayrollRunContractResult")
+    public static class ContractResult {
+        private Long contractId;
+        private String workerName;
+        private Long workplaceId;
+        private Boolean success;
+        private Long salaryId;
+        private BigDecimal netPay;
+        private String errorCode;
+        private String errorMessage;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PayrollRunProgress")
+    public static class Progress {
+        private Long runId;
+        private Integer year;
+        private Integer month;
+        private PayrollRunStatus status;
+        private Integer totalChunks;
+        private Integer completedChunks;
+        private Integer failedChunks;
+        private Integer pendingChunks;
+        private Integer totalContracts;
+        private Integer processedContracts;
+        private Integer successCount;
+        private Integer failureCount;
+        private Integer progressPercent;
+
+        // 청크 행의 상태를 집계해 진행률 계산
+        public static Progress of(PayrollRun run, List<PayrollRunChunk> chunks) {
+            int completedChunks = 0;
+            int failedChunks = 0;
+            int processedContracts = 0;
+            int successCount = 0;
+            int failureCount = 0;
+
+            for (PayrollRunChunk chunk : chunks) {
+                if (chunk.getStatus() == PayrollRunChunkStatus.COMPLETED) {
+                    completedChunks++;
+                    processedContracts += chunk.getContractCount();
+                    successCount += chunk.getSuccessCount();
+                    failureCount += chunk.getFailureCount();
+                } else if (chunk.getStatus() == PayrollRunChunkStatus.FAILED) {
+                    failedChunks++;
+                }
+            }
+
+            int totalContracts = run.getTotalContracts();
+            return Progress.builder()
+                    .runId(run.getId())
+                    .year(run.getYear())
+                    .month(run.getMonth())
+                    .status(run.getStatus())
+                    .totalChunks(chunks.size())
+                    .completedChunks(completedChunks)
+                    .failedChunks(failedChunks)
+                    .pendingChunks(chunks.size() - completedChunks - failedChunks)
+                    .totalContracts(totalContracts)
+                    .processedContracts(processedContracts)
+                    .successCount(successCount)
+                    .failureCount(failureCount)
+                    .progressPercent(totalContracts == 0 ? 100 : processedContracts * 100 / totalContracts)
+                    .build();
+        }
+    }
+}
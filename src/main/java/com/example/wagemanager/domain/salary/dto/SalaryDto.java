@@ -1,6 +1,7 @@
 package com.example.wagemanager.domain.salary.dto;
 
 import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.entity.WorkplacePayrollSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -92,4 +93,52 @@ public class SalaryDto {
                     .build();
         }
     }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "SalaryWorkplaceSummaryResponse")
+    public static class WorkplaceSummaryResponse {
+        private Long workplaceId;
+        private Integer year;
+        private Integer month;
+        private Integer headcount;
+        private BigDecimal totalGrossPay;
+        private BigDecimal totalDeduction;
+        private BigDecimal totalNetPay;
+        private Integer paidCount;
+        private Integer unpaidCount;
+        private String updatedAt;
+
+        public static WorkplaceSummaryResponse from(WorkplacePayrollSummary summary) {
+            return WorkplaceSummaryResponse.builder()
+                    .workplaceId(summary.getWorkplace().getId())
+                    .year(summary.getYear())
+                    .month(summary.getMonth())
+                    .headcount(summary.getHeadcount())
+                    .totalGrossPay(summary.getTotalGrossPay())
+                    .totalDeduction(summary.getTotalDeduction())
+                    .totalNetPay(summary.getTotalNetPay())
+                    .paidCount(summary.getPaidCount())
+                    .unpaidCount(summary.getUnpaidCount())
+                    .updatedAt(summary.getUpdatedAt() != null ? summary.getUpdatedAt().toString() : null)
+                    .build();
+        }
+
+        // 해당 월 급여가 없는 사업장
+        public static WorkplaceSummaryResponse empty(Long workplaceId, Integer year, Integer month) {
+            return WorkplaceSummaryResponse.builder()
+                    .workplaceId(workplaceId)
+                    .year(year)
+                    .month(month)
+                    .headcount(0)
+                    .totalGrossPay(BigDecimal.ZERO)
+                    .totalDeduction(BigDecimal.ZERO)
+                    .totalNetPay(BigDecimal.ZERO)
+                    .paidCount(0)
+                    .unpaidCount(0)
+                    .build();
+        }
+    }
 }
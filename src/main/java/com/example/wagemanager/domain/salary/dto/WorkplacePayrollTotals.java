@@ -0,0 +1,33 @@
+package com.example.wagemanager.domain.salary.dto;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 사업장 월별 급여 합계 (DB 집계 결과)
+ */
+@Getter
+public class WorkplacePayrollTotals {
+
+    public static final WorkplacePayrollTotals EMPTY = new WorkplacePayrollTotals(0L, null, null, null, 0L);
+
+    private final long headcount;
+    private final BigDecimal totalGrossPay;
+    private final BigDecimal totalDeduction;
+    private final BigDecimal totalNetPay;
+    private final long paidCount;
+
+    // JPQL 생성자 표현식용 (급여가 없으면 합계가 null)
+    public WorkplacePayrollTotals(Long headcount,
+                                  BigDecimal totalGrossPay,
+                                  BigDecimal totalDeduction,
+                                  BigDecimal totalNetPay,
+                                  Long paidCount) {
+        this.headcount = headcount != null ? headcount : 0L;
+        this.totalGrossPay = totalGrossPay != null ? totalGrossPay : BigDecimal.ZERO;
+        this.totalDeduction = totalDeduction != null ? totalDeduction : BigDecimal.ZERO;
+        this.totalNetPay = totalNetPay != null ? totalNetPay : BigDecimal.ZERO;
+        this.paidCount = paidCount != null ? paidCount : 0L;
+    }
+}
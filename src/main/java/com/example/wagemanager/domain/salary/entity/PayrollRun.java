@@ -0,0 +1,74 @@
+package com.example.wagemanager.domain.salary.entity;
+
+import com.example.wagemanager.common.BaseEntity;
+import com.example.wagemanager.domain.employer.entity.Employer;
+import com.example.wagemanager.domain.salary.enums.PayrollRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월말 급여 일괄 정산 실행 이력
+ * 대상 계약은 PayrollRunChunk 단위로 나뉘어 청크마다 별도 트랜잭션으로 커밋된다.
+ * 실행 중인 동안에만 running_key(고용주:연:월)를 채워, 같은 기간의 실행이 노드와 관계없이 하나만 RUNNING이 되도록 한다.
+ */
+@Entity
+@Table(name = "payroll_run",
+        uniqueConstraints = {
+                // 종료된 실행은 running_key가 null이므로 제약 대상 아님
+                @UniqueConstraint(name = "uk_payroll_run_running_key", columnNames = {"running_key"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PayrollRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employer_id", nullable = false)
+    private Employer employer;
+
+    @Column(name = "run_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "run_month", nullable = false)
+    private Integer month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private PayrollRunStatus status = PayrollRunStatus.RUNNING;
+
+    @Column(name = "total_chunks", nullable = false)
+    private Integer totalChunks;
+
+    @Column(name = "total_contracts", nullable = false)
+    private Integer totalContracts;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "running_key", length = 64)
+    private String runningKey;
+
+    public static String runningKey(Long employerId, Integer year, Integer month) {
+        return employerId + ":" + year + ":" + month;
+    }
+
+    public void restart() {
+        this.status = PayrollRunStatus.RUNNING;
+        this.finishedAt = null;
+        this.runningKey = runningKey(employer.getId(), year, month);
+    }
+
+    public void finish(boolean allChunksCompleted) {
+        this.status = allChunksCompleted ? PayrollRunStatus.COMPLETED : PayrollRunStatus.PARTIALLY_FAILED;
+        this.finishedAt = LocalDateTime.now();
+        this.runningKey = null;
+    }
+}
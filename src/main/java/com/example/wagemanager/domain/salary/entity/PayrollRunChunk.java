@@ -0,0 +1,99 @@
+package com.example.wagemanager.domain.salary.entity;
+
+import com.example.wagemanager.common.BaseEntity;
+import com.example.wagemanager.domain.salary.enums.PayrollRunChunkStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 급여 일괄 정산의 처리 단위
+ * 계약 ID 목록을 고정해 두어 재개 시 같은 계약 집합을 다시 계산한다.
+ */
+@Entity
+@Table(name = "payroll_run_chunk",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_payroll_run_chunk_index", columnNames = {"payroll_run_id", "chunk_index"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PayrollRunChunk extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payroll_run_id", nullable = false)
+    private PayrollRun payrollRun;
+
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+
+    // 쉼표로 구분한 계약 ID 목록
+    @Column(name = "contract_ids", nullable = false, columnDefinition = "TEXT")
+    private String contractIds;
+
+    @Column(name = "contract_count", nullable = false)
+    private Integer contractCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private PayrollRunChunkStatus status = PayrollRunChunkStatus.PENDING;
+
+    @Column(name = "success_count", nullable = false)
+    @Builder.Default
+    private Integer successCount = 0;
+
+    @Column(name = "failure_count", nullable = false)
+    @Builder.Default
+    private Integer failureCount = 0;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static PayrollRunChunk of(PayrollRun payrollRun, int chunkIndex, List<Long> contractIds) {
+        return PayrollRunChunk.builder()
+                .payrollRun(payrollRun)
+                .chunkIndex(chunkIndex)
+                .contractIds(contractIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .contractCount(contractIds.size())
+                .build();
+    }
+
+    public List<Long> getContractIdList() {
+        if (contractIds == null || contractIds.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(contractIds.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isCompleted() {
+        return status == PayrollRunChunkStatus.COMPLETED;
+    }
+
+    public void complete(int successCount, int failureCount) {
+        this.status = PayrollRunChunkStatus.COMPLETED;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.errorMessage = null;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = PayrollRunChunkStatus.FAILED;
+        this.errorMessage = errorMessage;
+    }
+}
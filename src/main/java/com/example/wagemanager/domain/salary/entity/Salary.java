@@ -2,6 +2,7 @@ package com.example.wagemanager.domain.salary.entity;
 
 import com.example.wagemanager.common.BaseEntity;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,8 +11,9 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "salary",
-        indexes = {
-                @Index(name = "idx_contract_year_month", columnList = "contract_id,salary_year,salary_month")
+        uniqueConstraints = {
+                // 계약별 연월 당 한 행 (동시에 처음 계산해도 중복 생성되지 않음)
+                @UniqueConstraint(name = "uk_salary_contract_year_month", columnNames = {"contract_id", "salary_year", "salary_month"})
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,6 +29,12 @@ public class Salary extends BaseEntity {
     @JoinColumn(name = "contract_id", nullable = false)
     private WorkerContract contract;
 
+    // 낙관적 락: 같은 행을 동시에 읽고-수정-쓰기 하면 나중 커밋이 실패 (ContractWriteSerializer가 재시도)
+    @Version
+    @Column(name = "version", nullable = false)
+    @Builder.Default
+    private Long version = 0L;
+
     @Column(name = "salary_year", nullable = false)
     private Integer year;
 
@@ -68,4 +76,28 @@ public class Salary extends BaseEntity {
 
     @Column(name = "payment_due_date")
     private LocalDate paymentDueDate;
+
+    // 현재 급여에 반영된 근무 기록 합계 (증분 재계산의 기준값)
+    public PayrollCalculator.WorkTotals getWorkTotals() {
+        return new PayrollCalculator.WorkTotals(
+                totalWorkHours != null ? totalWorkHours : BigDecimal.ZERO,
+                basePay != null ? basePay : BigDecimal.ZERO,
+                nightPay != null ? nightPay : BigDecimal.ZERO,
+                holidayPay != null ? holidayPay : BigDecimal.ZERO);
+    }
+
+    // 재계산 결과 반영 (기존 급여 정보 업데이트)
+    public void applyCalculation(PayrollCalculator.Result result) {
+        this.totalWorkHours = result.getTotalWorkHours();
+        this.basePay = result.getBasePay();
+        this.overtimePay = result.getOvertimePay();
+        this.nightPay = result.getNightPay();
+        this.holidayPay = result.getHolidayPay();
+        this.totalGrossPay = result.getTotalGrossPay();
+        this.fourMajorInsurance = result.getFourMajorInsurance();
+        this.incomeTax = result.getIncomeTax();
+        this.localIncomeTax = result.getLocalIncomeTax();
+        this.totalDeduction = result.getTotalDeduction();
+        this.netPay = result.getNetPay();
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.wagemanager.domain.salary.entity;
+
+import com.example.wagemanager.common.BaseEntity;
+import com.example.wagemanager.domain.salary.dto.WorkplacePayrollTotals;
+import com.example.wagemanager.domain.workplace.entity.Workplace;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 사업장 월별 급여 요약 (조회 전용 집계 테이블)
+ * 급여/송금 변경 이벤트가 커밋된 뒤 해당 (사업장, 연, 월)의 Salary를 다시 집계하여 갱신한다.
+ */
+@Entity
+@Table(name = "workplace_payroll_summary",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_workplace_payroll_summary", columnNames = {"workplace_id", "summary_year", "summary_month"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class WorkplacePayrollSummary extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workplace_id", nullable = false)
+    private Workplace workplace;
+
+    @Column(name = "summary_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "summary_month", nullable = false)
+    private Integer month;
+
+    // 급여 대상 인원 (해당 월 급여 건수)
+    @Column(name = "headcount", nullable = false)
+    @Builder.Default
+    private Integer headcount = 0;
+
+    @Column(name = "total_gross_pay", precision = 14, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal totalGrossPay = BigDecimal.ZERO;
+
+    @Column(name = "total_deduction", precision = 14, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal totalDeduction = BigDecimal.ZERO;
+
+    @Column(name = "total_net_pay", precision = 14, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal totalNetPay = BigDecimal.ZERO;
+
+    // 송금 완료(COMPLETED) 건수
+    @Column(name = "paid_count", nullable = false)
+    @Builder.Default
+    private Integer paidCount = 0;
+
+    // 미송금 건수 (송금 기록 없음, PENDING, FAILED)
+    @Column(name = "unpaid_count", nullable = false)
+    @Builder.Default
+    private Integer unpaidCount = 0;
+
+    // 재집계 결과 반영
+    public void apply(WorkplacePayrollTotals totals) {
+        this.headcount = Math.toIntExact(totals.getHeadcount());
+        this.totalGrossPay = totals.getTotalGrossPay();
+        this.totalDeduction = totals.getTotalDeduction();
+        this.totalNetPay = totals.getTotalNetPay();
+        this.paidCount = Math.toIntExact(totals.getPaidCount());
+        this.unpaidCount = Math.toIntExact(totals.getHeadcount() - totals.getPaidCount());
+    }
+}
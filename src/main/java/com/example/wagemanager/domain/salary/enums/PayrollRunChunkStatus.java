@@ -0,0 +1,7 @@
+package com.example.wagemanager.domain.salary.enums;
+
+public enum PayrollRunChunkStatus {
+    PENDING,    // 대기 중
+    COMPLETED,  // 커밋 완료
+    FAILED      // 실패 (재개 시 다시 실행)
+}
@@ -0,0 +1,7 @@
+package com.example.wagemanager.domain.salary.enums;
+
+public enum PayrollRunStatus {
+    RUNNING,            // 실행 중
+    COMPLETED,          // 모든 청크 완료
+    PARTIALLY_FAILED    // 일부 청크 실패 (재개 가능)
+}
@@ -0,0 +1,20 @@
+package com.example.wagemanager.domain.salary.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * 급여 또는 송금 상태 변경 이벤트
+ * 해당 계약이 속한 사업장의 월별 급여 요약을 다시 집계하는 데 사용된다.
+ */
+@Getter
+@AllArgsConstructor
+public class PayrollChangedEvent {
+    @NonNull
+    private final Long contractId;
+    @NonNull
+    private final Integer year;
+    @NonNull
+    private final Integer month;
+}
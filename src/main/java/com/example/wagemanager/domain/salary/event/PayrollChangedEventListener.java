@@ -0,0 +1,81 @@
+package com.example.wagemanager.domain.salary.event;
+
+import com.example.wagemanager.domain.salary.service.WorkplacePayrollSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 급여/송금 변경 시 사업장 월별 급여 요약 갱신
+ *
+ * 한 트랜잭션에서 발생한 변경을 (연월 → 계약 ID)로 모아 두었다가 커밋 이후 사업장별로 한 번씩만 재집계한다.
+ * (일괄 정산처럼 급여 수백 건이 바뀌어도 사업장마다 한 번) 롤백되면 갱신하지 않으며, 트랜잭션 밖에서는 즉시 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayrollChangedEventListener {
+
+    private static final String RESOURCE_KEY = PayrollChangedEventListener.class.getName() + ".PENDING";
+
+    private final WorkplacePayrollSummaryService workplacePayrollSummaryService;
+
+    @EventListener
+    public void handlePayrollChanged(PayrollChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(YearMonth.of(event.getYear(), event.getMonth()), Set.of(event.getContractId()));
+            return;
+        }
+
+        currentPending()
+                .computeIfAbsent(YearMonth.of(event.getYear(), event.getMonth()), key -> new LinkedHashSet<>())
+                .add(event.getContractId());
+    }
+
+    /**
+     * 현재 트랜잭션의 변경 목록 (처음 사용될 때 커밋 이후 갱신을 등록)
+     * 커밋 직전 단계에서 등록되어도 afterCommit은 호출된다.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<YearMonth, Set<Long>> currentPending() {
+        Map<YearMonth, Set<Long>> pending = (Map<YearMonth, Set<Long>>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<YearMonth, Set<Long>> newPending = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                newPending.forEach(PayrollChangedEventListener.this::refresh);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+            }
+        });
+        return newPending;
+    }
+
+    private void refresh(YearMonth yearMonth, Set<Long> contractIds) {
+        try {
+            workplacePayrollSummaryService.refreshForContracts(
+                    yearMonth.getYear(), yearMonth.getMonthValue(), List.copyOf(contractIds));
+        } catch (RuntimeException e) {
+            // 급여 변경은 이미 커밋됨 → 요약은 정합성 점검 시 재집계로 보정
+            log.error("사업장 급여 요약 갱신 실패: {}, contractIds={}", yearMonth, contractIds, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.wagemanager.domain.salary.repository;
+
+import com.example.wagemanager.domain.salary.entity.PayrollRunChunk;
+import com.example.wagemanager.domain.salary.enums.PayrollRunChunkStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PayrollRunChunkRepository extends JpaRepository<PayrollRunChunk, Long> {
+
+    List<PayrollRunChunk> findByPayrollRunIdOrderByChunkIndexAsc(Long payrollRunId);
+
+    // 재개 대상: 아직 커밋되지 않은 청크
+    List<PayrollRunChunk> findByPayrollRunIdAndStatusNotOrderByChunkIndexAsc(Long payrollRunId, PayrollRunChunkStatus status);
+}
@@ -0,0 +1,14 @@
+package com.example.wagemanager.domain.salary.repository;
+
+import com.example.wagemanager.domain.salary.entity.PayrollRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+    // 같은 고용주/기간의 실행 중인 정산 (PayrollRun.runningKey)
+    Optional<PayrollRun> findByRunningKey(String runningKey);
+}
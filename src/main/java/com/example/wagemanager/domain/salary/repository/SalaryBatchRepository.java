@@ -0,0 +1,22 @@
+package com.example.wagemanager.domain.salary.repository;
+
+import com.example.wagemanager.domain.salary.entity.Salary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Salary JDBC 일괄 삽입 (SalaryRepository 확장)
+ */
+public interface SalaryBatchRepository {
+
+    /**
+     * 급여 일괄 삽입
+     * IDENTITY 키는 Hibernate 삽입 배치를 비활성화하므로 JDBC 배치로 직접 삽입한다.
+     * 삽입된 행은 영속성 컨텍스트에 포함되지 않으며 생성된 ID도 엔티티에 채워지지 않는다.
+     *
+     * @param createdAt created_at / updated_at 값
+     * @return 생성된 급여 ID (입력 순서, 드라이버가 키를 돌려주지 않으면 빈 목록)
+     */
+    List<Long> batchInsert(List<Salary> salaries, LocalDateTime createdAt);
+}
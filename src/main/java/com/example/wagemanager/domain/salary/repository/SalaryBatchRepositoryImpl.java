@@ -0,0 +1,64 @@
+package com.example.wagemanager.domain.salary.repository;
+
+import com.example.wagemanager.domain.salary.entity.Salary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class SalaryBatchRepositoryImpl implements SalaryBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO salary (" +
+            "contract_id, version, salary_year, salary_month, total_work_hours, base_pay, overtime_pay, night_pay, " +
+            "holiday_pay, total_gross_pay, four_major_insurance, income_tax, local_income_tax, total_deduction, " +
+            "net_pay, payment_due_date, created_at, updated_at) " +
+            "VALUES (:contractId, :version, :year, :month, :totalWorkHours, :basePay, :overtimePay, :nightPay, " +
+            ":holidayPay, :totalGrossPay, :fourMajorInsurance, :incomeTax, :localIncomeTax, :totalDeduction, " +
+            ":netPay, :paymentDueDate, :createdAt, :createdAt)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<Long> batchInsert(List<Salary> salaries, LocalDateTime createdAt) {
+        if (salaries.isEmpty()) {
+            return List.of();
+        }
+
+        SqlParameterSource[] params = salaries.stream()
+                .map(salary -> new MapSqlParameterSource()
+                        .addValue("contractId", salary.getContract().getId())
+                        .addValue("version", salary.getVersion())
+                        .addValue("year", salary.getYear())
+                        .addValue("month", salary.getMonth())
+                        .addValue("totalWorkHours", salary.getTotalWorkHours())
+                        .addValue("basePay", salary.getBasePay())
+                        .addValue("overtimePay", salary.getOvertimePay())
+                        .addValue("nightPay", salary.getNightPay())
+                        .addValue("holidayPay", salary.getHolidayPay())
+                        .addValue("totalGrossPay", salary.getTotalGrossPay())
+                        .addValue("fourMajorInsurance", salary.getFourMajorInsurance())
+                        .addValue("incomeTax", salary.getIncomeTax())
+                        .addValue("localIncomeTax", salary.getLocalIncomeTax())
+                        .addValue("totalDeduction", salary.getTotalDeduction())
+                        .addValue("netPay", salary.getNetPay())
+                        .addValue("paymentDueDate", salary.getPaymentDueDate())
+                        .addValue("createdAt", createdAt))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+        // 키 이름은 드라이버마다 다름 (MySQL: GENERATED_KEY, H2: ID)
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
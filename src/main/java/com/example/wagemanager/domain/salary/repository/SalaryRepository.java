@@ -1,5 +1,6 @@
 package com.example.wagemanager.domain.salary.repository;
 
+import com.example.wagemanager.domain.salary.dto.WorkplacePayrollTotals;
 import com.example.wagemanager.domain.salary.entity.Salary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface SalaryRepository extends JpaRepository<Salary, Long> {
+public interface SalaryRepository extends JpaRepository<Salary, Long>, SalaryBatchRepository {
     @Query("SELECT DISTINCT s FROM Salary s " +
             "JOIN FETCH s.contract c " +
             "JOIN FETCH c.worker w " +
@@ -25,6 +26,46 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
             "ORDER BY s.year DESC, s.month DESC")
     List<Salary> findByWorkplaceId(@Param("workplaceId") Long workplaceId);
 
+    @Query("SELECT s FROM Salary s " +
+            "JOIN FETCH s.contract c " +
+            "JOIN FETCH c.worker w " +
+            "JOIN FETCH w.user u " +
+            "WHERE c.workplace.id = :workplaceId " +
+            "AND s.year = :year " +
+            "AND s.month = :month " +
+            "ORDER BY s.id ASC")
+    List<Salary> findByWorkplaceIdAndYearAndMonth(
+            @Param("workplaceId") Long workplaceId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
+    // 사업장 월별 급여 요약 재집계: 급여 건수, 총 지급액/공제액/실수령액, 송금 완료 건수
+    // 송금 완료 여부는 급여별 EXISTS로 확인 (Payment를 조인하면 한 급여에 완료 송금이 여러 건일 때 급여 행이 중복 집계됨)
+    @Query("SELECT new com.example.wagemanager.domain.salary.dto.WorkplacePayrollTotals(" +
+            "COUNT(s), SUM(s.totalGrossPay), SUM(s.totalDeduction), SUM(s.netPay), " +
+            "SUM(CASE WHEN EXISTS (SELECT 1 FROM Payment p WHERE p.salary = s " +
+            "AND p.status = com.example.wagemanager.domain.payment.enums.PaymentStatus.COMPLETED) " +
+            "THEN 1L ELSE 0L END)) " +
+            "FROM Salary s " +
+            "JOIN s.contract c " +
+            "WHERE c.workplace.id = :workplaceId " +
+            "AND s.year = :year " +
+            "AND s.month = :month")
+    WorkplacePayrollTotals summarizeByWorkplaceAndYearAndMonth(
+            @Param("workplaceId") Long workplaceId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
+    @Query("SELECT DISTINCT c.workplace.id FROM Salary s " +
+            "JOIN s.contract c " +
+            "WHERE s.year = :year AND s.month = :month")
+    List<Long> findWorkplaceIdsByYearAndMonth(
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
     @Query("SELECT s FROM Salary s " +
             "JOIN FETCH s.contract c " +
             "WHERE c.id = :contractId " +
@@ -41,4 +82,22 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
             @Param("year") Integer year,
             @Param("month") Integer month
     );
+
+    @Query("SELECT s FROM Salary s " +
+            "WHERE s.contract.id IN :contractIds " +
+            "AND s.year = :year " +
+            "AND s.month = :month")
+    List<Salary> findByContractIdsAndYearAndMonth(
+            @Param("contractIds") List<Long> contractIds,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
+    @Query("SELECT DISTINCT s.contract.id FROM Salary s " +
+            "WHERE s.year = :year AND s.month = :month " +
+            "ORDER BY s.contract.id ASC")
+    List<Long> findContractIdsByYearAndMonth(
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
 }
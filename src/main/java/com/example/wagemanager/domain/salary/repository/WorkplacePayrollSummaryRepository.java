@@ -0,0 +1,37 @@
+package com.example.wagemanager.domain.salary.repository;
+
+import com.example.wagemanager.domain.salary.entity.WorkplacePayrollSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface WorkplacePayrollSummaryRepository extends JpaRepository<WorkplacePayrollSummary, Long> {
+
+    @Query("SELECT s FROM WorkplacePayrollSummary s " +
+            "WHERE s.workplace.id = :workplaceId " +
+            "AND s.year = :year " +
+            "AND s.month = :month")
+    Optional<WorkplacePayrollSummary> findByWorkplaceIdAndYearAndMonth(
+            @Param("workplaceId") Long workplaceId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
+    // 재집계용: 같은 요약 행의 동시 갱신을 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM WorkplacePayrollSummary s " +
+            "WHERE s.workplace.id = :workplaceId " +
+            "AND s.year = :year " +
+            "AND s.month = :month")
+    Optional<WorkplacePayrollSummary> findForUpdate(
+            @Param("workplaceId") Long workplaceId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+}
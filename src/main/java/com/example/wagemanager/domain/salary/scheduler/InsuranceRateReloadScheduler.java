@@ -0,0 +1,86 @@
+package com.example.wagemanager.domain.salary.scheduler;
+
+import com.example.wagemanager.domain.salary.util.InsuranceRateRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * 외부 4대보험 요율표 파일 재적재 스케줄러
+ *
+ * wagemanager.deduction.insurance-rates-file이 지정되면 시작 시 해당 파일을 적재하고,
+ * 이후 파일의 수정 시각/크기가 바뀔 때마다 InsuranceRateRegistry의 요율표를 교체한다.
+ * 파일이 없거나 형식이 잘못되면 기존 요율표를 유지한다.
+ */
+@Slf4j
+@Component
+public class InsuranceRateReloadScheduler {
+
+    private final Path ratesFile;
+
+    // 마지막으로 적재를 시도한 파일 상태 (같은 파일을 반복해서 읽지 않도록)
+    private FileTime loadedModifiedTime;
+    private long loadedSize = -1;
+    private boolean missingReported;
+
+    public InsuranceRateReloadScheduler(@Value("${wagemanager.deduction.insurance-rates-file:}") String ratesFile) {
+        this.ratesFile = ratesFile.isBlank() ? null : Path.of(ratesFile);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (ratesFile == null) {
+            log.info("4대보험 요율표: {}", InsuranceRateRegistry.currentSource());
+            return;
+        }
+        reloadIfChanged();
+    }
+
+    /**
+     * 외부 요율표 파일 변경 확인 (기본 1분 간격)
+     */
+    @Scheduled(fixedDelayString = "${wagemanager.deduction.insurance-rates-reload-ms:60000}")
+    public synchronized void reloadIfChanged() {
+        if (ratesFile == null) {
+            return;
+        }
+
+        FileTime modifiedTime;
+        long size;
+        try {
+            modifiedTime = Files.getLastModifiedTime(ratesFile);
+            size = Files.size(ratesFile);
+        } catch (IOException e) {
+            if (!missingReported) {
+                log.warn("4대보험 요율표 파일을 확인할 수 없습니다. 기존 요율표를 유지합니다: {} ({})",
+                        ratesFile, InsuranceRateRegistry.currentSource());
+                missingReported = true;
+            }
+            return;
+        }
+        missingReported = false;
+
+        if (modifiedTime.equals(loadedModifiedTime) && size == loadedSize) {
+            return;
+        }
+        loadedModifiedTime = modifiedTime;
+        loadedSize = size;
+
+        try (Reader reader = Files.newBufferedReader(ratesFile, StandardCharsets.UTF_8)) {
+            int rows = InsuranceRateRegistry.reload(reader, ratesFile.toString());
+            log.info("4대보험 요율표 적재 완료: {} ({}행)", ratesFile, rows);
+        } catch (IOException | RuntimeException e) {
+            log.error("4대보험 요율표 적재 실패. 기존 요율표를 유지합니다: {} ({})",
+                    ratesFile, InsuranceRateRegistry.currentSource(), e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.wagemanager.domain.salary.scheduler;
+
+import com.example.wagemanager.domain.salary.service.SalaryReconciliationService;
+import com.example.wagemanager.domain.salary.service.WorkplacePayrollSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * 증분 재계산된 급여를 주기적으로 전체 재집계와 비교하여 보정하는 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalaryReconciliationScheduler {
+
+    private final SalaryReconciliationService salaryReconciliationService;
+    private final WorkplacePayrollSummaryService workplacePayrollSummaryService;
+
+    /**
+     * 매일 새벽 4시에 전월/당월/익월 급여 정합성 점검
+     * 근무일이 월급날 이후이면 익월 급여에 포함되므로 익월까지 점검한다.
+     * 보정 후 사업장 월별 급여 요약도 다시 집계하여 커밋 후 갱신이 누락된 요약을 바로잡는다.
+     * cron 표현식: 초(0) 분(0) 시(4) 일(*) 월(*) 요일(*)
+     */
+    @Scheduled(cron = "${wagemanager.salary.reconciliation-cron:0 0 4 * * *}")
+    public void reconcileSalaries() {
+        log.info("급여 정합성 점검 작업 시작");
+
+        YearMonth current = YearMonth.now();
+        for (YearMonth target : new YearMonth[]{current.minusMonths(1), current, current.plusMonths(1)}) {
+            try {
+                salaryReconciliationService.reconcile(target.getYear(), target.getMonthValue());
+                workplacePayrollSummaryService.rebuild(target.getYear(), target.getMonthValue());
+            } catch (Exception e) {
+                log.error("급여 정합성 점검 중 오류 발생: {}", target, e);
+            }
+        }
+
+        log.info("급여 정합성 점검 작업 완료");
+    }
+}
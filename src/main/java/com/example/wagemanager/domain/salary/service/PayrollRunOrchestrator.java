@@ -0,0 +1,255 @@
+package com.example.wagemanager.domain.salary.service;
+
+import com.example.wagemanager.common.exception.BadRequestException;
+import com.example.wagemanager.common.exception.ErrorCode;
+import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.employer.entity.Employer;
+import com.example.wagemanager.domain.employer.service.EmployerService;
+import com.example.wagemanager.domain.salary.dto.PayrollRunDto;
+import com.example.wagemanager.domain.salary.entity.PayrollRun;
+import com.example.wagemanager.domain.salary.entity.PayrollRunChunk;
+import com.example.wagemanager.domain.salary.enums.PayrollRunChunkStatus;
+import com.example.wagemanager.domain.salary.repository.PayrollRunChunkRepository;
+import com.example.wagemanager.domain.salary.repository.PayrollRunRepository;
+import com.example.wagemanager.domain.workplace.entity.Workplace;
+import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import com.example.wagemanager.global.batch.BoundedParallelExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 월말 급여 일괄 정산 오케스트레이터
+ *
+ * 고용주의 전체 사업장 계약을 청크로 나누어 PayrollRun/PayrollRunChunk에 기록한 뒤,
+ * 청크들을 BoundedParallelExecutor에서 병렬로 계산한다.
+ * - 청크마다 REQUIRES_NEW 트랜잭션으로 계산 결과와 청크 완료 상태를 함께 커밋
+ * - 청크 트랜잭션은 계약 쓰기 락을 먼저 잡고 시작하며, 단건 수정과 버전 충돌이 나면 ContractWriteSerializer가 청크를 다시 실행
+ * - 청크가 실패해도 다른 청크의 결과는 유지되며, 재개 시 완료되지 않은 청크만 다시 실행
+ * - 진행률은 청크 행의 상태로 계산
+ * - 같은 고용주/기간의 실행은 하나만 RUNNING (PayrollRun.runningKey 유니크 키), 이미 있으면 그 실행의 진행 상태를 반환
+ */
+@Slf4j
+@Service
+public class PayrollRunOrchestrator {
+
+    private final PayrollRunRepository payrollRunRepository;
+    private final PayrollRunChunkRepository payrollRunChunkRepository;
+    private final WorkerContractRepository workerContractRepository;
+    private final WorkplaceRepository workplaceRepository;
+    private final EmployerService employerService;
+    private final PayrollRunService payrollRunService;
+    private final ContractWriteSerializer contractWriteSerializer;
+    private final BoundedParallelExecutor payrollExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    // 현재 이 인스턴스에서 실행 중인 PayrollRun ID (같은 실행의 중복 재개 방지)
+    private final Set<Long> activeRuns = ConcurrentHashMap.newKeySet();
+
+    public PayrollRunOrchestrator(PayrollRunRepository payrollRunRepository,
+                                  PayrollRunChunkRepository payrollRunChunkRepository,
+                                  WorkerContractRepository workerContractRepository,
+                                  WorkplaceRepository workplaceRepository,
+                                  EmployerService employerService,
+                                  PayrollRunService payrollRunService,
+                                  ContractWriteSerializer contractWriteSerializer,
+                                  @Qualifier("payrollExecutor") BoundedParallelExecutor payrollExecutor,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${wagemanager.payroll.chunk-size:100}") int chunkSize) {
+        this.payrollRunRepository = payrollRunRepository;
+        this.payrollRunChunkRepository = payrollRunChunkRepository;
+        this.workerContractRepository = workerContractRepository;
+        this.workplaceRepository = workplaceRepository;
+        this.employerService = employerService;
+        this.payrollRunService = payrollRunService;
+        this.contractWriteSerializer = contractWriteSerializer;
+        this.payrollExecutor = payrollExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 고용주의 모든 활성 사업장에 대해 월말 급여 정산 시작
+     * 청크 계획을 커밋한 뒤 백그라운드에서 실행하고, 초기 진행 상태를 바로 반환한다.
+     * 같은 기간의 정산이 이미 실행 중이면 새로 만들지 않고 그 실행의 진행 상태를 반환한다.
+     */
+    public PayrollRunDto.Progress start(Long userId, Integer year, Integer month) {
+        String runningKey = transactionTemplate.execute(status ->
+                PayrollRun.runningKey(employerService.getEmployerByUserId(userId).getId(), year, month));
+        Long runningId = findRunningId(runningKey);
+        if (runningId != null) {
+            log.info("이미 실행 중인 급여 일괄 정산 반환: runId={}", runningId);
+            return getProgress(runningId);
+        }
+
+        Long runId;
+        try {
+            runId = transactionTemplate.execute(status -> createRun(userId, year, month));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청(다른 노드 포함)이 같은 기간의 실행을 먼저 만든 경우
+            runningId = findRunningId(runningKey);
+            if (runningId == null) {
+                throw e;
+            }
+            return getProgress(runningId);
+        }
+        reserve(runId);
+        launch(runId);
+        return getProgress(runId);
+    }
+
+    /**
+     * 완료되지 않은 청크부터 재개
+     * 같은 기간의 다른 실행이 RUNNING이면 재개하지 않는다.
+     */
+    public PayrollRunDto.Progress resume(Long runId) {
+        reserve(runId);
+        try {
+            transactionTemplate.executeWithoutResult(status -> findRun(runId).restart());
+        } catch (DataIntegrityViolationException e) {
+            activeRuns.remove(runId);
+            throw new BadRequestException(ErrorCode.PAYROLL_RUN_IN_PROGRESS, "같은 기간의 급여 정산이 이미 실행 중입니다.");
+        } catch (RuntimeException e) {
+            activeRuns.remove(runId);
+            throw e;
+        }
+        launch(runId);
+        return getProgress(runId);
+    }
+
+    public PayrollRunDto.Progress getProgress(Long runId) {
+        return transactionTemplate.execute(status -> PayrollRunDto.Progress.of(
+                findRun(runId), payrollRunChunkRepository.findByPayrollRunIdOrderByChunkIndexAsc(runId)));
+    }
+
+    /**
+     * 완료되지 않은 청크를 병렬 실행하고 실행 상태를 갱신 (호출 스레드에서 끝날 때까지 대기)
+     */
+    public void execute(Long runId) {
+        List<Long> chunkIds = transactionTemplate.execute(status ->
+                payrollRunChunkRepository.findByPayrollRunIdAndStatusNotOrderByChunkIndexAsc(runId, PayrollRunChunkStatus.COMPLETED)
+                        .stream()
+                        .map(PayrollRunChunk::getId)
+                        .collect(Collectors.toList()));
+
+        log.info("급여 일괄 정산 실행: runId={}, 대상 청크 {}개", runId, chunkIds.size());
+        payrollExecutor.invokeAll(chunkIds, this::processChunk);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            boolean allCompleted = payrollRunChunkRepository.findByPayrollRunIdOrderByChunkIndexAsc(runId)
+                    .stream()
+                    .allMatch(PayrollRunChunk::isCompleted);
+            findRun(runId).finish(allCompleted);
+        });
+        log.info("급여 일괄 정산 종료: runId={}", runId);
+    }
+
+    private Long createRun(Long userId, Integer year, Integer month) {
+        Employer employer = employerService.getEmployerByUserId(userId);
+        List<Long> workplaceIds = workplaceRepository.findByEmployerIdAndIsActive(employer.getId(), true)
+                .stream()
+                .map(Workplace::getId)
+                .collect(Collectors.toList());
+        List<Long> contractIds = workplaceIds.isEmpty()
+                ? List.of()
+                : workerContractRepository.findActiveIdsByWorkplaceIds(workplaceIds);
+
+        int totalChunks = (contractIds.size() + chunkSize - 1) / chunkSize;
+        PayrollRun run = payrollRunRepository.save(PayrollRun.builder()
+                .employer(employer)
+                .year(year)
+                .month(month)
+                .totalChunks(totalChunks)
+                .totalContracts(contractIds.size())
+                .runningKey(PayrollRun.runningKey(employer.getId(), year, month))
+                .build());
+
+        List<PayrollRunChunk> chunks = new ArrayList<>(totalChunks);
+        for (int i = 0; i < totalChunks; i++) {
+            List<Long> slice = contractIds.subList(i * chunkSize, Math.min((i + 1) * chunkSize, contractIds.size()));
+            chunks.add(PayrollRunChunk.of(run, i, slice));
+        }
+        payrollRunChunkRepository.saveAll(chunks);
+
+        return run.getId();
+    }
+
+    private Long findRunningId(String runningKey) {
+        return transactionTemplate.execute(status ->
+                payrollRunRepository.findByRunningKey(runningKey).map(PayrollRun::getId).orElse(null));
+    }
+
+    private void reserve(Long runId) {
+        if (!activeRuns.add(runId)) {
+            throw new BadRequestException(ErrorCode.PAYROLL_RUN_IN_PROGRESS, "이미 실행 중인 급여 정산입니다.");
+        }
+    }
+
+    // reserve로 예약된 실행을 가상 스레드에서 시작
+    private void launch(Long runId) {
+        Thread.ofVirtual().name("payroll-run-" + runId).start(() -> {
+            try {
+                execute(runId);
+            } catch (RuntimeException e) {
+                log.error("급여 일괄 정산 실행 실패: runId={}", runId, e);
+            } finally {
+                activeRuns.remove(runId);
+            }
+        });
+    }
+
+    /**
+     * 청크 하나를 자체 트랜잭션에서 계산하고, 같은 트랜잭션에서 청크를 완료 처리
+     * 계약 쓰기 락은 트랜잭션에서 다른 데이터를 읽기 전에 잡는다. (락을 기다리는 동안 커밋된 수정도 읽도록)
+     * 실패하면 계산 결과는 롤백되고 청크만 FAILED로 별도 커밋된다.
+     */
+    private Void processChunk(Long chunkId) {
+        try {
+            List<Long> contractIds = transactionTemplate.execute(status -> findChunk(chunkId).getContractIdList());
+            contractWriteSerializer.run(() -> payrollExecutor.withDbPermit(() -> transactionTemplate.execute(status -> {
+                contractWriteSerializer.lockAll(contractIds);
+                PayrollRunChunk chunk = findChunk(chunkId);
+                PayrollRun run = chunk.getPayrollRun();
+
+                List<WorkerContract> contracts = workerContractRepository.findByIdsWithWorker(contractIds);
+                PayrollRunDto.Response result = payrollRunService.calculateForContracts(contracts, run.getYear(), run.getMonth());
+
+                chunk.complete(result.getSuccessCount(), result.getFailureCount());
+                return null;
+            })));
+        } catch (RuntimeException e) {
+            log.error("급여 정산 청크 실패: chunkId={}", chunkId, e);
+            payrollExecutor.withDbPermit(() -> transactionTemplate.execute(status -> {
+                payrollRunChunkRepository.findById(chunkId).ifPresent(chunk -> chunk.fail(e.getMessage()));
+                return null;
+            }));
+        }
+        return null;
+    }
+
+    private PayrollRunChunk findChunk(Long chunkId) {
+        return payrollRunChunkRepository.findById(chunkId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.PAYROLL_RUN_NOT_FOUND, "급여 정산 청크를 찾을 수 없습니다."));
+    }
+
+    private PayrollRun findRun(Long runId) {
+        return payrollRunRepository.findById(runId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.PAYROLL_RUN_NOT_FOUND, "급여 정산 실행 정보를 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.wagemanager.domain.salary.service;
+
+import com.example.wagemanager.common.exception.ErrorCode;
+import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
+import com.example.wagemanager.domain.allowance.repository.WeeklyAllowanceRepository;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.employer.entity.Employer;
+import com.example.wagemanager.domain.employer.service.EmployerService;
+import com.example.wagemanager.domain.salary.dto.PayrollRunDto;
+import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.event.PayrollChangedEvent;
+import com.example.wagemanager.domain.salary.repository.SalaryRepository;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
+import com.example.wagemanager.domain.workplace.entity.Workplace;
+import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordPayAggregate;
+import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사업장 단위 일괄 급여 정산 서비스
+ *
+ * 계약마다 개별 조회하던 단건 계산(SalaryService)과 달리, 근무 기록 합계/주간 수당/기존 급여를
+ * 계약 목록 전체에 대해 IN 쿼리로 한 번씩만 조회한 뒤 메모리에서 계약별로 나누어 계산한다.
+ * 근무 기록은 엔티티로 읽지 않고 계산 기간(월급날)이 같은 계약끼리 묶어 DB에서 계약별 합계로 집계한다.
+ * 계산 규칙은 PayrollCalculator를 공유하므로 단건 계산과 결과가 동일하다.
+ * 근무 기록/급여 단건 수정과 겹치지 않도록 대상 계약의 쓰기 락(ContractWriteSerializer)을 트랜잭션 종료까지 보유한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PayrollRunService {
+
+    private final WorkerContractRepository workerContractRepository;
+    private final WorkRecordRepository workRecordRepository;
+    private final WeeklyAllowanceRepository weeklyAllowanceRepository;
+    private final SalaryRepository salaryRepository;
+    private final WorkplaceRepository workplaceRepository;
+    private final EmployerService employerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContractWriteSerializer contractWriteSerializer;
+
+    /**
+     * 사업장의 모든 활성 계약에 대해 해당 연월 급여 일괄 정산
+     */
+    @Transactional
+    public PayrollRunDto.Response runForWorkplace(Long workplaceId, Integer year, Integer month) {
+        List<WorkerContract> contracts = workerContractRepository.findActiveByWorkplaceIdsWithWorker(List.of(workplaceId));
+        return calculateForContracts(contracts, year, month);
+    }
+
+    /**
+     * 고용주가 소유한 모든 활성 사업장에 대해 해당 연월 급여 일괄 정산
+     */
+    @Transactional
+    public PayrollRunDto.Response runForEmployer(Long userId, Integer year, Integer month) {
+        Employer employer = employerService.getEmployerByUserId(userId);
+        List<Long> workplaceIds = workplaceRepository.findByEmployerIdAndIsActive(employer.getId(), true)
+                .stream()
+                .map(Workplace::getId)
+                .collect(Collectors.toList());
+
+        if (workplaceIds.isEmpty()) {
+            return PayrollRunDto.Response.of(year, month, Collections.emptyList());
+        }
+
+        List<WorkerContract> contracts = workerContractRepository.findActiveByWorkplaceIdsWithWorker(workplaceIds);
+        return calculateForContracts(contracts, year, month);
+    }
+
+    /**
+     * 계약 목록의 급여 일괄 계산
+     * - 계약별 실패(근무 기록 없음, 잘못된 월급날 등)는 결과에 기록하고 나머지 계약은 계속 처리
+     * - 기존 Salary는 변경 감지로 갱신하고, 신규 Salary는 JDBC 배치로 한 번에 삽입 (IDENTITY 키는 saveAll이 행마다 INSERT)
+     */
+    @Transactional
+    public PayrollRunDto.Response calculateForContracts(List<WorkerContract> contracts, Integer year, Integer month) {
+        if (contracts.isEmpty()) {
+            return PayrollRunDto.Response.of(year, month, Collections.emptyList());
+        }
+        contractWriteSerializer.lockAll(contracts.stream().map(WorkerContract::getId).toList());
+
+        // 계약별 급여 계산 기간 (월급날이 해당 월에 존재하지 않으면 실패 처리)
+        Map<Long, PayrollCalculator.PayPeriod> periods = new HashMap<>();
+        Map<Long, PayrollRunDto.ContractResult> failures = new HashMap<>();
+        // 계산 기간 시작일 → 해당 기간을 쓰는 계약 ID (월급날이 같으면 계산 기간도 같음)
+        Map<LocalDate, List<Long>> contractIdsByPeriodStart = new HashMap<>();
+
+        for (WorkerContract contract : contracts) {
+            try {
+                PayrollCalculator.PayPeriod period = PayrollCalculator.payPeriod(contract.getPaymentDay(), year, month);
+                periods.put(contract.getId(), period);
+                contractIdsByPeriodStart.computeIfAbsent(period.getStartDate(), start -> new ArrayList<>()).add(contract.getId());
+            } catch (DateTimeException e) {
+                failures.put(contract.getId(), failure(contract, ErrorCode.PAYROLL_CALCULATION_FAILED,
+                        "월급날(" + contract.getPaymentDay() + "일)로 급여 계산 기간을 정할 수 없습니다."));
+            }
+        }
+
+        List<Long> contractIds = new ArrayList<>(periods.keySet());
+        Map<Long, WorkRecordPayAggregate> aggregateByContract = new HashMap<>();
+        Map<Long, List<WeeklyAllowance>> currentAllowancesByContract = Collections.emptyMap();
+        Map<Long, List<WeeklyAllowance>> previousAllowancesByContract = Collections.emptyMap();
+        Map<Long, Salary> existingSalaryByContract = new HashMap<>();
+
+        if (!contractIds.isEmpty()) {
+            // 근무 기록 합계: 계산 기간별로 한 번씩 계약별 합계를 집계
+            for (List<Long> periodContractIds : contractIdsByPeriodStart.values()) {
+                PayrollCalculator.PayPeriod period = periods.get(periodContractIds.get(0));
+                for (WorkRecordPayAggregate aggregate : workRecordRepository.sumPayByContractIdsAndDateRange(
+                        periodContractIds, period.getStartDate(), period.getEndDate())) {
+                    aggregateByContract.put(aggregate.getContractId(), aggregate);
+                }
+            }
+
+            // 주간 수당: 전월 1일 ~ 익월 1일 생성분을 한 번에 조회 후 생성 월 기준으로 분리
+            YearMonth currentMonth = YearMonth.of(year, month);
+            YearMonth previousMonth = currentMonth.minusMonths(1);
+            List<WeeklyAllowance> allowances = weeklyAllowanceRepository.findByContractIdsAndCreatedAtRange(
+                    contractIds,
+                    previousMonth.atDay(1).atStartOfDay(),
+                    currentMonth.plusMonths(1).atDay(1).atStartOfDay());
+
+            currentAllowancesByContract = new HashMap<>();
+            previousAllowancesByContract = new HashMap<>();
+            for (WeeklyAllowance allowance : allowances) {
+                YearMonth createdMonth = YearMonth.from(allowance.getCreatedAt());
+                Map<Long, List<WeeklyAllowance>> target = createdMonth.equals(currentMonth)
+                        ? currentAllowancesByContract
+                        : previousAllowancesByContract;
+                target.computeIfAbsent(allowance.getContract().getId(), id -> new ArrayList<>()).add(allowance);
+            }
+
+            for (Salary salary : salaryRepository.findByContractIdsAndYearAndMonth(contractIds, year, month)) {
+                existingSalaryByContract.put(salary.getContract().getId(), salary);
+            }
+        }
+
+        Map<Long, Salary> salaryByContract = new HashMap<>();
+        List<Salary> newSalaries = new ArrayList<>();
+
+        for (WorkerContract contract : contracts) {
+            PayrollCalculator.PayPeriod period = periods.get(contract.getId());
+            if (period == null) {
+                continue;
+            }
+
+            try {
+                WorkRecordPayAggregate aggregate = aggregateByContract.get(contract.getId());
+
+                // 기간 내 WorkRecord가 없으면 Salary 생성하지 않음
+                if (aggregate == null || !aggregate.hasRecords()) {
+                    throw new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "해당 기간 내 근무 기록이 없습니다.");
+                }
+
+                PayrollCalculator.Result result = PayrollCalculator.calculate(
+                        contract,
+                        period,
+                        aggregate.toWorkTotals(),
+                        currentAllowancesByContract.getOrDefault(contract.getId(), Collections.emptyList()),
+                        previousAllowancesByContract.getOrDefault(contract.getId(), Collections.emptyList()));
+
+                Salary salary = existingSalaryByContract.get(contract.getId());
+                if (salary != null) {
+                    // 기존 급여 정보 업데이트 (변경 감지)
+                    salary.applyCalculation(result);
+                } else {
+                    salary = Salary.builder()
+                            .contract(contract)
+                            .year(year)
+                            .month(month)
+                            .totalWorkHours(result.getTotalWorkHours())
+                            .basePay(result.getBasePay())
+                            .overtimePay(result.getOvertimePay())
+                            .nightPay(result.getNightPay())
+                            .holidayPay(result.getHolidayPay())
+                            .totalGrossPay(result.getTotalGrossPay())
+                            .fourMajorInsurance(result.getFourMajorInsurance())
+                            .incomeTax(result.getIncomeTax())
+                            .localIncomeTax(result.getLocalIncomeTax())
+                            .totalDeduction(result.getTotalDeduction())
+                            .netPay(result.getNetPay())
+                            .paymentDueDate(period.getPaymentDate())
+                            .build();
+                    newSalaries.add(salary);
+                }
+                salaryByContract.put(contract.getId(), salary);
+                eventPublisher.publishEvent(new PayrollChangedEvent(contract.getId(), year, month));
+            } catch (NotFoundException e) {
+                failures.put(contract.getId(), failure(contract, e.getErrorCode(), e.getErrorMessage()));
+            } catch (RuntimeException e) {
+                log.error("일괄 급여 계산 실패: contractId={}, {}-{}", contract.getId(), year, month, e);
+                failures.put(contract.getId(), failure(contract, ErrorCode.PAYROLL_CALCULATION_FAILED, e.getMessage()));
+            }
+        }
+
+        Map<Long, Long> newSalaryIds = insertNewSalaries(newSalaries, year, month);
+
+        // 저장 이후에 결과를 만들어 신규 급여의 ID가 포함되도록 함
+        List<PayrollRunDto.ContractResult> results = new ArrayList<>(contracts.size());
+        for (WorkerContract contract : contracts) {
+            Salary salary = salaryByContract.get(contract.getId());
+            if (salary != null) {
+                results.add(PayrollRunDto.ContractResult.builder()
+                        .contractId(contract.getId())
+                        .workerName(contract.getWorker().getUser().getName())
+                        .workplaceId(contract.getWorkplace().getId())
+                        .success(true)
+                        .salaryId(salary.getId() != null ? salary.getId() : newSalaryIds.get(contract.getId()))
+                        .netPay(salary.getNetPay())
+                        .build());
+            } else {
+                results.add(failures.get(contract.getId()));
+            }
+        }
+
+        log.info("일괄 급여 정산 완료: {}-{}, 대상 {}건, 신규 {}건", year, month, contracts.size(), newSalaries.size());
+        return PayrollRunDto.Response.of(year, month, results);
+    }
+
+    /**
+     * 신규 급여 일괄 삽입
+     * 삽입된 엔티티에는 ID가 채워지지 않으므로 계약 ID → 생성된 급여 ID를 돌려준다.
+     */
+    private Map<Long, Long> insertNewSalaries(List<Salary> newSalaries, Integer year, Integer month) {
+        Map<Long, Long> idsByContract = new HashMap<>();
+        if (newSalaries.isEmpty()) {
+            return idsByContract;
+        }
+
+        List<Long> ids = salaryRepository.batchInsert(newSalaries, LocalDateTime.now());
+        if (ids.size() == newSalaries.size()) {
+            for (int i = 0; i < ids.size(); i++) {
+                idsByContract.put(newSalaries.get(i).getContract().getId(), ids.get(i));
+            }
+            return idsByContract;
+        }
+
+        // 드라이버가 생성된 키를 돌려주지 않으면 (계약, 연월) 유니크 키로 한 번에 조회
+        List<Long> contractIds = newSalaries.stream().map(salary -> salary.getContract().getId()).toList();
+        for (Salary saved : salaryRepository.findByContractIdsAndYearAndMonth(contractIds, year, month)) {
+            idsByContract.put(saved.getContract().getId(), saved.getId());
+        }
+        return idsByContract;
+    }
+
+    private PayrollRunDto.ContractResult failure(WorkerContract contract, String errorCode, String errorMessage) {
+        return PayrollRunDto.ContractResult.builder()
+                .contractId(contract.getId())
+                .workerName(contract.getWorker().getUser().getName())
+                .workplaceId(contract.getWorkplace().getId())
+                .success(false)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.wagemanager.domain.salary.service;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.repository.SalaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 급여 정합성 점검 서비스
+ *
+ * 증분 재계산(SalaryService.applyWorkRecordDelta)으로 누적된 급여 합계를
+ * 근무 기록 전체 재집계 결과와 비교하여, 차이가 있으면 재집계 결과로 보정한다.
+ * 청크마다 대상 계약의 쓰기 락을 잡은 뒤 읽으므로 진행 중인 단건 수정과 겹치지 않는다.
+ */
+@Slf4j
+@Service
+public class SalaryReconciliationService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final SalaryRepository salaryRepository;
+    private final WorkerContractRepository workerContractRepository;
+    private final PayrollRunService payrollRunService;
+    private final ContractWriteSerializer contractWriteSerializer;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalaryReconciliationService(SalaryRepository salaryRepository,
+                                       WorkerContractRepository workerContractRepository,
+                                       PayrollRunService payrollRunService,
+                                       ContractWriteSerializer contractWriteSerializer,
+                                       PlatformTransactionManager transactionManager) {
+        this.salaryRepository = salaryRepository;
+        this.workerContractRepository = workerContractRepository;
+        this.payrollRunService = payrollRunService;
+        this.contractWriteSerializer = contractWriteSerializer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 해당 연월의 모든 급여를 전체 재집계와 비교하여 보정
+     * 청크마다 별도 트랜잭션으로 처리한다.
+     *
+     * @return 보정된 급여 수
+     */
+    public int reconcile(Integer year, Integer month) {
+        List<Long> contractIds = salaryRepository.findContractIdsByYearAndMonth(year, month);
+        int repairedCount = 0;
+
+        for (int from = 0; from < contractIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = contractIds.subList(from, Math.min(from + CHUNK_SIZE, contractIds.size()));
+            Integer repaired = contractWriteSerializer.execute(
+                    () -> transactionTemplate.execute(status -> reconcileChunk(chunk, year, month)));
+            repairedCount += repaired != null ? repaired : 0;
+        }
+
+        if (repairedCount > 0) {
+            log.warn("급여 정합성 보정: {}-{}, 대상 {}건 중 {}건 보정", year, month, contractIds.size(), repairedCount);
+        } else {
+            log.info("급여 정합성 점검 완료: {}-{}, 대상 {}건, 차이 없음", year, month, contractIds.size());
+        }
+        return repairedCount;
+    }
+
+    private int reconcileChunk(List<Long> contractIds, Integer year, Integer month) {
+        contractWriteSerializer.lockAll(contractIds);
+
+        // 재집계 전 값 보관 (영속성 컨텍스트의 같은 Salary 인스턴스가 재집계로 갱신됨)
+        Map<Salary, Snapshot> before = new IdentityHashMap<>();
+        for (Salary salary : salaryRepository.findByContractIdsAndYearAndMonth(contractIds, year, month)) {
+            before.put(salary, Snapshot.of(salary));
+        }
+
+        List<WorkerContract> contracts = workerContractRepository.findByIdsWithWorker(contractIds);
+        payrollRunService.calculateForContracts(contracts, year, month);
+
+        int repaired = 0;
+        for (Map.Entry<Salary, Snapshot> entry : before.entrySet()) {
+            Salary salary = entry.getKey();
+            if (!entry.getValue().matches(salary)) {
+                repaired++;
+                log.warn("급여 불일치 보정: salaryId={}, contractId={}, netPay {} -> {}",
+                        salary.getId(), salary.getContract().getId(), entry.getValue().netPay(), salary.getNetPay());
+            }
+        }
+        return repaired;
+    }
+
+    private record Snapshot(BigDecimal totalWorkHours, BigDecimal totalGrossPay, BigDecimal totalDeduction, BigDecimal netPay) {
+
+        static Snapshot of(Salary salary) {
+            return new Snapshot(salary.getTotalWorkHours(), salary.getTotalGrossPay(), salary.getTotalDeduction(), salary.getNetPay());
+        }
+
+        boolean matches(Salary salary) {
+            return sameAmount(totalWorkHours, salary.getTotalWorkHours())
+                    && sameAmount(totalGrossPay, salary.getTotalGrossPay())
+                    && sameAmount(totalDeduction, salary.getTotalDeduction())
+                    && sameAmount(netPay, salary.getNetPay());
+        }
+
+        private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+            if (a == null || b == null) {
+                return a == b;
+            }
+            return a.compareTo(b) == 0;
+        }
+    }
+}
@@ -6,17 +6,20 @@ import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
 import com.example.wagemanager.domain.allowance.repository.WeeklyAllowanceRepository;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.salary.dto.SalaryDto;
 import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.event.PayrollChangedEvent;
 import com.example.wagemanager.domain.salary.repository.SalaryRepository;
-import com.example.wagemanager.domain.salary.util.DeductionCalculator;
-import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordPayAggregate;
 import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,6 +33,12 @@ public class SalaryService {
     private final WorkRecordRepository workRecordRepository;
     private final WorkerContractRepository workerContractRepository;
     private final WeeklyAllowanceRepository weeklyAllowanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContractWriteSerializer contractWriteSerializer;
+
+    // true: 근무 기록 변경분만 급여 합계에 반영, false: 급여 계산 기간 전체 재집계
+    @Value("${wagemanager.salary.incremental-recalculation:true}")
+    private boolean incrementalRecalculation;
 
     /**
      * 급여 상세 조회
@@ -54,9 +63,8 @@ public class SalaryService {
      * 사업장별 연월 급여 목록 조회
      */
     public List<SalaryDto.ListResponse> getSalariesByWorkplaceAndYearMonth(Long workplaceId, Integer year, Integer month) {
-        return salaryRepository.findByWorkplaceId(workplaceId)
+        return salaryRepository.findByWorkplaceIdAndYearAndMonth(workplaceId, year, month)
                 .stream()
-                .filter(s -> s.getYear().equals(year) && s.getMonth().equals(month))
                 .map(SalaryDto.ListResponse::from)
                 .collect(Collectors.toList());
     }
@@ -84,113 +92,33 @@ public class SalaryService {
     /**
      * 급여 자동 계산 (실시간 근무 기록 기반)
      * - 월급날 기준으로 급여 계산 (전월 paymentDay ~ 당월 paymentDay-1)
-     * - 해당 기간의 모든 근무 기록을 조회
-     * - 각 근무 기록의 급여를 합산
+     * - 해당 기간 COMPLETED 근무 기록의 급여를 DB에서 합산 (근무 기록 엔티티는 읽지 않음)
      * - 세금/보험료를 계산하여 순급여 도출
      */
     @Transactional
     public SalaryDto.Response calculateSalaryByWorkRecords(Long contractId, Integer year, Integer month) {
+        contractWriteSerializer.lock(contractId);
         WorkerContract contract = workerContractRepository.findById(contractId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
 
         // 월급날 기준으로 급여 계산 기간 설정
         // 예: 월급날이 21일이면, 전월 21일 ~ 당월 20일까지
-        Integer paymentDay = contract.getPaymentDay();
-        LocalDate startDate = LocalDate.of(year, month, 1).minusMonths(1).withDayOfMonth(paymentDay);
-        LocalDate endDate = LocalDate.of(year, month, 1).withDayOfMonth(paymentDay).minusDays(1);
-
-        List<WorkRecord> workRecords = workRecordRepository.findByContractAndDateRange(
-                contractId, startDate, endDate);
+        PayrollCalculator.PayPeriod period = PayrollCalculator.payPeriod(contract.getPaymentDay(), year, month);
 
-        // 기간 내 WorkRecord가 없으면 Salary 생성하지 않음
-        if (workRecords.isEmpty()) {
-            throw new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "해당 기간 내 근무 기록이 없습니다.");
-        }
-
-        // WorkRecord의 이미 계산된 급여 칼럼값 합산
-        BigDecimal totalWorkHours = BigDecimal.ZERO;
-        BigDecimal totalBasePay = BigDecimal.ZERO;
-        BigDecimal totalNightPay = BigDecimal.ZERO;
-        BigDecimal totalHolidayPay = BigDecimal.ZERO;
-
-        for (WorkRecord record : workRecords) {
-            totalWorkHours = totalWorkHours.add(record.getTotalHours());
-            totalBasePay = totalBasePay.add(record.getBaseSalary());
-            totalNightPay = totalNightPay.add(record.getNightSalary());
-            totalHolidayPay = totalHolidayPay.add(record.getHolidaySalary());
-        }
+        WorkRecordPayAggregate aggregate = workRecordRepository.sumPayByContractAndDateRange(
+                        contractId, period.getStartDate(), period.getEndDate())
+                .filter(WorkRecordPayAggregate::hasRecords)
+                // 기간 내 WorkRecord가 없으면 Salary 생성하지 않음
+                .orElseThrow(() -> new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "해당 기간 내 근무 기록이 없습니다."));
 
-        // ========================================
-        // 주휴수당 및 연장수당 계산 (마지막 주차 이월 정책 적용)
-        // ========================================
-
-        // 당월 WeeklyAllowance 조회
+        // 당월 WeeklyAllowance 및 전월 WeeklyAllowance(마지막 주차 이월분) 조회
         List<WeeklyAllowance> weeklyAllowances = weeklyAllowanceRepository.findByContractIdAndYearMonth(contractId, year, month);
-        BigDecimal totalWeeklyPaidLeaveAmount = BigDecimal.ZERO;
-        BigDecimal totalOvertimePay = BigDecimal.ZERO;
-
-        // 월급날 계산 (당월 paymentDay)
-        LocalDate paymentDayDate = LocalDate.of(year, month, paymentDay);
-
-        // 당월 WeeklyAllowance 처리
-        for (WeeklyAllowance allowance : weeklyAllowances) {
-            // 마지막 주차 판단: 월급날이 해당 주(weekStartDate ~ weekEndDate)에 포함되는지 확인
-            boolean isLastWeek = !paymentDayDate.isBefore(allowance.getWeekStartDate())
-                              && !paymentDayDate.isAfter(allowance.getWeekEndDate());
-
-            if (!isLastWeek) {
-                // 마지막 주차가 아니면 현재 월 급여에 포함
-                totalWeeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount.add(allowance.getWeeklyPaidLeaveAmount());
-                totalOvertimePay = totalOvertimePay.add(allowance.getOvertimeAmount());
-            }
-            // 마지막 주차면 제외 (다음 달 급여로 이월)
-        }
-
-        // 전월에서 이월된 수당 포함
-        LocalDate previousMonth = paymentDayDate.minusMonths(1);
+        LocalDate previousMonth = period.getPaymentDate().minusMonths(1);
         List<WeeklyAllowance> previousMonthAllowances = weeklyAllowanceRepository.findByContractIdAndYearMonth(
                 contractId, previousMonth.getYear(), previousMonth.getMonthValue());
 
-        LocalDate previousPaymentDayDate = LocalDate.of(previousMonth.getYear(), previousMonth.getMonthValue(), paymentDay);
-
-        for (WeeklyAllowance allowance : previousMonthAllowances) {
-            // 전월의 마지막 주차(전월 월급날이 포함된 주)를 찾아서 현재 월 급여에 포함
-            boolean isPreviousLastWeek = !previousPaymentDayDate.isBefore(allowance.getWeekStartDate())
-                                      && !previousPaymentDayDate.isAfter(allowance.getWeekEndDate());
-
-            if (isPreviousLastWeek) {
-                // 전월 마지막 주차의 수당을 현재 월 급여에 추가 (이월분)
-                totalWeeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount.add(allowance.getWeeklyPaidLeaveAmount());
-                totalOvertimePay = totalOvertimePay.add(allowance.getOvertimeAmount());
-            }
-        }
-
-        BigDecimal totalGrossPay = totalBasePay.add(totalNightPay).add(totalHolidayPay)
-                .add(totalWeeklyPaidLeaveAmount).add(totalOvertimePay);
-
-        // 세금 및 보험료 계산 (payrollDeductionType에 따라)
-        // 근무 기록은 있지만 급여가 0원이면 4대보험 면제
-        DeductionCalculator.PayrollDeductionType deductionType = contract.getPayrollDeductionType();
-
-        if (deductionType == DeductionCalculator.PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE
-            && totalGrossPay.compareTo(BigDecimal.ZERO) == 0) {
-            // 근무하지 않은 경우(급여 0원) 4대보험 면제
-            deductionType = DeductionCalculator.PayrollDeductionType.PART_TIME_NONE;
-        }
-
-        DeductionCalculator.TaxResult taxResult = DeductionCalculator.calculate(totalGrossPay, deductionType);
-
-        BigDecimal fourMajorInsurance = taxResult.totalInsurance;
-        BigDecimal incomeTax = taxResult.incomeTax;
-        BigDecimal localIncomeTax = taxResult.localIncomeTax;
-        BigDecimal totalDeduction = taxResult.totalDeduction;
-
-        BigDecimal netPay = totalGrossPay.subtract(totalDeduction);
-
-        // 음수 급여 방지 (공제액이 급여를 초과하는 경우)
-        if (netPay.compareTo(BigDecimal.ZERO) < 0) {
-            netPay = BigDecimal.ZERO;
-        }
+        PayrollCalculator.Result result = PayrollCalculator.calculate(
+                contract, period, aggregate.toWorkTotals(), weeklyAllowances, previousMonthAllowances);
 
         // 기존 급여 정보 확인 또는 새로 생성
         List<Salary> existingSalaries = salaryRepository.findByContractIdAndYearAndMonth(contractId, year, month);
@@ -199,46 +127,30 @@ public class SalaryService {
         if (!existingSalaries.isEmpty()) {
             // 기존 급여 정보 업데이트
             salary = existingSalaries.get(0);
-            salary = Salary.builder()
-                    .id(salary.getId())
-                    .contract(contract)
-                    .year(year)
-                    .month(month)
-                    .totalWorkHours(totalWorkHours)
-                    .basePay(totalBasePay)
-                    .overtimePay(totalOvertimePay)
-                    .nightPay(totalNightPay)
-                    .holidayPay(totalHolidayPay)
-                    .totalGrossPay(totalGrossPay)
-                    .fourMajorInsurance(fourMajorInsurance)
-                    .incomeTax(incomeTax)
-                    .localIncomeTax(localIncomeTax)
-                    .totalDeduction(totalDeduction)
-                    .netPay(netPay)
-                    .paymentDueDate(salary.getPaymentDueDate())
-                    .build();
+            salary.applyCalculation(result);
         } else {
             // 새로운 급여 생성
             salary = Salary.builder()
                     .contract(contract)
                     .year(year)
                     .month(month)
-                    .totalWorkHours(totalWorkHours)
-                    .basePay(totalBasePay)
-                    .overtimePay(totalOvertimePay)
-                    .nightPay(totalNightPay)
-                    .holidayPay(totalHolidayPay)
-                    .totalGrossPay(totalGrossPay)
-                    .fourMajorInsurance(fourMajorInsurance)
-                    .incomeTax(incomeTax)
-                    .localIncomeTax(localIncomeTax)
-                    .totalDeduction(totalDeduction)
-                    .netPay(netPay)
-                    .paymentDueDate(LocalDate.of(year, month, contract.getPaymentDay()))
+                    .totalWorkHours(result.getTotalWorkHours())
+                    .basePay(result.getBasePay())
+                    .overtimePay(result.getOvertimePay())
+                    .nightPay(result.getNightPay())
+                    .holidayPay(result.getHolidayPay())
+                    .totalGrossPay(result.getTotalGrossPay())
+                    .fourMajorInsurance(result.getFourMajorInsurance())
+                    .incomeTax(result.getIncomeTax())
+                    .localIncomeTax(result.getLocalIncomeTax())
+                    .totalDeduction(result.getTotalDeduction())
+                    .netPay(result.getNetPay())
+                    .paymentDueDate(period.getPaymentDate())
                     .build();
         }
 
         salaryRepository.save(salary);
+        eventPublisher.publishEvent(new PayrollChangedEvent(contractId, year, month));
         return SalaryDto.Response.from(salary);
     }
 
@@ -249,4 +161,45 @@ public class SalaryService {
     public SalaryDto.Response recalculateSalaryAfterWorkRecordUpdate(Long contractId, Integer year, Integer month) {
         return calculateSalaryByWorkRecords(contractId, year, month);
     }
+
+    /**
+     * 근무 기록 한 건의 변경분(변경 후 - 변경 전)을 해당 월 급여에 반영
+     * - 기간 내 근무 기록을 다시 읽지 않고 Salary의 누적 합계에 변경분만 더함
+     * - 주간 수당(주휴/연장)은 근무 기록 변경 시 함께 재계산되므로 다시 조회하여 반영
+     * - 공제액(세금/4대보험)은 새 총 지급액 기준으로 다시 계산
+     * - 해당 월 급여가 아직 없거나 증분 모드가 꺼져 있으면 전체 재계산
+     * - 변경분은 근무 기록을 바꾼 트랜잭션 안에서만 반영한다. (커밋 이후 반영하면 그사이 전체 재계산과 이중 반영됨)
+     * 누적 오차는 SalaryReconciliationScheduler가 주기적으로 전체 재집계와 비교해 보정한다.
+     */
+    @Transactional
+    public void applyWorkRecordDelta(Long contractId, Integer year, Integer month, PayrollCalculator.WorkTotals delta) {
+        // 같은 계약의 급여 갱신 직렬화 (전체 재계산과 겹치지 않도록)
+        contractWriteSerializer.lock(contractId);
+        if (!incrementalRecalculation) {
+            calculateSalaryByWorkRecords(contractId, year, month);
+            return;
+        }
+
+        List<Salary> existingSalaries = salaryRepository.findByContractIdAndYearAndMonth(contractId, year, month);
+        if (existingSalaries.isEmpty()) {
+            calculateSalaryByWorkRecords(contractId, year, month);
+            return;
+        }
+
+        Salary salary = existingSalaries.get(0);
+        WorkerContract contract = salary.getContract();
+        PayrollCalculator.PayPeriod period = PayrollCalculator.payPeriod(contract.getPaymentDay(), year, month);
+
+        List<WeeklyAllowance> weeklyAllowances = weeklyAllowanceRepository.findByContractIdAndYearMonth(contractId, year, month);
+        LocalDate previousMonth = period.getPaymentDate().minusMonths(1);
+        List<WeeklyAllowance> previousMonthAllowances = weeklyAllowanceRepository.findByContractIdAndYearMonth(
+                contractId, previousMonth.getYear(), previousMonth.getMonthValue());
+
+        PayrollCalculator.Result result = PayrollCalculator.calculate(
+                contract, period, salary.getWorkTotals().add(delta), weeklyAllowances, previousMonthAllowances);
+
+        // 변경 감지로 반영
+        salary.applyCalculation(result);
+        eventPublisher.publishEvent(new PayrollChangedEvent(contractId, year, month));
+    }
 }
@@ -0,0 +1,143 @@
+package com.example.wagemanager.domain.salary.service;
+
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.salary.dto.SalaryDto;
+import com.example.wagemanager.domain.salary.dto.WorkplacePayrollTotals;
+import com.example.wagemanager.domain.salary.entity.WorkplacePayrollSummary;
+import com.example.wagemanager.domain.salary.repository.SalaryRepository;
+import com.example.wagemanager.domain.salary.repository.WorkplacePayrollSummaryRepository;
+import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사업장 월별 급여 요약 서비스
+ *
+ * 요약 행은 (사업장, 연, 월)마다 하나이며, 갱신할 때마다 해당 월 Salary를 DB에서 다시 집계해 덮어쓴다.
+ * (증분 누적이 아니므로 갱신이 중복되거나 누락되어도 다음 갱신에서 바로잡힌다)
+ * - 갱신은 별도 트랜잭션에서 요약 행을 잠근 뒤 집계하므로 같은 행의 동시 갱신은 순서대로 반영된다.
+ * - 급여/송금 변경은 PayrollChangedEventListener가 커밋 이후 모아서 갱신하고,
+ *   누락분은 SalaryReconciliationScheduler의 재집계(rebuild)로 보정한다.
+ */
+@Slf4j
+@Service
+public class WorkplacePayrollSummaryService {
+
+    // 요약 행 최초 생성이 동시에 일어나 unique 제약에 걸린 경우 재시도 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final WorkplacePayrollSummaryRepository summaryRepository;
+    private final SalaryRepository salaryRepository;
+    private final WorkerContractRepository workerContractRepository;
+    private final WorkplaceRepository workplaceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public WorkplacePayrollSummaryService(WorkplacePayrollSummaryRepository summaryRepository,
+                                          SalaryRepository salaryRepository,
+                                          WorkerContractRepository workerContractRepository,
+                                          WorkplaceRepository workplaceRepository,
+                                          PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.salaryRepository = salaryRepository;
+        this.workerContractRepository = workerContractRepository;
+        this.workplaceRepository = workplaceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 사업장 월별 급여 요약 조회 (요약 행 하나만 읽음, 급여가 없는 월은 0)
+     */
+    @Transactional(readOnly = true)
+    public SalaryDto.WorkplaceSummaryResponse getSummary(Long workplaceId, Integer year, Integer month) {
+        return summaryRepository.findByWorkplaceIdAndYearAndMonth(workplaceId, year, month)
+                .map(SalaryDto.WorkplaceSummaryResponse::from)
+                .orElseGet(() -> SalaryDto.WorkplaceSummaryResponse.empty(workplaceId, year, month));
+    }
+
+    /**
+     * 계약들이 속한 사업장의 해당 월 요약 갱신
+     */
+    public void refreshForContracts(Integer year, Integer month, Collection<Long> contractIds) {
+        if (contractIds.isEmpty()) {
+            return;
+        }
+        List<Long> workplaceIds = transactionTemplate.execute(
+                status -> workerContractRepository.findWorkplaceIdsByIds(new ArrayList<>(contractIds)));
+        if (workplaceIds == null) {
+            return;
+        }
+        for (Long workplaceId : workplaceIds) {
+            refresh(workplaceId, year, month);
+        }
+    }
+
+    /**
+     * 해당 월 급여가 있는 모든 사업장의 요약 재집계
+     *
+     * @return 재집계한 사업장 수
+     */
+    public int rebuild(Integer year, Integer month) {
+        List<Long> workplaceIds = transactionTemplate.execute(
+                status -> salaryRepository.findWorkplaceIdsByYearAndMonth(year, month));
+        if (workplaceIds == null) {
+            return 0;
+        }
+        for (Long workplaceId : workplaceIds) {
+            refresh(workplaceId, year, month);
+        }
+        return workplaceIds.size();
+    }
+
+    /**
+     * 사업장 월별 요약 재집계 (별도 트랜잭션)
+     */
+    public void refresh(Long workplaceId, Integer year, Integer month) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> recalculate(workplaceId, year, month));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 트랜잭션이 같은 요약 행을 먼저 생성함 → 다음 시도에서 그 행을 잠그고 다시 집계
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("급여 요약 생성 충돌, 재시도: workplaceId={}, {}-{}", workplaceId, year, month);
+            }
+        }
+    }
+
+    private void recalculate(Long workplaceId, Integer year, Integer month) {
+        // 요약 행을 먼저 잠근 뒤 집계해야 먼저 커밋된 변경까지 포함한 값으로 덮어씀
+        WorkplacePayrollSummary summary = summaryRepository.findForUpdate(workplaceId, year, month).orElse(null);
+        WorkplacePayrollTotals totals = salaryRepository.summarizeByWorkplaceAndYearAndMonth(workplaceId, year, month);
+        if (totals == null) {
+            totals = WorkplacePayrollTotals.EMPTY;
+        }
+
+        if (summary != null) {
+            summary.apply(totals);
+            return;
+        }
+        if (totals.getHeadcount() == 0) {
+            return;
+        }
+
+        summary = WorkplacePayrollSummary.builder()
+                .workplace(workplaceRepository.getReferenceById(workplaceId))
+                .year(year)
+                .month(month)
+                .build();
+        summary.apply(totals);
+        summaryRepository.saveAndFlush(summary);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.wagemanager.domain.salary.util;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 
 /**
  * 급여 공제 계산 유틸리티
@@ -9,6 +10,9 @@ import java.math.RoundingMode;
  * 대상자:
  * - 프리랜서: 소득세 3% + 지방소득세 0.3%
  * - 비정규직(알바): 세금/보험료 적용 여부에 따라 계산
+ *   (소득세는 귀속 연도 간이세액표 리소스가 있으면 표 기준, 표를 도입하기 전 연도는 간이세액표 근사)
+ *
+ * 4대보험 요율은 지급일에 적용되는 InsuranceRateRegistry 요율을 사용한다.
  */
 public class DeductionCalculator {
 
@@ -23,14 +27,20 @@ public class DeductionCalculator {
         PART_TIME_TAX_AND_INSURANCE     // 비정규직: 세금 O, 4대보험 O
     }
 
-    // 최소 국민연금 보험료 기준 월급 (39만원)
-    private static final BigDecimal MINIMUM_PENSION_WAGE = new BigDecimal("390000");
+    // 세율
+    private static final BigDecimal FREELANCER_INCOME_TAX_RATE = new BigDecimal("0.03");       // 프리랜서 소득세 3%
+    private static final BigDecimal FREELANCER_LOCAL_INCOME_TAX_RATE = new BigDecimal("0.003"); // 프리랜서 지방소득세 0.3%
+    private static final BigDecimal LOCAL_INCOME_TAX_RATE = new BigDecimal("0.1");             // 지방소득세 (소득세의 10%)
+
+    // 간이 소득세 구간 (월 급여 기준, 간이세액표가 없는 연도에 적용)
+    private static final BigDecimal SIMPLE_TAX_BRACKET_1 = new BigDecimal("1000000");
+    private static final BigDecimal SIMPLE_TAX_BRACKET_2 = new BigDecimal("2000000");
+    private static final BigDecimal SIMPLE_TAX_RATE_1 = new BigDecimal("0.03");
+    private static final BigDecimal SIMPLE_TAX_RATE_2 = new BigDecimal("0.035");
+    private static final BigDecimal SIMPLE_TAX_RATE_3 = new BigDecimal("0.04");
 
-    // 4대보험 요율
-    private static final BigDecimal NATIONAL_PENSION_RATE = new BigDecimal("0.045");     // 국민연금 4.5%
-    private static final BigDecimal HEALTH_INSURANCE_RATE = new BigDecimal("0.03545");  // 건강보험 3.545%
-    private static final BigDecimal LONG_TERM_CARE_RATE = new BigDecimal("0.1295");    // 장기요양보험 (건강보험의 12.95%)
-    private static final BigDecimal EMPLOYMENT_INSURANCE_RATE = new BigDecimal("0.009"); // 고용보험 0.9%
+    // 간이세액표 조회 시 기본 공제대상가족 수 (본인)
+    public static final int DEFAULT_DEPENDANTS = 1;
 
     /**
      * 통합 세금 및 보험료 계산 결과
@@ -49,7 +59,15 @@ public class DeductionCalculator {
 
         public BigDecimal totalDeduction;      // 총 공제 (보험료 + 세금)
 
-        public TaxResult(BigDecimal grossPay, PayrollDeductionType deductionType) {
+        /**
+         * @param paymentDate 지급일 (4대보험 요율 적용일, 연도는 간이세액표 귀속 연도)
+         * @param dependants  공제대상가족 수 (본인 포함)
+         */
+        public TaxResult(BigDecimal grossPay, PayrollDeductionType deductionType, LocalDate paymentDate, int dependants) {
+            // 간이세액표가 없는 연도는 null (간이세액표 근사 적용)
+            WithholdingTaxTable taxTable = WithholdingTaxTable.forYear(paymentDate.getYear()).orElse(null);
+            InsuranceRates rates = InsuranceRateRegistry.ratesOn(paymentDate);
+
             switch (deductionType) {
                 case FREELANCER:
                     // 프리랜서: 소득세 3% + 지방소득세 0.3%
@@ -59,9 +77,9 @@ public class DeductionCalculator {
                     this.employmentInsurance = BigDecimal.ZERO;
                     this.totalInsurance = BigDecimal.ZERO;
 
-                    this.incomeTax = grossPay.multiply(new BigDecimal("0.03"))
+                    this.incomeTax = grossPay.multiply(FREELANCER_INCOME_TAX_RATE)
                         .setScale(0, RoundingMode.DOWN);
-                    this.localIncomeTax = grossPay.multiply(new BigDecimal("0.003"))
+                    this.localIncomeTax = grossPay.multiply(FREELANCER_LOCAL_INCOME_TAX_RATE)
                         .setScale(0, RoundingMode.DOWN);
                     this.totalTax = this.incomeTax.add(this.localIncomeTax);
                     this.totalDeduction = this.totalTax;
@@ -88,9 +106,8 @@ public class DeductionCalculator {
                     this.employmentInsurance = BigDecimal.ZERO;
                     this.totalInsurance = BigDecimal.ZERO;
 
-                    this.incomeTax = calculateSimpleIncomeTax(grossPay)
-                        .setScale(0, RoundingMode.DOWN);
-                    this.localIncomeTax = this.incomeTax.multiply(new BigDecimal("0.1"))
+                    this.incomeTax = incomeTax(grossPay, taxTable, dependants);
+                    this.localIncomeTax = this.incomeTax.multiply(LOCAL_INCOME_TAX_RATE)
                         .setScale(0, RoundingMode.DOWN);
                     this.totalTax = this.incomeTax.add(this.localIncomeTax);
                     this.totalDeduction = this.totalTax;
@@ -98,25 +115,24 @@ public class DeductionCalculator {
 
                 case PART_TIME_TAX_AND_INSURANCE:
                     // 비정규직: 세금 O, 4대보험 O
-                    BigDecimal pensionBaseSalary = grossPay.compareTo(MINIMUM_PENSION_WAGE) < 0
-                        ? MINIMUM_PENSION_WAGE
+                    BigDecimal pensionBaseSalary = grossPay.compareTo(rates.getMinimumPensionWage()) < 0
+                        ? rates.getMinimumPensionWage()
                         : grossPay;
                     pensionBaseSalary = pensionBaseSalary.setScale(-3, RoundingMode.DOWN);
 
-                    this.nationalPension = pensionBaseSalary.multiply(NATIONAL_PENSION_RATE)
+                    this.nationalPension = pensionBaseSalary.multiply(rates.getNationalPensionRate())
                         .setScale(0, RoundingMode.DOWN);
-                    this.healthInsurance = grossPay.multiply(HEALTH_INSURANCE_RATE)
+                    this.healthInsurance = grossPay.multiply(rates.getHealthInsuranceRate())
                         .setScale(0, RoundingMode.DOWN);
-                    this.longTermCare = this.healthInsurance.multiply(LONG_TERM_CARE_RATE)
+                    this.longTermCare = this.healthInsurance.multiply(rates.getLongTermCareRate())
                         .setScale(0, RoundingMode.DOWN);
-                    this.employmentInsurance = grossPay.multiply(EMPLOYMENT_INSURANCE_RATE)
+                    this.employmentInsurance = grossPay.multiply(rates.getEmploymentInsuranceRate())
                         .setScale(0, RoundingMode.DOWN);
                     this.totalInsurance = this.nationalPension.add(this.healthInsurance)
                         .add(this.longTermCare).add(this.employmentInsurance);
 
-                    this.incomeTax = calculateSimpleIncomeTax(grossPay)
-                        .setScale(0, RoundingMode.DOWN);
-                    this.localIncomeTax = this.incomeTax.multiply(new BigDecimal("0.1"))
+                    this.incomeTax = incomeTax(grossPay, taxTable, dependants);
+                    this.localIncomeTax = this.incomeTax.multiply(LOCAL_INCOME_TAX_RATE)
                         .setScale(0, RoundingMode.DOWN);
                     this.totalTax = this.incomeTax.add(this.localIncomeTax);
                     this.totalDeduction = this.totalInsurance.add(this.totalTax);
@@ -126,25 +142,28 @@ public class DeductionCalculator {
     }
 
     /**
-     * 통합 세금 및 보험료 계산
+     * 지급일 기준 세금 및 보험료 계산
+     * 지급일에 적용되는 4대보험 요율과 지급일이 속한 연도의 간이세액표를 사용한다.
      */
-    public static TaxResult calculate(BigDecimal grossPay, PayrollDeductionType deductionType) {
-        return new TaxResult(grossPay, deductionType);
+    public static TaxResult calculate(BigDecimal grossPay, PayrollDeductionType deductionType, LocalDate paymentDate) {
+        return new TaxResult(grossPay, deductionType, paymentDate, DEFAULT_DEPENDANTS);
     }
 
     /**
-     * 간단한 소득세 계산 (간이세액표 근사)
-     * Todo: 실제 간이세액표를 반영한 정확한 계산 로직으로 대체 필요
+     * 소득세 (간이세액표가 있으면 표 조회, 없으면 간이세액표 근사, 원 단위 절삭)
      */
-    private static BigDecimal calculateSimpleIncomeTax(BigDecimal grossPay) {
-        // 매우 간단한 근사: 대략 3~5%
-        // 실제 간이세액표를 사용하려면 더 복잡한 로직 필요
-        if (grossPay.compareTo(new BigDecimal("1000000")) < 0) {
-            return grossPay.multiply(new BigDecimal("0.03"));
-        } else if (grossPay.compareTo(new BigDecimal("2000000")) < 0) {
-            return grossPay.multiply(new BigDecimal("0.035"));
+    private static BigDecimal incomeTax(BigDecimal grossPay, WithholdingTaxTable taxTable, int dependants) {
+        if (taxTable != null) {
+            return taxTable.incomeTax(grossPay, dependants);
+        }
+        BigDecimal rate;
+        if (grossPay.compareTo(SIMPLE_TAX_BRACKET_1) < 0) {
+            rate = SIMPLE_TAX_RATE_1;
+        } else if (grossPay.compareTo(SIMPLE_TAX_BRACKET_2) < 0) {
+            rate = SIMPLE_TAX_RATE_2;
         } else {
-            return grossPay.multiply(new BigDecimal("0.04"));
+            rate = SIMPLE_TAX_RATE_3;
         }
+        return grossPay.multiply(rate).setScale(0, RoundingMode.DOWN);
     }
 }
@@ -0,0 +1,170 @@
+package com.example.wagemanager.domain.salary.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 4대보험 요율 레지스트리
+ *
+ * 적용 시작일별 요율표를 불변 스냅샷(적용 시작일 배열 + 요율 배열)으로 보관하고,
+ * 지급일로 이진 탐색하여 요율을 조회한다. 조회는 AtomicReference 읽기만 하므로 잠금이 없다.
+ * 재적재 시 새 스냅샷을 모두 만든 뒤 한 번에 교체하므로, 계산 도중 요율표가 섞이지 않는다.
+ * 기본값은 클래스패스의 tax/insurance-rates.csv이며, 외부 파일 교체는 InsuranceRateReloadScheduler가 담당한다.
+ */
+public final class InsuranceRateRegistry {
+
+    public static final String DEFAULT_SOURCE = "classpath:tax/insurance-rates.csv";
+
+    private static final String RESOURCE_PATH = "/tax/insurance-rates.csv";
+    private static final String HEADER_PREFIX = "effective-from";
+    private static final int COLUMN_COUNT = 6;
+
+    private static final AtomicReference<Snapshot> CURRENT = new AtomicReference<>(loadDefault());
+
+    private InsuranceRateRegistry() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 지급일에 적용되는 요율 (적용 시작일이 지급일 이하인 행 중 가장 늦은 행, 없으면 첫 행)
+     */
+    public static InsuranceRates ratesOn(LocalDate paymentDate) {
+        Snapshot snapshot = CURRENT.get();
+        int index = Arrays.binarySearch(snapshot.effectiveDays, paymentDate.toEpochDay());
+        if (index < 0) {
+            index = Math.max(-index - 2, 0);
+        }
+        return snapshot.rates[index];
+    }
+
+    /**
+     * 현재 적용 중인 요율표 출처
+     */
+    public static String currentSource() {
+        return CURRENT.get().source;
+    }
+
+    /**
+     * 요율표 교체
+     * 파싱이 끝난 뒤에 교체하므로, 형식 오류가 있으면 예외가 발생하고 기존 요율표가 유지된다.
+     *
+     * @return 적재한 요율 행 수
+     */
+    public static int reload(Reader reader, String source) throws IOException {
+        Snapshot snapshot = parse(reader, source);
+        CURRENT.set(snapshot);
+        return snapshot.rates.length;
+    }
+
+    /**
+     * 클래스패스 기본 요율표로 복원
+     */
+    public static void resetToDefault() {
+        CURRENT.set(loadDefault());
+    }
+
+    private static Snapshot loadDefault() {
+        InputStream input = InsuranceRateRegistry.class.getResourceAsStream(RESOURCE_PATH);
+        if (input == null) {
+            throw new IllegalStateException("4대보험 요율표를 찾을 수 없습니다: " + DEFAULT_SOURCE);
+        }
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            return parse(reader, DEFAULT_SOURCE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("4대보험 요율표를 읽을 수 없습니다: " + DEFAULT_SOURCE, e);
+        }
+    }
+
+    /**
+     * CSV 파싱
+     * '#' 주석과 effective-from으로 시작하는 헤더 행 외에는
+     * "적용 시작일,국민연금,건강보험,장기요양보험,고용보험,국민연금 최저 기준소득월액" 형식이어야 하며,
+     * 적용 시작일은 오름차순이어야 한다.
+     */
+    static Snapshot parse(Reader source, String sourceName) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        List<InsuranceRates> rows = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#") || line.startsWith(HEADER_PREFIX)) {
+                continue;
+            }
+
+            String[] columns = line.split(",");
+            if (columns.length != COLUMN_COUNT) {
+                throw new IllegalStateException(String.format("4대보험 요율표 %s %d행: 열 개수가 올바르지 않습니다.", sourceName, lineNumber));
+            }
+
+            InsuranceRates rates;
+            try {
+                rates = new InsuranceRates(
+                        LocalDate.parse(columns[0].strip()),
+                        rate(columns[1], sourceName, lineNumber),
+                        rate(columns[2], sourceName, lineNumber),
+                        rate(columns[3], sourceName, lineNumber),
+                        rate(columns[4], sourceName, lineNumber),
+                        new BigDecimal(columns[5].strip()).setScale(0));
+            } catch (DateTimeParseException | ArithmeticException | NumberFormatException e) {
+                throw new IllegalStateException(String.format("4대보험 요율표 %s %d행: 값을 읽을 수 없습니다.", sourceName, lineNumber), e);
+            }
+
+            if (!rows.isEmpty() && !rates.getEffectiveFrom().isAfter(rows.get(rows.size() - 1).getEffectiveFrom())) {
+                throw new IllegalStateException(String.format("4대보험 요율표 %s %d행: 적용 시작일이 오름차순이 아닙니다.", sourceName, lineNumber));
+            }
+            rows.add(rates);
+        }
+
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("4대보험 요율표에 요율 행이 없습니다: " + sourceName);
+        }
+
+        long[] effectiveDays = new long[rows.size()];
+        for (int i = 0; i < effectiveDays.length; i++) {
+            effectiveDays[i] = rows.get(i).getEffectiveFrom().toEpochDay();
+        }
+        return new Snapshot(effectiveDays, rows.toArray(new InsuranceRates[0]), sourceName);
+    }
+
+    // 0 이상 1 미만
+    private static BigDecimal rate(String column, String sourceName, int lineNumber) {
+        BigDecimal rate = new BigDecimal(column.strip());
+        if (rate.scale() < 0) {
+            rate = rate.setScale(0);
+        }
+        if (rate.signum() < 0 || rate.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IllegalStateException(String.format("4대보험 요율표 %s %d행: 요율 범위가 올바르지 않습니다. (%s)", sourceName, lineNumber, column.strip()));
+        }
+        return rate;
+    }
+
+    /**
+     * 요율표 스냅샷 (생성 후 변경하지 않음)
+     */
+    static final class Snapshot {
+        private final long[] effectiveDays;     // 적용 시작일 (epoch day, 오름차순)
+        private final InsuranceRates[] rates;
+        private final String source;
+
+        private Snapshot(long[] effectiveDays, InsuranceRates[] rates, String source) {
+            this.effectiveDays = effectiveDays;
+            this.rates = rates;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.wagemanager.domain.salary.util;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 적용 시작일별 4대보험 근로자 부담 요율 (불변)
+ */
+public final class InsuranceRates {
+
+    private final LocalDate effectiveFrom;
+    private final BigDecimal nationalPensionRate;      // 국민연금
+    private final BigDecimal healthInsuranceRate;      // 건강보험
+    private final BigDecimal longTermCareRate;         // 장기요양보험 (건강보험료 대비)
+    private final BigDecimal employmentInsuranceRate;  // 고용보험
+    private final BigDecimal minimumPensionWage;       // 국민연금 최저 기준소득월액 (원)
+
+    public InsuranceRates(LocalDate effectiveFrom,
+                          BigDecimal nationalPensionRate,
+                          BigDecimal healthInsuranceRate,
+                          BigDecimal longTermCareRate,
+                          BigDecimal employmentInsuranceRate,
+                          BigDecimal minimumPensionWage) {
+        this.effectiveFrom = effectiveFrom;
+        this.nationalPensionRate = nationalPensionRate;
+        this.healthInsuranceRate = healthInsuranceRate;
+        this.longTermCareRate = longTermCareRate;
+        this.employmentInsuranceRate = employmentInsuranceRate;
+        this.minimumPensionWage = minimumPensionWage;
+    }
+
+    public LocalDate getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public BigDecimal getNationalPensionRate() {
+        return nationalPensionRate;
+    }
+
+    public BigDecimal getHealthInsuranceRate() {
+        return healthInsuranceRate;
+    }
+
+    public BigDecimal getLongTermCareRate() {
+        return longTermCareRate;
+    }
+
+    public BigDecimal getEmploymentInsuranceRate() {
+        return employmentInsuranceRate;
+    }
+
+    public BigDecimal getMinimumPensionWage() {
+        return minimumPensionWage;
+    }
+}
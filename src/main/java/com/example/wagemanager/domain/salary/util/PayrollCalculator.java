@@ -0,0 +1,226 @@
+package com.example.wagemanager.domain.salary.util;
+
+import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 월 급여 집계 계산 유틸리티
+ *
+ * 근무 기록 합계와 주간 수당(마지막 주차 이월 정책 포함)으로 총 지급액, 공제액, 실수령액을 계산한다.
+ * 단건 계산(SalaryService)과 일괄 정산(PayrollRunService)이 같은 결과를 내도록 계산 로직을 이곳에 모은다.
+ */
+public class PayrollCalculator {
+
+    private PayrollCalculator() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 급여 계산 기간
+     * 월급날 기준: 전월 paymentDay ~ 당월 paymentDay-1
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PayPeriod {
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final LocalDate paymentDate;
+
+        public boolean contains(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+
+    /**
+     * 급여 계산 기간 내 근무 기록 합계
+     * COMPLETED 상태의 근무 기록만 급여에 반영된다. (SCHEDULED/DELETED는 0으로 취급)
+     * 근무 기록 한 건의 기여분(변경 전/후 스냅샷)을 표현할 때도 사용한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class WorkTotals {
+        public static final WorkTotals ZERO =
+                new WorkTotals(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+        private final BigDecimal totalWorkHours;
+        private final BigDecimal basePay;
+        private final BigDecimal nightPay;
+        private final BigDecimal holidayPay;
+
+        // WorkRecord의 이미 계산된 급여 칼럼값 합산
+        public static WorkTotals sum(List<WorkRecord> workRecords) {
+            WorkTotals totals = ZERO;
+            for (WorkRecord record : workRecords) {
+                totals = totals.add(of(record));
+            }
+            return totals;
+        }
+
+        // 근무 기록 한 건이 급여에 기여하는 값 (COMPLETED가 아니면 0)
+        public static WorkTotals of(WorkRecord record) {
+            if (record.getStatus() != WorkRecordStatus.COMPLETED) {
+                return ZERO;
+            }
+            return valuesOf(record);
+        }
+
+        // 상태와 관계없이 근무 기록의 급여 칼럼값 (삭제 직후 기존 기여분 계산용)
+        public static WorkTotals valuesOf(WorkRecord record) {
+            return new WorkTotals(
+                    nullToZero(record.getTotalHours()),
+                    nullToZero(record.getBaseSalary()),
+                    nullToZero(record.getNightSalary()),
+                    nullToZero(record.getHolidaySalary()));
+        }
+
+        public WorkTotals add(WorkTotals other) {
+            return new WorkTotals(
+                    totalWorkHours.add(other.totalWorkHours),
+                    basePay.add(other.basePay),
+                    nightPay.add(other.nightPay),
+                    holidayPay.add(other.holidayPay));
+        }
+
+        public WorkTotals subtract(WorkTotals other) {
+            return new WorkTotals(
+                    totalWorkHours.subtract(other.totalWorkHours),
+                    basePay.subtract(other.basePay),
+                    nightPay.subtract(other.nightPay),
+                    holidayPay.subtract(other.holidayPay));
+        }
+
+        public boolean isZero() {
+            return totalWorkHours.signum() == 0 && basePay.signum() == 0
+                    && nightPay.signum() == 0 && holidayPay.signum() == 0;
+        }
+
+        private static BigDecimal nullToZero(BigDecimal value) {
+            return value != null ? value : BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * 월 급여 계산 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final BigDecimal totalWorkHours;
+        private final BigDecimal basePay;
+        private final BigDecimal overtimePay;
+        private final BigDecimal nightPay;
+        private final BigDecimal holidayPay;
+        private final BigDecimal weeklyPaidLeavePay;
+        private final BigDecimal totalGrossPay;
+        private final BigDecimal fourMajorInsurance;
+        private final BigDecimal incomeTax;
+        private final BigDecimal localIncomeTax;
+        private final BigDecimal totalDeduction;
+        private final BigDecimal netPay;
+    }
+
+    /**
+     * 월급날 기준 급여 계산 기간
+     * 예: 월급날이 21일이면, 전월 21일 ~ 당월 20일까지
+     */
+    public static PayPeriod payPeriod(Integer paymentDay, Integer year, Integer month) {
+        LocalDate startDate = LocalDate.of(year, month, 1).minusMonths(1).withDayOfMonth(paymentDay);
+        LocalDate endDate = LocalDate.of(year, month, 1).withDayOfMonth(paymentDay).minusDays(1);
+        LocalDate paymentDate = LocalDate.of(year, month, paymentDay);
+        return new PayPeriod(startDate, endDate, paymentDate);
+    }
+
+    /**
+     * 월 급여 계산
+     *
+     * @param contract                근로 계약 (월급날, 공제 유형)
+     * @param period                  급여 계산 기간
+     * @param workTotals              기간 내 근무 기록 합계
+     * @param currentMonthAllowances  당월 WeeklyAllowance
+     * @param previousMonthAllowances 전월 WeeklyAllowance (마지막 주차 이월분 확인용)
+     */
+    public static Result calculate(WorkerContract contract,
+                                   PayPeriod period,
+                                   WorkTotals workTotals,
+                                   List<WeeklyAllowance> currentMonthAllowances,
+                                   List<WeeklyAllowance> previousMonthAllowances) {
+        BigDecimal totalWeeklyPaidLeaveAmount = BigDecimal.ZERO;
+        BigDecimal totalOvertimePay = BigDecimal.ZERO;
+
+        LocalDate paymentDayDate = period.getPaymentDate();
+
+        // 당월 WeeklyAllowance 처리
+        for (WeeklyAllowance allowance : currentMonthAllowances) {
+            // 마지막 주차 판단: 월급날이 해당 주(weekStartDate ~ weekEndDate)에 포함되는지 확인
+            if (!containsInWeek(allowance, paymentDayDate)) {
+                // 마지막 주차가 아니면 현재 월 급여에 포함
+                totalWeeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount.add(allowance.getWeeklyPaidLeaveAmount());
+                totalOvertimePay = totalOvertimePay.add(allowance.getOvertimeAmount());
+            }
+            // 마지막 주차면 제외 (다음 달 급여로 이월)
+        }
+
+        // 전월에서 이월된 수당 포함
+        LocalDate previousMonth = paymentDayDate.minusMonths(1);
+        LocalDate previousPaymentDayDate = LocalDate.of(
+                previousMonth.getYear(), previousMonth.getMonthValue(), contract.getPaymentDay());
+
+        for (WeeklyAllowance allowance : previousMonthAllowances) {
+            // 전월의 마지막 주차(전월 월급날이 포함된 주)의 수당을 현재 월 급여에 추가 (이월분)
+            if (containsInWeek(allowance, previousPaymentDayDate)) {
+                totalWeeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount.add(allowance.getWeeklyPaidLeaveAmount());
+                totalOvertimePay = totalOvertimePay.add(allowance.getOvertimeAmount());
+            }
+        }
+
+        BigDecimal totalGrossPay = workTotals.getBasePay().add(workTotals.getNightPay()).add(workTotals.getHolidayPay())
+                .add(totalWeeklyPaidLeaveAmount).add(totalOvertimePay);
+
+        // 세금 및 보험료 계산 (payrollDeductionType에 따라)
+        // 근무 기록은 있지만 급여가 0원이면 4대보험 면제
+        DeductionCalculator.PayrollDeductionType deductionType = contract.getPayrollDeductionType();
+
+        if (deductionType == DeductionCalculator.PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE
+                && totalGrossPay.compareTo(BigDecimal.ZERO) == 0) {
+            deductionType = DeductionCalculator.PayrollDeductionType.PART_TIME_NONE;
+        }
+
+        // 4대보험 요율은 지급일 기준, 소득세는 지급일이 속한 연도의 간이세액표(없으면 근사) 적용
+        DeductionCalculator.TaxResult taxResult =
+                DeductionCalculator.calculate(totalGrossPay, deductionType, paymentDayDate);
+
+        BigDecimal netPay = totalGrossPay.subtract(taxResult.totalDeduction);
+
+        // 음수 급여 방지 (공제액이 급여를 초과하는 경우)
+        if (netPay.compareTo(BigDecimal.ZERO) < 0) {
+            netPay = BigDecimal.ZERO;
+        }
+
+        return new Result(
+                workTotals.getTotalWorkHours(),
+                workTotals.getBasePay(),
+                totalOvertimePay,
+                workTotals.getNightPay(),
+                workTotals.getHolidayPay(),
+                totalWeeklyPaidLeaveAmount,
+                totalGrossPay,
+                taxResult.totalInsurance,
+                taxResult.incomeTax,
+                taxResult.localIncomeTax,
+                taxResult.totalDeduction,
+                netPay
+        );
+    }
+
+    private static boolean containsInWeek(WeeklyAllowance allowance, LocalDate date) {
+        return !date.isBefore(allowance.getWeekStartDate()) && !date.isAfter(allowance.getWeekEndDate());
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.wagemanager.domain.salary.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+
+/**
+ * 근로소득 간이세액표
+ *
+ * 귀속 연도별 CSV 리소스(tax/withholding-tax-{연도}.csv)를 한 번만 읽어
+ * 구간 하한(원) 배열과 (구간 × 공제대상가족 수) 세액 배열로 보관하고, 이진 탐색으로 세액을 조회한다.
+ * - 구간: 하한 이상 ~ 상한 미만 (천원 단위로 기록, 구간은 연속이어야 함)
+ * - 첫 구간 하한 미만: 세액 0
+ * - 마지막 구간 상한 이상: 마지막 구간 세액 + 초과분 × excess-rate
+ * - 귀속 연도의 표가 없으면 그 이전 가장 늦은 연도의 표로 대체하고 WARN 로그를 남김 (새 표 배포 전까지 급여 계산이 멈추지 않도록),
+ *   이전 연도의 표도 없으면 표 없음(Optional.empty, 호출 측에서 근사 세율 적용)으로 처리
+ */
+@Slf4j
+public final class WithholdingTaxTable {
+
+    public static final int MIN_DEPENDANTS = 1;
+    public static final int MAX_DEPENDANTS = 11;
+
+    private static final String RESOURCE_PATH = "/tax/withholding-tax-%d.csv";
+    private static final String EXCESS_RATE_KEY = "excess-rate";
+    private static final String HEADER_PREFIX = "lower";
+    private static final long WON_PER_BAND_UNIT = 1000L;
+
+    // 표 도입 여부를 확인할 가장 이른 연도
+    private static final int OLDEST_TAX_YEAR = 2020;
+
+    // 연도별 리소스 로드 결과 (없는 연도도 캐시하여 다시 읽지 않음)
+    private static final ConcurrentMap<Integer, Optional<WithholdingTaxTable>> LOADED = new ConcurrentHashMap<>();
+
+    // 귀속 연도별 적용 표 (대체 표 WARN 로그를 연도당 한 번만 남김)
+    private static final ConcurrentMap<Integer, Optional<WithholdingTaxTable>> RESOLVED = new ConcurrentHashMap<>();
+
+    private final int taxYear;
+    private final long[] lowerBounds;   // 구간 하한 (원, 오름차순)
+    private final long upperBound;      // 마지막 구간 상한 (원)
+    private final int[] taxes;          // [구간 × MAX_DEPENDANTS + (가족 수 - 1)] 세액 (원)
+    private final BigDecimal excessRate;
+
+    private WithholdingTaxTable(int taxYear, long[] lowerBounds, long upperBound, int[] taxes, BigDecimal excessRate) {
+        this.taxYear = taxYear;
+        this.lowerBounds = lowerBounds;
+        this.upperBound = upperBound;
+        this.taxes = taxes;
+        this.excessRate = excessRate;
+    }
+
+    /**
+     * 귀속 연도의 간이세액표
+     *
+     * @return 귀속 연도의 표, 없으면 이전 가장 늦은 연도의 표, 그것도 없으면 empty
+     */
+    public static Optional<WithholdingTaxTable> forYear(int taxYear) {
+        return RESOLVED.computeIfAbsent(taxYear, year ->
+                resolve(year, loaded -> LOADED.computeIfAbsent(loaded, WithholdingTaxTable::loadResource)));
+    }
+
+    public int getTaxYear() {
+        return taxYear;
+    }
+
+    /**
+     * 월급여액(원 미만 절사)과 공제대상가족 수로 소득세 조회
+     * 가족 수는 1~11명으로 제한한다.
+     */
+    public BigDecimal incomeTax(BigDecimal monthlyWage, int dependants) {
+        BigDecimal wage = monthlyWage.setScale(0, RoundingMode.DOWN);
+        if (lowerBounds.length == 0 || wage.compareTo(BigDecimal.valueOf(lowerBounds[0])) < 0) {
+            return BigDecimal.ZERO;
+        }
+
+        int column = Math.min(Math.max(dependants, MIN_DEPENDANTS), MAX_DEPENDANTS) - 1;
+        if (wage.compareTo(BigDecimal.valueOf(upperBound)) >= 0) {
+            long topTax = taxes[(lowerBounds.length - 1) * MAX_DEPENDANTS + column];
+            return wage.subtract(BigDecimal.valueOf(upperBound))
+                    .multiply(excessRate)
+                    .setScale(0, RoundingMode.DOWN)
+                    .add(BigDecimal.valueOf(topTax));
+        }
+
+        int index = Arrays.binarySearch(lowerBounds, wage.longValue());
+        int band = index >= 0 ? index : -index - 2;
+        return BigDecimal.valueOf(taxes[band * MAX_DEPENDANTS + column]);
+    }
+
+    /**
+     * 원 단위 월급여액용 조회
+     */
+    public long incomeTax(long monthlyWage, int dependants) {
+        return incomeTax(BigDecimal.valueOf(monthlyWage), dependants).longValueExact();
+    }
+
+    static Optional<WithholdingTaxTable> resolve(int taxYear, IntFunction<Optional<WithholdingTaxTable>> loader) {
+        Optional<WithholdingTaxTable> table = loader.apply(taxYear);
+        if (table.isPresent()) {
+            return table;
+        }
+        for (int year = taxYear - 1; year >= OLDEST_TAX_YEAR; year--) {
+            Optional<WithholdingTaxTable> fallback = loader.apply(year);
+            if (fallback.isPresent()) {
+                log.warn("간이세액표 {}년 리소스가 없어 {}년 표로 대체합니다.", taxYear, year);
+                return fallback;
+            }
+        }
+        log.warn("간이세액표 {}년 리소스가 없어 근사 세율을 적용합니다.", taxYear);
+        return Optional.empty();
+    }
+
+    private static Optional<WithholdingTaxTable> loadResource(int taxYear) {
+        InputStream input = WithholdingTaxTable.class.getResourceAsStream(String.format(RESOURCE_PATH, taxYear));
+        if (input == null) {
+            return Optional.empty();
+        }
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            return Optional.of(parse(taxYear, reader));
+        } catch (IOException e) {
+            throw new UncheckedIOException("간이세액표를 읽을 수 없습니다: " + taxYear, e);
+        }
+    }
+
+    /**
+     * CSV 파싱
+     * '#' 주석, excess-rate 행, lower로 시작하는 헤더 행 외에는
+     * "하한(천원),상한(천원),가족1,...,가족11" 형식의 세액 행이어야 한다.
+     */
+    static WithholdingTaxTable parse(int taxYear, Reader source) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        BigDecimal excessRate = BigDecimal.ZERO;
+        long[] lowerBounds = new long[256];
+        int[] taxes = new int[256 * MAX_DEPENDANTS];
+        int rows = 0;
+        long upperBound = 0;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#") || line.startsWith(HEADER_PREFIX)) {
+                continue;
+            }
+
+            String[] columns = line.split(",");
+            if (columns[0].strip().equals(EXCESS_RATE_KEY)) {
+                excessRate = new BigDecimal(columns[1].strip());
+                continue;
+            }
+            if (columns.length != 2 + MAX_DEPENDANTS) {
+                throw new IllegalStateException(String.format("간이세액표 %d년 %d행: 열 개수가 올바르지 않습니다.", taxYear, lineNumber));
+            }
+
+            long lower = Long.parseLong(columns[0].strip()) * WON_PER_BAND_UNIT;
+            long upper = Long.parseLong(columns[1].strip()) * WON_PER_BAND_UNIT;
+            if (upper <= lower || (rows > 0 && lower != upperBound)) {
+                throw new IllegalStateException(String.format("간이세액표 %d년 %d행: 구간이 연속되지 않습니다.", taxYear, lineNumber));
+            }
+
+            if (rows == lowerBounds.length) {
+                lowerBounds = Arrays.copyOf(lowerBounds, rows * 2);
+                taxes = Arrays.copyOf(taxes, rows * 2 * MAX_DEPENDANTS);
+            }
+            lowerBounds[rows] = lower;
+            for (int dependant = 0; dependant < MAX_DEPENDANTS; dependant++) {
+                taxes[rows * MAX_DEPENDANTS + dependant] = Integer.parseInt(columns[2 + dependant].strip());
+            }
+            upperBound = upper;
+            rows++;
+        }
+
+        return new WithholdingTaxTable(taxYear,
+                Arrays.copyOf(lowerBounds, rows),
+                upperBound,
+                Arrays.copyOf(taxes, rows * MAX_DEPENDANTS),
+                excessRate);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.wagemanager.domain.user.service;
 
 import com.example.wagemanager.common.exception.ErrorCode;
 import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
 import com.example.wagemanager.domain.employer.service.EmployerService;
 import com.example.wagemanager.domain.settings.service.UserSettingsService;
 import com.example.wagemanager.domain.user.dto.UserDto;
@@ -10,10 +11,14 @@ import com.example.wagemanager.domain.user.enums.UserType;
 import com.example.wagemanager.domain.user.repository.UserRepository;
 import com.example.wagemanager.domain.worker.entity.Worker;
 import com.example.wagemanager.domain.worker.service.WorkerService;
+import com.example.wagemanager.domain.workrecord.event.WorkRecordChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,6 +28,8 @@ public class UserService {
     private final WorkerService workerService;
     private final EmployerService employerService;
     private final UserSettingsService userSettingsService;
+    private final WorkerContractRepository workerContractRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserDto.Response getUserById(Long userId) {
         User user = userRepository.findById(userId)
@@ -35,8 +42,15 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
+        String previousName = user.getName();
         user.updateProfile(request.getName(), request.getPhone(), request.getProfileImageUrl());
 
+        // 캘린더에 근로자 이름이 들어가므로 계약한 사업장의 캘린더 캐시 무효화
+        if (!Objects.equals(previousName, user.getName())) {
+            workerContractRepository.findWorkplaceIdsByWorkerUserId(userId)
+                    .forEach(workplaceId -> eventPublisher.publishEvent(WorkRecordChangedEvent.ofWorkplace(workplaceId)));
+        }
+
         return UserDto.Response.from(user);
     }
 
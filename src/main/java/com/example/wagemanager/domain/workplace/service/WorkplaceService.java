@@ -8,11 +8,14 @@ import com.example.wagemanager.domain.employer.service.EmployerService;
 import com.example.wagemanager.domain.workplace.dto.WorkplaceDto;
 import com.example.wagemanager.domain.workplace.entity.Workplace;
 import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import com.example.wagemanager.domain.workrecord.event.WorkRecordChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +26,7 @@ public class WorkplaceService {
     private final WorkplaceRepository workplaceRepository;
     private final WorkerContractRepository workerContractRepository;
     private final EmployerService employerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public WorkplaceDto.Response createWorkplace(Long userId, WorkplaceDto.CreateRequest request) {
@@ -66,6 +70,7 @@ public class WorkplaceService {
         Workplace workplace = workplaceRepository.findById(workplaceId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WORKPLACE_NOT_FOUND, "사업장을 찾을 수 없습니다."));
 
+        String previousName = workplace.getName();
         workplace.update(
                 request.getBusinessName(),
                 request.getName(),
@@ -74,6 +79,11 @@ public class WorkplaceService {
                 request.getIsLessThanFiveEmployees()
         );
 
+        // 캘린더에 사업장 이름이 들어가므로 캘린더 캐시 무효화
+        if (!Objects.equals(previousName, workplace.getName())) {
+            eventPublisher.publishEvent(WorkRecordChangedEvent.ofWorkplace(workplaceId));
+        }
+
         return WorkplaceDto.Response.from(workplace);
     }
 
@@ -0,0 +1,49 @@
+package com.example.wagemanager.domain.workrecord.dto;
+
+import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 캘린더 조회용 근무 기록 한 행 (엔티티를 만들지 않고 필요한 칼럼만 조회)
+ */
+@Getter
+public class WorkRecordCalendarRow {
+
+    private final Long id;
+    private final Long contractId;
+    private final String workerName;
+    private final String workplaceName;
+    private final LocalDate workDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final Integer breakMinutes;
+    private final BigDecimal hourlyWage;
+    private final WorkRecordStatus status;
+
+    // JPQL 생성자 표현식용
+    public WorkRecordCalendarRow(Long id,
+                                 Long contractId,
+                                 String workerName,
+                                 String workplaceName,
+                                 LocalDate workDate,
+                                 LocalTime startTime,
+                                 LocalTime endTime,
+                                 Integer breakMinutes,
+                                 BigDecimal hourlyWage,
+                                 WorkRecordStatus status) {
+        this.id = id;
+        this.contractId = contractId;
+        this.workerName = workerName;
+        this.workplaceName = workplaceName;
+        this.workDate = workDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.breakMinutes = breakMinutes;
+        this.hourlyWage = hourlyWage;
+        this.status = status;
+    }
+}
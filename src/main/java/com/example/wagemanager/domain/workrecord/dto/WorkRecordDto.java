@@ -1,8 +1,11 @@
 package com.example.wagemanager.domain.workrecord.dto;
 
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.util.CompiledWorkSchedule;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
 import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -13,6 +16,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -87,6 +91,23 @@ public class WorkRecordDto {
                     .memo(workRecord.getMemo())
                     .build();
         }
+
+        // 가상 스케줄 모드: 아직 근무 기록으로 만들어지지 않은 스케줄 근무 (id 없음)
+        public static DetailedResponse scheduled(WorkerContract contract, LocalDate workDate, CompiledWorkSchedule.Shift shift) {
+            return DetailedResponse.builder()
+                    .contractId(contract.getId())
+                    .workerName(contract.getWorker().getUser().getName())
+                    .workerCode(contract.getWorker().getWorkerCode())
+                    .workplaceName(contract.getWorkplace().getName())
+                    .workDate(workDate)
+                    .startTime(shift.startTime())
+                    .endTime(shift.endTime())
+                    .breakMinutes(0)
+                    .totalWorkMinutes((int) Duration.between(shift.startTime(), shift.endTime()).toMinutes())
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .isModified(false)
+                    .build();
+        }
     }
 
     @Getter
@@ -120,6 +141,50 @@ public class WorkRecordDto {
                     .status(workRecord.getStatus())
                     .build();
         }
+
+        public static CalendarResponse from(WorkRecordCalendarRow row) {
+            return CalendarResponse.builder()
+                    .id(row.getId())
+                    .contractId(row.getContractId())
+                    .workerName(row.getWorkerName())
+                    .workplaceName(row.getWorkplaceName())
+                    .workDate(row.getWorkDate())
+                    .startTime(row.getStartTime())
+                    .endTime(row.getEndTime())
+                    .breakMinutes(row.getBreakMinutes())
+                    .hourlyWage(row.getHourlyWage())
+                    .status(row.getStatus())
+                    .build();
+        }
+
+        // 가상 스케줄 모드: 아직 근무 기록으로 만들어지지 않은 스케줄 근무 (id 없음)
+        public static CalendarResponse scheduled(WorkerContract contract, LocalDate workDate, CompiledWorkSchedule.Shift shift) {
+            return CalendarResponse.builder()
+                    .contractId(contract.getId())
+                    .workerName(contract.getWorker().getUser().getName())
+                    .workplaceName(contract.getWorkplace().getName())
+                    .workDate(workDate)
+                    .startTime(shift.startTime())
+                    .endTime(shift.endTime())
+                    .breakMinutes(0)
+                    .hourlyWage(contract.getHourlyWage())
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "WorkRecordCalendarPageResponse", description = "캘린더 커서 페이지")
+    public static class CalendarPageResponse {
+        private List<CalendarResponse> items;
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "2024-03-15_1024")
+        private String nextCursor;
+
+        private Boolean hasNext;
     }
 
     @Getter
@@ -215,4 +280,48 @@ public class WorkRecordDto {
         @Schema(description = "요청한 전체 일정 개수", example = "7")
         private Integer totalRequested;
     }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "WorkRecordBulkUpdateRequest", description = "근무 기록 일괄 수정 요청 (ID 목록 또는 기간 필터 중 하나로 대상 지정)")
+    public static class BulkUpdateRequest {
+        @NotNull(message = "사업장 ID는 필수입니다.")
+        @Schema(description = "사업장 ID", example = "1")
+        private Long workplaceId;
+
+        @Schema(description = "수정할 근무 기록 ID 목록 (지정하면 기간 필터는 무시)")
+        private List<Long> workRecordIds;
+
+        @Schema(description = "필터: 근무일 시작 (yyyy-MM-dd)", example = "2024-12-24")
+        private LocalDate startDate;
+
+        @Schema(description = "필터: 근무일 종료 (yyyy-MM-dd)", example = "2024-12-25")
+        private LocalDate endDate;
+
+        @Schema(description = "필터: 계약 ID 목록 (비우면 사업장 전체)")
+        private List<Long> contractIds;
+
+        @NotNull(message = "수정 내용은 필수입니다.")
+        @Valid
+        @Schema(description = "적용할 수정 내용 (값이 있는 항목만 변경)")
+        private UpdateRequest patch;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "WorkRecordBulkUpdateResponse", description = "일괄 수정 결과")
+    public static class BulkUpdateResponse {
+        @Schema(description = "수정된 근무 기록 개수", example = "12")
+        private Integer updatedCount;
+
+        @Schema(description = "건너뛴 근무 기록 개수 (삭제된 근무 기록)", example = "1")
+        private Integer skippedCount;
+
+        @Schema(description = "알림을 받은 근로자 수", example = "4")
+        private Integer notifiedWorkerCount;
+    }
 }
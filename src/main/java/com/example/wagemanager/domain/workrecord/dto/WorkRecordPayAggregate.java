@@ -0,0 +1,50 @@
+package com.example.wagemanager.domain.workrecord.dto;
+
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 계약별 기간 내 근무 기록 급여 합계 (DB 집계 결과)
+ *
+ * recordCount는 상태와 관계없는 기간 내 근무 기록 수이고,
+ * 시간/급여 합계는 COMPLETED 근무 기록만 합산한 값이다. (PayrollCalculator.WorkTotals.sum과 같은 규칙)
+ */
+@Getter
+public class WorkRecordPayAggregate {
+
+    private final Long contractId;
+    private final long recordCount;
+    private final BigDecimal totalHours;
+    private final BigDecimal baseSalary;
+    private final BigDecimal nightSalary;
+    private final BigDecimal holidaySalary;
+
+    // JPQL 생성자 표현식용 (COMPLETED 근무 기록이 없으면 합계가 null)
+    public WorkRecordPayAggregate(Long contractId,
+                                  Long recordCount,
+                                  BigDecimal totalHours,
+                                  BigDecimal baseSalary,
+                                  BigDecimal nightSalary,
+                                  BigDecimal holidaySalary) {
+        this.contractId = contractId;
+        this.recordCount = recordCount != null ? recordCount : 0L;
+        this.totalHours = nullToZero(totalHours);
+        this.baseSalary = nullToZero(baseSalary);
+        this.nightSalary = nullToZero(nightSalary);
+        this.holidaySalary = nullToZero(holidaySalary);
+    }
+
+    public boolean hasRecords() {
+        return recordCount > 0;
+    }
+
+    public PayrollCalculator.WorkTotals toWorkTotals() {
+        return new PayrollCalculator.WorkTotals(totalHours, baseSalary, nightSalary, holidaySalary);
+    }
+
+    private static BigDecimal nullToZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.wagemanager.domain.workrecord.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사업장 캘린더 캐시 버전
+ * 사업장마다 한 행이며, 캘린더 내용이 바뀐 트랜잭션이 커밋되면 1씩 증가한다.
+ * 각 노드의 CalendarWeekCache는 캐시한 주의 버전이 현재 버전과 다르면 다시 조회한다.
+ * 행 갱신은 CalendarCacheVersionRepository의 조건부 UPDATE/INSERT로만 한다.
+ */
+@Entity
+@Table(name = "calendar_cache_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CalendarCacheVersion {
+
+    @Id
+    @Column(name = "workplace_id")
+    private Long workplaceId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
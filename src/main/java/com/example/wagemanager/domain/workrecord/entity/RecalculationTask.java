@@ -0,0 +1,72 @@
+package com.example.wagemanager.domain.workrecord.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 재계산 대기 작업
+ * async 모드에서 근무 기록을 변경한 트랜잭션 안에서 함께 기록되고, RecalculationQueue가 실행한 트랜잭션에서 삭제한다.
+ * WeeklyAllowance 재계산(weeklyAllowanceId) 또는 급여 전체 재계산(contractId, 연월) 중 하나를 담는다.
+ * 급여는 변경분을 담지 않는다. 실행 전에 다른 전체 재계산이 먼저 커밋되면 변경분이 이중으로 더해지기 때문이다.
+ */
+@Entity
+@Table(name = "recalculation_task",
+        indexes = {
+                @Index(name = "idx_recalculation_task_next_attempt", columnList = "next_attempt_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RecalculationTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "weekly_allowance_id")
+    private Long weeklyAllowanceId;
+
+    @Column(name = "contract_id")
+    private Long contractId;
+
+    @Column(name = "salary_year")
+    private Integer year;
+
+    @Column(name = "salary_month")
+    private Integer month;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static RecalculationTask allowance(Long weeklyAllowanceId, LocalDateTime now) {
+        return RecalculationTask.builder()
+                .weeklyAllowanceId(weeklyAllowanceId)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public static RecalculationTask salary(Long contractId, Integer year, Integer month, LocalDateTime now) {
+        return RecalculationTask.builder()
+                .contractId(contractId)
+                .year(year)
+                .month(month)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public boolean isAllowance() {
+        return weeklyAllowanceId != null;
+    }
+}
@@ -15,6 +15,11 @@ import java.time.LocalTime;
 @Table(name = "work_record",
         indexes = {
                 @Index(name = "idx_contract_date_status", columnList = "contract_id,work_date,status")
+        },
+        uniqueConstraints = {
+                // 스케줄 생성 작업이 같은 날짜를 두 번 생성하지 못하도록 보장 (schedule_slot이 null인 기록은 제약 대상 아님)
+                @UniqueConstraint(name = "uk_work_record_schedule_slot",
+                        columnNames = {"contract_id", "work_date", "schedule_slot"})
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -43,6 +48,10 @@ public class WorkRecord extends BaseEntity {
     @Column(name = "work_date", nullable = false)
     private LocalDate workDate;
 
+    // 계약 스케줄로 자동 생성한 근무 기록의 당일 근무 구간 순번 (직접 등록/스케줄 변경으로 만든 기록은 null)
+    @Column(name = "schedule_slot")
+    private Integer scheduleSlot;
+
     // WeeklyAllowance 할당 (WeeklyAllowance 생성 시 사용)
     public void assignToWeeklyAllowance(WeeklyAllowance weeklyAllowance) {
         this.weeklyAllowance = weeklyAllowance;
@@ -133,6 +142,11 @@ public class WorkRecord extends BaseEntity {
         }
     }
 
+    // JDBC 일괄 삽입처럼 생명주기 콜백 없이 저장할 때 사용
+    public void prepareForInsert() {
+        prePersist();
+    }
+
     // 근무 시간 수정 (근무 전/후 모두 사용)
     public void updateWorkTime(LocalTime startTime, LocalTime endTime, String memo) {
         this.startTime = startTime;
@@ -147,6 +161,21 @@ public class WorkRecord extends BaseEntity {
         }
     }
 
+    // 스케줄 변경으로 당일 근무 구간 순번이 바뀐 경우 (null이면 유니크 키 충돌 없이 잠시 비워 둠)
+    public void assignScheduleSlot(Integer scheduleSlot) {
+        this.scheduleSlot = scheduleSlot;
+    }
+
+    // 계약 근무 스케줄 변경 반영 (수정되지 않은 SCHEDULED 근무 기록만, ID와 연관 관계는 유지)
+    public void reschedule(LocalTime startTime, LocalTime endTime) {
+        if (this.status != WorkRecordStatus.SCHEDULED || Boolean.TRUE.equals(this.isModified)) {
+            throw new IllegalStateException("수정되지 않은 예정 근무만 스케줄을 다시 적용할 수 있습니다.");
+        }
+        this.startTime = startTime;
+        this.endTime = endTime;
+        calculateHours();
+    }
+
     // 근무 기록 수정
     public void updateWorkRecord(LocalTime startTime, LocalTime endTime, Integer breakMinutes, Integer totalWorkMinutes, String memo) {
         if (startTime != null) this.startTime = startTime;
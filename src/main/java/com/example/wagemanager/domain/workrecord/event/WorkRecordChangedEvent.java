@@ -0,0 +1,26 @@
+package com.example.wagemanager.domain.workrecord.event;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.LocalDate;
+
+/**
+ * 근무 기록 변경 이벤트
+ * 사업장 캘린더 캐시에서 해당 근무일이 속한 주를 제거하는 데 사용된다.
+ * workDate가 null이면 사업장 전체 (계약 시급/스케줄 변경처럼 여러 주에 걸친 변경)
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class WorkRecordChangedEvent {
+    @NonNull
+    private final Long workplaceId;
+    private final LocalDate workDate;
+
+    public static WorkRecordChangedEvent ofWorkplace(Long workplaceId) {
+        return new WorkRecordChangedEvent(workplaceId, null);
+    }
+}
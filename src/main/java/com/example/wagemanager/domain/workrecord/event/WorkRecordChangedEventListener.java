@@ -0,0 +1,91 @@
+package com.example.wagemanager.domain.workrecord.event;
+
+import com.example.wagemanager.domain.workrecord.service.CalendarWeekCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 근무 기록 변경 시 사업장 캘린더 캐시 무효화
+ *
+ * 한 트랜잭션의 변경을 모아 두었다가 커밋 이후 (사업장, 주)별로 한 번씩 제거한다.
+ * 롤백되면 제거하지 않으며, 트랜잭션 밖에서는 즉시 제거한다.
+ * 제거한 뒤 사업장마다 한 번씩 버전을 올려 다른 노드의 캐시도 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkRecordChangedEventListener {
+
+    private static final String RESOURCE_KEY = WorkRecordChangedEventListener.class.getName() + ".PENDING";
+
+    private final CalendarWeekCache calendarWeekCache;
+
+    @EventListener
+    public void handleWorkRecordChanged(WorkRecordChangedEvent event) {
+        if (!calendarWeekCache.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(List.of(event));
+            return;
+        }
+        currentPending().add(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<WorkRecordChangedEvent> currentPending() {
+        Set<WorkRecordChangedEvent> pending = (Set<WorkRecordChangedEvent>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (pending != null) {
+            return pending;
+        }
+
+        Set<WorkRecordChangedEvent> newPending = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(newPending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+            }
+        });
+        return newPending;
+    }
+
+    private void invalidate(Collection<WorkRecordChangedEvent> events) {
+        events.forEach(this::evict);
+        events.stream()
+                .map(WorkRecordChangedEvent::getWorkplaceId)
+                .distinct()
+                .forEach(this::broadcast);
+    }
+
+    private void broadcast(Long workplaceId) {
+        try {
+            calendarWeekCache.broadcastInvalidation(workplaceId);
+        } catch (RuntimeException e) {
+            // 다른 노드의 캐시는 ttl-ms가 지나면 다시 조회됨
+            log.error("캘린더 캐시 버전 갱신 실패: workplaceId={}", workplaceId, e);
+        }
+    }
+
+    private void evict(WorkRecordChangedEvent event) {
+        if (event.getWorkDate() == null) {
+            calendarWeekCache.evictWorkplace(event.getWorkplaceId());
+        } else {
+            calendarWeekCache.evictWeek(event.getWorkplaceId(), event.getWorkDate());
+        }
+    }
+}
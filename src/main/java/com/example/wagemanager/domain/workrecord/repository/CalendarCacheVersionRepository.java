@@ -0,0 +1,27 @@
+package com.example.wagemanager.domain.workrecord.repository;
+
+import com.example.wagemanager.domain.workrecord.entity.CalendarCacheVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CalendarCacheVersionRepository extends JpaRepository<CalendarCacheVersion, Long> {
+
+    @Query("SELECT v.version FROM CalendarCacheVersion v WHERE v.workplaceId = :workplaceId")
+    Optional<Long> findVersion(@Param("workplaceId") Long workplaceId);
+
+    @Modifying
+    @Query("UPDATE CalendarCacheVersion v SET v.version = v.version + 1 WHERE v.workplaceId = :workplaceId")
+    int increment(@Param("workplaceId") Long workplaceId);
+
+    // 버전 행 최초 생성 (동시에 생성하면 한쪽은 PK 충돌)
+    @Modifying
+    @Query(value = "INSERT INTO calendar_cache_version (workplace_id, version) VALUES (:workplaceId, 1)",
+            nativeQuery = true)
+    int insert(@Param("workplaceId") Long workplaceId);
+}
@@ -0,0 +1,44 @@
+package com.example.wagemanager.domain.workrecord.repository;
+
+import com.example.wagemanager.domain.workrecord.entity.RecalculationTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecalculationTaskRepository extends JpaRepository<RecalculationTask, Long> {
+
+    // 실행할 작업을 잠그고 조회 (lock.timeout -2 = SKIP LOCKED: 다른 노드가 실행 중인 작업은 건너뜀)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM RecalculationTask t " +
+            "WHERE t.attempts < :maxAttempts AND t.nextAttemptAt <= :now " +
+            "ORDER BY t.id")
+    List<RecalculationTask> findDue(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 한 건씩 재실행할 때 잠금 (다른 노드가 잡고 있으면 비어 있음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM RecalculationTask t WHERE t.id = :id")
+    Optional<RecalculationTask> findLockedById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE RecalculationTask t SET t.attempts = t.attempts + 1, t.nextAttemptAt = :nextAttemptAt " +
+            "WHERE t.id = :id")
+    int markFailed(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -0,0 +1,20 @@
+package com.example.wagemanager.domain.workrecord.repository;
+
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+
+import java.util.List;
+
+/**
+ * WorkRecord JDBC 일괄 삽입 (WorkRecordRepository 확장)
+ */
+public interface WorkRecordBatchRepository {
+
+    /**
+     * 근무 기록 일괄 삽입
+     * IDENTITY 키는 Hibernate 삽입 배치를 비활성화하므로 JDBC 배치로 직접 삽입한다.
+     * 삽입된 행은 영속성 컨텍스트에 포함되지 않으며 생성된 ID도 엔티티에 채워지지 않는다.
+     *
+     * @return 삽입한 행 수
+     */
+    int batchInsert(List<WorkRecord> workRecords);
+}
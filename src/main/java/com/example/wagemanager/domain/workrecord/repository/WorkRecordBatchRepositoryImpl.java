@@ -0,0 +1,73 @@
+package com.example.wagemanager.domain.workrecord.repository;
+
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class WorkRecordBatchRepositoryImpl implements WorkRecordBatchRepository {
+
+    // hibernate.jdbc.batch_size와 동일
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO work_record (" +
+            "contract_id, weekly_allowance_id, work_date, schedule_slot, start_time, end_time, " +
+            "break_minutes, total_work_minutes, total_hours, regular_hours, night_hours, holiday_hours, " +
+            "status, is_modified, memo, base_salary, night_salary, holiday_salary, total_salary, " +
+            "created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int batchInsert(List<WorkRecord> workRecords) {
+        if (workRecords.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, workRecords, BATCH_SIZE, (ps, workRecord) -> {
+            // @PrePersist를 거치지 않으므로 근무 시간/급여 칼럼을 먼저 계산
+            workRecord.prepareForInsert();
+
+            ps.setLong(1, workRecord.getContract().getId());
+            if (workRecord.getWeeklyAllowance() != null) {
+                ps.setLong(2, workRecord.getWeeklyAllowance().getId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setObject(3, workRecord.getWorkDate());
+            ps.setObject(4, workRecord.getScheduleSlot(), Types.INTEGER);
+            ps.setObject(5, workRecord.getStartTime());
+            ps.setObject(6, workRecord.getEndTime());
+            ps.setObject(7, workRecord.getBreakMinutes(), Types.INTEGER);
+            ps.setObject(8, workRecord.getTotalWorkMinutes(), Types.INTEGER);
+            ps.setBigDecimal(9, workRecord.getTotalHours());
+            ps.setBigDecimal(10, workRecord.getRegularHours());
+            ps.setBigDecimal(11, workRecord.getNightHours());
+            ps.setBigDecimal(12, workRecord.getHolidayHours());
+            ps.setString(13, workRecord.getStatus().name());
+            ps.setBoolean(14, workRecord.getIsModified());
+            ps.setString(15, workRecord.getMemo());
+            ps.setBigDecimal(16, workRecord.getBaseSalary());
+            ps.setBigDecimal(17, workRecord.getNightSalary());
+            ps.setBigDecimal(18, workRecord.getHolidaySalary());
+            ps.setBigDecimal(19, workRecord.getTotalSalary());
+            ps.setObject(20, now);
+            ps.setObject(21, now);
+        });
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // rewriteBatchedStatements 사용 시 드라이버가 행 수 대신 SUCCESS_NO_INFO(-2)를 반환할 수 있음
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+}
@@ -1,19 +1,26 @@
 package com.example.wagemanager.domain.workrecord.repository;
 
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordCalendarRow;
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordPayAggregate;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
 import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
+public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long>, WorkRecordBatchRepository {
 
     @Query("SELECT wr FROM WorkRecord wr " +
             "JOIN FETCH wr.contract c " +
@@ -21,6 +28,50 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
             "WHERE c.id = :contractId")
     List<WorkRecord> findByContractId(@Param("contractId") Long contractId);
 
+    // 캘린더 스트리밍 조회: 엔티티 대신 필요한 칼럼만 (work_date, id) 순으로 읽음
+    // fetch size Integer.MIN_VALUE: MySQL 드라이버가 이 쿼리만 결과를 한 행씩 스트리밍
+    // (연결 전체에 useCursorFetch를 켜지 않으므로 다른 쿼리의 실행 방식은 바뀌지 않음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.wagemanager.domain.workrecord.dto.WorkRecordCalendarRow(" +
+            "wr.id, c.id, u.name, wp.name, wr.workDate, wr.startTime, wr.endTime, wr.breakMinutes, c.hourlyWage, wr.status) " +
+            "FROM WorkRecord wr " +
+            "JOIN wr.contract c " +
+            "JOIN c.workplace wp " +
+            "JOIN c.worker wk " +
+            "JOIN wk.user u " +
+            "WHERE wp.id = :workplaceId " +
+            "AND wr.workDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY wr.workDate ASC, wr.id ASC")
+    Stream<WorkRecordCalendarRow> streamCalendarRows(
+            @Param("workplaceId") Long workplaceId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 캘린더 커서 조회: (work_date, id)가 커서보다 뒤인 행을 순서대로 (Pageable은 크기 제한용)
+    @Query("SELECT new com.example.wagemanager.domain.workrecord.dto.WorkRecordCalendarRow(" +
+            "wr.id, c.id, u.name, wp.name, wr.workDate, wr.startTime, wr.endTime, wr.breakMinutes, c.hourlyWage, wr.status) " +
+            "FROM WorkRecord wr " +
+            "JOIN wr.contract c " +
+            "JOIN c.workplace wp " +
+            "JOIN c.worker wk " +
+            "JOIN wk.user u " +
+            "WHERE wp.id = :workplaceId " +
+            "AND wr.workDate BETWEEN :startDate AND :endDate " +
+            "AND (wr.workDate > :afterDate OR (wr.workDate = :afterDate AND wr.id > :afterId)) " +
+            "ORDER BY wr.workDate ASC, wr.id ASC")
+    List<WorkRecordCalendarRow> findCalendarRowsAfter(
+            @Param("workplaceId") Long workplaceId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
     @Query("SELECT wr FROM WorkRecord wr " +
             "JOIN FETCH wr.contract c " +
             "JOIN FETCH c.workplace w " +
@@ -34,6 +85,50 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
             @Param("endDate") LocalDate endDate
     );
 
+    // 계약 쓰기 락용: 근무 기록을 읽기 전에 계약 ID만 조회
+    @Query("SELECT wr.contract.id FROM WorkRecord wr WHERE wr.id = :id")
+    Optional<Long> findContractIdById(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT wr.contract.id FROM WorkRecord wr WHERE wr.id IN :ids")
+    List<Long> findContractIdsByIds(@Param("ids") List<Long> ids);
+
+    @Query("SELECT DISTINCT c.id FROM WorkRecord wr " +
+            "JOIN wr.contract c " +
+            "WHERE c.workplace.id = :workplaceId " +
+            "AND wr.workDate BETWEEN :startDate AND :endDate")
+    List<Long> findContractIdsByWorkplaceAndDateRange(
+            @Param("workplaceId") Long workplaceId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 일괄 수정용: 사업장에 속한 근무 기록만 ID로 조회 (근로자 정보 함께 조회)
+    @Query("SELECT wr FROM WorkRecord wr " +
+            "JOIN FETCH wr.contract c " +
+            "JOIN FETCH c.worker wk " +
+            "JOIN FETCH wk.user " +
+            "WHERE wr.id IN :ids " +
+            "AND c.workplace.id = :workplaceId " +
+            "ORDER BY wr.workDate ASC, wr.id ASC")
+    List<WorkRecord> findByIdsAndWorkplaceId(
+            @Param("ids") List<Long> ids,
+            @Param("workplaceId") Long workplaceId
+    );
+
+    // 일괄 수정용: 사업장의 기간 내 근무 기록 (근로자 정보 함께 조회)
+    @Query("SELECT wr FROM WorkRecord wr " +
+            "JOIN FETCH wr.contract c " +
+            "JOIN FETCH c.worker wk " +
+            "JOIN FETCH wk.user " +
+            "WHERE c.workplace.id = :workplaceId " +
+            "AND wr.workDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY wr.workDate ASC, wr.id ASC")
+    List<WorkRecord> findByWorkplaceAndDateRangeWithWorker(
+            @Param("workplaceId") Long workplaceId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     @Query("SELECT wr FROM WorkRecord wr " +
             "JOIN FETCH wr.contract c " +
             "JOIN FETCH c.worker wk " +
@@ -69,6 +164,50 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
             @Param("endDate") LocalDate endDate
     );
 
+    // 근무 스케줄 변경 반영용: 기준일 이후 계약의 모든 근무 기록
+    @Query("SELECT wr FROM WorkRecord wr " +
+            "WHERE wr.contract.id = :contractId " +
+            "AND wr.workDate > :date " +
+            "ORDER BY wr.workDate ASC, wr.id ASC")
+    List<WorkRecord> findByContractIdAndWorkDateAfter(
+            @Param("contractId") Long contractId,
+            @Param("date") LocalDate date
+    );
+
+    // 급여 계산용: 계약의 기간 내 근무 기록 수와 COMPLETED 근무 기록의 급여 칼럼 합계 (엔티티를 읽지 않고 DB에서 집계)
+    @Query("SELECT new com.example.wagemanager.domain.workrecord.dto.WorkRecordPayAggregate(" +
+            "wr.contract.id, COUNT(wr), " +
+            "SUM(CASE WHEN wr.status = com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus.COMPLETED THEN wr.totalHours END), " +
+            "SUM(CASE WHEN wr.status = com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus.COMPLETED THEN wr.baseSalary END), " +
+            "SUM(CASE WHEN wr.status = com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus.COMPLETED THEN wr.nightSalary END), " +
+            "SUM(CASE WHEN wr.status = com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus.COMPLETED THEN wr.holidaySalary END)) " +
+            "FROM WorkRecord wr " +
+            "WHERE wr.contract.id = :contractId " +
+            "AND wr.workDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY wr.contract.id")
+    Optional<WorkRecordPayAggregate> sumPayByContractAndDateRange(
+            @Param("contractId") Long contractId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 일괄 급여 정산용: 같은 계산 기간을 쓰는 여러 계약의 급여 합계를 계약별 한 행으로 집계
+    @Query("SELECT new com.example.wagemanager.domain.workrecord.dto.WorkRecordPayAggregate(" +
+            "wr.contract.id, COUNT(wr), " +
+            "SUM(CASE WHEN wr.status = com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus.COMPLETED THEN wr.totalHours END), " +
+            "SUM(CASE WHEN wr.status = com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus.COMPLETED THEN wr.baseSalary END), " +
+            "SUM(CASE WHEN wr.status = com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus.COMPLETED THEN wr.nightSalary END), " +
+            "SUM(CASE WHEN wr.status = com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus.COMPLETED THEN wr.holidaySalary END)) " +
+            "FROM WorkRecord wr " +
+            "WHERE wr.contract.id IN :contractIds " +
+            "AND wr.workDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY wr.contract.id")
+    List<WorkRecordPayAggregate> sumPayByContractIdsAndDateRange(
+            @Param("contractIds") List<Long> contractIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     @Query("SELECT DISTINCT c FROM WorkerContract c " +
             "JOIN FETCH c.worker w " +
             "JOIN FETCH c.workplace " +
@@ -80,11 +219,15 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
 
     boolean existsByContractAndWorkDate(WorkerContract contract, LocalDate workDate);
 
-    @Query("SELECT c FROM WorkerContract c " +
-            "JOIN FETCH c.worker w " +
-            "JOIN FETCH c.workplace " +
-            "WHERE c.isActive = true")
-    List<WorkerContract> findAllActiveContracts();
+    // 근무 기록 생성용: 기간 내 이미 근무 기록이 있는 날짜 (상태 무관)
+    @Query("SELECT DISTINCT wr.workDate FROM WorkRecord wr " +
+            "WHERE wr.contract.id = :contractId " +
+            "AND wr.workDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findWorkDatesByContractAndDateRange(
+            @Param("contractId") Long contractId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 
     // 사업장별 승인 대기중인 근무 기록 조회
     @Query("SELECT wr FROM WorkRecord wr " +
@@ -99,16 +242,4 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
             @Param("workplaceId") Long workplaceId,
             @Param("status") WorkRecordStatus status
     );
-
-    // 계약 정보 변경 시 미래 WorkRecord 삭제
-    @Modifying
-    @Query("DELETE FROM WorkRecord wr " +
-            "WHERE wr.contract.id = :contractId " +
-            "AND wr.workDate > :date " +
-            "AND wr.status = :status")
-    void deleteByContractIdAndWorkDateAfterAndStatus(
-            @Param("contractId") Long contractId,
-            @Param("date") LocalDate date,
-            @Param("status") WorkRecordStatus status
-    );
 }
@@ -1,57 +1,76 @@
 package com.example.wagemanager.domain.workrecord.scheduler;
 
-import com.example.wagemanager.domain.contract.entity.WorkerContract;
-import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
 import com.example.wagemanager.domain.workrecord.service.WorkRecordGenerationService;
+import com.example.wagemanager.domain.workrecord.service.WorkRecordHorizonService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WorkRecordScheduler {
 
-    private final WorkRecordRepository workRecordRepository;
+    private final WorkRecordHorizonService workRecordHorizonService;
     private final WorkRecordGenerationService workRecordGenerationService;
 
     /**
      * 매월 15일 오전 2시에 2개월 뒤 WorkRecord 생성
      * 항상 2개월치 데이터를 유지하기 위해 2개월 뒤의 데이터를 생성
+     * 계약을 페이지 단위로 나누어 페이지마다 별도 트랜잭션에서 병렬로 생성한다.
+     * 가상 스케줄 모드에서는 일별 생성(materializeUpcomingWorkRecords)만 사용하므로 실행하지 않는다.
      * cron: 초 분 시 일 월 요일
      * "0 0 2 15 * *" = 매월 15일 오전 2시 0분 0초
      */
-    @Scheduled(cron = "0 0 2 15 * *")
-    @Transactional
+    @Scheduled(cron = "${wagemanager.work-record.horizon.cron:0 0 2 15 * *}")
     public void generateTwoMonthsLaterWorkRecords() {
+        if (workRecordGenerationService.isVirtualSchedule()) {
+            return;
+        }
         log.info("===== 2개월 뒤 WorkRecord 자동 생성 스케줄러 시작 =====");
 
         try {
-            // 모든 활성 계약 조회
-            List<WorkerContract> activeContracts = workRecordRepository.findAllActiveContracts();
-            log.info("활성 계약 수: {}", activeContracts.size());
-
-            int successCount = 0;
-            int failCount = 0;
-
-            // 각 계약마다 2개월 뒤 WorkRecord 생성
-            for (WorkerContract contract : activeContracts) {
-                try {
-                    workRecordGenerationService.generateTwoMonthsLaterWorkRecords(contract);
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("WorkRecord 생성 실패: Contract ID={}, Error={}", contract.getId(), e.getMessage(), e);
-                    failCount++;
-                }
-            }
-
-            log.info("===== 2개월 뒤 WorkRecord 자동 생성 완료 ===== (성공: {}, 실패: {})", successCount, failCount);
+            workRecordHorizonService.generateMonth(YearMonth.now().plusMonths(2));
         } catch (Exception e) {
             log.error("WorkRecord 자동 생성 스케줄러 실행 중 오류 발생", e);
         }
     }
+
+    /**
+     * 가상 스케줄 모드: 매일 가까운 미래(내일 ~ materialize-ahead-days)의 WorkRecord 생성
+     * 이후 날짜는 조회 시 계약 스케줄로 계산하므로 만들지 않는다.
+     * "0 30 1 * * *" = 매일 오전 1시 30분 0초
+     */
+    @Scheduled(cron = "${wagemanager.work-record.virtual.materialize-cron:0 30 1 * * *}")
+    public void materializeUpcomingWorkRecords() {
+        if (!workRecordGenerationService.isVirtualSchedule()) {
+            return;
+        }
+        log.info("===== 가까운 미래 WorkRecord 생성 스케줄러 시작 =====");
+
+        try {
+            LocalDate today = LocalDate.now();
+            workRecordHorizonService.generatePeriod(today.plusDays(1),
+                    today.plusDays(workRecordGenerationService.getMaterializeAheadDays()));
+        } catch (Exception e) {
+            log.error("가까운 미래 WorkRecord 생성 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 중단된(서버 재시작 등) WorkRecord 생성 작업을 진행 지점부터 재개
+     */
+    @Scheduled(fixedDelayString = "${wagemanager.work-record.horizon.resume-check-ms:3600000}",
+            initialDelayString = "${wagemanager.work-record.horizon.resume-check-ms:3600000}")
+    public void resumeIncompleteWorkRecordGeneration() {
+        try {
+            workRecordHorizonService.resumeIncomplete();
+        } catch (Exception e) {
+            log.error("WorkRecord 생성 작업 재개 중 오류 발생", e);
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.workrecord.repository.CalendarCacheVersionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 노드 간 캘린더 캐시 무효화용 사업장별 버전 (DB)
+ *
+ * 캘린더 캐시는 노드마다 따로 있으므로, 한 노드의 변경을 다른 노드에 알리기 위해 버전을 올린다.
+ * 조회하는 노드는 캐시를 사용하기 전에 현재 버전을 읽어 캐시한 버전과 비교한다.
+ */
+@Component
+public class CalendarCacheVersionStore {
+
+    private final CalendarCacheVersionRepository calendarCacheVersionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public CalendarCacheVersionStore(CalendarCacheVersionRepository calendarCacheVersionRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.calendarCacheVersionRepository = calendarCacheVersionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 사업장의 현재 버전 (한 번도 변경되지 않았으면 0)
+     */
+    public long current(Long workplaceId) {
+        return calendarCacheVersionRepository.findVersion(workplaceId).orElse(0L);
+    }
+
+    /**
+     * 버전을 1 올리고 올린 버전 반환
+     * 커밋 이후(afterCommit)에 호출되므로 별도 트랜잭션에서 실행한다.
+     */
+    public long increment(Long workplaceId) {
+        try {
+            return transactionTemplate.execute(status -> incrementOrInsert(workplaceId));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 동시에 행을 만들었으면 다시 증가
+            return transactionTemplate.execute(status -> incrementOrInsert(workplaceId));
+        }
+    }
+
+    private long incrementOrInsert(Long workplaceId) {
+        if (calendarCacheVersionRepository.increment(workplaceId) == 0) {
+            calendarCacheVersionRepository.insert(workplaceId);
+        }
+        // 증가한 행은 이 트랜잭션이 잠그고 있으므로 읽은 값이 올린 버전
+        return calendarCacheVersionRepository.findVersion(workplaceId).orElseThrow();
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 사업장 캘린더 주 단위 캐시
+ *
+ * (사업장 ID, ISO 주 시작일(월요일))마다 그 주의 캘린더 응답을 JSON 바이트로 저장하고,
+ * 조회 기간은 캐시된 주를 이어 붙여 만든다. 없는 주는 한 번의 조회로 함께 읽어 채운다.
+ * - 근무 기록 변경 이벤트(WorkRecordChangedEvent)가 커밋된 뒤 해당 주만 제거
+ * - 다른 노드의 변경은 사업장 버전(CalendarCacheVersionStore)으로 확인: 조회 전에 현재 버전을 읽고,
+ *   캐시한 주의 버전이 다르면 다시 조회 (한 번의 PK 조회로 노드 간 무효화를 보장)
+ * - 저장된 바이트 합계가 max-bytes를 넘으면 가장 오래 사용하지 않은 주부터 제거 (LRU)
+ * - 조회 중 무효화가 일어나면 (사업장 세대 번호가 바뀌면) 읽은 결과를 저장하지 않아 오래된 데이터가 남지 않음
+ * - 가상 스케줄 모드의 예정 근무는 날짜가 지나면 달라지므로 ttl-ms 이후 다시 조회
+ */
+@Slf4j
+@Component
+public class CalendarWeekCache {
+
+    // 키/엔트리 객체 등 JSON 바이트 외 대략적인 엔트리당 메모리
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final CalendarCacheVersionStore versionStore;
+    private final JavaType weekType;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<WeekKey, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Long, Long> generations = new HashMap<>();
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter invalidations;
+
+    public CalendarWeekCache(ObjectMapper objectMapper,
+                             CalendarCacheVersionStore versionStore,
+                             MeterRegistry meterRegistry,
+                             @Value("${wagemanager.calendar-cache.enabled:true}") boolean enabled,
+                             @Value("${wagemanager.calendar-cache.max-bytes:33554432}") long maxBytes,
+                             @Value("${wagemanager.calendar-cache.ttl-ms:600000}") long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.versionStore = versionStore;
+        this.weekType = objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, WorkRecordDto.CalendarResponse.class);
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+
+        this.hits = Counter.builder("wagemanager.calendar.cache.requests").tag("result", "hit")
+                .description("캘린더 주 단위 캐시 조회").register(meterRegistry);
+        this.misses = Counter.builder("wagemanager.calendar.cache.requests").tag("result", "miss")
+                .description("캘린더 주 단위 캐시 조회").register(meterRegistry);
+        this.sizeEvictions = Counter.builder("wagemanager.calendar.cache.evictions").tag("cause", "size")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("wagemanager.calendar.cache.evictions").tag("cause", "invalidation")
+                .register(meterRegistry);
+        Gauge.builder("wagemanager.calendar.cache.bytes", this, CalendarWeekCache::currentBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("wagemanager.calendar.cache.entries", this, CalendarWeekCache::currentEntries)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기간 내 캘린더 조회 (캐시된 주는 재사용하고 없는 주는 loader로 한 번에 조회)
+     *
+     * @param loader 주 단위로 정렬된 기간(월요일 ~ 일요일)의 캘린더를 DB에서 읽는 함수
+     */
+    public List<WorkRecordDto.CalendarResponse> getRange(Long workplaceId, LocalDate startDate, LocalDate endDate,
+                                                         WeekLoader loader) {
+        LocalDate firstWeek = weekStart(startDate);
+        LocalDate lastWeek = weekStart(endDate);
+
+        Map<LocalDate, byte[]> cachedWeeks = new HashMap<>();
+        List<LocalDate> missingWeeks = new ArrayList<>();
+        // 다른 노드의 변경 확인용 버전은 DB 조회 전에 읽음 (읽은 뒤 바뀌면 저장한 주는 다음 조회에서 버려짐)
+        long version = versionStore.current(workplaceId);
+        long generation;
+        synchronized (lock) {
+            generation = generations.getOrDefault(workplaceId, 0L);
+            long now = System.currentTimeMillis();
+            for (LocalDate week = firstWeek; !week.isAfter(lastWeek); week = week.plusWeeks(1)) {
+                WeekKey key = new WeekKey(workplaceId, week);
+                Entry entry = entries.get(key);
+                if (entry != null && (now - entry.createdAt() > ttlMillis || entry.version() != version)) {
+                    removeEntry(key);
+                    entry = null;
+                }
+                if (entry == null) {
+                    missingWeeks.add(week);
+                } else {
+                    cachedWeeks.put(week, entry.json());
+                }
+            }
+        }
+        hits.increment(cachedWeeks.size());
+        misses.increment(missingWeeks.size());
+
+        Map<LocalDate, List<WorkRecordDto.CalendarResponse>> weeks = new TreeMap<>();
+        cachedWeeks.forEach((week, json) -> weeks.put(week, deserialize(json)));
+
+        if (!missingWeeks.isEmpty()) {
+            LocalDate loadStart = missingWeeks.get(0);
+            LocalDate loadEnd = missingWeeks.get(missingWeeks.size() - 1).plusDays(6);
+            Map<LocalDate, List<WorkRecordDto.CalendarResponse>> loaded = new TreeMap<>();
+            missingWeeks.forEach(week -> loaded.put(week, new ArrayList<>()));
+            for (WorkRecordDto.CalendarResponse item : loader.load(loadStart, loadEnd)) {
+                List<WorkRecordDto.CalendarResponse> week = loaded.get(weekStart(item.getWorkDate()));
+                // 이미 캐시된 주의 항목은 캐시 값을 사용
+                if (week != null) {
+                    week.add(item);
+                }
+            }
+            loaded.forEach((week, items) -> put(new WeekKey(workplaceId, week), items, generation, version));
+            weeks.putAll(loaded);
+        }
+
+        List<WorkRecordDto.CalendarResponse> result = new ArrayList<>();
+        for (List<WorkRecordDto.CalendarResponse> items : weeks.values()) {
+            for (WorkRecordDto.CalendarResponse item : items) {
+                if (!item.getWorkDate().isBefore(startDate) && !item.getWorkDate().isAfter(endDate)) {
+                    result.add(item);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 근무일이 속한 주 제거
+     */
+    public void evictWeek(Long workplaceId, LocalDate workDate) {
+        synchronized (lock) {
+            generations.merge(workplaceId, 1L, Long::sum);
+            if (removeEntry(new WeekKey(workplaceId, weekStart(workDate)))) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * 사업장의 모든 주 제거
+     */
+    public void evictWorkplace(Long workplaceId) {
+        synchronized (lock) {
+            generations.merge(workplaceId, 1L, Long::sum);
+            Iterator<Map.Entry<WeekKey, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<WeekKey, Entry> entry = iterator.next();
+                if (entry.getKey().workplaceId().equals(workplaceId)) {
+                    totalBytes -= entry.getValue().size();
+                    iterator.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 다른 노드에 사업장 변경 알림 (커밋 이후 evictWeek/evictWorkplace 다음에 호출)
+     * 이 노드의 캐시는 이미 변경된 주를 제거했으므로, 바로 이전 버전으로 캐시한 주는 올린 버전으로 계속 사용한다.
+     * 그보다 오래된 버전의 주는 그 사이 다른 노드의 변경을 놓쳤을 수 있으므로 다음 조회에서 다시 읽는다.
+     */
+    public void broadcastInvalidation(Long workplaceId) {
+        long version = versionStore.increment(workplaceId);
+        synchronized (lock) {
+            for (Map.Entry<WeekKey, Entry> entry : entries.entrySet()) {
+                if (entry.getKey().workplaceId().equals(workplaceId) && entry.getValue().version() == version - 1) {
+                    entry.setValue(entry.getValue().withVersion(version));
+                }
+            }
+        }
+    }
+
+    private void put(WeekKey key, List<WorkRecordDto.CalendarResponse> items, long generation, long version) {
+        byte[] json = serialize(items);
+        Entry entry = new Entry(json, System.currentTimeMillis(), version);
+        if (entry.size() > maxBytes) {
+            return;
+        }
+        synchronized (lock) {
+            // 조회하는 동안 무효화되었으면 저장하지 않음
+            if (generations.getOrDefault(key.workplaceId(), 0L) != generation) {
+                return;
+            }
+            removeEntry(key);
+            entries.put(key, entry);
+            totalBytes += entry.size();
+
+            Iterator<Map.Entry<WeekKey, Entry>> eldest = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().getValue().size();
+                eldest.remove();
+                sizeEvictions.increment();
+            }
+        }
+    }
+
+    private boolean removeEntry(WeekKey key) {
+        Entry removed = entries.remove(key);
+        if (removed == null) {
+            return false;
+        }
+        totalBytes -= removed.size();
+        return true;
+    }
+
+    private byte[] serialize(List<WorkRecordDto.CalendarResponse> items) {
+        try {
+            return objectMapper.writeValueAsBytes(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캘린더 캐시 직렬화 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private List<WorkRecordDto.CalendarResponse> deserialize(byte[] json) {
+        try {
+            return objectMapper.readValue(json, weekType);
+        } catch (IOException e) {
+            throw new IllegalStateException("캘린더 캐시 역직렬화 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private double currentBytes() {
+        synchronized (lock) {
+            return totalBytes;
+        }
+    }
+
+    private double currentEntries() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    @FunctionalInterface
+    public interface WeekLoader {
+        List<WorkRecordDto.CalendarResponse> load(LocalDate startDate, LocalDate endDate);
+    }
+
+    private record WeekKey(Long workplaceId, LocalDate weekStart) {
+    }
+
+    private record Entry(byte[] json, long createdAt, long version) {
+        long size() {
+            return json.length + ENTRY_OVERHEAD_BYTES;
+        }
+
+        Entry withVersion(long newVersion) {
+            return new Entry(json, createdAt, newVersion);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.allowance.repository.WeeklyAllowanceRepository;
+import com.example.wagemanager.domain.allowance.service.WeeklyAllowanceService;
+import com.example.wagemanager.domain.salary.service.SalaryService;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
+import com.example.wagemanager.domain.workrecord.entity.RecalculationTask;
+import com.example.wagemanager.domain.workrecord.repository.RecalculationTaskRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WeeklyAllowance / Salary 재계산 대기열
+ *
+ * 근무 기록 변경 시 바로 재계산하지 않고, 재계산이 필요한 WeeklyAllowance ID와
+ * 급여 키(contractId, year, month)를 트랜잭션 단위로 모아 중복을 제거한 뒤 커밋 직전에 한 번씩만 실행한다.
+ * 급여 키에는 근무 기록 변경분(WorkTotals)이 누적되어 증분 재계산에 한 번에 전달된다.
+ * - 실행 순서: WeeklyAllowance → Salary (급여 계산 시 재계산된 수당을 읽어야 함)
+ * - 트랜잭션 밖에서 호출되면 즉시 실행
+ * - async 모드: 모은 변경을 같은 트랜잭션에서 recalculation_task에 기록하고,
+ *   커밋 이후 debounce 시간이 지나면(그 외에는 poll-ms마다) 별도 트랜잭션에서 실행한 뒤 삭제
+ *   급여는 변경분 대신 급여 키만 기록하고 전체 재계산한다. (실행 전에 다른 전체 재계산이 커밋되면 변경분이 이중 반영되므로)
+ *   (실패한 작업은 retry-backoff-ms 이후 max-attempts까지 재시도, 그 이후는 SalaryReconciliationScheduler가 보정)
+ */
+@Slf4j
+@Component
+public class RecalculationQueue {
+
+    private static final String RESOURCE_KEY = RecalculationQueue.class.getName() + ".PENDING";
+
+    private final WeeklyAllowanceService weeklyAllowanceService;
+    private final WeeklyAllowanceRepository weeklyAllowanceRepository;
+    private final RecalculationTaskRepository recalculationTaskRepository;
+    private final SalaryService salaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean asyncMode;
+    private final long debounceMillis;
+    private final long maxDelayMillis;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    // async 모드 전용 상태
+    private final Object asyncLock = new Object();
+    private final ScheduledExecutorService asyncScheduler;
+    private ScheduledFuture<?> asyncFlush;
+    private long asyncFirstPendingAt;
+
+    public RecalculationQueue(WeeklyAllowanceService weeklyAllowanceService,
+                              WeeklyAllowanceRepository weeklyAllowanceRepository,
+                              RecalculationTaskRepository recalculationTaskRepository,
+                              SalaryService salaryService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${wagemanager.recalculation.async:false}") boolean asyncMode,
+                              @Value("${wagemanager.recalculation.debounce-ms:500}") long debounceMillis,
+                              @Value("${wagemanager.recalculation.max-delay-ms:5000}") long maxDelayMillis,
+                              @Value("${wagemanager.recalculation.batch-size:200}") int batchSize,
+                              @Value("${wagemanager.recalculation.poll-ms:10000}") long pollMillis,
+                              @Value("${wagemanager.recalculation.max-attempts:10}") int maxAttempts,
+                              @Value("${wagemanager.recalculation.retry-backoff-ms:30000}") long retryBackoffMillis) {
+        this.weeklyAllowanceService = weeklyAllowanceService;
+        this.weeklyAllowanceRepository = weeklyAllowanceRepository;
+        this.recalculationTaskRepository = recalculationTaskRepository;
+        this.salaryService = salaryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.asyncMode = asyncMode;
+        this.debounceMillis = debounceMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.asyncScheduler = asyncMode
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("recalculation-queue").factory())
+                : null;
+        if (asyncMode) {
+            // 재시작 전에 남은 작업과 재시도 대기 작업 실행
+            asyncScheduler.scheduleWithFixedDelay(this::flushAsync, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * WeeklyAllowance 재계산 예약
+     */
+    public void markAllowanceDirty(Long weeklyAllowanceId) {
+        PendingRecalculations pending = currentPending();
+        if (pending == null) {
+            weeklyAllowanceService.recalculateAllowances(weeklyAllowanceId);
+            return;
+        }
+        pending.addAllowance(weeklyAllowanceId);
+    }
+
+    /**
+     * 삭제될 WeeklyAllowance를 재계산 대상에서 제외
+     */
+    public void forgetAllowance(Long weeklyAllowanceId) {
+        PendingRecalculations pending = currentPending();
+        if (pending != null) {
+            pending.allowanceIds.remove(weeklyAllowanceId);
+        }
+    }
+
+    /**
+     * 급여 재계산 예약 (같은 급여 키의 변경분은 누적)
+     */
+    public void markSalaryDirty(Long contractId, Integer year, Integer month, PayrollCalculator.WorkTotals delta) {
+        PendingRecalculations pending = currentPending();
+        if (pending == null) {
+            applySalaryDelta(new SalaryKey(contractId, year, month), delta);
+            return;
+        }
+        pending.addSalaryDelta(new SalaryKey(contractId, year, month), delta);
+    }
+
+    /**
+     * 현재 트랜잭션의 대기열 (트랜잭션 밖이거나 커밋 직전 실행 중이면 null → 즉시 실행)
+     * 처음 사용될 때 트랜잭션 동기화를 등록한다.
+     */
+    private PendingRecalculations currentPending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        PendingRecalculations pending = (PendingRecalculations) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (pending != null) {
+            return pending.flushing ? null : pending;
+        }
+
+        PendingRecalculations newPending = new PendingRecalculations();
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 실행 중 다시 예약되는 작업은 대기열에 쌓지 않고 즉시 실행
+                newPending.flushing = true;
+                if (asyncMode) {
+                    // 근무 기록 변경과 같은 트랜잭션에 기록 (롤백되면 함께 사라지고, 커밋되면 JVM이 멈춰도 남음)
+                    persistAsync(newPending);
+                } else {
+                    flush(newPending, false);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                if (asyncMode && !newPending.isEmpty()) {
+                    scheduleAsyncFlush();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+            }
+        });
+        return newPending;
+    }
+
+    /**
+     * 모인 재계산 실행 (WeeklyAllowance 먼저, 그 다음 Salary)
+     *
+     * @param skipMissingAllowances 커밋 이후 실행 시 그사이 삭제된 WeeklyAllowance는 건너뜀
+     */
+    private void flush(PendingRecalculations pending, boolean skipMissingAllowances) {
+        for (Long allowanceId : pending.allowanceIds) {
+            if (skipMissingAllowances && !weeklyAllowanceRepository.existsById(allowanceId)) {
+                continue;
+            }
+            weeklyAllowanceService.recalculateAllowances(allowanceId);
+        }
+
+        for (Map.Entry<SalaryKey, PayrollCalculator.WorkTotals> entry : pending.salaryDeltas.entrySet()) {
+            applySalaryDelta(entry.getKey(), entry.getValue());
+        }
+
+        for (SalaryKey key : pending.salaryKeys) {
+            recalculateSalary(key);
+        }
+
+        int salaryCount = pending.salaryDeltas.size() + pending.salaryKeys.size();
+        if (pending.allowanceIds.size() + salaryCount > 0) {
+            log.debug("재계산 실행: WeeklyAllowance {}건, Salary {}건 (예약 {}건)",
+                    pending.allowanceIds.size(), salaryCount, pending.requestCount);
+        }
+    }
+
+    private void applySalaryDelta(SalaryKey key, PayrollCalculator.WorkTotals delta) {
+        try {
+            salaryService.applyWorkRecordDelta(key.contractId(), key.year(), key.month(), delta);
+        } catch (NotFoundException e) {
+            // 급여가 아직 생성되지 않은 경우 무시 (정상 케이스)
+        }
+    }
+
+    private void recalculateSalary(SalaryKey key) {
+        try {
+            salaryService.calculateSalaryByWorkRecords(key.contractId(), key.year(), key.month());
+        } catch (NotFoundException e) {
+            // 기간 내 근무 기록이 없는 경우 무시 (정상 케이스)
+        }
+    }
+
+    private void persistAsync(PendingRecalculations pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<RecalculationTask> tasks = new ArrayList<>(pending.allowanceIds.size() + pending.salaryDeltas.size());
+        pending.allowanceIds.forEach(id -> tasks.add(RecalculationTask.allowance(id, now)));
+        // 변경분은 기록하지 않음: 실행 시점에 전체 재계산
+        pending.salaryDeltas.keySet().forEach(key ->
+                tasks.add(RecalculationTask.salary(key.contractId(), key.year(), key.month(), now)));
+        recalculationTaskRepository.saveAll(tasks);
+    }
+
+    private void scheduleAsyncFlush() {
+        synchronized (asyncLock) {
+            long now = System.currentTimeMillis();
+            if (asyncFlush == null) {
+                asyncFirstPendingAt = now;
+            } else if (now - asyncFirstPendingAt < maxDelayMillis) {
+                // 편집이 이어지는 동안 실행을 미루되, 첫 예약 후 maxDelay를 넘기지는 않음
+                asyncFlush.cancel(false);
+                asyncFlush = null;
+            }
+            if (asyncFlush == null) {
+                long delay = Math.min(debounceMillis, Math.max(0, asyncFirstPendingAt + maxDelayMillis - now));
+                asyncFlush = asyncScheduler.schedule(this::flushAsync, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void flushAsync() {
+        synchronized (asyncLock) {
+            asyncFlush = null;
+        }
+        try {
+            // 가득 찬 배치가 나오면 남은 작업이 더 있을 수 있으므로 이어서 실행
+            int flushed;
+            do {
+                flushed = flushPersisted();
+            } while (flushed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("비동기 재계산 처리 중 오류", e);
+        }
+    }
+
+    /**
+     * 저장된 재계산 작업 한 배치 실행
+     * 배치가 실패하면 한 건씩 다시 실행해, 실패한 작업만 attempts를 늘리고 retry-backoff-ms 이후 재시도한다.
+     *
+     * @return 배치로 실행한 작업 수 (배치가 실패하면 0)
+     */
+    int flushPersisted() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RecalculationTask> tasks = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                tasks.addAll(recalculationTaskRepository.findDue(maxAttempts, now, PageRequest.of(0, batchSize)));
+                if (!tasks.isEmpty()) {
+                    flush(PendingRecalculations.of(tasks), true);
+                    recalculationTaskRepository.deleteAllByIdInBatch(tasks.stream().map(RecalculationTask::getId).toList());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("비동기 재계산 배치 실패, 한 건씩 재시도: {}건", tasks.size(), e);
+            tasks.forEach(task -> flushOne(task.getId(), now));
+            return 0;
+        }
+        return tasks.size();
+    }
+
+    private void flushOne(Long taskId, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    recalculationTaskRepository.findLockedById(taskId).ifPresent(task -> {
+                        flush(PendingRecalculations.of(List.of(task)), true);
+                        recalculationTaskRepository.deleteAllByIdInBatch(List.of(taskId));
+                    }));
+        } catch (RuntimeException e) {
+            log.error("비동기 재계산 실패: 작업 {} (max-attempts 도달 시 SalaryReconciliationScheduler가 보정)", taskId, e);
+            try {
+                transactionTemplate.executeWithoutResult(status -> recalculationTaskRepository.markFailed(
+                        taskId, now.plusNanos(TimeUnit.MILLISECONDS.toNanos(retryBackoffMillis))));
+            } catch (RuntimeException markFailure) {
+                log.error("재계산 작업 재시도 시각 갱신 실패: {}", taskId, markFailure);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (asyncScheduler == null) {
+            return;
+        }
+        // 남은 작업은 recalculation_task에 보존되어 재시작 후 실행됨
+        asyncScheduler.shutdownNow();
+    }
+
+    private record SalaryKey(Long contractId, Integer year, Integer month) {
+    }
+
+    private static final class PendingRecalculations {
+        private final Set<Long> allowanceIds = new LinkedHashSet<>();
+        private final Map<SalaryKey, PayrollCalculator.WorkTotals> salaryDeltas = new LinkedHashMap<>();
+        // 저장된 작업에서 읽은 급여 키 (전체 재계산)
+        private final Set<SalaryKey> salaryKeys = new LinkedHashSet<>();
+        private int requestCount;
+        private boolean flushing;
+
+        void addAllowance(Long weeklyAllowanceId) {
+            allowanceIds.add(weeklyAllowanceId);
+            requestCount++;
+        }
+
+        void addSalaryDelta(SalaryKey key, PayrollCalculator.WorkTotals delta) {
+            salaryDeltas.merge(key, delta, PayrollCalculator.WorkTotals::add);
+            requestCount++;
+        }
+
+        static PendingRecalculations of(List<RecalculationTask> tasks) {
+            PendingRecalculations pending = new PendingRecalculations();
+            for (RecalculationTask task : tasks) {
+                if (task.isAllowance()) {
+                    pending.addAllowance(task.getWeeklyAllowanceId());
+                } else {
+                    pending.salaryKeys.add(new SalaryKey(task.getContractId(), task.getYear(), task.getMonth()));
+                    pending.requestCount++;
+                }
+            }
+            return pending;
+        }
+
+        boolean isEmpty() {
+            return allowanceIds.isEmpty() && salaryDeltas.isEmpty() && salaryKeys.isEmpty();
+        }
+    }
+}
@@ -6,10 +6,14 @@ import com.example.wagemanager.common.exception.NotFoundException;
 import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.contract.service.WorkScheduleCache;
+import com.example.wagemanager.domain.contract.util.CompiledWorkSchedule;
 import com.example.wagemanager.domain.correction.repository.CorrectionRequestRepository;
 import com.example.wagemanager.domain.notification.enums.NotificationActionType;
 import com.example.wagemanager.domain.notification.enums.NotificationType;
 import com.example.wagemanager.domain.notification.event.NotificationEvent;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
 import com.example.wagemanager.domain.user.entity.User;
 import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
@@ -17,26 +21,42 @@ import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
 import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class WorkRecordCommandService {
 
+    // 일괄 수정 한 번에 처리할 수 있는 최대 근무 기록 수
+    private static final int MAX_BULK_UPDATE_SIZE = 500;
+
     private final WorkRecordRepository workRecordRepository;
     private final WorkerContractRepository workerContractRepository;
     private final CorrectionRequestRepository correctionRequestRepository;
     private final WorkRecordCoordinatorService coordinatorService;
     private final WorkRecordGenerationService workRecordGenerationService;
+    private final WorkScheduleCache workScheduleCache;
+    private final ContractWriteSerializer contractWriteSerializer;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
@@ -44,6 +64,7 @@ public class WorkRecordCommandService {
      * SCHEDULED 또는 COMPLETED 상태로 생성
      */
     public WorkRecordDto.Response createWorkRecordByEmployer(WorkRecordDto.CreateRequest request) {
+        contractWriteSerializer.lock(request.getContractId());
         WorkerContract contract = workerContractRepository.findById(request.getContractId())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
 
@@ -81,7 +102,7 @@ public class WorkRecordCommandService {
         if (status == WorkRecordStatus.COMPLETED) {
             // COMPLETED로 생성된 경우 급여 재계산 포함
             coordinatorService.handleWorkRecordCreation(savedRecord);
-            coordinatorService.handleWorkRecordCompletion(savedRecord);
+            coordinatorService.handleWorkRecordCompletion(savedRecord, PayrollCalculator.WorkTotals.ZERO);
         } else {
             // SCHEDULED로 생성된 경우 WeeklyAllowance만 재계산
             coordinatorService.handleWorkRecordCreation(savedRecord);
@@ -107,6 +128,7 @@ public class WorkRecordCommandService {
 
 
     public WorkRecordDto.Response updateWorkRecord(Long workRecordId, WorkRecordDto.UpdateRequest request) {
+        lockContractOf(workRecordId);
         WorkRecord workRecord = workRecordRepository.findById(workRecordId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "근무 기록을 찾을 수 없습니다."));
 
@@ -125,6 +147,9 @@ public class WorkRecordCommandService {
             // 기존 WeeklyAllowance 저장 (나중에 재계산용)
             WeeklyAllowance oldWeeklyAllowance = workRecord.getWeeklyAllowance();
 
+            // 수정 전 급여 기여분 저장 (급여 증분 재계산용)
+            PayrollCalculator.WorkTotals before = PayrollCalculator.WorkTotals.of(workRecord);
+
             // 기존 WeeklyAllowance에서 제거 (양방향 관계 해제)
             if (oldWeeklyAllowance != null) {
                 workRecord.removeFromWeeklyAllowance();
@@ -150,7 +175,7 @@ public class WorkRecordCommandService {
             workRecordRepository.save(workRecord);
 
             // 도메인 간 협력 처리
-            coordinatorService.handleWorkRecordUpdate(workRecord, oldWeeklyAllowance, newWeeklyAllowance);
+            coordinatorService.handleWorkRecordUpdate(workRecord, oldWeeklyAllowance, newWeeklyAllowance, before);
 
             // 근로자에게 변경 알림 전송
             User worker = workRecord.getContract().getWorker().getUser();
@@ -171,13 +196,146 @@ public class WorkRecordCommandService {
     }
 
 
+    /**
+     * 고용주가 여러 계약의 근무 기록을 한 트랜잭션에서 일괄 수정
+     * - 대상: 근무 기록 ID 목록 또는 사업장의 기간(+계약) 필터, 삭제된 근무 기록은 건너뜀
+     * - 변경 내용은 영속성 컨텍스트의 변경 감지로 JDBC 배치 UPDATE
+     * - WeeklyAllowance / Salary 재계산은 RecalculationQueue에서 커밋 직전 대상별로 한 번씩만 실행
+     * - 알림은 근로자별로 한 번만 전송
+     */
+    public WorkRecordDto.BulkUpdateResponse bulkUpdateWorkRecords(WorkRecordDto.BulkUpdateRequest request) {
+        WorkRecordDto.UpdateRequest patch = request.getPatch();
+        if (patch.getStartTime() == null && patch.getEndTime() == null
+                && patch.getBreakMinutes() == null && patch.getMemo() == null) {
+            throw new BadRequestException(ErrorCode.INVALID_BULK_UPDATE_REQUEST, "수정할 내용이 없습니다.");
+        }
+
+        List<WorkRecord> workRecords = findBulkUpdateTargets(request);
+        if (workRecords.size() > MAX_BULK_UPDATE_SIZE) {
+            throw new BadRequestException(ErrorCode.INVALID_BULK_UPDATE_REQUEST,
+                    String.format("한 번에 최대 %d개의 근무 기록만 수정할 수 있습니다.", MAX_BULK_UPDATE_SIZE));
+        }
+
+        // 같은 계약/주의 WeeklyAllowance는 한 번만 조회
+        Map<String, WeeklyAllowance> allowanceCache = new HashMap<>();
+        Map<User, Integer> updatedCountByWorker = new LinkedHashMap<>();
+        int skippedCount = 0;
+
+        for (WorkRecord workRecord : workRecords) {
+            if (workRecord.getStatus() == WorkRecordStatus.DELETED) {
+                skippedCount++;
+                continue;
+            }
+
+            int totalMinutes = calculateWorkMinutes(
+                    LocalDateTime.of(workRecord.getWorkDate(),
+                            patch.getStartTime() != null ? patch.getStartTime() : workRecord.getStartTime()),
+                    LocalDateTime.of(workRecord.getWorkDate(),
+                            patch.getEndTime() != null ? patch.getEndTime() : workRecord.getEndTime()),
+                    patch.getBreakMinutes() != null ? patch.getBreakMinutes() : workRecord.getBreakMinutes()
+            );
+
+            WeeklyAllowance oldWeeklyAllowance = workRecord.getWeeklyAllowance();
+            PayrollCalculator.WorkTotals before = PayrollCalculator.WorkTotals.of(workRecord);
+
+            // 근무일은 바뀌지 않으므로 WeeklyAllowance가 없는 경우에만 조회/생성
+            WeeklyAllowance newWeeklyAllowance = oldWeeklyAllowance;
+            if (newWeeklyAllowance == null) {
+                Long contractId = workRecord.getContract().getId();
+                LocalDate weekStart = workRecord.getWorkDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                newWeeklyAllowance = allowanceCache.computeIfAbsent(contractId + ":" + weekStart,
+                        key -> coordinatorService.getOrCreateWeeklyAllowance(contractId, workRecord.getWorkDate()));
+                workRecord.assignToWeeklyAllowance(newWeeklyAllowance);
+                workRecord.addToWeeklyAllowance();
+            }
+
+            workRecord.updateWorkRecord(
+                    patch.getStartTime(),
+                    patch.getEndTime(),
+                    patch.getBreakMinutes(),
+                    totalMinutes,
+                    patch.getMemo()
+            );
+
+            // 재계산은 대기열에서 중복 제거되어 대상별로 한 번씩만 실행
+            coordinatorService.handleWorkRecordUpdate(workRecord, oldWeeklyAllowance, newWeeklyAllowance, before);
+
+            updatedCountByWorker.merge(workRecord.getContract().getWorker().getUser(), 1, Integer::sum);
+        }
+
+        // 근로자별 변경 알림 전송 (1회씩)
+        updatedCountByWorker.forEach((worker, count) -> {
+            NotificationEvent event = NotificationEvent.builder()
+                    .user(worker)
+                    .type(NotificationType.SCHEDULE_CHANGE)
+                    .title(String.format("%d개의 근무 일정이 수정되었습니다.", count))
+                    .actionType(NotificationActionType.VIEW_WORK_RECORD)
+                    .actionData(null)  // 일괄 수정이므로 특정 레코드 ID 없음
+                    .build();
+            eventPublisher.publishEvent(event);
+        });
+
+        int updatedCount = workRecords.size() - skippedCount;
+        log.info("근무 기록 일괄 수정: Workplace ID={}, 수정 {}건, 건너뜀 {}건, 근로자 {}명",
+                request.getWorkplaceId(), updatedCount, skippedCount, updatedCountByWorker.size());
+
+        return WorkRecordDto.BulkUpdateResponse.builder()
+                .updatedCount(updatedCount)
+                .skippedCount(skippedCount)
+                .notifiedWorkerCount(updatedCountByWorker.size())
+                .build();
+    }
+
+    private List<WorkRecord> findBulkUpdateTargets(WorkRecordDto.BulkUpdateRequest request) {
+        if (request.getWorkRecordIds() != null && !request.getWorkRecordIds().isEmpty()) {
+            List<Long> ids = request.getWorkRecordIds().stream().distinct().toList();
+            if (ids.size() > MAX_BULK_UPDATE_SIZE) {
+                throw new BadRequestException(ErrorCode.INVALID_BULK_UPDATE_REQUEST,
+                        String.format("한 번에 최대 %d개의 근무 기록만 수정할 수 있습니다.", MAX_BULK_UPDATE_SIZE));
+            }
+            contractWriteSerializer.lockAll(workRecordRepository.findContractIdsByIds(ids));
+            List<WorkRecord> workRecords = workRecordRepository.findByIdsAndWorkplaceId(ids, request.getWorkplaceId());
+            if (workRecords.size() != ids.size()) {
+                throw new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "사업장에서 찾을 수 없는 근무 기록이 포함되어 있습니다.");
+            }
+            return workRecords;
+        }
+
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            throw new BadRequestException(ErrorCode.INVALID_BULK_UPDATE_REQUEST, "근무 기록 ID 목록 또는 기간을 입력해주세요.");
+        }
+        if (request.getStartDate().isAfter(request.getEndDate())) {
+            throw new BadRequestException(ErrorCode.INVALID_BULK_UPDATE_REQUEST, "시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        // 계약 필터가 있으면 그 계약만 잠금
+        Set<Long> contractIds = request.getContractIds() == null || request.getContractIds().isEmpty()
+                ? null
+                : new HashSet<>(request.getContractIds());
+        contractWriteSerializer.lockAll(workRecordRepository.findContractIdsByWorkplaceAndDateRange(
+                        request.getWorkplaceId(), request.getStartDate(), request.getEndDate())
+                .stream()
+                .filter(contractId -> contractIds == null || contractIds.contains(contractId))
+                .toList());
+        List<WorkRecord> workRecords = workRecordRepository.findByWorkplaceAndDateRangeWithWorker(
+                request.getWorkplaceId(), request.getStartDate(), request.getEndDate());
+        if (contractIds == null) {
+            return workRecords;
+        }
+        return workRecords.stream()
+                .filter(workRecord -> contractIds.contains(workRecord.getContract().getId()))
+                .toList();
+    }
+
     public void completeWorkRecord(Long workRecordId) {
+        lockContractOf(workRecordId);
         WorkRecord workRecord = workRecordRepository.findById(workRecordId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "근무 기록을 찾을 수 없습니다."));
+        PayrollCalculator.WorkTotals before = PayrollCalculator.WorkTotals.of(workRecord);
         workRecord.complete();
 
         // 근무 완료 시 급여 재계산 (COMPLETED 상태가 되어야 급여에 포함됨)
-        coordinatorService.handleWorkRecordCompletion(workRecord);
+        coordinatorService.handleWorkRecordCompletion(workRecord, before);
     }
 
     /**
@@ -185,6 +343,7 @@ public class WorkRecordCommandService {
      * 실제로 삭제하지 않고 status를 DELETED로 변경
      */
     public void deleteWorkRecord(Long workRecordId) {
+        lockContractOf(workRecordId);
         WorkRecord workRecord = workRecordRepository.findById(workRecordId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "근무 기록을 찾을 수 없습니다."));
 
@@ -224,6 +383,7 @@ public class WorkRecordCommandService {
      * 여러 날짜에 동일한 시간으로 일정 생성
      */
     public WorkRecordDto.BatchCreateResponse createWorkRecordsBatch(WorkRecordDto.BatchCreateRequest request) {
+        contractWriteSerializer.lock(request.getContractId());
         WorkerContract contract = workerContractRepository.findById(request.getContractId())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
 
@@ -269,7 +429,7 @@ public class WorkRecordCommandService {
             // 도메인 간 협력 처리
             if (status == WorkRecordStatus.COMPLETED) {
                 coordinatorService.handleWorkRecordCreation(savedRecord);
-                coordinatorService.handleWorkRecordCompletion(savedRecord);
+                coordinatorService.handleWorkRecordCompletion(savedRecord, PayrollCalculator.WorkTotals.ZERO);
             } else {
                 coordinatorService.handleWorkRecordCreation(savedRecord);
             }
@@ -300,26 +460,158 @@ public class WorkRecordCommandService {
     }
 
     /**
-     * 계약 정보 변경 시 미래 WorkRecord 재생성
-     * - 오늘 이후의 SCHEDULED 상태 WorkRecord 삭제
-     * - 변경된 근무 스케줄로 새로운 WorkRecord 생성
+     * 계약 근무 스케줄 변경 시 미래 WorkRecord에 변경분만 반영
+     * - 이전/새 스케줄의 근무 구간이 같은 요일은 건드리지 않음
+     * - 바뀐 요일은 수정되지 않은 SCHEDULED 근무 기록을 새 근무 구간으로 옮기고 (ID, 주휴수당, 정정 요청 유지)
+     *   남는 근무 구간은 새로 생성, 남는 근무 기록은 삭제
+     * - 근무자가 수정했거나 SCHEDULED가 아닌 근무 기록이 있는 날짜는 그대로 둠
+     * - 바뀐 요일의 근무 기록은 WorkRecordGenerationService와 같이 새 스케줄의 근무 구간 순번을 schedule_slot으로 가짐
+     * - 옮기거나 생성/삭제한 근무 기록의 WeeklyAllowance는 단건 생성/수정/삭제와 같은 경로로 재계산
+     * 새 근무 기록은 기존과 같이 오늘+1 ~ 2개월 뒤(가상 스케줄 모드에서는 materialize-ahead-days)까지만 생성한다.
+     *
+     * @param previousSchedule 변경 전 컴파일된 근무 스케줄
      */
-    public void regenerateFutureWorkRecords(Long contractId) {
+    public void regenerateFutureWorkRecords(Long contractId, CompiledWorkSchedule previousSchedule) {
+        contractWriteSerializer.lock(contractId);
         WorkerContract contract = workerContractRepository.findById(contractId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.CONTRACT_NOT_FOUND, "계약을 찾을 수 없습니다."));
+        CompiledWorkSchedule schedule = workScheduleCache.get(contract);
+
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.plusDays(1);
+        LocalDate generateEnd = workRecordGenerationService.materializationEnd(startDate, startDate.plusMonths(2));
+        if (contract.getContractEndDate() != null && contract.getContractEndDate().isBefore(generateEnd)) {
+            generateEnd = contract.getContractEndDate();
+        }
+
+        TreeMap<LocalDate, List<WorkRecord>> recordsByDate = workRecordRepository.findByContractIdAndWorkDateAfter(contractId, today)
+                .stream()
+                .collect(Collectors.groupingBy(WorkRecord::getWorkDate, TreeMap::new, Collectors.toList()));
+        // 생성 범위 밖에 이미 만들어진 근무 기록도 변경 대상
+        LocalDate lastDate = !recordsByDate.isEmpty() && recordsByDate.lastKey().isAfter(generateEnd)
+                ? recordsByDate.lastKey()
+                : generateEnd;
+
+        // 같은 주의 WeeklyAllowance는 한 번만 조회
+        Map<LocalDate, WeeklyAllowance> allowanceCache = new HashMap<>();
+        // 순번이 바뀌는 근무 기록 → 새 순번 (자리를 맞바꾸는 경우를 위해 비운 뒤 한 번에 지정)
+        Map<WorkRecord, Integer> reslotted = new LinkedHashMap<>();
+        int rescheduledCount = 0;
+        List<WorkRecord> created = new ArrayList<>();
+        List<WorkRecord> removed = new ArrayList<>();
+        for (LocalDate workDate = startDate; !workDate.isAfter(lastDate); workDate = workDate.plusDays(1)) {
+            if (schedule.hasSameShifts(previousSchedule, workDate.getDayOfWeek())) {
+                continue;
+            }
+            List<WorkRecord> records = recordsByDate.getOrDefault(workDate, List.of());
+            boolean userOwned = records.stream()
+                    .anyMatch(record -> record.getStatus() != WorkRecordStatus.SCHEDULED || Boolean.TRUE.equals(record.getIsModified()));
+            if (userOwned) {
+                continue;
+            }
+
+            // 새 스케줄과 시간이 같은 근무 기록은 그대로 유지 (순번만 새 스케줄 기준으로 맞춤)
+            List<CompiledWorkSchedule.Shift> shifts = schedule.shiftsOn(workDate.getDayOfWeek());
+            List<Integer> unmatchedSlots = new ArrayList<>();
+            for (int slot = 0; slot < shifts.size(); slot++) {
+                unmatchedSlots.add(slot);
+            }
+            List<WorkRecord> unmatchedRecords = new ArrayList<>();
+            for (WorkRecord record : records) {
+                Integer same = unmatchedSlots.stream()
+                        .filter(slot -> shifts.get(slot).matches(record.getStartTime(), record.getEndTime()))
+                        .findFirst()
+                        .orElse(null);
+                if (same != null) {
+                    unmatchedSlots.remove(same);
+                    reslot(record, same, reslotted);
+                } else {
+                    unmatchedRecords.add(record);
+                }
+            }
+
+            // 남은 근무 기록은 남은 근무 구간으로 옮기고, 그래도 남으면 생성/삭제
+            int paired = Math.min(unmatchedRecords.size(), unmatchedSlots.size());
+            for (int i = 0; i < paired; i++) {
+                WorkRecord record = unmatchedRecords.get(i);
+                int slot = unmatchedSlots.get(i);
+                CompiledWorkSchedule.Shift shift = shifts.get(slot);
+
+                WeeklyAllowance oldWeeklyAllowance = record.getWeeklyAllowance();
+                PayrollCalculator.WorkTotals before = PayrollCalculator.WorkTotals.of(record);
+
+                // 근무일은 바뀌지 않으므로 WeeklyAllowance가 없는 경우에만 조회/생성
+                WeeklyAllowance newWeeklyAllowance = oldWeeklyAllowance;
+                if (newWeeklyAllowance == null) {
+                    newWeeklyAllowance = weeklyAllowanceOf(contractId, workDate, allowanceCache);
+                    record.assignToWeeklyAllowance(newWeeklyAllowance);
+                    record.addToWeeklyAllowance();
+                }
+
+                record.reschedule(shift.startTime(), shift.endTime());
+                reslot(record, slot, reslotted);
+                coordinatorService.handleWorkRecordUpdate(record, oldWeeklyAllowance, newWeeklyAllowance, before);
+                rescheduledCount++;
+            }
+            removed.addAll(unmatchedRecords.subList(paired, unmatchedRecords.size()));
+            if (!workDate.isAfter(generateEnd)) {
+                for (int slot : unmatchedSlots.subList(paired, unmatchedSlots.size())) {
+                    CompiledWorkSchedule.Shift shift = shifts.get(slot);
+                    created.add(WorkRecord.builder()
+                            .contract(contract)
+                            .workDate(workDate)
+                            .scheduleSlot(slot)
+                            .startTime(shift.startTime())
+                            .endTime(shift.endTime())
+                            .status(WorkRecordStatus.SCHEDULED)
+                            .weeklyAllowance(weeklyAllowanceOf(contractId, workDate, allowanceCache))
+                            .build());
+                }
+            }
+        }
+
+        // 순번을 먼저 비워 두어 옮겨 가는 순번이 아직 다른 근무 기록(삭제 대상 포함)에 남아 있어도 충돌하지 않게 함
+        if (!reslotted.isEmpty()) {
+            reslotted.keySet().forEach(record -> record.assignScheduleSlot(null));
+            workRecordRepository.flush();
+        }
+        if (!removed.isEmpty()) {
+            List<Long> removedIds = removed.stream().map(WorkRecord::getId).toList();
+            // 삭제할 WorkRecord를 참조하는 CorrectionRequest 먼저 삭제
+            correctionRequestRepository.deleteByWorkRecordIds(removedIds);
+            removed.forEach(WorkRecord::removeFromWeeklyAllowance);
+            workRecordRepository.deleteAllByIdInBatch(removedIds);
+        }
+        reslotted.forEach(WorkRecord::assignScheduleSlot);
+        if (!created.isEmpty()) {
+            workRecordRepository.saveAll(created);
+            coordinatorService.handleBatchWorkRecordCreation(created);
+        }
+        // 같은 주에 생성된 근무 기록이 연결된 뒤에 처리해야 아직 쓰이는 WeeklyAllowance를 지우지 않음
+        removed.forEach(record -> coordinatorService.handleWorkRecordDeletion(
+                record.getWeeklyAllowance(), record, record.getStatus()));
+        log.info("근무 스케줄 변경 반영: Contract ID={}, 변경 {}건, 생성 {}건, 삭제 {}건",
+                contractId, rescheduledCount, created.size(), removed.size());
+    }
 
-        // 삭제할 WorkRecord를 참조하는 CorrectionRequest 삭제
-        correctionRequestRepository.deleteByWorkRecordContractAndDateAfterAndStatus(
-                contractId, LocalDate.now(), WorkRecordStatus.SCHEDULED);
+    private void reslot(WorkRecord record, int slot, Map<WorkRecord, Integer> reslotted) {
+        if (record.getScheduleSlot() == null || record.getScheduleSlot() != slot) {
+            reslotted.put(record, slot);
+        }
+    }
 
-        // 오늘 이후의 SCHEDULED 상태 WorkRecord 삭제
-        workRecordRepository.deleteByContractIdAndWorkDateAfterAndStatus(
-                contractId, LocalDate.now(), WorkRecordStatus.SCHEDULED);
+    private WeeklyAllowance weeklyAllowanceOf(Long contractId, LocalDate workDate, Map<LocalDate, WeeklyAllowance> allowanceCache) {
+        LocalDate weekStart = workDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return allowanceCache.computeIfAbsent(weekStart,
+                key -> coordinatorService.getOrCreateWeeklyAllowance(contractId, workDate));
+    }
 
-        // 새로운 WorkRecord 생성 (오늘+1 ~ 2개월 뒤)
-        LocalDate startDate = LocalDate.now().plusDays(1);
-        LocalDate endDate = startDate.plusMonths(2);
-        workRecordGenerationService.generateWorkRecordsForPeriod(contract, startDate, endDate);
+    /**
+     * 근무 기록을 읽기 전에 계약 쓰기 락 보유
+     * 락을 기다리는 동안 다른 트랜잭션이 바꾼 근무 기록을 읽지 않도록 계약 ID만 먼저 조회한다.
+     */
+    private void lockContractOf(Long workRecordId) {
+        workRecordRepository.findContractIdById(workRecordId).ifPresent(contractWriteSerializer::lock);
     }
 
     private int calculateWorkMinutes(LocalDateTime start, LocalDateTime end, int breakMinutes) {
@@ -1,12 +1,13 @@
 package com.example.wagemanager.domain.workrecord.service;
 
-import com.example.wagemanager.common.exception.NotFoundException;
 import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
 import com.example.wagemanager.domain.allowance.service.WeeklyAllowanceService;
-import com.example.wagemanager.domain.salary.service.SalaryService;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import com.example.wagemanager.domain.workrecord.event.WorkRecordChangedEvent;
 import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,8 @@ import java.util.List;
 
 /**
  * 근무 기록과 다른 도메인(WeeklyAllowance, Salary) 간의 협력을 조율하는 서비스
+ * 수당/급여 재계산은 RecalculationQueue에 예약되어 트랜잭션 커밋 직전에 한 번씩만 실행된다.
+ * 변경된 근무일은 WorkRecordChangedEvent로 알려 사업장 캘린더 캐시를 무효화한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -22,7 +25,8 @@ import java.util.List;
 public class WorkRecordCoordinatorService {
 
     private final WeeklyAllowanceService weeklyAllowanceService;
-    private final SalaryService salaryService;
+    private final RecalculationQueue recalculationQueue;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 근무 기록 생성 시 WeeklyAllowance 연동 처리
@@ -30,13 +34,15 @@ public class WorkRecordCoordinatorService {
      * DELETED 상태는 수당 재계산 제외
      */
     public void handleWorkRecordCreation(WorkRecord workRecord) {
+        publishChanged(workRecord);
+
         // 양방향 관계 동기화
         workRecord.addToWeeklyAllowance();
 
         // DELETED 상태는 WeeklyAllowance 재계산 제외
         if (workRecord.getStatus() != WorkRecordStatus.DELETED) {
             // WeeklyAllowance의 수당 재계산 (SCHEDULED, COMPLETED만 주휴수당 계산에 포함)
-            weeklyAllowanceService.recalculateAllowances(workRecord.getWeeklyAllowance().getId());
+            recalculationQueue.markAllowanceDirty(workRecord.getWeeklyAllowance().getId());
         }
     }
 
@@ -45,6 +51,8 @@ public class WorkRecordCoordinatorService {
      * SCHEDULED 상태로 생성되므로 급여 재계산 불필요
      */
     public void handleBatchWorkRecordCreation(List<WorkRecord> workRecords) {
+        workRecords.forEach(this::publishChanged);
+
         // 양방향 관계 동기화
         workRecords.forEach(WorkRecord::addToWeeklyAllowance);
 
@@ -52,27 +60,32 @@ public class WorkRecordCoordinatorService {
         workRecords.stream()
                 .map(WorkRecord::getWeeklyAllowance)
                 .distinct()
-                .forEach(allowance -> weeklyAllowanceService.recalculateAllowances(allowance.getId()));
+                .forEach(allowance -> recalculationQueue.markAllowanceDirty(allowance.getId()));
     }
 
     /**
      * 근무 기록 수정 시 WeeklyAllowance 재할당 및 재계산 처리
      * COMPLETED 상태일 때만 급여 재계산
+     *
+     * @param before 수정 전 근무 기록의 급여 기여분 (PayrollCalculator.WorkTotals.of로 수정 전에 캡처)
      */
-    public void handleWorkRecordUpdate(WorkRecord workRecord, WeeklyAllowance oldWeeklyAllowance, WeeklyAllowance newWeeklyAllowance) {
+    public void handleWorkRecordUpdate(WorkRecord workRecord, WeeklyAllowance oldWeeklyAllowance, WeeklyAllowance newWeeklyAllowance,
+                                       PayrollCalculator.WorkTotals before) {
+        publishChanged(workRecord);
+
         // 기존 WeeklyAllowance 수당 재계산 (다른 WeeklyAllowance였다면)
         if (oldWeeklyAllowance != null && newWeeklyAllowance != null && !oldWeeklyAllowance.getId().equals(newWeeklyAllowance.getId())) {
-            weeklyAllowanceService.recalculateAllowances(oldWeeklyAllowance.getId());
+            recalculationQueue.markAllowanceDirty(oldWeeklyAllowance.getId());
         }
 
         // 새로운 WeeklyAllowance 수당 재계산 (null이 아닐 때만)
         if (newWeeklyAllowance != null) {
-            weeklyAllowanceService.recalculateAllowances(newWeeklyAllowance.getId());
+            recalculationQueue.markAllowanceDirty(newWeeklyAllowance.getId());
         }
 
         // COMPLETED 상태일 때만 급여 재계산
         if (workRecord.getStatus() == WorkRecordStatus.COMPLETED) {
-            recalculateSalaryForWorkRecord(workRecord);
+            recalculateSalaryForWorkRecord(workRecord, PayrollCalculator.WorkTotals.of(workRecord).subtract(before));
         }
     }
 
@@ -81,38 +94,46 @@ public class WorkRecordCoordinatorService {
      * COMPLETED 상태의 근무 기록이 삭제되면 급여도 재계산
      */
     public void handleWorkRecordDeletion(WeeklyAllowance weeklyAllowance, WorkRecord workRecord, WorkRecordStatus deletedStatus) {
+        publishChanged(workRecord);
+
         // WeeklyAllowance가 비어있으면 삭제
         if (weeklyAllowance != null) {
             // 양방향 관계가 이미 해제되었으므로 컬렉션만 확인
             if (weeklyAllowance.getWorkRecords().isEmpty()) {
-                // WorkRecord가 없으면 WeeklyAllowance 삭제
+                // WorkRecord가 없으면 WeeklyAllowance 삭제 (앞서 예약된 재계산도 취소)
+                recalculationQueue.forgetAllowance(weeklyAllowance.getId());
                 weeklyAllowanceService.deleteWeeklyAllowance(weeklyAllowance.getId());
             } else {
                 // WorkRecord가 남아있으면 수당 재계산
-                weeklyAllowanceService.recalculateAllowances(weeklyAllowance.getId());
+                recalculationQueue.markAllowanceDirty(weeklyAllowance.getId());
             }
         }
 
-        // COMPLETED 상태의 근무 기록이 삭제된 경우 급여 재계산
+        // COMPLETED 상태의 근무 기록이 삭제된 경우 급여 재계산 (기존 기여분 전체를 차감)
         if (deletedStatus == WorkRecordStatus.COMPLETED) {
-            recalculateSalaryForWorkRecord(workRecord);
+            recalculateSalaryForWorkRecord(workRecord,
+                    PayrollCalculator.WorkTotals.ZERO.subtract(PayrollCalculator.WorkTotals.valuesOf(workRecord)));
         }
     }
 
     /**
      * 근무 완료 처리 시 급여 재계산
      * SCHEDULED → COMPLETED 상태 변경 시에만 급여에 반영
+     *
+     * @param before 완료 처리 전 근무 기록의 급여 기여분 (신규 생성이면 WorkTotals.ZERO)
      */
-    public void handleWorkRecordCompletion(WorkRecord workRecord) {
+    public void handleWorkRecordCompletion(WorkRecord workRecord, PayrollCalculator.WorkTotals before) {
+        publishChanged(workRecord);
+
         // 급여 재계산 (COMPLETED 상태가 된 근무 기록이 급여에 포함됨)
-        recalculateSalaryForWorkRecord(workRecord);
+        recalculateSalaryForWorkRecord(workRecord, PayrollCalculator.WorkTotals.of(workRecord).subtract(before));
     }
 
     /**
      * 근무 기록 변경 시 해당 월의 급여 재계산
-     * workDate와 paymentDay를 기준으로 해당 급여의 year/month를 계산하여 재계산
+     * workDate와 paymentDay를 기준으로 해당 급여의 year/month를 계산하여 변경분을 반영
      */
-    private void recalculateSalaryForWorkRecord(WorkRecord workRecord) {
+    private void recalculateSalaryForWorkRecord(WorkRecord workRecord, PayrollCalculator.WorkTotals delta) {
         LocalDate workDate = workRecord.getWorkDate();
         Integer paymentDay = workRecord.getContract().getPaymentDay();
 
@@ -127,12 +148,12 @@ public class WorkRecordCoordinatorService {
             month = nextMonth.getMonthValue();
         }
 
-        try {
-            salaryService.recalculateSalaryAfterWorkRecordUpdate(
-                    workRecord.getContract().getId(), year, month);
-        } catch (NotFoundException e) {
-            // 급여가 아직 생성되지 않은 경우 무시 (정상 케이스)
-        }
+        recalculationQueue.markSalaryDirty(workRecord.getContract().getId(), year, month, delta);
+    }
+
+    private void publishChanged(WorkRecord workRecord) {
+        eventPublisher.publishEvent(new WorkRecordChangedEvent(
+                workRecord.getContract().getWorkplace().getId(), workRecord.getWorkDate()));
     }
 
     /**
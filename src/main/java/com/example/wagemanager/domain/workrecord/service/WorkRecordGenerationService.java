@@ -1,22 +1,27 @@
 package com.example.wagemanager.domain.workrecord.service;
 
-import com.example.wagemanager.domain.contract.dto.WorkScheduleDto;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.service.WorkScheduleCache;
+import com.example.wagemanager.domain.contract.util.CompiledWorkSchedule;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
 import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
+import com.example.wagemanager.domain.workrecord.event.WorkRecordChangedEvent;
 import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -24,15 +29,45 @@ import java.util.List;
 public class WorkRecordGenerationService {
 
     private final WorkRecordRepository workRecordRepository;
-    private final ObjectMapper objectMapper;
+    private final WorkScheduleCache workScheduleCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 가상 스케줄 모드: 가까운 미래만 근무 기록으로 만들고 나머지는 조회 시 계약 스케줄로 계산
+    @Value("${wagemanager.work-record.virtual-schedule:false}")
+    private boolean virtualSchedule;
+
+    @Value("${wagemanager.work-record.virtual.materialize-ahead-days:7}")
+    private int materializeAheadDays;
+
+    public boolean isVirtualSchedule() {
+        return virtualSchedule;
+    }
+
+    public int getMaterializeAheadDays() {
+        return materializeAheadDays;
+    }
+
+    /**
+     * 실제로 근무 기록을 만들 기간의 마지막 날짜
+     * 가상 스케줄 모드에서는 오늘(또는 시작일)부터 materialize-ahead-days 이후까지만 만든다.
+     */
+    public LocalDate materializationEnd(LocalDate startDate, LocalDate endDate) {
+        if (!virtualSchedule) {
+            return endDate;
+        }
+        LocalDate base = startDate.isAfter(LocalDate.now()) ? startDate : LocalDate.now();
+        LocalDate limit = base.plusDays(materializeAheadDays);
+        return limit.isBefore(endDate) ? limit : endDate;
+    }
 
     /**
      * 계약 생성 시 2개월치 WorkRecord 생성
+     * (가상 스케줄 모드에서는 materialize-ahead-days까지만 생성)
      */
     @Transactional
     public void generateInitialWorkRecords(WorkerContract contract) {
         LocalDate startDate = contract.getContractStartDate();
-        LocalDate endDate = startDate.plusMonths(2);
+        LocalDate endDate = materializationEnd(startDate, startDate.plusMonths(2));
         generateWorkRecordsForPeriod(contract, startDate, endDate);
         log.info("초기 2개월치 WorkRecord 생성 완료: Contract ID={}, 기간={} ~ {}", contract.getId(), startDate, endDate);
     }
@@ -43,69 +78,76 @@ public class WorkRecordGenerationService {
      */
     @Transactional
     public void generateTwoMonthsLaterWorkRecords(WorkerContract contract) {
-        // 2개월 뒤의 첫 날부터 마지막 날까지
-        LocalDate twoMonthsLaterStart = LocalDate.now().plusMonths(2).with(TemporalAdjusters.firstDayOfMonth());
-        LocalDate twoMonthsLaterEnd = twoMonthsLaterStart.with(TemporalAdjusters.lastDayOfMonth());
+        generateWorkRecordsForMonth(contract, YearMonth.now().plusMonths(2));
+    }
+
+    /**
+     * 특정 월의 첫 날부터 마지막 날까지 WorkRecord 생성
+     * 이미 근무 기록이 있는 날짜는 건너뛰므로 같은 월에 다시 실행해도 안전하다.
+     */
+    @Transactional
+    public void generateWorkRecordsForMonth(WorkerContract contract, YearMonth month) {
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.atEndOfMonth();
 
-        generateWorkRecordsForPeriod(contract, twoMonthsLaterStart, twoMonthsLaterEnd);
-        log.info("2개월 뒤 WorkRecord 생성 완료: Contract ID={}, 기간={} ~ {}", contract.getId(), twoMonthsLaterStart, twoMonthsLaterEnd);
+        generateWorkRecordsForPeriod(contract, monthStart, monthEnd);
+        log.debug("월별 WorkRecord 생성 완료: Contract ID={}, 기간={} ~ {}", contract.getId(), monthStart, monthEnd);
     }
 
     /**
      * 특정 기간 동안의 WorkRecord 생성
+     * - 기간 내 이미 근무 기록이 있는 날짜를 한 번에 조회한 뒤 메모리에서 스케줄과 비교
+     * - 새 근무 기록은 JDBC 배치로 일괄 삽입
      */
     @Transactional
     public void generateWorkRecordsForPeriod(WorkerContract contract, LocalDate startDate, LocalDate endDate) {
-        List<WorkScheduleDto> schedules = parseWorkSchedules(contract.getWorkSchedules());
+        CompiledWorkSchedule schedule = workScheduleCache.get(contract);
 
-        List<WorkRecord> workRecords = new ArrayList<>();
-        LocalDate currentDate = startDate;
+        // 계약 종료일이 있는 경우, 종료일 이후는 생성하지 않음
+        LocalDate lastDate = endDate;
+        if (contract.getContractEndDate() != null && contract.getContractEndDate().isBefore(lastDate)) {
+            lastDate = contract.getContractEndDate();
+        }
+        if (schedule.isEmpty() || startDate.isAfter(lastDate)) {
+            return;
+        }
 
-        while (!currentDate.isAfter(endDate)) {
-            // 계약 종료일이 있는 경우, 종료일 이후는 생성하지 않음
-            if (contract.getContractEndDate() != null && currentDate.isAfter(contract.getContractEndDate())) {
-                break;
-            }
+        // 이미 WorkRecord가 있는 날짜
+        Set<LocalDate> occupiedDates = new HashSet<>(
+                workRecordRepository.findWorkDatesByContractAndDateRange(contract.getId(), startDate, lastDate));
 
-            // 현재 날짜의 요일에 해당하는 스케줄 찾기
-            int dayOfWeekValue = currentDate.getDayOfWeek().getValue();
-            final LocalDate workDate = currentDate; // 람다에서 사용하기 위한 final 변수
-
-            for (WorkScheduleDto schedule : schedules) {
-                if (schedule.getDayOfWeek().equals(dayOfWeekValue)) {
-                    // 이미 해당 날짜에 WorkRecord가 있는지 확인
-                    boolean exists = workRecordRepository.existsByContractAndWorkDate(contract, workDate);
-                    if (!exists) {
-                        WorkRecord workRecord = WorkRecord.builder()
-                                .contract(contract)
-                                .workDate(workDate)
-                                .startTime(LocalTime.parse(schedule.getStartTime()))
-                                .endTime(LocalTime.parse(schedule.getEndTime()))
-                                .status(WorkRecordStatus.SCHEDULED)
-                                .build();
-                        workRecords.add(workRecord);
-                    }
-                }
+        List<WorkRecord> workRecords = new ArrayList<>();
+        for (LocalDate workDate = startDate; !workDate.isAfter(lastDate); workDate = workDate.plusDays(1)) {
+            if (occupiedDates.contains(workDate)) {
+                continue;
             }
 
-            currentDate = currentDate.plusDays(1);
+            // 현재 날짜의 요일에 해당하는 근무 구간 (구간 순번은 중복 생성 방지용 유니크 키)
+            List<CompiledWorkSchedule.Shift> shifts = schedule.shiftsOn(workDate.getDayOfWeek());
+            for (int slot = 0; slot < shifts.size(); slot++) {
+                CompiledWorkSchedule.Shift shift = shifts.get(slot);
+                WorkRecord workRecord = WorkRecord.builder()
+                        .contract(contract)
+                        .workDate(workDate)
+                        .scheduleSlot(slot)
+                        .startTime(shift.startTime())
+                        .endTime(shift.endTime())
+                        .status(WorkRecordStatus.SCHEDULED)
+                        .build();
+                workRecords.add(workRecord);
+            }
         }
 
         if (!workRecords.isEmpty()) {
-            workRecordRepository.saveAll(workRecords);
-            log.info("WorkRecord 생성 완료: {} 개 생성됨 (Contract ID={})", workRecords.size(), contract.getId());
-        }
-    }
+            int inserted = workRecordRepository.batchInsert(workRecords);
+            log.info("WorkRecord 생성 완료: {} 개 생성됨 (Contract ID={})", inserted, contract.getId());
 
-    /**
-     * JSON 문자열을 WorkScheduleDto 리스트로 파싱
-     */
-    private List<WorkScheduleDto> parseWorkSchedules(String workSchedulesJson) {
-        try {
-            return objectMapper.readValue(workSchedulesJson, new TypeReference<List<WorkScheduleDto>>() {});
-        } catch (Exception e) {
-            log.error("WorkSchedule 파싱 실패: {}", workSchedulesJson, e);
-            throw new RuntimeException("근무 스케줄 파싱 중 오류가 발생했습니다.", e);
+            // 캘린더 캐시 무효화: 생성된 근무일이 속한 주마다 한 번씩
+            Long workplaceId = contract.getWorkplace().getId();
+            workRecords.stream()
+                    .map(workRecord -> workRecord.getWorkDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)))
+                    .distinct()
+                    .forEach(weekStart -> eventPublisher.publishEvent(new WorkRecordChangedEvent(workplaceId, weekStart)));
         }
     }
 }
@@ -0,0 +1,296 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.global.batch.BoundedParallelExecutor;
+import com.example.wagemanager.global.batch.JobCheckpoint;
+import com.example.wagemanager.global.batch.JobCheckpointFailure;
+import com.example.wagemanager.global.batch.JobCheckpointFailureRepository;
+import com.example.wagemanager.global.batch.JobCheckpointRepository;
+import com.example.wagemanager.global.batch.SchedulerLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 활성 계약 전체의 월별 WorkRecord 생성 작업 (2개월치 근무 일정 유지)
+ *
+ * - 활성 계약 ID를 키셋 페이지(id > 마지막 ID)로 읽어 전체 계약을 한 번에 메모리에 올리지 않음
+ * - 페이지마다 별도 트랜잭션으로 생성하여 트랜잭션과 영속성 컨텍스트 크기를 페이지 단위로 제한
+ * - 페이지는 BoundedParallelExecutor에서 병렬 처리하고, 한 번에 처리한 페이지 묶음이 모두 끝나면
+ *   마지막 계약 ID를 JobCheckpoint에 기록 (중단되면 기록된 ID 이후부터 재개, 최대 한 묶음만 다시 처리)
+ * - 실패한 계약은 진행 지점과 같은 트랜잭션에서 JobCheckpointFailure로 남기고, 전체 계약을 처리한 뒤 한 건씩 재시도
+ *   (max-attempts 전까지는 실행을 완료 처리하지 않으므로 resumeIncomplete에서 다시 재시도)
+ * - 여러 노드 중 리스를 획득한 한 곳에서만 실행 (같은 노드의 겹치는 실행도 리스로 차단)
+ * - 가상 스케줄 모드에서는 월 단위 대신 가까운 기간(generatePeriod)만 매일 생성
+ * 생성은 이미 근무 기록이 있는 날짜를 건너뛰고, 리스가 만료되어 두 노드가 같은 계약을 동시에 생성하더라도
+ * (계약, 날짜, 근무 구간 순번) 유니크 키로 한쪽 트랜잭션이 실패하므로 중복 생성되지 않는다.
+ */
+@Slf4j
+@Service
+public class WorkRecordHorizonService {
+
+    static final String JOB_NAME = "work-record-horizon";
+    private static final String PERIOD_DELIMITER = "~";
+
+    private final WorkerContractRepository workerContractRepository;
+    private final WorkRecordGenerationService workRecordGenerationService;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobCheckpointFailureRepository jobCheckpointFailureRepository;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final BoundedParallelExecutor workRecordExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+    private final int pagesPerCheckpoint;
+    private final Duration leaseTtl;
+    private final int maxAttempts;
+
+    public WorkRecordHorizonService(WorkerContractRepository workerContractRepository,
+                                    WorkRecordGenerationService workRecordGenerationService,
+                                    JobCheckpointRepository jobCheckpointRepository,
+                                    JobCheckpointFailureRepository jobCheckpointFailureRepository,
+                                    SchedulerLeaseManager schedulerLeaseManager,
+                                    @Qualifier("workRecordExecutor") BoundedParallelExecutor workRecordExecutor,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${wagemanager.work-record.horizon.page-size:200}") int pageSize,
+                                    @Value("${wagemanager.work-record.horizon.parallelism:4}") int pagesPerCheckpoint,
+                                    @Value("${wagemanager.work-record.horizon.lease-ttl-ms:900000}") long leaseTtlMs,
+                                    @Value("${wagemanager.work-record.horizon.max-attempts:3}") int maxAttempts) {
+        this.workerContractRepository = workerContractRepository;
+        this.workRecordGenerationService = workRecordGenerationService;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.jobCheckpointFailureRepository = jobCheckpointFailureRepository;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.workRecordExecutor = workRecordExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pageSize = pageSize;
+        this.pagesPerCheckpoint = pagesPerCheckpoint;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 모든 활성 계약에 대해 해당 월 WorkRecord 생성 (이미 완료된 월이면 건너뜀)
+     */
+    public void generateMonth(YearMonth month) {
+        generate(month.toString(), contract -> workRecordGenerationService.generateWorkRecordsForMonth(contract, month));
+    }
+
+    /**
+     * 모든 활성 계약에 대해 기간 내 WorkRecord 생성 (가상 스케줄 모드의 일별 생성, 이미 완료된 기간이면 건너뜀)
+     */
+    public void generatePeriod(LocalDate startDate, LocalDate endDate) {
+        generate(startDate + PERIOD_DELIMITER + endDate,
+                contract -> workRecordGenerationService.generateWorkRecordsForPeriod(contract, startDate, endDate));
+    }
+
+    /**
+     * 중단된 실행 재개
+     */
+    public void resumeIncomplete() {
+        List<String> runKeys = transactionTemplate.execute(status ->
+                jobCheckpointRepository.findByJobNameAndCompletedFalseOrderByIdAsc(JOB_NAME)
+                        .stream()
+                        .map(JobCheckpoint::getRunKey)
+                        .toList());
+        if (runKeys == null) {
+            return;
+        }
+        for (String runKey : runKeys) {
+            log.info("중단된 WorkRecord 생성 작업 재개: {}", runKey);
+            int delimiter = runKey.indexOf(PERIOD_DELIMITER);
+            if (delimiter < 0) {
+                generateMonth(YearMonth.parse(runKey));
+            } else {
+                generatePeriod(LocalDate.parse(runKey.substring(0, delimiter)),
+                        LocalDate.parse(runKey.substring(delimiter + 1)));
+            }
+        }
+    }
+
+    private void generate(String runKey, Consumer<WorkerContract> generator) {
+        if (!schedulerLeaseManager.tryAcquire(JOB_NAME, leaseTtl)) {
+            log.info("다른 노드에서 WorkRecord 생성 작업 실행 중: {}", runKey);
+            return;
+        }
+        try {
+            runWithLease(runKey, generator);
+        } finally {
+            schedulerLeaseManager.release(JOB_NAME);
+        }
+    }
+
+    private void runWithLease(String runKey, Consumer<WorkerContract> generator) {
+        JobCheckpoint checkpoint = transactionTemplate.execute(status ->
+                jobCheckpointRepository.findByJobNameAndRunKey(JOB_NAME, runKey)
+                        .orElseGet(() -> jobCheckpointRepository.save(JobCheckpoint.of(JOB_NAME, runKey))));
+        if (checkpoint.isCompleted()) {
+            log.info("이미 완료된 WorkRecord 생성 작업: {}", runKey);
+            return;
+        }
+
+        Long checkpointId = checkpoint.getId();
+        long cursor = checkpoint.getLastProcessedId();
+        log.info("===== WorkRecord 생성 작업 시작: {} (계약 ID {} 이후부터) =====", runKey, cursor);
+
+        while (true) {
+            List<List<Long>> pages = nextPages(cursor);
+            if (pages.isEmpty()) {
+                break;
+            }
+
+            List<PageResult> results = workRecordExecutor.invokeAll(pages, page -> processPage(page, generator));
+
+            int processed = results.stream().mapToInt(PageResult::processed).sum();
+            List<Long> failedIds = results.stream().flatMap(result -> result.failedIds().stream()).toList();
+            List<Long> lastPage = pages.get(pages.size() - 1);
+            long lastId = lastPage.get(lastPage.size() - 1);
+            // 실패한 계약은 진행 지점과 함께 기록 (진행 지점이 실패한 계약을 지나가도 잃어버리지 않음)
+            transactionTemplate.executeWithoutResult(status -> {
+                jobCheckpointRepository.findById(checkpointId)
+                        .ifPresent(cp -> cp.advance(lastId, processed, failedIds.size()));
+                jobCheckpointFailureRepository.saveAll(failedIds.stream()
+                        .map(contractId -> JobCheckpointFailure.of(checkpointId, contractId))
+                        .toList());
+            });
+            cursor = lastId;
+
+            if (!schedulerLeaseManager.renew(JOB_NAME, leaseTtl)) {
+                log.warn("WorkRecord 생성 작업 리스를 잃어 중단: {} (계약 ID {}까지 처리)", runKey, cursor);
+                return;
+            }
+        }
+
+        if (!retryFailures(checkpointId, generator)) {
+            log.warn("WorkRecord 생성 실패 계약 재시도 대기: {}", runKey);
+            return;
+        }
+
+        JobCheckpoint finished = transactionTemplate.execute(status -> {
+            JobCheckpoint cp = jobCheckpointRepository.findById(checkpointId).orElseThrow();
+            cp.complete();
+            return cp;
+        });
+        log.info("===== WorkRecord 생성 작업 완료: {} ===== (성공: {}, 실패: {})",
+                runKey, finished.getProcessedCount(), finished.getFailedCount());
+    }
+
+    // 체크포인트 한 번에 처리할 페이지 묶음을 키셋으로 순서대로 조회
+    private List<List<Long>> nextPages(long afterId) {
+        List<List<Long>> pages = new ArrayList<>(pagesPerCheckpoint);
+        long cursor = afterId;
+        while (pages.size() < pagesPerCheckpoint) {
+            long pageCursor = cursor;
+            List<Long> ids = transactionTemplate.execute(status ->
+                    workerContractRepository.findActiveIdsAfter(pageCursor, PageRequest.of(0, pageSize)));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            pages.add(ids);
+            cursor = ids.get(ids.size() - 1);
+            if (ids.size() < pageSize) {
+                break;
+            }
+        }
+        return pages;
+    }
+
+    /**
+     * 진행 지점 이전에 실패한 계약을 한 건씩 다시 생성
+     * 성공한 계약은 실패 기록에서 지우고, 다시 실패하면 시도 횟수를 늘린다.
+     *
+     * @return 다시 시도할 계약이 남지 않았으면 true (max-attempts만큼 실패한 계약은 더 시도하지 않음)
+     */
+    private boolean retryFailures(Long checkpointId, Consumer<WorkerContract> generator) {
+        List<JobCheckpointFailure> failures = transactionTemplate.execute(status ->
+                jobCheckpointFailureRepository.findByCheckpointIdOrderByItemIdAsc(checkpointId));
+        if (failures == null || failures.isEmpty()) {
+            return true;
+        }
+
+        boolean retryable = false;
+        List<Long> exhaustedIds = new ArrayList<>();
+        for (JobCheckpointFailure failure : failures) {
+            if (failure.getAttempts() >= maxAttempts) {
+                exhaustedIds.add(failure.getItemId());
+                continue;
+            }
+            if (generateContract(failure.getItemId(), generator)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jobCheckpointFailureRepository.deleteById(failure.getId());
+                    jobCheckpointRepository.findById(checkpointId).ifPresent(cp -> cp.recover(1));
+                });
+                continue;
+            }
+            int attempts = failure.getAttempts() + 1;
+            transactionTemplate.executeWithoutResult(status ->
+                    jobCheckpointFailureRepository.findById(failure.getId()).ifPresent(JobCheckpointFailure::failedAgain));
+            if (attempts >= maxAttempts) {
+                exhaustedIds.add(failure.getItemId());
+            } else {
+                retryable = true;
+            }
+        }
+
+        if (!retryable && !exhaustedIds.isEmpty()) {
+            log.error("WorkRecord 생성 재시도 횟수 초과로 제외: 계약 ID {}", exhaustedIds);
+        }
+        return !retryable;
+    }
+
+    /**
+     * 페이지 하나를 자체 트랜잭션에서 생성
+     * 실패하면 페이지를 롤백하고 계약별 트랜잭션으로 다시 생성하여 실패한 계약만 제외한다.
+     */
+    private PageResult processPage(List<Long> contractIds, Consumer<WorkerContract> generator) {
+        try {
+            workRecordExecutor.withDbPermit(() -> transactionTemplate.execute(status -> {
+                workerContractRepository.findAllById(contractIds).forEach(generator);
+                return null;
+            }));
+            return new PageResult(contractIds.size(), List.of());
+        } catch (RuntimeException e) {
+            log.warn("WorkRecord 생성 페이지 실패, 계약별로 재시도: 계약 ID {} ~ {}",
+                    contractIds.get(0), contractIds.get(contractIds.size() - 1), e);
+        }
+
+        List<Long> failedIds = new ArrayList<>();
+        for (Long contractId : contractIds) {
+            if (!generateContract(contractId, generator)) {
+                failedIds.add(contractId);
+            }
+        }
+        return new PageResult(contractIds.size() - failedIds.size(), failedIds);
+    }
+
+    // 계약 하나를 자체 트랜잭션에서 생성 (실패하면 false)
+    private boolean generateContract(Long contractId, Consumer<WorkerContract> generator) {
+        try {
+            workRecordExecutor.withDbPermit(() -> transactionTemplate.execute(status -> {
+                workerContractRepository.findById(contractId)
+                        .ifPresent(generator);
+                return null;
+            }));
+            return true;
+        } catch (RuntimeException e) {
+            log.error("WorkRecord 생성 실패: Contract ID={}, Error={}", contractId, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private record PageResult(int processed, List<Long> failedIds) {
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.wagemanager.domain.workrecord.service;
 
+import com.example.wagemanager.common.exception.BadRequestException;
 import com.example.wagemanager.common.exception.ErrorCode;
 import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
 import com.example.wagemanager.domain.correction.dto.CorrectionRequestDto;
 import com.example.wagemanager.domain.correction.entity.CorrectionRequest;
 import com.example.wagemanager.domain.correction.enums.CorrectionStatus;
@@ -9,26 +12,37 @@ import com.example.wagemanager.domain.correction.enums.RequestType;
 import com.example.wagemanager.domain.correction.repository.CorrectionRequestRepository;
 import com.example.wagemanager.domain.worker.entity.Worker;
 import com.example.wagemanager.domain.worker.repository.WorkerRepository;
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordCalendarRow;
 import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
 import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class WorkRecordQueryService {
 
+    private static final String CURSOR_DELIMITER = "_";
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final WorkRecordRepository workRecordRepository;
     private final WorkerRepository workerRepository;
     private final CorrectionRequestRepository correctionRequestRepository;
+    private final WorkerContractRepository workerContractRepository;
+    private final WorkScheduleProjectionService workScheduleProjectionService;
+    private final CalendarWeekCache calendarWeekCache;
 
     public List<WorkRecordDto.Response> getWorkRecordsByContract(Long contractId) {
         return workRecordRepository.findByContractId(contractId).stream()
@@ -43,12 +57,83 @@ public class WorkRecordQueryService {
     }
 
     // 고용주용: 사업장의 근무 기록 조회 (캘린더)
+    // 캐시 사용 시 주 단위로 캐시된 결과를 이어 붙이고, 캐시에 없는 주만 DB에서 조회
     public List<WorkRecordDto.CalendarResponse> getWorkRecordsByWorkplaceAndDateRange(
             Long workplaceId, LocalDate startDate, LocalDate endDate) {
+        if (!calendarWeekCache.isEnabled()) {
+            return loadCalendar(workplaceId, startDate, endDate);
+        }
+        return calendarWeekCache.getRange(workplaceId, startDate, endDate,
+                (weekStart, weekEnd) -> loadCalendar(workplaceId, weekStart, weekEnd));
+    }
+
+    private List<WorkRecordDto.CalendarResponse> loadCalendar(Long workplaceId, LocalDate startDate, LocalDate endDate) {
         List<WorkRecord> records = workRecordRepository.findByWorkplaceAndDateRange(workplaceId, startDate, endDate);
-        return records.stream()
+        List<WorkRecordDto.CalendarResponse> responses = records.stream()
                 .map(WorkRecordDto.CalendarResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        // 가상 스케줄 모드: 아직 만들어지지 않은 미래 스케줄 근무를 합쳐서 반환
+        if (workScheduleProjectionService.isEnabled()) {
+            List<WorkerContract> contracts = workerContractRepository.findActiveByWorkplaceIdsWithWorker(List.of(workplaceId));
+            workScheduleProjectionService.forEachVirtualShift(contracts, records, startDate, endDate,
+                    (contract, workDate, shift) -> responses.add(WorkRecordDto.CalendarResponse.scheduled(contract, workDate, shift)));
+            responses.sort(Comparator.comparing(WorkRecordDto.CalendarResponse::getWorkDate));
+        }
+        return responses;
+    }
+
+    /**
+     * 고용주용: 사업장의 근무 기록을 한 행씩 전달 (NDJSON 스트리밍 응답용)
+     * 엔티티를 만들지 않는 프로젝션 조회를 한 행씩 스트리밍하므로 기간이 길어도 전체 목록을 메모리에 올리지 않는다.
+     * 스트리밍 중에는 같은 연결로 다른 쿼리를 실행할 수 없으므로 consumer에서 DB를 조회하지 않는다.
+     * 가상 스케줄 모드의 예정 근무는 포함하지 않는다.
+     */
+    public void streamWorkRecordsByWorkplaceAndDateRange(
+            Long workplaceId, LocalDate startDate, LocalDate endDate, Consumer<WorkRecordDto.CalendarResponse> consumer) {
+        try (Stream<WorkRecordCalendarRow> rows = workRecordRepository.streamCalendarRows(workplaceId, startDate, endDate)) {
+            rows.map(WorkRecordDto.CalendarResponse::from).forEach(consumer);
+        }
+    }
+
+    /**
+     * 고용주용: 사업장의 근무 기록 커서 페이지 조회 (무한 스크롤)
+     * 커서는 마지막 행의 (근무일, ID)이며 "yyyy-MM-dd_ID" 형식이다. 첫 페이지는 커서 없이 요청한다.
+     * 가상 스케줄 모드의 예정 근무는 포함하지 않는다.
+     */
+    public WorkRecordDto.CalendarPageResponse getWorkRecordPageByWorkplace(
+            Long workplaceId, LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        LocalDate afterDate = startDate.minusDays(1);
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            int delimiter = cursor.indexOf(CURSOR_DELIMITER);
+            try {
+                afterDate = LocalDate.parse(cursor.substring(0, delimiter));
+                afterId = Long.parseLong(cursor.substring(delimiter + 1));
+            } catch (RuntimeException e) {
+                throw new BadRequestException(ErrorCode.INVALID_CURSOR, "잘못된 커서입니다.");
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<WorkRecordCalendarRow> rows = workRecordRepository.findCalendarRowsAfter(
+                workplaceId, startDate, endDate, afterDate, afterId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<WorkRecordCalendarRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            WorkRecordCalendarRow last = page.get(page.size() - 1);
+            nextCursor = last.getWorkDate() + CURSOR_DELIMITER + last.getId();
+        }
+
+        return WorkRecordDto.CalendarPageResponse.builder()
+                .items(page.stream().map(WorkRecordDto.CalendarResponse::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     // 근로자용: 내 근무 기록 조회
@@ -58,9 +143,20 @@ public class WorkRecordQueryService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WORKER_NOT_FOUND, "근로자 정보를 찾을 수 없습니다."));
 
         List<WorkRecord> records = workRecordRepository.findByWorkerAndDateRange(worker.getId(), startDate, endDate);
-        return records.stream()
+        List<WorkRecordDto.DetailedResponse> responses = records.stream()
                 .map(WorkRecordDto.DetailedResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        // 가상 스케줄 모드: 아직 만들어지지 않은 미래 스케줄 근무를 합쳐서 반환
+        if (workScheduleProjectionService.isEnabled()) {
+            List<WorkerContract> contracts = workerContractRepository.findByWorkerId(worker.getId()).stream()
+                    .filter(contract -> Boolean.TRUE.equals(contract.getIsActive()))
+                    .toList();
+            workScheduleProjectionService.forEachVirtualShift(contracts, records, startDate, endDate,
+                    (contract, workDate, shift) -> responses.add(WorkRecordDto.DetailedResponse.scheduled(contract, workDate, shift)));
+            responses.sort(Comparator.comparing(WorkRecordDto.DetailedResponse::getWorkDate));
+        }
+        return responses;
     }
 
     // 고용주용: 승인 대기중인 모든 요청 조회 (통합)
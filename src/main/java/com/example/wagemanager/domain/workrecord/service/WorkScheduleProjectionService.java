@@ -0,0 +1,88 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.service.WorkScheduleCache;
+import com.example.wagemanager.domain.contract.util.CompiledWorkSchedule;
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가상 스케줄 모드: 미래 근무 일정을 조회 시점에 계약 스케줄로 계산
+ *
+ * 가상 스케줄 모드에서는 가까운 미래(materialize-ahead-days)만 SCHEDULED 근무 기록으로 만들고,
+ * 그 이후 날짜는 조회할 때 컴파일된 계약 스케줄로 계산하여 실제 근무 기록과 합친다.
+ * 같은 계약/날짜에 실제 근무 기록이 있으면(수정/완료/삭제 포함) 실제 기록만 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkScheduleProjectionService {
+
+    private final WorkScheduleCache workScheduleCache;
+
+    @Value("${wagemanager.work-record.virtual-schedule:false}")
+    private boolean virtualSchedule;
+
+    public boolean isEnabled() {
+        return virtualSchedule;
+    }
+
+    /**
+     * 실제 근무 기록이 없는 미래 날짜의 스케줄 근무를 계산하여 전달
+     * - 오늘 이후 날짜만 계산 (지난 날짜는 실제 근무 기록만 사용)
+     * - 계약 시작일/종료일 범위 밖은 제외
+     *
+     * @param records 같은 기간에 조회한 실제 근무 기록 (계약/날짜 중복 제거용)
+     */
+    public void forEachVirtualShift(List<WorkerContract> contracts, List<WorkRecord> records,
+                                    LocalDate startDate, LocalDate endDate, VirtualShiftConsumer consumer) {
+        Map<Long, Set<LocalDate>> occupiedDates = new HashMap<>();
+        for (WorkRecord record : records) {
+            occupiedDates.computeIfAbsent(record.getContract().getId(), key -> new HashSet<>()).add(record.getWorkDate());
+        }
+
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        for (WorkerContract contract : contracts) {
+            LocalDate from = latest(startDate, tomorrow, contract.getContractStartDate());
+            LocalDate to = contract.getContractEndDate() != null && contract.getContractEndDate().isBefore(endDate)
+                    ? contract.getContractEndDate()
+                    : endDate;
+            if (from.isAfter(to)) {
+                continue;
+            }
+
+            CompiledWorkSchedule schedule = workScheduleCache.get(contract);
+            if (schedule.isEmpty()) {
+                continue;
+            }
+
+            Set<LocalDate> occupied = occupiedDates.getOrDefault(contract.getId(), Set.of());
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                if (occupied.contains(date)) {
+                    continue;
+                }
+                for (CompiledWorkSchedule.Shift shift : schedule.shiftsOn(date.getDayOfWeek())) {
+                    consumer.accept(contract, date, shift);
+                }
+            }
+        }
+    }
+
+    private static LocalDate latest(LocalDate first, LocalDate second, LocalDate third) {
+        LocalDate latest = first.isAfter(second) ? first : second;
+        return third != null && third.isAfter(latest) ? third : latest;
+    }
+
+    @FunctionalInterface
+    public interface VirtualShiftConsumer {
+        void accept(WorkerContract contract, LocalDate workDate, CompiledWorkSchedule.Shift shift);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.wagemanager.global.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 동시 실행 수가 제한된 병렬 실행기
+ *
+ * 작업마다 가상 스레드를 띄우되, 동시에 실행되는 작업 수(parallelism)와
+ * DB 커넥션을 잡는 구간의 동시 실행 수(dbConcurrency)를 각각 세마포어로 제한한다.
+ * DB 구간 제한은 커넥션 풀 크기보다 작게 잡아 일괄 작업이 웹 요청용 커넥션을 모두 차지하지 않도록 한다.
+ */
+public class BoundedParallelExecutor {
+
+    private final String name;
+    private final Semaphore taskPermits;
+    private final Semaphore dbPermits;
+
+    public BoundedParallelExecutor(String name, int parallelism, int dbConcurrency) {
+        if (parallelism < 1 || dbConcurrency < 1) {
+            throw new IllegalArgumentException("parallelism과 dbConcurrency는 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.taskPermits = new Semaphore(parallelism);
+        this.dbPermits = new Semaphore(dbConcurrency);
+    }
+
+    /**
+     * 모든 항목에 작업을 병렬로 적용하고, 입력 순서대로 결과를 반환
+     * 작업이 예외를 던지면 나머지 작업이 끝난 뒤 첫 번째 예외를 다시 던진다.
+     */
+    public <T, R> List<R> invokeAll(List<T> items, Function<T, R> task) {
+        List<Future<R>> futures = new ArrayList<>(items.size());
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(name + "-", 0).factory())) {
+            for (T item : items) {
+                // 실행 중인 작업이 parallelism에 도달하면 제출을 멈춤 (대기 작업이 무한정 쌓이지 않도록)
+                acquire(taskPermits);
+                try {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return task.apply(item);
+                        } finally {
+                            taskPermits.release();
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    taskPermits.release();
+                    throw e;
+                }
+            }
+        }
+
+        List<R> results = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            results.add(getResult(future));
+        }
+        return results;
+    }
+
+    /**
+     * DB 커넥션을 사용하는 구간 실행 (dbConcurrency 만큼만 동시에 실행)
+     */
+    public <R> R withDbPermit(Supplier<R> work) {
+        acquire(dbPermits);
+        try {
+            return work.get();
+        } finally {
+            dbPermits.release();
+        }
+    }
+
+    public int availableDbPermits() {
+        return dbPermits.availablePermits();
+    }
+
+    private void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 작업 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private <R> R getResult(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 작업 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(name + " 작업이 실패했습니다.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.wagemanager.global.batch;
+
+import com.example.wagemanager.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 지점
+ * (작업 이름, 실행 키)마다 한 행이며, 키 순서로 처리한 마지막 ID까지를 커밋된 진행 지점으로 기록한다.
+ * 작업이 중간에 중단되면 다음 실행은 lastProcessedId 이후부터 이어서 처리한다.
+ * 진행 지점 이전에 실패한 항목은 JobCheckpointFailure에 남겨 다시 처리한다.
+ */
+@Entity
+@Table(name = "job_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_job_checkpoint", columnNames = {"job_name", "run_key"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    // 실행 단위 (예: 생성 대상 연월)
+    @Column(name = "run_key", nullable = false, length = 50)
+    private String runKey;
+
+    @Column(name = "last_processed_id", nullable = false)
+    @Builder.Default
+    private Long lastProcessedId = 0L;
+
+    @Column(name = "processed_count", nullable = false)
+    @Builder.Default
+    private Integer processedCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+
+    @Column(name = "completed", nullable = false)
+    @Builder.Default
+    private Boolean completed = false;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static JobCheckpoint of(String jobName, String runKey) {
+        return JobCheckpoint.builder()
+                .jobName(jobName)
+                .runKey(runKey)
+                .build();
+    }
+
+    public boolean isCompleted() {
+        return Boolean.TRUE.equals(completed);
+    }
+
+    public void advance(long lastProcessedId, int processed, int failed) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+        this.failedCount += failed;
+    }
+
+    // 실패했던 항목을 다시 처리하여 성공
+    public void recover(int recovered) {
+        this.processedCount += recovered;
+        this.failedCount -= recovered;
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.wagemanager.global.batch;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업에서 실패한 항목
+ * 진행 지점(lastProcessedId)은 실패한 항목을 지나서 기록되므로, 실패한 항목 ID를 따로 남겨 다음 실행에서 다시 처리한다.
+ */
+@Entity
+@Table(name = "job_checkpoint_failure",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_job_checkpoint_failure", columnNames = {"checkpoint_id", "item_id"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobCheckpointFailure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "checkpoint_id", nullable = false)
+    private Long checkpointId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    // 실패한 횟수 (최초 실패 포함)
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 1;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    public static JobCheckpointFailure of(Long checkpointId, Long itemId) {
+        return JobCheckpointFailure.builder()
+                .checkpointId(checkpointId)
+                .itemId(itemId)
+                .failedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void failedAgain() {
+        this.attempts++;
+        this.failedAt = LocalDateTime.now();
+    }
+}
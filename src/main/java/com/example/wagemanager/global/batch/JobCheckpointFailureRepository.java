@@ -0,0 +1,12 @@
+package com.example.wagemanager.global.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobCheckpointFailureRepository extends JpaRepository<JobCheckpointFailure, Long> {
+
+    List<JobCheckpointFailure> findByCheckpointIdOrderByItemIdAsc(Long checkpointId);
+}
@@ -0,0 +1,16 @@
+package com.example.wagemanager.global.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+
+    Optional<JobCheckpoint> findByJobNameAndRunKey(String jobName, String runKey);
+
+    // 재개 대상: 중단된 실행
+    List<JobCheckpoint> findByJobNameAndCompletedFalseOrderByIdAsc(String jobName);
+}
@@ -0,0 +1,33 @@
+package com.example.wagemanager.global.batch;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 권한(리스)
+ * 작업 이름마다 한 행이며, leasedUntil이 지나기 전까지는 owner 노드만 작업을 실행한다.
+ * 행 갱신은 SchedulerLeaseRepository의 조건부 UPDATE/INSERT로만 한다.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String name;
+
+    @Column(name = "owner", nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "leased_until", nullable = false)
+    private LocalDateTime leasedUntil;
+}
@@ -0,0 +1,107 @@
+package com.example.wagemanager.global.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 애플리케이션 노드 중 한 곳에서만 스케줄 작업을 실행하기 위한 DB 리스
+ *
+ * 리스는 TTL 동안만 유효하므로 작업 중 노드가 죽어도 TTL이 지나면 다른 노드가 이어받는다.
+ * 오래 걸리는 작업은 진행 중 renew로 연장해야 하며, 연장에 실패하면 다른 노드가 리스를 가져간 것이므로 중단한다.
+ * 같은 노드 안에서도 재진입하지 않는다. 이전 실행이 아직 리스를 가지고 있으면 다음 실행은 획득에 실패한다.
+ * (노드 간 시계 차이는 TTL보다 충분히 작다고 가정)
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String ownerId;
+    // 이 노드에서 보유 중인 리스 (같은 노드의 겹치는 실행 방지)
+    private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+
+    public SchedulerLeaseManager(SchedulerLeaseRepository schedulerLeaseRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // 프로세스 이름(pid@host) + 인스턴스별 난수
+        this.ownerId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * 리스 획득
+     *
+     * @return 획득하면 true, 이 노드의 다른 실행이나 다른 노드가 유효한 리스를 가지고 있으면 false
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        if (!heldLeases.add(name)) {
+            log.debug("이 노드에서 이미 실행 중: name={}", name);
+            return false;
+        }
+        boolean acquired = false;
+        try {
+            acquired = acquire(name, ttl);
+            return acquired;
+        } finally {
+            if (!acquired) {
+                heldLeases.remove(name);
+            }
+        }
+    }
+
+    private boolean acquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(
+                status -> schedulerLeaseRepository.tryAcquire(name, ownerId, now.plus(ttl), now));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> schedulerLeaseRepository.insert(name, ownerId, now.plus(ttl)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 리스 행이 이미 있고 다른 노드가 보유 중
+            log.debug("리스 획득 실패: name={}", name);
+            return false;
+        }
+    }
+
+    /**
+     * 보유 중인 리스 연장
+     *
+     * @return 연장하면 true, 리스를 잃었으면 false
+     */
+    public boolean renew(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(
+                status -> schedulerLeaseRepository.tryAcquire(name, ownerId, now.plus(ttl), now));
+        return updated != null && updated > 0;
+    }
+
+    public void release(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> schedulerLeaseRepository.release(name, ownerId, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // 반환하지 못해도 TTL이 지나면 만료됨
+            log.warn("리스 반환 실패: name={}", name, e);
+        } finally {
+            heldLeases.remove(name);
+        }
+    }
+}
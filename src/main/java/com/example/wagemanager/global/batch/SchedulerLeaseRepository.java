@@ -0,0 +1,43 @@
+package com.example.wagemanager.global.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 만료되었거나 이미 내가 가진 리스만 획득/연장 (갱신된 행 수 반환)
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.leasedUntil = :leasedUntil " +
+            "WHERE l.name = :name AND (l.owner = :owner OR l.leasedUntil < :now)")
+    int tryAcquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("leasedUntil") LocalDateTime leasedUntil,
+            @Param("now") LocalDateTime now
+    );
+
+    // 리스 행 최초 생성 (동시에 생성하면 한쪽은 PK 충돌)
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lease (lease_name, owner, leased_until) " +
+            "VALUES (:name, :owner, :leasedUntil)", nativeQuery = true)
+    int insert(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("leasedUntil") LocalDateTime leasedUntil
+    );
+
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leasedUntil = :now " +
+            "WHERE l.name = :name AND l.owner = :owner")
+    int release(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now
+    );
+}
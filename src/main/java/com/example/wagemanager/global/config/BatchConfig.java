@@ -0,0 +1,31 @@
+package com.example.wagemanager.global.config;
+
+import com.example.wagemanager.global.batch.BoundedParallelExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BatchConfig {
+
+    /**
+     * 급여 일괄 정산용 병렬 실행기
+     * db-concurrency는 커넥션 풀(HikariCP 기본 10개)보다 작게 유지해야 웹 요청이 커넥션을 얻을 수 있다.
+     */
+    @Bean
+    public BoundedParallelExecutor payrollExecutor(
+            @Value("${wagemanager.payroll.parallelism:8}") int parallelism,
+            @Value("${wagemanager.payroll.db-concurrency:4}") int dbConcurrency) {
+        return new BoundedParallelExecutor("payroll", parallelism, dbConcurrency);
+    }
+
+    /**
+     * 월별 WorkRecord 생성 작업용 병렬 실행기
+     */
+    @Bean
+    public BoundedParallelExecutor workRecordExecutor(
+            @Value("${wagemanager.work-record.horizon.parallelism:4}") int parallelism,
+            @Value("${wagemanager.work-record.horizon.db-concurrency:3}") int dbConcurrency) {
+        return new BoundedParallelExecutor("work-record", parallelism, dbConcurrency);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.wagemanager.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * 기본 스케줄러 (@Scheduled에 scheduler를 지정하지 않은 작업)
+     * 근무 기록 생성, 급여 보정 같은 오래 걸리는 작업이 서로 막지 않도록 spring.task.scheduling.pool.size개 스레드 사용
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * SSE heartbeat, 노드 간 이벤트 poll 전용 스케줄러
+     * 짧은 주기로 실행되어야 하므로 오래 걸리는 배치 작업과 스레드를 나누어 쓰지 않는다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler realtimeScheduler(
+            @Value("${wagemanager.scheduling.realtime-pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("realtime-scheduling-");
+        return scheduler;
+    }
+}
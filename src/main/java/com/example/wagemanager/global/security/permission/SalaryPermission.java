@@ -1,6 +1,8 @@
 package com.example.wagemanager.global.security.permission;
 
+import com.example.wagemanager.domain.salary.entity.PayrollRun;
 import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.repository.PayrollRunRepository;
 import com.example.wagemanager.domain.salary.repository.SalaryRepository;
 import com.example.wagemanager.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class SalaryPermission {
 
     private final SalaryRepository salaryRepository;
+    private final PayrollRunRepository payrollRunRepository;
     private final WorkplacePermission workplacePermission;
     private final ContractPermission contractPermission;
 
@@ -55,4 +58,20 @@ public class SalaryPermission {
     public boolean canCalculateForContract(Long contractId) {
         return contractPermission.canAccessAsEmployer(contractId) || contractPermission.canAccessAsWorker(contractId);
     }
+
+    public boolean canAccessPayrollRun(Long payrollRunId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+            return false;
+        }
+
+        User currentUser = (User) authentication.getPrincipal();
+        PayrollRun payrollRun = payrollRunRepository.findById(payrollRunId).orElse(null);
+
+        if (payrollRun == null) {
+            return false;
+        }
+
+        return payrollRun.getEmployer().getUser().getId().equals(currentUser.getId());
+    }
 }
@@ -0,0 +1,14 @@
+-- notification / notification_outbox의 idempotency_key 칼럼 삭제 (MySQL)
+--
+-- 아웃박스 전달은 notification 저장과 아웃박스 행 삭제를 한 트랜잭션에서 하므로 같은 행이 두 번 저장되지 않고,
+-- 알림 이벤트마다 임의로 만든 키는 서로 겹치지 않아 중복 제거에 쓰이지 않았다. 엔티티에서 칼럼 매핑을 제거했다.
+-- ddl-auto=update는 칼럼을 삭제하지 않으며, notification_outbox.idempotency_key는 NOT NULL이라
+-- 그대로 두면 아웃박스 기록이 실패한다. 배포 전 점검 시간에 한 번 실행한다.
+
+ALTER TABLE notification_outbox
+    DROP INDEX uk_notification_outbox_idempotency_key,
+    DROP COLUMN idempotency_key;
+
+ALTER TABLE notification
+    DROP INDEX uk_notification_idempotency_key,
+    DROP COLUMN idempotency_key;
@@ -0,0 +1,33 @@
+-- salary 중복 행 정리 및 uk_salary_contract_year_month 추가 (MySQL)
+--
+-- 일괄 정산과 단건 계산이 동시에 같은 계약의 급여를 처음 만들면 (contract_id, salary_year, salary_month) 행이 중복될 수 있었다.
+-- ddl-auto=update는 중복이 남아 있으면 유니크 키 생성에 실패하고 로그만 남기므로, 배포 전 점검 시간에 한 번 실행한다.
+--
+-- 1. 중복 그룹마다 남길 행을 정한다. (지급 정보가 연결된 행, 없으면 가장 작은 id)
+-- 2. 지급 정보가 없는 나머지 행을 삭제한다. 지급 정보가 연결된 행이 둘 이상인 그룹은 남으므로 직접 확인해야 한다.
+-- 3. 유니크 키를 추가한다.
+--
+-- 남긴 행의 금액은 실행 후 급여 보정(SalaryReconciliationScheduler)이 전체 재집계로 바로잡는다.
+
+CREATE TEMPORARY TABLE salary_dedup AS
+SELECT s.id AS duplicate_id
+FROM salary s
+JOIN (SELECT g.contract_id, g.salary_year, g.salary_month,
+             COALESCE(MIN(p.salary_id), MIN(g.id)) AS survivor_id
+      FROM salary g
+      LEFT JOIN payment p ON p.salary_id = g.id
+      GROUP BY g.contract_id, g.salary_year, g.salary_month
+      HAVING COUNT(*) > 1) k
+  ON k.contract_id = s.contract_id AND k.salary_year = s.salary_year AND k.salary_month = s.salary_month
+LEFT JOIN payment p ON p.salary_id = s.id
+WHERE s.id <> k.survivor_id
+  AND p.id IS NULL;
+
+DELETE s FROM salary s
+JOIN salary_dedup d ON d.duplicate_id = s.id;
+
+DROP TEMPORARY TABLE salary_dedup;
+
+-- 이미 유니크 키가 있으면(중복이 없어 ddl-auto가 생성한 경우) 이 문장은 실패하며 무시해도 된다.
+ALTER TABLE salary
+    ADD CONSTRAINT uk_salary_contract_year_month UNIQUE (contract_id, salary_year, salary_month);
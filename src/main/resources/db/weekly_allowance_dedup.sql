@@ -0,0 +1,55 @@
+-- weekly_allowance 중복 행 병합 및 uk_weekly_allowance_contract_week 추가 (MySQL)
+--
+-- ddl-auto=update는 기존 데이터에 (contract_id, week_start_date) 중복이 있으면 유니크 키 생성에 실패하고 로그만 남긴다.
+-- 유니크 키가 없으면 동시 생성으로 중복이 계속 생기고, 단건 조회(findByContractIdAndWeekStartDate)가 실패한다.
+-- 배포 전 점검 시간(근무 기록 쓰기가 없는 상태)에 한 번 실행한다.
+--
+-- 1. 중복 그룹마다 가장 작은 id를 남길 행으로 정한다.
+-- 2. 나머지 행을 참조하는 근무 기록 / 재계산 작업을 남길 행으로 옮긴다.
+-- 3. 남길 행의 합계를 옮겨 온 근무 기록으로 다시 계산한다. (WeeklyAllowance.calculateTotalWorkHours / calculateWeeklyPaidLeave / calculateOvertime과 같은 식)
+-- 4. 나머지 행을 삭제하고 유니크 키를 추가한다.
+--
+-- 중복 행은 급여 계산 시 두 번 합산되었을 수 있으므로, 실행 후 급여 보정(SalaryReconciliationScheduler)이 한 번 돌아야 한다.
+
+CREATE TEMPORARY TABLE weekly_allowance_dedup AS
+SELECT wa.id AS duplicate_id, s.survivor_id
+FROM weekly_allowance wa
+JOIN (SELECT contract_id, week_start_date, MIN(id) AS survivor_id
+      FROM weekly_allowance
+      GROUP BY contract_id, week_start_date
+      HAVING COUNT(*) > 1) s
+  ON s.contract_id = wa.contract_id AND s.week_start_date = wa.week_start_date
+WHERE wa.id <> s.survivor_id;
+
+UPDATE work_record wr
+JOIN weekly_allowance_dedup d ON d.duplicate_id = wr.weekly_allowance_id
+SET wr.weekly_allowance_id = d.survivor_id;
+
+UPDATE recalculation_task t
+JOIN weekly_allowance_dedup d ON d.duplicate_id = t.weekly_allowance_id
+SET t.weekly_allowance_id = d.survivor_id;
+
+UPDATE weekly_allowance wa
+JOIN (SELECT DISTINCT survivor_id FROM weekly_allowance_dedup) s ON s.survivor_id = wa.id
+JOIN worker_contract c ON c.id = wa.contract_id
+LEFT JOIN (SELECT weekly_allowance_id, SUM(total_hours) AS hours
+           FROM work_record
+           WHERE status <> 'DELETED'
+           GROUP BY weekly_allowance_id) h ON h.weekly_allowance_id = wa.id
+SET wa.total_work_hours = COALESCE(h.hours, 0),
+    wa.weekly_paid_leave_amount = CASE WHEN COALESCE(h.hours, 0) >= 15
+                                       THEN ROUND(h.hours / 40, 2) * 8 * c.hourly_wage
+                                       ELSE 0 END,
+    wa.overtime_hours = GREATEST(COALESCE(h.hours, 0) - 40, 0),
+    wa.overtime_amount = GREATEST(COALESCE(h.hours, 0) - 40, 0) * c.hourly_wage * 1.5,
+    wa.version = wa.version + 1,
+    wa.updated_at = NOW();
+
+DELETE wa FROM weekly_allowance wa
+JOIN weekly_allowance_dedup d ON d.duplicate_id = wa.id;
+
+DROP TEMPORARY TABLE weekly_allowance_dedup;
+
+-- 이미 유니크 키가 있으면(중복이 없어 ddl-auto가 생성한 경우) 이 문장은 실패하며 무시해도 된다.
+ALTER TABLE weekly_allowance
+    ADD CONSTRAINT uk_weekly_allowance_contract_week UNIQUE (contract_id, week_start_date);
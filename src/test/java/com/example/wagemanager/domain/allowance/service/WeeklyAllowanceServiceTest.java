@@ -3,7 +3,6 @@ package com.example.wagemanager.domain.allowance.service;
 import com.example.wagemanager.common.exception.NotFoundException;
 import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
 import com.example.wagemanager.domain.allowance.repository.WeeklyAllowanceRepository;
-import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +19,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,7 +56,7 @@ class WeeklyAllowanceServiceTest {
         WeeklyAllowance existingAllowance = mock(WeeklyAllowance.class);
         LocalDate workDate = LocalDate.of(2024, 1, 15);
 
-        when(weeklyAllowanceRepository.findByContractAndWeek(1L, workDate))
+        when(weeklyAllowanceRepository.findByContractIdAndWeekStartDate(1L, workDate))
                 .thenReturn(Optional.of(existingAllowance));
 
         // when
@@ -64,28 +64,64 @@ class WeeklyAllowanceServiceTest {
 
         // then
         assertThat(result).isEqualTo(existingAllowance);
-        verify(weeklyAllowanceRepository, never()).save(any());
+        verify(weeklyAllowanceRepository, never()).insertIfAbsent(anyLong(), any(), any(), any());
     }
 
     @Test
-    @DisplayName("주간 수당 조회 또는 생성 - 신규 생성")
+    @DisplayName("주간 수당 조회 또는 생성 - 신규 생성은 호출한 트랜잭션 안에서 실행")
     void getOrCreateWeeklyAllowanceForDate_New() {
         // given
-        WorkerContract contract = mock(WorkerContract.class);
         LocalDate workDate = LocalDate.of(2024, 1, 15);
         WeeklyAllowance newAllowance = mock(WeeklyAllowance.class);
 
-        when(weeklyAllowanceRepository.findByContractAndWeek(1L, workDate))
+        when(weeklyAllowanceRepository.findByContractIdAndWeekStartDate(1L, workDate))
                 .thenReturn(Optional.empty());
-        when(workerContractRepository.findById(1L)).thenReturn(Optional.of(contract));
-        when(weeklyAllowanceRepository.save(any(WeeklyAllowance.class))).thenReturn(newAllowance);
+        when(workerContractRepository.existsById(1L)).thenReturn(true);
+        when(weeklyAllowanceRepository.findForUpdate(1L, workDate)).thenReturn(Optional.of(newAllowance));
 
         // when
         WeeklyAllowance result = weeklyAllowanceService.getOrCreateWeeklyAllowanceForDate(1L, workDate);
 
         // then
         assertThat(result).isEqualTo(newAllowance);
-        verify(weeklyAllowanceRepository).save(any(WeeklyAllowance.class));
+        verify(weeklyAllowanceRepository).insertIfAbsent(eq(1L), eq(workDate), eq(LocalDate.of(2024, 1, 21)), any());
+        verify(weeklyAllowanceRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("주간 수당 조회 또는 생성 - 주 중간 날짜도 월요일 키로 조회")
+    void getOrCreateWeeklyAllowanceForDate_UsesWeekStartKey() {
+        // given (2024-01-18 목요일 → 2024-01-15 월요일)
+        WeeklyAllowance existingAllowance = mock(WeeklyAllowance.class);
+        LocalDate monday = LocalDate.of(2024, 1, 15);
+
+        when(weeklyAllowanceRepository.findByContractIdAndWeekStartDate(1L, monday))
+                .thenReturn(Optional.of(existingAllowance));
+
+        // when
+        WeeklyAllowance result = weeklyAllowanceService.getOrCreateWeeklyAllowanceForDate(1L, LocalDate.of(2024, 1, 18));
+
+        // then
+        assertThat(result).isEqualTo(existingAllowance);
+    }
+
+    @Test
+    @DisplayName("주간 수당 동시 생성 - 다른 트랜잭션이 먼저 생성한 행을 잠가서 반환")
+    void getOrCreateWeeklyAllowanceForDate_ConcurrentInsert() {
+        // given: 조회 시점에는 없었지만 INSERT 시점에는 다른 트랜잭션이 이미 생성 (INSERT는 아무것도 바꾸지 않음)
+        LocalDate workDate = LocalDate.of(2024, 1, 15);
+        WeeklyAllowance createdByOther = mock(WeeklyAllowance.class);
+
+        when(weeklyAllowanceRepository.findByContractIdAndWeekStartDate(1L, workDate))
+                .thenReturn(Optional.empty());
+        when(workerContractRepository.existsById(1L)).thenReturn(true);
+        when(weeklyAllowanceRepository.findForUpdate(1L, workDate)).thenReturn(Optional.of(createdByOther));
+
+        // when
+        WeeklyAllowance result = weeklyAllowanceService.getOrCreateWeeklyAllowanceForDate(1L, workDate);
+
+        // then
+        assertThat(result).isEqualTo(createdByOther);
     }
 
     @Test
@@ -94,13 +130,14 @@ class WeeklyAllowanceServiceTest {
         // given
         LocalDate workDate = LocalDate.of(2024, 1, 15);
 
-        when(weeklyAllowanceRepository.findByContractAndWeek(1L, workDate))
+        when(weeklyAllowanceRepository.findByContractIdAndWeekStartDate(1L, workDate))
                 .thenReturn(Optional.empty());
-        when(workerContractRepository.findById(1L)).thenReturn(Optional.empty());
+        when(workerContractRepository.existsById(1L)).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> weeklyAllowanceService.getOrCreateWeeklyAllowanceForDate(1L, workDate))
                 .isInstanceOf(NotFoundException.class);
+        verify(weeklyAllowanceRepository, never()).insertIfAbsent(anyLong(), any(), any(), any());
     }
 
     @Test
@@ -0,0 +1,192 @@
+package com.example.wagemanager.domain.contract.service;
+
+import com.example.wagemanager.common.exception.ConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ContractWriteSerializer 테스트")
+class ContractWriteSerializerTest {
+
+    private ContractWriteSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new ContractWriteSerializer(16, 100, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 나면 작업 전체를 다시 실행")
+    void execute_RetriesOnOptimisticLockFailure() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = serializer.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Salary", 1L);
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 ConflictException")
+    void execute_ThrowsConflictAfterMaxAttempts() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> serializer.run(() -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("busy");
+        })).isInstanceOf(ConflictException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 트랜잭션 안이면 재시도하지 않고 바깥 트랜잭션에 맡김")
+    void execute_DoesNotRetryInsideTransaction() {
+        // given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> serializer.run(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Salary", 1L);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("execute 안에서는 트랜잭션 중에 락을 기다리지 않고 롤백한 뒤 트랜잭션 밖에서 기다려 다시 실행")
+    void execute_WaitsForLockOutsideTransaction() throws Exception {
+        // given: 다른 트랜잭션이 계약 1의 락을 잠시 보유
+        serializer = new ContractWriteSerializer(16, 2000, 3, 1);
+        CountDownLatch locked = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> holder = executor.submit(() -> inTransaction(() -> {
+                serializer.lock(1L);
+                locked.countDown();
+                sleep(100);
+            }));
+            locked.await(5, TimeUnit.SECONDS);
+
+            // when
+            serializer.run(() -> inTransaction(() -> {
+                runs.incrementAndGet();
+                serializer.lock(1L);
+            }));
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        // then: 첫 시도는 트랜잭션 안에서 기다리지 않고 중단, 락을 잡은 뒤 두 번째 시도에서 완료
+        assertThat(runs.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 계약의 락은 트랜잭션이 끝날 때까지 다른 트랜잭션이 잡지 못함")
+    void lock_HeldUntilTransactionCompletes() throws Exception {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        serializer.lock(1L);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            // when: 다른 트랜잭션이 같은 계약 / 다른 계약의 락을 요청
+            Future<?> sameContract = executor.submit(() -> inTransaction(() -> serializer.lock(1L)));
+            assertThatThrownBy(() -> sameContract.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(CannotAcquireLockException.class);
+
+            Future<?> otherContract = executor.submit(() -> inTransaction(() -> serializer.lock(2L)));
+            otherContract.get(5, TimeUnit.SECONDS);
+
+            // then: 커밋 이후에는 잡을 수 있음
+            complete();
+            Future<?> afterCommit = executor.submit(() -> inTransaction(() -> serializer.lock(1L)));
+            afterCommit.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 같은 계약을 여러 번 잠가도 한 번만 보유")
+    void lockAll_ReentrantWithinTransaction() throws Exception {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        serializer.lockAll(List.of(3L, 1L, 3L));
+        serializer.lock(1L);
+        complete();
+
+        // then: 모두 해제되어 다른 스레드가 바로 잡을 수 있음
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            executor.submit(() -> inTransaction(() -> serializer.lockAll(List.of(1L, 3L)))).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 락을 잡지 않음")
+    void lock_NoopOutsideTransaction() throws Exception {
+        // when
+        serializer.lock(1L);
+
+        // then
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            executor.submit(() -> inTransaction(() -> serializer.lock(1L))).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+        } finally {
+            complete();
+        }
+    }
+
+    private void complete() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.wagemanager.domain.contract.service;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.util.CompiledWorkSchedule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WorkScheduleCache 테스트")
+class WorkScheduleCacheTest {
+
+    private static final String MONDAY = "[{\"dayOfWeek\":1,\"startTime\":\"09:00\",\"endTime\":\"18:00\"}]";
+    private static final String TUESDAY = "[{\"dayOfWeek\":2,\"startTime\":\"10:00\",\"endTime\":\"15:00\"}]";
+
+    private WorkScheduleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WorkScheduleCache(new ObjectMapper(), 100);
+    }
+
+    @Test
+    @DisplayName("같은 계약 버전은 한 번만 컴파일")
+    void get_ReusesCompiledSchedule() {
+        // given
+        WorkerContract contract = contract(1L, MONDAY);
+
+        // when
+        CompiledWorkSchedule first = cache.get(contract);
+        CompiledWorkSchedule second = cache.get(contract);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.isWorkDay(DayOfWeek.MONDAY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("계약 수정으로 근무 스케줄이 바뀌면 다시 컴파일")
+    void get_RecompilesAfterUpdate() {
+        // given
+        WorkerContract contract = contract(1L, MONDAY);
+        CompiledWorkSchedule before = cache.get(contract);
+
+        // when
+        contract.update(null, TUESDAY, null, null, null);
+        CompiledWorkSchedule after = cache.get(contract);
+
+        // then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.isWorkDay(DayOfWeek.MONDAY)).isFalse();
+        assertThat(after.isWorkDay(DayOfWeek.TUESDAY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다시 컴파일")
+    void evict_RemovesEntry() {
+        // given
+        WorkerContract contract = contract(1L, MONDAY);
+        CompiledWorkSchedule before = cache.get(contract);
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(contract)).isNotSameAs(before);
+    }
+
+    @Test
+    @DisplayName("항목 수가 상한을 넘으면 가장 오래 사용하지 않은 계약만 제거")
+    void get_EvictsLeastRecentlyUsed() {
+        // given
+        cache = new WorkScheduleCache(new ObjectMapper(), 2);
+        WorkerContract first = contract(1L, MONDAY);
+        WorkerContract second = contract(2L, MONDAY);
+        CompiledWorkSchedule firstSchedule = cache.get(first);
+        CompiledWorkSchedule secondSchedule = cache.get(second);
+        cache.get(first);
+
+        // when
+        cache.get(contract(3L, TUESDAY));
+
+        // then
+        assertThat(cache.get(first)).isSameAs(firstSchedule);
+        assertThat(cache.get(second)).isNotSameAs(secondSchedule);
+    }
+
+    @Test
+    @DisplayName("JSON 파싱 실패")
+    void compile_InvalidJson() {
+        assertThatThrownBy(() -> cache.compile("not-json"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("근무 스케줄 파싱 중 오류가 발생했습니다");
+    }
+
+    private WorkerContract contract(Long id, String workSchedules) {
+        return WorkerContract.builder()
+                .id(id)
+                .hourlyWage(BigDecimal.valueOf(10000))
+                .workSchedules(workSchedules)
+                .paymentDay(25)
+                .build();
+    }
+}
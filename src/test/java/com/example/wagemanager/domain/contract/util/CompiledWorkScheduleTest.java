@@ -0,0 +1,76 @@
+package com.example.wagemanager.domain.contract.util;
+
+import com.example.wagemanager.domain.contract.dto.WorkScheduleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompiledWorkSchedule 테스트")
+class CompiledWorkScheduleTest {
+
+    @Test
+    @DisplayName("요일별 근무 구간을 미리 파싱하여 조회")
+    void compile_IndexesShiftsByDayOfWeek() {
+        // given
+        List<WorkScheduleDto> schedules = List.of(
+                schedule(1, "09:00", "18:00"),
+                schedule(3, "22:00", "06:00"),
+                schedule(3, "13:00", "15:30"));
+
+        // when
+        CompiledWorkSchedule compiled = CompiledWorkSchedule.compile(schedules);
+
+        // then
+        assertThat(compiled.isEmpty()).isFalse();
+        assertThat(compiled.isWorkDay(DayOfWeek.MONDAY)).isTrue();
+        assertThat(compiled.isWorkDay(DayOfWeek.TUESDAY)).isFalse();
+        assertThat(compiled.shiftsOn(DayOfWeek.MONDAY))
+                .containsExactly(new CompiledWorkSchedule.Shift(LocalTime.of(9, 0), LocalTime.of(18, 0), 540, 1080));
+        assertThat(compiled.shiftsOn(DayOfWeek.WEDNESDAY))
+                .extracting(CompiledWorkSchedule.Shift::startMinute)
+                .containsExactly(1320, 780);
+        assertThat(compiled.shiftsOn(DayOfWeek.SUNDAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("컴파일된 구간 목록은 수정할 수 없음")
+    void compile_IsImmutable() {
+        // given
+        CompiledWorkSchedule compiled = CompiledWorkSchedule.compile(List.of(schedule(1, "09:00", "18:00")));
+
+        // when & then
+        assertThatThrownBy(() -> compiled.shiftsOn(DayOfWeek.MONDAY).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("스케줄이 없으면 빈 스케줄")
+    void compile_Empty() {
+        assertThat(CompiledWorkSchedule.compile(List.of()).isEmpty()).isTrue();
+        assertThat(CompiledWorkSchedule.compile(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요일 범위나 시간 형식이 잘못되면 실패")
+    void compile_RejectsInvalidSchedule() {
+        assertThatThrownBy(() -> CompiledWorkSchedule.compile(List.of(schedule(8, "09:00", "18:00"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("요일은 1(월요일)부터 7(일요일)까지입니다");
+        assertThatThrownBy(() -> CompiledWorkSchedule.compile(List.of(schedule(1, "9시", "18:00"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("시간 형식은 HH:mm 이어야 합니다");
+    }
+
+    private WorkScheduleDto schedule(int dayOfWeek, String startTime, String endTime) {
+        return WorkScheduleDto.builder()
+                .dayOfWeek(dayOfWeek)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+}
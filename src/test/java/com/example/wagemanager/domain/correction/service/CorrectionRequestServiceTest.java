@@ -2,6 +2,7 @@ package com.example.wagemanager.domain.correction.service;
 
 import com.example.wagemanager.common.exception.BadRequestException;
 import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.correction.dto.CorrectionRequestDto;
 import com.example.wagemanager.domain.correction.enums.CorrectionStatus;
 import com.example.wagemanager.domain.correction.repository.CorrectionRequestRepository;
@@ -37,6 +38,9 @@ class CorrectionRequestServiceTest {
     @Mock
     private WorkRecordRepository workRecordRepository;
 
+    @Mock
+    private ContractWriteSerializer contractWriteSerializer;
+
     @InjectMocks
     private CorrectionRequestService correctionRequestService;
 
@@ -0,0 +1,74 @@
+package com.example.wagemanager.domain.notification.broker;
+
+import com.example.wagemanager.domain.notification.entity.NotificationBroadcast;
+import com.example.wagemanager.domain.notification.repository.NotificationBroadcastRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabaseNotificationBroker 테스트")
+class DatabaseNotificationBrokerTest {
+
+    @Mock
+    private NotificationBroadcastRepository notificationBroadcastRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DatabaseNotificationBroker broker;
+    private final List<Long> delivered = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        broker = new DatabaseNotificationBroker(notificationBroadcastRepository, transactionManager, 2, 60000, 60000);
+        broker.subscribe(message -> delivered.add(message.id()));
+        when(notificationBroadcastRepository.findMaxId()).thenReturn(0L);
+        broker.poll();
+    }
+
+    @Test
+    @DisplayName("빈 번호가 있어도 전달한 가장 큰 id 이후부터 읽고, 빈 번호는 따로 다시 조회")
+    void poll_PagesPastGap() {
+        // given: 1번은 아직 커밋되지 않음
+        when(notificationBroadcastRepository.findAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(row(2L), row(3L)));
+        when(notificationBroadcastRepository.findAfter(eq(3L), any(Pageable.class))).thenReturn(List.of(row(4L), row(5L)));
+        when(notificationBroadcastRepository.findByIdIn(List.of(1L))).thenReturn(List.of(), List.of(row(1L)));
+        when(notificationBroadcastRepository.findAfter(eq(5L), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        broker.poll();
+        broker.poll();
+        broker.poll();
+
+        // then: 같은 페이지를 다시 읽지 않고 다음 행을 전달, 늦게 커밋된 1번도 한 번만 전달
+        assertThat(delivered).containsExactly(2L, 3L, 4L, 5L, 1L);
+        verify(notificationBroadcastRepository, times(1)).findAfter(eq(0L), any(Pageable.class));
+    }
+
+    private NotificationBroadcast row(Long id) {
+        return NotificationBroadcast.builder()
+                .id(id)
+                .userId(1L)
+                .eventName("notification")
+                .eventId(id)
+                .payload("{}")
+                .origin("other-node")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.wagemanager.domain.notification.service;
+
+import com.example.wagemanager.domain.notification.dto.NotificationResponse;
+import com.example.wagemanager.domain.notification.entity.Notification;
+import com.example.wagemanager.domain.notification.entity.NotificationOutbox;
+import com.example.wagemanager.domain.notification.enums.NotificationActionType;
+import com.example.wagemanager.domain.notification.enums.NotificationType;
+import com.example.wagemanager.domain.notification.repository.NotificationOutboxRepository;
+import com.example.wagemanager.domain.notification.repository.NotificationRepository;
+import com.example.wagemanager.domain.user.entity.User;
+import com.example.wagemanager.domain.user.enums.UserType;
+import com.example.wagemanager.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationOutboxRelay 테스트")
+class NotificationOutboxRelayTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxRelay relay;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 스레드는 시작하지 않고 relayOnce를 직접 호출
+        relay = new NotificationOutboxRelay(notificationOutboxRepository, notificationRepository, userRepository,
+                sseEmitterService, transactionManager, meterRegistry, true, 10, 1000, 3, 5000);
+        user = User.builder()
+                .id(1L)
+                .kakaoId("test_kakao")
+                .name("테스트 사용자")
+                .userType(UserType.WORKER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("아웃박스 행을 알림으로 옮기고 같은 트랜잭션에서 삭제한 뒤 커밋 후 SSE 전송")
+    void relayOnce_MovesRowsAndPushesAfterCommit() {
+        // given
+        when(notificationOutboxRepository.findNew(any(), eq(PageRequest.of(0, 10))))
+                .thenReturn(List.of(outbox(1L, "알림 1"), outbox(2L, "알림 2")));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(notificationRepository.batchInsert(anyList(), any())).thenReturn(List.of(101L, 102L));
+
+        // when
+        int relayed = relay.relayOnce();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).batchInsert(captor.capture(), any());
+        assertThat(captor.getValue()).extracting(Notification::getTitle).containsExactly("알림 1", "알림 2");
+
+        InOrder inOrder = inOrder(notificationOutboxRepository, transactionManager, sseEmitterService);
+        inOrder.verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        inOrder.verify(transactionManager).commit(any());
+        ArgumentCaptor<NotificationResponse> sent = ArgumentCaptor.forClass(NotificationResponse.class);
+        inOrder.verify(sseEmitterService, times(2)).sendNotification(eq(1L), sent.capture());
+        assertThat(sent.getAllValues()).extracting(NotificationResponse::getId).containsExactly(101L, 102L);
+    }
+
+    @Test
+    @DisplayName("배치 전달에 실패하면 한 건씩 다시 처리해 실패한 행만 재시도 시각을 미룸")
+    void relayOnce_IsolatesFailingRowInMixedBatch() {
+        // given: 알림 1 행은 저장할 수 없음 (삭제된 사용자)
+        NotificationOutbox bad = outbox(1L, "알림 1");
+        NotificationOutbox good = outbox(2L, "알림 2");
+        when(notificationOutboxRepository.findNew(any(), any())).thenReturn(List.of(bad, good));
+        when(notificationOutboxRepository.findLockedById(1L)).thenReturn(Optional.of(bad));
+        when(notificationOutboxRepository.findLockedById(2L)).thenReturn(Optional.of(good));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(notificationRepository.batchInsert(anyList(), any())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            if (notifications.stream().anyMatch(n -> n.getTitle().equals("알림 1"))) {
+                throw new DataIntegrityViolationException("fk_notification_user");
+            }
+            return List.of(102L);
+        });
+
+        // when
+        int relayed = relay.relayOnce();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        verify(notificationOutboxRepository).markFailed(eq(1L), any(LocalDateTime.class));
+        verify(notificationOutboxRepository, never()).markFailed(eq(2L), any(LocalDateTime.class));
+        verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(2L));
+        ArgumentCaptor<NotificationResponse> sent = ArgumentCaptor.forClass(NotificationResponse.class);
+        verify(sseEmitterService, times(1)).sendNotification(eq(1L), sent.capture());
+        assertThat(sent.getValue().getId()).isEqualTo(102L);
+        assertThat(meterRegistry.get("wagemanager.notification.outbox.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이전에 실패한 행은 새 행 배치에 섞지 않고 한 건씩 처리")
+    void relayOnce_RetriesFailedRowsOneAtATime() {
+        // given
+        NotificationOutbox failedBefore = outbox(1L, "알림 1");
+        when(notificationOutboxRepository.findRetryableIds(eq(3), any(), any())).thenReturn(List.of(1L));
+        when(notificationOutboxRepository.findLockedById(1L)).thenReturn(Optional.of(failedBefore));
+        when(notificationOutboxRepository.findNew(any(), any()))
+                .thenReturn(List.of(outbox(2L, "알림 2"), outbox(3L, "알림 3")));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(notificationRepository.batchInsert(anyList(), any()))
+                .thenThrow(new DataIntegrityViolationException("fk_notification_user"))
+                .thenReturn(List.of(102L, 103L));
+
+        // when
+        relay.relayOnce();
+
+        // then: 실패한 행만 다시 미뤄지고 새 행 배치는 그대로 전달
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, times(2)).batchInsert(captor.capture(), any());
+        assertThat(captor.getAllValues().get(0)).extracting(Notification::getTitle).containsExactly("알림 1");
+        assertThat(captor.getAllValues().get(1)).extracting(Notification::getTitle).containsExactly("알림 2", "알림 3");
+        verify(notificationOutboxRepository).markFailed(eq(1L), any(LocalDateTime.class));
+        verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(2L, 3L));
+        verify(sseEmitterService, times(2)).sendNotification(eq(1L), any(NotificationResponse.class));
+    }
+
+    private NotificationOutbox outbox(Long id, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return NotificationOutbox.builder()
+                .id(id)
+                .userId(1L)
+                .type(NotificationType.SCHEDULE_CHANGE)
+                .title(title)
+                .actionType(NotificationActionType.VIEW_WORK_RECORD)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.wagemanager.domain.notification.service;
+
+import com.example.wagemanager.domain.notification.dto.NotificationResponse;
+import com.example.wagemanager.domain.notification.entity.Notification;
+import com.example.wagemanager.domain.notification.enums.NotificationActionType;
+import com.example.wagemanager.domain.notification.enums.NotificationType;
+import com.example.wagemanager.domain.notification.event.NotificationEvent;
+import com.example.wagemanager.domain.notification.repository.NotificationRepository;
+import com.example.wagemanager.domain.user.entity.User;
+import com.example.wagemanager.domain.user.enums.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationPipeline 테스트")
+class NotificationPipelineTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        user = User.builder()
+                .id(1L)
+                .kakaoId("test_kakao")
+                .name("테스트 사용자")
+                .userType(UserType.WORKER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("쌓인 알림을 한 번의 INSERT로 저장하고 커밋 후 생성된 ID로 SSE 전송")
+    void drainOnce_BatchesQueuedNotifications() throws Exception {
+        // given (writer 스레드는 시작하지 않음)
+        NotificationPipeline pipeline = newPipeline(10, 10);
+        pipeline.submit(event("일정 1"));
+        pipeline.submit(event("일정 2"));
+        pipeline.submit(event("일정 3"));
+        when(notificationRepository.batchInsert(anyList(), any())).thenReturn(List.of(11L, 12L, 13L));
+
+        // when
+        int flushed = pipeline.drainOnce(0);
+
+        // then
+        assertThat(flushed).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, times(1)).batchInsert(captor.capture(), any());
+        assertThat(captor.getValue()).extracting(Notification::getTitle).containsExactly("일정 1", "일정 2", "일정 3");
+
+        InOrder inOrder = inOrder(transactionManager, sseEmitterService);
+        inOrder.verify(transactionManager).commit(any());
+        ArgumentCaptor<NotificationResponse> sent = ArgumentCaptor.forClass(NotificationResponse.class);
+        inOrder.verify(sseEmitterService, times(3)).sendNotification(eq(1L), sent.capture());
+        assertThat(sent.getAllValues()).extracting(NotificationResponse::getId).containsExactly(11L, 12L, 13L);
+        assertThat(meterRegistry.get("wagemanager.notification.pipeline.flush").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 크기를 넘는 알림은 다음 배치로 저장")
+    void drainOnce_RespectsBatchSize() throws Exception {
+        // given
+        NotificationPipeline pipeline = newPipeline(10, 2);
+        pipeline.submit(event("일정 1"));
+        pipeline.submit(event("일정 2"));
+        pipeline.submit(event("일정 3"));
+        when(notificationRepository.batchInsert(anyList(), any())).thenReturn(List.of(1L, 2L), List.of(3L));
+
+        // when & then
+        assertThat(pipeline.drainOnce(0)).isEqualTo(2);
+        assertThat(pipeline.drainOnce(0)).isEqualTo(1);
+        assertThat(pipeline.drainOnce(0)).isZero();
+        assertThat(meterRegistry.get("wagemanager.notification.pipeline.queue").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출한 스레드에서 바로 저장")
+    void submit_CallerRunsWhenQueueFull() {
+        // given
+        NotificationPipeline pipeline = newPipeline(1, 10);
+        pipeline.submit(event("일정 1"));
+        when(notificationRepository.batchInsert(anyList(), any())).thenReturn(List.of(7L));
+
+        // when
+        pipeline.submit(event("일정 2"));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).batchInsert(captor.capture(), any());
+        assertThat(captor.getValue()).extracting(Notification::getTitle).containsExactly("일정 2");
+        assertThat(meterRegistry.get("wagemanager.notification.pipeline.overflow").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 SSE를 전송하지 않고 실패 건수 기록")
+    void drainOnce_DoesNotPushWhenInsertFails() throws Exception {
+        // given
+        NotificationPipeline pipeline = newPipeline(10, 10);
+        pipeline.submit(event("일정 1"));
+        pipeline.submit(event("일정 2"));
+        when(notificationRepository.batchInsert(anyList(), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        pipeline.drainOnce(0);
+
+        // then
+        verify(sseEmitterService, never()).sendNotification(any(), any(NotificationResponse.class));
+        assertThat(meterRegistry.get("wagemanager.notification.pipeline.failures").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 한 번 실패하면 같은 배치를 다시 저장")
+    void drainOnce_RetriesBatchOnce() throws Exception {
+        // given
+        NotificationPipeline pipeline = newPipeline(10, 10);
+        pipeline.submit(event("일정 1"));
+        pipeline.submit(event("일정 2"));
+        when(notificationRepository.batchInsert(anyList(), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(List.of(1L, 2L));
+
+        // when
+        pipeline.drainOnce(0);
+
+        // then
+        verify(notificationRepository, times(2)).batchInsert(argThat(list -> list.size() == 2), any());
+        verify(sseEmitterService, times(2)).sendNotification(eq(1L), any(NotificationResponse.class));
+        assertThat(meterRegistry.get("wagemanager.notification.pipeline.failures").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 계속 실패하면 한 건씩 저장해 실패한 알림만 버림")
+    void drainOnce_FallsBackToSingleRowInserts() throws Exception {
+        // given: "잘못된 알림"이 포함된 배치는 항상 실패
+        NotificationPipeline pipeline = newPipeline(10, 10);
+        pipeline.submit(event("일정 1"));
+        pipeline.submit(event("잘못된 알림"));
+        pipeline.submit(event("일정 3"));
+        when(notificationRepository.batchInsert(anyList(), any())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            if (notifications.stream().anyMatch(n -> n.getTitle().equals("잘못된 알림"))) {
+                throw new DataIntegrityViolationException("Data too long");
+            }
+            return List.of((long) notifications.get(0).getTitle().hashCode());
+        });
+
+        // when
+        pipeline.drainOnce(0);
+
+        // then
+        ArgumentCaptor<NotificationResponse> sent = ArgumentCaptor.forClass(NotificationResponse.class);
+        verify(sseEmitterService, times(2)).sendNotification(eq(1L), sent.capture());
+        assertThat(sent.getAllValues()).extracting(NotificationResponse::getTitle).containsExactly("일정 1", "일정 3");
+        assertThat(meterRegistry.get("wagemanager.notification.pipeline.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    private NotificationPipeline newPipeline(int capacity, int batchSize) {
+        return new NotificationPipeline(notificationRepository, sseEmitterService, transactionManager,
+                meterRegistry, capacity, batchSize, 0, 0);
+    }
+
+    private NotificationEvent event(String title) {
+        return NotificationEvent.builder()
+                .user(user)
+                .type(NotificationType.SCHEDULE_CHANGE)
+                .title(title)
+                .actionType(NotificationActionType.VIEW_WORK_RECORD)
+                .build();
+    }
+}
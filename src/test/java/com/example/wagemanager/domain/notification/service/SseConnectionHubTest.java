@@ -0,0 +1,230 @@
+package com.example.wagemanager.domain.notification.service;
+
+import com.example.wagemanager.domain.notification.broker.InProcessNotificationBroker;
+import com.example.wagemanager.domain.notification.broker.SseMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SseConnectionHub 테스트")
+class SseConnectionHubTest {
+
+    private InProcessNotificationBroker broker;
+    private SimpleMeterRegistry meterRegistry;
+    private List<RecordingEmitter> created;
+    private List<Runnable> writers;
+    private SseConnectionHub hub;
+
+    @BeforeEach
+    void setUp() {
+        broker = new InProcessNotificationBroker();
+        meterRegistry = new SimpleMeterRegistry();
+        created = new ArrayList<>();
+        writers = new ArrayList<>();
+        // writer 작업은 runWriters()를 호출할 때 실행
+        hub = new SseConnectionHub(broker, meterRegistry, 2, 3, 0, 3000, () -> {
+            RecordingEmitter emitter = new RecordingEmitter();
+            created.add(emitter);
+            return emitter;
+        }, writers::add);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 두 번째 연결이 첫 번째 연결을 대체하지 않음")
+    void deliver_ToEveryConnectionOfUser() {
+        // given
+        hub.connect(1L);
+        hub.connect(1L);
+        hub.connect(2L);
+
+        // when
+        broker.publish(new SseMessage(1L, "unread-count", "3"));
+        runWriters();
+
+        // then
+        assertThat(hub.getConnectionCount(1L)).isEqualTo(2);
+        assertThat(created.get(0).payloads()).contains("3");
+        assertThat(created.get(1).payloads()).contains("3");
+        assertThat(created.get(2).payloads()).doesNotContain("3");
+        assertThat(meterRegistry.get("wagemanager.sse.connections").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("전송은 큐에만 넣고 writer가 모인 이벤트를 한 번에 씀")
+    void deliver_CoalescesQueuedEventsIntoOneFlush() {
+        // given
+        hub.connect(1L);
+        int flushesAfterConnect = created.get(0).flushes.size();
+
+        // when
+        broker.publish(new SseMessage(1L, "unread-count", "1"));
+        broker.publish(new SseMessage(1L, "unread-count", "2"));
+        broker.publish(new SseMessage(1L, "unread-count", "3"));
+
+        // then: writer가 실행되기 전에는 쓰지 않고, writer 작업은 하나만 시작
+        assertThat(created.get(0).flushes).hasSize(flushesAfterConnect);
+        assertThat(writers).hasSize(1);
+
+        runWriters();
+        assertThat(created.get(0).flushes).hasSize(flushesAfterConnect + 1);
+        assertThat(created.get(0).flushes.get(flushesAfterConnect)).contains("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 가장 오래된 이벤트를 버리고 버린 개수를 알림")
+    void deliver_DropsOldestOverCapacity() {
+        // given
+        hub.connect(1L);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            broker.publish(new SseMessage(1L, "unread-count", String.valueOf(i)));
+        }
+        runWriters();
+
+        // then
+        List<Object> payloads = created.get(0).payloads();
+        assertThat(payloads).contains("{\"count\":2}", "3", "4", "5");
+        assertThat(payloads).doesNotContain("1", "2");
+        assertThat(meterRegistry.get("wagemanager.sse.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결만 제거")
+    void deliver_RemovesBrokenConnection() {
+        // given
+        hub.connect(1L);
+        hub.connect(1L);
+        created.get(0).broken = true;
+
+        // when
+        broker.publish(new SseMessage(1L, "unread-count", "1"));
+        runWriters();
+        broker.publish(new SseMessage(1L, "unread-count", "0"));
+        runWriters();
+
+        // then
+        assertThat(hub.getConnectionCount(1L)).isEqualTo(1);
+        assertThat(created.get(1).payloads()).contains("1", "0");
+    }
+
+    @Test
+    @DisplayName("사용자당 연결 수를 넘으면 가장 오래된 연결 종료")
+    void connect_EvictsOldestOverLimit() {
+        // when
+        hub.connect(1L);
+        hub.connect(1L);
+        hub.connect(1L);
+
+        // then
+        assertThat(hub.getConnectionCount(1L)).isEqualTo(2);
+        assertThat(created.get(0).completed).isTrue();
+        assertThat(created.get(1).completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("재연결 시 놓친 알림을 먼저 보내고, 조회 중 들어온 같은 알림은 한 번만 전송")
+    void connect_ReplaysMissedNotificationsBeforeLiveEvents() {
+        // when: 놓친 알림을 조회하는 동안 알림 5, 6이 발행됨
+        hub.connect(1L, () -> {
+            broker.publish(new SseMessage(1L, "notification", 5L, "n5"));
+            broker.publish(new SseMessage(1L, "notification", 6L, "n6"));
+            return List.of(
+                    new SseMessage(1L, "notification", 4L, "n4"),
+                    new SseMessage(1L, "notification", 5L, "n5"));
+        });
+
+        // then: replay가 끝나기 전에는 writer를 시작하지 않음
+        assertThat(writers).hasSize(1);
+        runWriters();
+        assertThat(created.get(0).payloads())
+                .filteredOn(payload -> payload.toString().startsWith("n"))
+                .containsExactly("n4", "n5", "n6");
+        assertThat(created.get(0).payloads()).anyMatch(payload -> payload.toString().contains("id:4\n"));
+    }
+
+    @Test
+    @DisplayName("재연결 중 들어온 알림은 마지막 replay ID보다 작아도 replay에 없으면 전송")
+    void connect_KeepsLiveEventWithSmallerIdNotInReplay() {
+        // when: 알림 5가 6보다 늦게 커밋되어 replay 조회에는 빠지고 실시간으로 도착
+        hub.connect(1L, () -> {
+            broker.publish(new SseMessage(1L, "notification", 5L, "n5"));
+            return List.of(
+                    new SseMessage(1L, "notification", 4L, "n4"),
+                    new SseMessage(1L, "notification", 6L, "n6"));
+        });
+
+        // then
+        runWriters();
+        assertThat(created.get(0).payloads())
+                .filteredOn(payload -> payload.toString().startsWith("n"))
+                .containsExactly("n4", "n6", "n5");
+    }
+
+    @Test
+    @DisplayName("쓸 이벤트가 없는 연결에만 heartbeat 주석 전송")
+    void sendHeartbeats_OnlyWhenIdle() {
+        // given
+        hub.connect(1L);
+        hub.connect(2L);
+        broker.publish(new SseMessage(2L, "unread-count", "1"));
+
+        // when
+        hub.sendHeartbeats();
+        runWriters();
+
+        // then
+        assertThat(created.get(0).payloads()).anyMatch(payload -> payload.toString().contains(":heartbeat"));
+        assertThat(created.get(1).payloads()).noneMatch(payload -> payload.toString().contains(":heartbeat"));
+        assertThat(created.get(1).payloads()).contains("1");
+    }
+
+    @Test
+    @DisplayName("연결이 없는 사용자에게 전송해도 오류 없음")
+    void deliver_NoConnection() {
+        // when & then
+        assertThatCode(() -> broker.publish(new SseMessage(9L, "unread-count", "0")))
+                .doesNotThrowAnyException();
+        assertThat(hub.getConnectionCount()).isZero();
+    }
+
+    private void runWriters() {
+        while (!writers.isEmpty()) {
+            writers.remove(0).run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<List<Object>> flushes = new ArrayList<>();
+        private boolean broken;
+        private boolean completed;
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            flushes.add(items.stream().map(ResponseBodyEmitter.DataWithMediaType::getData).toList());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<Object> payloads() {
+            return flushes.stream().flatMap(List::stream).toList();
+        }
+    }
+}
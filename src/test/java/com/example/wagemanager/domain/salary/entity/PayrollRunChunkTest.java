@@ -0,0 +1,44 @@
+package com.example.wagemanager.domain.salary.entity;
+
+import com.example.wagemanager.domain.salary.enums.PayrollRunChunkStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PayrollRunChunk 엔티티 테스트")
+class PayrollRunChunkTest {
+
+    @Test
+    @DisplayName("계약 ID 목록 저장 및 복원")
+    void of_ContractIds() {
+        // when
+        PayrollRunChunk chunk = PayrollRunChunk.of(mock(PayrollRun.class), 0, List.of(3L, 7L, 12L));
+
+        // then
+        assertThat(chunk.getContractIdList()).containsExactly(3L, 7L, 12L);
+        assertThat(chunk.getContractCount()).isEqualTo(3);
+        assertThat(chunk.getStatus()).isEqualTo(PayrollRunChunkStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("실패 후 재실행 성공 시 완료 처리되고 오류 메시지 제거")
+    void fail_ThenComplete() {
+        // given
+        PayrollRunChunk chunk = PayrollRunChunk.of(mock(PayrollRun.class), 1, List.of(1L, 2L));
+        chunk.fail("deadlock");
+
+        // when
+        chunk.complete(1, 1);
+
+        // then
+        assertThat(chunk.isCompleted()).isTrue();
+        assertThat(chunk.getSuccessCount()).isEqualTo(1);
+        assertThat(chunk.getFailureCount()).isEqualTo(1);
+        assertThat(chunk.getErrorMessage()).isNull();
+        assertThat(chunk.getCompletedAt()).isNotNull();
+    }
+}
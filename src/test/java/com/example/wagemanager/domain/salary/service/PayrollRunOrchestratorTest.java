@@ -0,0 +1,268 @@
+package com.example.wagemanager.domain.salary.service;
+
+import com.example.wagemanager.common.exception.BadRequestException;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.employer.entity.Employer;
+import com.example.wagemanager.domain.employer.service.EmployerService;
+import com.example.wagemanager.domain.salary.dto.PayrollRunDto;
+import com.example.wagemanager.domain.salary.entity.PayrollRun;
+import com.example.wagemanager.domain.salary.entity.PayrollRunChunk;
+import com.example.wagemanager.domain.salary.enums.PayrollRunChunkStatus;
+import com.example.wagemanager.domain.salary.enums.PayrollRunStatus;
+import com.example.wagemanager.domain.salary.repository.PayrollRunChunkRepository;
+import com.example.wagemanager.domain.salary.repository.PayrollRunRepository;
+import com.example.wagemanager.domain.workplace.entity.Workplace;
+import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import com.example.wagemanager.global.batch.BoundedParallelExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PayrollRunOrchestrator 테스트")
+class PayrollRunOrchestratorTest {
+
+    @Mock
+    private PayrollRunRepository payrollRunRepository;
+
+    @Mock
+    private PayrollRunChunkRepository payrollRunChunkRepository;
+
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private WorkplaceRepository workplaceRepository;
+
+    @Mock
+    private EmployerService employerService;
+
+    @Mock
+    private PayrollRunService payrollRunService;
+
+    @Mock
+    private ContractWriteSerializer contractWriteSerializer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PayrollRunOrchestrator orchestrator;
+    private Employer employer;
+
+    @BeforeEach
+    void setUp() {
+        orchestrator = new PayrollRunOrchestrator(payrollRunRepository, payrollRunChunkRepository,
+                workerContractRepository, workplaceRepository, employerService, payrollRunService,
+                contractWriteSerializer, new BoundedParallelExecutor("payroll-test", 1, 1), transactionManager, 2);
+        employer = Employer.builder().id(1L).build();
+    }
+
+    @Test
+    @DisplayName("정산 시작 - 같은 기간의 정산이 실행 중이면 새로 만들지 않고 그 진행 상태 반환")
+    void start_ReturnsRunningRun() {
+        // given
+        PayrollRun running = run(7L);
+        when(employerService.getEmployerByUserId(100L)).thenReturn(employer);
+        when(payrollRunRepository.findByRunningKey("1:2024:5")).thenReturn(Optional.of(running));
+        when(payrollRunRepository.findById(7L)).thenReturn(Optional.of(running));
+
+        // when
+        PayrollRunDto.Progress progress = orchestrator.start(100L, 2024, 5);
+
+        // then
+        assertThat(progress.getRunId()).isEqualTo(7L);
+        verify(payrollRunRepository, never()).save(any());
+        verifyNoInteractions(workplaceRepository, payrollRunService);
+    }
+
+    @Test
+    @DisplayName("정산 시작 - 다른 요청이 같은 기간의 정산을 먼저 만들면 그 실행 반환")
+    void start_ReturnsRunCreatedConcurrently() {
+        // given
+        PayrollRun running = run(7L);
+        when(employerService.getEmployerByUserId(100L)).thenReturn(employer);
+        when(payrollRunRepository.findByRunningKey("1:2024:5")).thenReturn(Optional.empty(), Optional.of(running));
+        when(workplaceRepository.findByEmployerIdAndIsActive(1L, true)).thenReturn(List.of());
+        when(payrollRunRepository.save(any(PayrollRun.class))).thenThrow(new DataIntegrityViolationException("uk_payroll_run_running_key"));
+        when(payrollRunRepository.findById(7L)).thenReturn(Optional.of(running));
+
+        // when
+        PayrollRunDto.Progress progress = orchestrator.start(100L, 2024, 5);
+
+        // then
+        assertThat(progress.getRunId()).isEqualTo(7L);
+        verify(payrollRunChunkRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("정산 시작 - 대상 계약을 청크 크기로 나누어 실행 키와 함께 저장")
+    void start_SplitsContractsIntoChunks() {
+        // given
+        Workplace workplace = mock(Workplace.class);
+        when(workplace.getId()).thenReturn(10L);
+        when(employerService.getEmployerByUserId(100L)).thenReturn(employer);
+        when(workplaceRepository.findByEmployerIdAndIsActive(1L, true)).thenReturn(List.of(workplace));
+        when(workerContractRepository.findActiveIdsByWorkplaceIds(List.of(10L))).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(payrollRunRepository.save(any(PayrollRun.class))).thenAnswer(invocation -> {
+            PayrollRun saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 7L);
+            return saved;
+        });
+        when(payrollRunRepository.findById(7L)).thenReturn(Optional.of(run(7L)));
+
+        // when
+        orchestrator.start(100L, 2024, 5);
+
+        // then
+        ArgumentCaptor<PayrollRun> runCaptor = ArgumentCaptor.forClass(PayrollRun.class);
+        verify(payrollRunRepository).save(runCaptor.capture());
+        assertThat(runCaptor.getValue().getTotalChunks()).isEqualTo(3);
+        assertThat(runCaptor.getValue().getTotalContracts()).isEqualTo(5);
+        assertThat(runCaptor.getValue().getRunningKey()).isEqualTo("1:2024:5");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PayrollRunChunk>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        verify(payrollRunChunkRepository).saveAll(chunkCaptor.capture());
+        assertThat(chunkCaptor.getValue())
+                .extracting(PayrollRunChunk::getContractIdList)
+                .containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    }
+
+    @Test
+    @DisplayName("정산 실행 - 실패한 청크만 FAILED로 남고 진행률은 완료된 청크로 계산")
+    void execute_IsolatesFailedChunk() {
+        // given
+        PayrollRun run = run(7L);
+        PayrollRunChunk first = chunk(run, 11L, 0, List.of(1L, 2L));
+        PayrollRunChunk second = chunk(run, 12L, 1, List.of(3L));
+        stubChunks(run, first, second);
+        runSerializedWork();
+
+        WorkerContract contract3 = mock(WorkerContract.class);
+        when(workerContractRepository.findByIdsWithWorker(List.of(1L, 2L))).thenReturn(List.of());
+        when(workerContractRepository.findByIdsWithWorker(List.of(3L))).thenReturn(List.of(contract3));
+        when(payrollRunService.calculateForContracts(List.of(), 2024, 5)).thenReturn(result(2, 0));
+        when(payrollRunService.calculateForContracts(List.of(contract3), 2024, 5)).thenThrow(new IllegalStateException("deadlock"));
+
+        // when
+        orchestrator.execute(7L);
+        PayrollRunDto.Progress progress = orchestrator.getProgress(7L);
+
+        // then
+        assertThat(first.isCompleted()).isTrue();
+        assertThat(second.getStatus()).isEqualTo(PayrollRunChunkStatus.FAILED);
+        assertThat(second.getErrorMessage()).isEqualTo("deadlock");
+        assertThat(run.getStatus()).isEqualTo(PayrollRunStatus.PARTIALLY_FAILED);
+        assertThat(run.getRunningKey()).isNull();
+        assertThat(progress.getCompletedChunks()).isEqualTo(1);
+        assertThat(progress.getFailedChunks()).isEqualTo(1);
+        assertThat(progress.getProcessedContracts()).isEqualTo(2);
+        assertThat(progress.getProgressPercent()).isEqualTo(66);
+        verify(contractWriteSerializer).lockAll(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("정산 재개 - 완료되지 않은 청크만 다시 계산")
+    void resume_RunsOnlyUnfinishedChunks() {
+        // given
+        PayrollRun run = run(7L);
+        run.finish(false);
+        PayrollRunChunk first = chunk(run, 11L, 0, List.of(1L, 2L));
+        first.complete(2, 0);
+        PayrollRunChunk second = chunk(run, 12L, 1, List.of(3L));
+        second.fail("deadlock");
+        stubChunks(run, first, second);
+        runSerializedWork();
+
+        WorkerContract contract3 = mock(WorkerContract.class);
+        when(workerContractRepository.findByIdsWithWorker(List.of(3L))).thenReturn(List.of(contract3));
+        when(payrollRunService.calculateForContracts(List.of(contract3), 2024, 5)).thenReturn(result(1, 0));
+
+        // when
+        orchestrator.resume(7L);
+
+        // then
+        verify(payrollRunService, timeout(5000)).calculateForContracts(List.of(contract3), 2024, 5);
+        verify(payrollRunService, never()).calculateForContracts(eq(List.of()), anyInt(), anyInt());
+        verify(workerContractRepository, never()).findByIdsWithWorker(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("정산 재개 - 같은 기간의 다른 정산이 실행 중이면 거부")
+    void resume_RejectsWhenAnotherRunIsRunning() {
+        // given
+        PayrollRun run = run(7L);
+        run.finish(false);
+        when(payrollRunRepository.findById(7L)).thenReturn(Optional.of(run));
+        doThrow(new DataIntegrityViolationException("uk_payroll_run_running_key")).when(transactionManager).commit(any());
+
+        // when & then
+        assertThatThrownBy(() -> orchestrator.resume(7L))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(payrollRunService);
+    }
+
+    private PayrollRun run(Long id) {
+        return PayrollRun.builder()
+                .id(id)
+                .employer(employer)
+                .year(2024)
+                .month(5)
+                .totalChunks(2)
+                .totalContracts(3)
+                .runningKey(PayrollRun.runningKey(1L, 2024, 5))
+                .build();
+    }
+
+    private PayrollRunChunk chunk(PayrollRun run, Long id, int index, List<Long> contractIds) {
+        PayrollRunChunk chunk = PayrollRunChunk.of(run, index, contractIds);
+        ReflectionTestUtils.setField(chunk, "id", id);
+        return chunk;
+    }
+
+    private void stubChunks(PayrollRun run, PayrollRunChunk... chunks) {
+        when(payrollRunRepository.findById(run.getId())).thenReturn(Optional.of(run));
+        for (PayrollRunChunk chunk : chunks) {
+            lenient().when(payrollRunChunkRepository.findById(chunk.getId())).thenReturn(Optional.of(chunk));
+        }
+        when(payrollRunChunkRepository.findByPayrollRunIdAndStatusNotOrderByChunkIndexAsc(run.getId(), PayrollRunChunkStatus.COMPLETED))
+                .thenAnswer(invocation -> List.of(chunks).stream().filter(chunk -> !chunk.isCompleted()).toList());
+        when(payrollRunChunkRepository.findByPayrollRunIdOrderByChunkIndexAsc(run.getId())).thenReturn(List.of(chunks));
+    }
+
+    private void runSerializedWork() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(contractWriteSerializer).run(any());
+    }
+
+    private PayrollRunDto.Response result(int successCount, int failureCount) {
+        return PayrollRunDto.Response.builder()
+                .year(2024)
+                .month(5)
+                .totalCount(successCount + failureCount)
+                .successCount(successCount)
+                .failureCount(failureCount)
+                .results(List.of())
+                .build();
+    }
+}
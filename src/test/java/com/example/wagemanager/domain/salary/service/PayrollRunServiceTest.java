@@ -0,0 +1,240 @@
+package com.example.wagemanager.domain.salary.service;
+
+import com.example.wagemanager.common.exception.ErrorCode;
+import com.example.wagemanager.domain.allowance.repository.WeeklyAllowanceRepository;
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.employer.service.EmployerService;
+import com.example.wagemanager.domain.salary.dto.PayrollRunDto;
+import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.repository.SalaryRepository;
+import com.example.wagemanager.domain.salary.util.DeductionCalculator;
+import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordPayAggregate;
+import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PayrollRunService 테스트")
+class PayrollRunServiceTest {
+
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private WorkRecordRepository workRecordRepository;
+
+    @Mock
+    private WeeklyAllowanceRepository weeklyAllowanceRepository;
+
+    @Mock
+    private SalaryRepository salaryRepository;
+
+    @Mock
+    private WorkplaceRepository workplaceRepository;
+
+    @Mock
+    private EmployerService employerService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ContractWriteSerializer contractWriteSerializer;
+
+    @InjectMocks
+    private PayrollRunService payrollRunService;
+
+    @Test
+    @DisplayName("일괄 정산 - 계약 목록 전체를 한 번씩만 조회하고 신규 급여를 일괄 저장")
+    void runForWorkplace_Success_PrefetchAndSaveAll() {
+        // given
+        WorkerContract contract1 = mockContract(1L, "근로자1");
+        WorkerContract contract2 = mockContract(2L, "근로자2");
+        when(workerContractRepository.findActiveByWorkplaceIdsWithWorker(List.of(10L)))
+                .thenReturn(List.of(contract1, contract2));
+        when(workRecordRepository.sumPayByContractIdsAndDateRange(anyList(), any(), any()))
+                .thenReturn(List.of(aggregate(1L, 2L, "100000")));
+        when(weeklyAllowanceRepository.findByContractIdsAndCreatedAtRange(anyList(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(salaryRepository.findByContractIdsAndYearAndMonth(anyList(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(salaryRepository.batchInsert(anyList(), any())).thenReturn(List.of(100L));
+
+        // when
+        PayrollRunDto.Response response = payrollRunService.runForWorkplace(10L, 2024, 1);
+
+        // then
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getFailureCount()).isEqualTo(1);
+
+        PayrollRunDto.ContractResult success = response.getResults().get(0);
+        assertThat(success.getContractId()).isEqualTo(1L);
+        assertThat(success.getSuccess()).isTrue();
+        assertThat(success.getNetPay()).isEqualByComparingTo("100000");
+        // JDBC 배치로 생성된 ID
+        assertThat(success.getSalaryId()).isEqualTo(100L);
+
+        PayrollRunDto.ContractResult failure = response.getResults().get(1);
+        assertThat(failure.getContractId()).isEqualTo(2L);
+        assertThat(failure.getSuccess()).isFalse();
+        assertThat(failure.getErrorCode()).isEqualTo(ErrorCode.WORK_RECORD_NOT_FOUND);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Salary>> captor = ArgumentCaptor.forClass(List.class);
+        verify(salaryRepository).batchInsert(captor.capture(), any());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getTotalGrossPay()).isEqualByComparingTo("100000");
+
+        verify(workRecordRepository, times(1)).sumPayByContractIdsAndDateRange(anyList(), any(), any());
+        verify(weeklyAllowanceRepository, times(1)).findByContractIdsAndCreatedAtRange(anyList(), any(), any());
+        verify(salaryRepository, times(1)).findByContractIdsAndYearAndMonth(anyList(), any(), any());
+        // 단건 수정과 겹치지 않도록 대상 계약 전체의 쓰기 락을 잡음
+        verify(contractWriteSerializer).lockAll(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - 기존 급여는 갱신하고 새로 저장하지 않음")
+    void runForWorkplace_Success_UpdatesExistingSalary() {
+        // given
+        WorkerContract contract = mockContract(1L, "근로자1");
+        Salary existing = Salary.builder()
+                .contract(contract)
+                .year(2024)
+                .month(1)
+                .totalGrossPay(BigDecimal.ZERO)
+                .netPay(BigDecimal.ZERO)
+                .build();
+
+        when(workerContractRepository.findActiveByWorkplaceIdsWithWorker(List.of(10L)))
+                .thenReturn(List.of(contract));
+        when(workRecordRepository.sumPayByContractIdsAndDateRange(anyList(), any(), any()))
+                .thenReturn(List.of(aggregate(1L, 1L, "50000")));
+        when(weeklyAllowanceRepository.findByContractIdsAndCreatedAtRange(anyList(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(salaryRepository.findByContractIdsAndYearAndMonth(anyList(), any(), any()))
+                .thenReturn(List.of(existing));
+
+        // when
+        PayrollRunDto.Response response = payrollRunService.runForWorkplace(10L, 2024, 1);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(existing.getTotalGrossPay()).isEqualByComparingTo("50000");
+        assertThat(existing.getNetPay()).isEqualByComparingTo("50000");
+        verify(salaryRepository, never()).batchInsert(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - 월급날이 다른 계약은 계산 기간별로 한 번씩 집계")
+    void runForWorkplace_AggregatesPerPayPeriod() {
+        // given
+        WorkerContract contract1 = mockContract(1L, "근로자1");
+        WorkerContract contract2 = mockContract(2L, "근로자2");
+        WorkerContract contract3 = mockContract(3L, "근로자3");
+        lenient().when(contract3.getPaymentDay()).thenReturn(10);
+
+        when(workerContractRepository.findActiveByWorkplaceIdsWithWorker(List.of(10L)))
+                .thenReturn(List.of(contract1, contract2, contract3));
+        when(workRecordRepository.sumPayByContractIdsAndDateRange(
+                List.of(1L, 2L), LocalDate.of(2023, 12, 25), LocalDate.of(2024, 1, 24)))
+                .thenReturn(List.of(aggregate(1L, 1L, "10000"), aggregate(2L, 1L, "20000")));
+        when(workRecordRepository.sumPayByContractIdsAndDateRange(
+                List.of(3L), LocalDate.of(2023, 12, 10), LocalDate.of(2024, 1, 9)))
+                .thenReturn(List.of(aggregate(3L, 1L, "30000")));
+        when(weeklyAllowanceRepository.findByContractIdsAndCreatedAtRange(anyList(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(salaryRepository.findByContractIdsAndYearAndMonth(anyList(), any(), any()))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        PayrollRunDto.Response response = payrollRunService.runForWorkplace(10L, 2024, 1);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        assertThat(response.getResults().get(0).getNetPay()).isEqualByComparingTo("10000");
+        assertThat(response.getResults().get(1).getNetPay()).isEqualByComparingTo("20000");
+        assertThat(response.getResults().get(2).getNetPay()).isEqualByComparingTo("30000");
+        verify(workRecordRepository, times(2)).sumPayByContractIdsAndDateRange(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - 드라이버가 생성된 키를 돌려주지 않으면 신규 급여 ID를 한 번에 조회")
+    void runForWorkplace_LooksUpIdsWhenKeysMissing() {
+        // given
+        WorkerContract contract = mockContract(1L, "근로자1");
+        Salary saved = Salary.builder()
+                .id(200L)
+                .contract(contract)
+                .year(2024)
+                .month(1)
+                .build();
+
+        when(workerContractRepository.findActiveByWorkplaceIdsWithWorker(List.of(10L)))
+                .thenReturn(List.of(contract));
+        when(workRecordRepository.sumPayByContractIdsAndDateRange(anyList(), any(), any()))
+                .thenReturn(List.of(aggregate(1L, 1L, "50000")));
+        when(weeklyAllowanceRepository.findByContractIdsAndCreatedAtRange(anyList(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(salaryRepository.findByContractIdsAndYearAndMonth(anyList(), any(), any()))
+                .thenReturn(Collections.emptyList(), List.of(saved));
+        when(salaryRepository.batchInsert(anyList(), any())).thenReturn(List.of());
+
+        // when
+        PayrollRunDto.Response response = payrollRunService.runForWorkplace(10L, 2024, 1);
+
+        // then
+        assertThat(response.getResults().get(0).getSalaryId()).isEqualTo(200L);
+        verify(salaryRepository, times(2)).findByContractIdsAndYearAndMonth(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - 활성 계약이 없으면 추가 조회 없이 빈 결과 반환")
+    void runForWorkplace_NoContracts() {
+        // given
+        when(workerContractRepository.findActiveByWorkplaceIdsWithWorker(List.of(10L)))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        PayrollRunDto.Response response = payrollRunService.runForWorkplace(10L, 2024, 1);
+
+        // then
+        assertThat(response.getTotalCount()).isZero();
+        verifyNoInteractions(workRecordRepository, weeklyAllowanceRepository, salaryRepository);
+    }
+
+    private WorkerContract mockContract(Long id, String workerName) {
+        WorkerContract contract = mock(WorkerContract.class, RETURNS_DEEP_STUBS);
+        lenient().when(contract.getId()).thenReturn(id);
+        lenient().when(contract.getPaymentDay()).thenReturn(25);
+        lenient().when(contract.getPayrollDeductionType()).thenReturn(DeductionCalculator.PayrollDeductionType.PART_TIME_NONE);
+        lenient().when(contract.getWorker().getUser().getName()).thenReturn(workerName);
+        lenient().when(contract.getWorkplace().getId()).thenReturn(10L);
+        return contract;
+    }
+
+    private WorkRecordPayAggregate aggregate(Long contractId, long recordCount, String baseSalary) {
+        return new WorkRecordPayAggregate(contractId, recordCount,
+                new BigDecimal("8.00").multiply(BigDecimal.valueOf(recordCount)),
+                new BigDecimal(baseSalary), BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.wagemanager.domain.salary.service;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.repository.SalaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalaryReconciliationService 테스트")
+class SalaryReconciliationServiceTest {
+
+    @Mock
+    private SalaryRepository salaryRepository;
+
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private PayrollRunService payrollRunService;
+
+    @Mock
+    private ContractWriteSerializer contractWriteSerializer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SalaryReconciliationService salaryReconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        salaryReconciliationService = new SalaryReconciliationService(
+                salaryRepository, workerContractRepository, payrollRunService, contractWriteSerializer, transactionManager);
+        lenient().when(contractWriteSerializer.execute(any())).thenAnswer(invocation -> {
+            Supplier<?> work = invocation.getArgument(0);
+            return work.get();
+        });
+    }
+
+    @Test
+    @DisplayName("재집계 결과와 다른 급여만 보정 건수로 집계")
+    void reconcile_CountsOnlyChangedSalaries() {
+        // given
+        Salary drifted = salary(1L, "100000");
+        Salary unchanged = salary(2L, "200000");
+        List<WorkerContract> contracts = List.of(drifted.getContract(), unchanged.getContract());
+        when(salaryRepository.findContractIdsByYearAndMonth(2024, 1)).thenReturn(List.of(1L, 2L));
+        when(salaryRepository.findByContractIdsAndYearAndMonth(List.of(1L, 2L), 2024, 1))
+                .thenReturn(List.of(drifted, unchanged));
+        when(workerContractRepository.findByIdsWithWorker(List.of(1L, 2L))).thenReturn(contracts);
+        // 재집계: 증분 반영으로 어긋난 1번 계약 급여만 값이 바뀜
+        when(payrollRunService.calculateForContracts(contracts, 2024, 1)).thenAnswer(invocation -> {
+            ReflectionTestUtils.setField(drifted, "netPay", new BigDecimal("90000"));
+            return null;
+        });
+
+        // when
+        int repaired = salaryReconciliationService.reconcile(2024, 1);
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        verify(contractWriteSerializer).lockAll(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("재집계 결과가 같으면 보정 건수 0")
+    void reconcile_NoDifference() {
+        // given
+        Salary salary = salary(1L, "100000");
+        when(salaryRepository.findContractIdsByYearAndMonth(2024, 1)).thenReturn(List.of(1L));
+        when(salaryRepository.findByContractIdsAndYearAndMonth(List.of(1L), 2024, 1)).thenReturn(List.of(salary));
+        when(workerContractRepository.findByIdsWithWorker(List.of(1L))).thenReturn(List.of(salary.getContract()));
+
+        // when
+        int repaired = salaryReconciliationService.reconcile(2024, 1);
+
+        // then
+        assertThat(repaired).isZero();
+        verify(payrollRunService).calculateForContracts(List.of(salary.getContract()), 2024, 1);
+    }
+
+    @Test
+    @DisplayName("대상 계약을 청크 단위로 나누어 청크마다 락을 잡고 재집계")
+    void reconcile_SplitsIntoChunks() {
+        // given
+        List<Long> contractIds = LongStream.rangeClosed(1, 501).boxed().toList();
+        when(salaryRepository.findContractIdsByYearAndMonth(2024, 1)).thenReturn(contractIds);
+        when(salaryRepository.findByContractIdsAndYearAndMonth(anyList(), eq(2024), eq(1))).thenReturn(List.of());
+        when(workerContractRepository.findByIdsWithWorker(anyList())).thenReturn(List.of());
+
+        // when
+        int repaired = salaryReconciliationService.reconcile(2024, 1);
+
+        // then
+        assertThat(repaired).isZero();
+        verify(contractWriteSerializer, times(2)).execute(any());
+        verify(contractWriteSerializer).lockAll(contractIds.subList(0, 500));
+        verify(contractWriteSerializer).lockAll(List.of(501L));
+        verify(payrollRunService, times(2)).calculateForContracts(anyList(), eq(2024), eq(1));
+    }
+
+    private Salary salary(Long contractId, String netPay) {
+        WorkerContract contract = mock(WorkerContract.class);
+        lenient().when(contract.getId()).thenReturn(contractId);
+        return Salary.builder()
+                .contract(contract)
+                .year(2024)
+                .month(1)
+                .totalWorkHours(new BigDecimal("40.00"))
+                .totalGrossPay(new BigDecimal(netPay))
+                .totalDeduction(BigDecimal.ZERO)
+                .netPay(new BigDecimal(netPay))
+                .build();
+    }
+}
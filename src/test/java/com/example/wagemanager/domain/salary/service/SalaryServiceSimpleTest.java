@@ -3,6 +3,7 @@ package com.example.wagemanager.domain.salary.service;
 import com.example.wagemanager.common.exception.NotFoundException;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.salary.entity.Salary;
 import com.example.wagemanager.domain.salary.repository.SalaryRepository;
 import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
@@ -13,10 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,6 +37,12 @@ class SalaryServiceSimpleTest {
     @Mock
     private WorkerContractRepository workerContractRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ContractWriteSerializer contractWriteSerializer;
+
     @InjectMocks
     private SalaryService salaryService;
 
@@ -102,8 +109,8 @@ class SalaryServiceSimpleTest {
         Integer month = 12;
 
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(testContract));
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(Collections.emptyList());
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.calculateSalaryByWorkRecords(contractId, year, month))
@@ -111,6 +118,6 @@ class SalaryServiceSimpleTest {
                 .hasMessageContaining("해당 기간 내 근무 기록이 없습니다");
 
         verify(workerContractRepository).findById(contractId);
-        verify(workRecordRepository).findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class));
+        verify(workRecordRepository).sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class));
     }
 }
@@ -5,17 +5,26 @@ import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
 import com.example.wagemanager.domain.allowance.repository.WeeklyAllowanceRepository;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
 import com.example.wagemanager.domain.salary.entity.Salary;
+import com.example.wagemanager.domain.salary.event.PayrollChangedEvent;
 import com.example.wagemanager.domain.salary.repository.SalaryRepository;
+import com.example.wagemanager.domain.salary.util.DeductionCalculator;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordPayAggregate;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
 import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +50,12 @@ class SalaryServiceTest {
     @Mock
     private WeeklyAllowanceRepository weeklyAllowanceRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ContractWriteSerializer contractWriteSerializer;
+
     @InjectMocks
     private SalaryService salaryService;
 
@@ -78,13 +93,14 @@ class SalaryServiceTest {
         Long workplaceId = 1L;
         Integer year = 2024;
         Integer month = 1;
-        when(salaryRepository.findByWorkplaceId(workplaceId)).thenReturn(Arrays.asList());
+        when(salaryRepository.findByWorkplaceIdAndYearAndMonth(workplaceId, year, month)).thenReturn(Arrays.asList());
 
         // when
         salaryService.getSalariesByWorkplaceAndYearMonth(workplaceId, year, month);
 
         // then
-        verify(salaryRepository).findByWorkplaceId(workplaceId);
+        verify(salaryRepository).findByWorkplaceIdAndYearAndMonth(workplaceId, year, month);
+        verify(salaryRepository, never()).findByWorkplaceId(anyLong());
     }
 
     @Test
@@ -137,14 +153,44 @@ class SalaryServiceTest {
         WorkerContract contract = mock(WorkerContract.class);
         when(contract.getPaymentDay()).thenReturn(25);
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-        when(workRecordRepository.findByContractAndDateRange(anyLong(), any(), any()))
-                .thenReturn(Arrays.asList());
+        when(workRecordRepository.sumPayByContractAndDateRange(anyLong(), any(), any()))
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.calculateSalaryByWorkRecords(contractId, 2024, 1))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("해당 기간 내 근무 기록이 없습니다");
-        verify(workRecordRepository).findByContractAndDateRange(anyLong(), any(), any());
+        verify(workRecordRepository).sumPayByContractAndDateRange(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("급여 자동 계산 - 근무 기록 엔티티 대신 DB 집계 합계로 계산")
+    void calculateSalaryByWorkRecords_Success_UsesAggregate() {
+        // given
+        Long contractId = 1L;
+        WorkerContract contract = mock(WorkerContract.class, RETURNS_DEEP_STUBS);
+        when(contract.getPaymentDay()).thenReturn(25);
+        when(contract.getPayrollDeductionType()).thenReturn(DeductionCalculator.PayrollDeductionType.PART_TIME_NONE);
+        when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+        when(workRecordRepository.sumPayByContractAndDateRange(anyLong(), any(), any()))
+                .thenReturn(Optional.of(new WorkRecordPayAggregate(contractId, 3L,
+                        new BigDecimal("16.00"), new BigDecimal("160000.00"), null, null)));
+        when(weeklyAllowanceRepository.findByContractIdAndYearMonth(anyLong(), anyInt(), anyInt()))
+                .thenReturn(Arrays.asList());
+        when(salaryRepository.findByContractIdAndYearAndMonth(contractId, 2024, 1)).thenReturn(Arrays.asList());
+
+        // when
+        salaryService.calculateSalaryByWorkRecords(contractId, 2024, 1);
+
+        // then
+        ArgumentCaptor<Salary> captor = ArgumentCaptor.forClass(Salary.class);
+        verify(salaryRepository).save(captor.capture());
+        assertThat(captor.getValue().getTotalWorkHours()).isEqualByComparingTo("16.00");
+        assertThat(captor.getValue().getNightPay()).isEqualByComparingTo("0");
+        assertThat(captor.getValue().getTotalGrossPay()).isEqualByComparingTo("160000");
+        assertThat(captor.getValue().getNetPay()).isEqualByComparingTo("160000");
+        verify(workRecordRepository, never()).findByContractAndDateRange(anyLong(), any(), any());
+        verify(eventPublisher).publishEvent(any(PayrollChangedEvent.class));
     }
 
     @Test
@@ -155,12 +201,66 @@ class SalaryServiceTest {
         WorkerContract contract = mock(WorkerContract.class);
         when(contract.getPaymentDay()).thenReturn(25);
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-        when(workRecordRepository.findByContractAndDateRange(anyLong(), any(), any()))
-                .thenReturn(Arrays.asList());
+        when(workRecordRepository.sumPayByContractAndDateRange(anyLong(), any(), any()))
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.recalculateSalaryAfterWorkRecordUpdate(contractId, 2024, 1))
                 .isInstanceOf(NotFoundException.class);
         verify(workerContractRepository).findById(contractId);
     }
+
+    @Test
+    @DisplayName("급여 증분 재계산 - 근무 기록을 다시 조회하지 않고 변경분만 반영")
+    void applyWorkRecordDelta_Incremental() {
+        // given
+        ReflectionTestUtils.setField(salaryService, "incrementalRecalculation", true);
+        WorkerContract contract = mock(WorkerContract.class);
+        when(contract.getPaymentDay()).thenReturn(25);
+        when(contract.getPayrollDeductionType()).thenReturn(DeductionCalculator.PayrollDeductionType.PART_TIME_NONE);
+
+        Salary salary = Salary.builder()
+                .contract(contract)
+                .year(2024)
+                .month(1)
+                .totalWorkHours(new BigDecimal("10.00"))
+                .basePay(new BigDecimal("100000"))
+                .nightPay(BigDecimal.ZERO)
+                .holidayPay(BigDecimal.ZERO)
+                .build();
+        when(salaryRepository.findByContractIdAndYearAndMonth(1L, 2024, 1)).thenReturn(List.of(salary));
+        when(weeklyAllowanceRepository.findByContractIdAndYearMonth(anyLong(), anyInt(), anyInt()))
+                .thenReturn(Arrays.asList());
+
+        PayrollCalculator.WorkTotals delta = new PayrollCalculator.WorkTotals(
+                new BigDecimal("5.00"), new BigDecimal("50000"), BigDecimal.ZERO, BigDecimal.ZERO);
+
+        // when
+        salaryService.applyWorkRecordDelta(1L, 2024, 1, delta);
+
+        // then
+        assertThat(salary.getTotalWorkHours()).isEqualByComparingTo("15.00");
+        assertThat(salary.getBasePay()).isEqualByComparingTo("150000");
+        assertThat(salary.getTotalGrossPay()).isEqualByComparingTo("150000");
+        assertThat(salary.getNetPay()).isEqualByComparingTo("150000");
+        verifyNoInteractions(workRecordRepository);
+        verify(salaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("급여 증분 재계산 - 증분 모드가 꺼져 있으면 전체 재계산")
+    void applyWorkRecordDelta_FullModeFallsBack() {
+        // given
+        ReflectionTestUtils.setField(salaryService, "incrementalRecalculation", false);
+        WorkerContract contract = mock(WorkerContract.class);
+        when(contract.getPaymentDay()).thenReturn(25);
+        when(workerContractRepository.findById(1L)).thenReturn(Optional.of(contract));
+        when(workRecordRepository.sumPayByContractAndDateRange(anyLong(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> salaryService.applyWorkRecordDelta(1L, 2024, 1, PayrollCalculator.WorkTotals.ZERO))
+                .isInstanceOf(NotFoundException.class);
+        verify(workRecordRepository).sumPayByContractAndDateRange(anyLong(), any(), any());
+    }
 }
@@ -0,0 +1,168 @@
+package com.example.wagemanager.domain.salary.service;
+
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.salary.dto.SalaryDto;
+import com.example.wagemanager.domain.salary.dto.WorkplacePayrollTotals;
+import com.example.wagemanager.domain.salary.entity.WorkplacePayrollSummary;
+import com.example.wagemanager.domain.salary.repository.SalaryRepository;
+import com.example.wagemanager.domain.salary.repository.WorkplacePayrollSummaryRepository;
+import com.example.wagemanager.domain.workplace.entity.Workplace;
+import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkplacePayrollSummaryService 테스트")
+class WorkplacePayrollSummaryServiceTest {
+
+    @Mock
+    private WorkplacePayrollSummaryRepository summaryRepository;
+
+    @Mock
+    private SalaryRepository salaryRepository;
+
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private WorkplaceRepository workplaceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WorkplacePayrollSummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        summaryService = new WorkplacePayrollSummaryService(
+                summaryRepository, salaryRepository, workerContractRepository, workplaceRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("요약 행이 없으면 집계 결과로 새로 생성")
+    void refresh_CreatesSummary() {
+        // given
+        when(summaryRepository.findForUpdate(1L, 2024, 1)).thenReturn(Optional.empty());
+        when(salaryRepository.summarizeByWorkplaceAndYearAndMonth(1L, 2024, 1))
+                .thenReturn(totals(3L, "3000000", "300000", "2700000", 1L));
+        when(workplaceRepository.getReferenceById(1L)).thenReturn(Workplace.builder().id(1L).build());
+
+        // when
+        summaryService.refresh(1L, 2024, 1);
+
+        // then
+        ArgumentCaptor<WorkplacePayrollSummary> captor = ArgumentCaptor.forClass(WorkplacePayrollSummary.class);
+        verify(summaryRepository).saveAndFlush(captor.capture());
+        WorkplacePayrollSummary summary = captor.getValue();
+        assertThat(summary.getHeadcount()).isEqualTo(3);
+        assertThat(summary.getTotalNetPay()).isEqualByComparingTo("2700000");
+        assertThat(summary.getPaidCount()).isEqualTo(1);
+        assertThat(summary.getUnpaidCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기존 요약 행은 잠근 뒤 재집계 결과로 덮어씀")
+    void refresh_UpdatesLockedSummary() {
+        // given
+        WorkplacePayrollSummary summary = WorkplacePayrollSummary.builder().year(2024).month(1).build();
+        when(summaryRepository.findForUpdate(1L, 2024, 1)).thenReturn(Optional.of(summary));
+        when(salaryRepository.summarizeByWorkplaceAndYearAndMonth(1L, 2024, 1))
+                .thenReturn(totals(2L, "2000000", "200000", "1800000", 2L));
+
+        // when
+        summaryService.refresh(1L, 2024, 1);
+
+        // then
+        assertThat(summary.getHeadcount()).isEqualTo(2);
+        assertThat(summary.getTotalGrossPay()).isEqualByComparingTo("2000000");
+        assertThat(summary.getUnpaidCount()).isZero();
+        verify(summaryRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("급여가 없는 월은 요약 행을 만들지 않음")
+    void refresh_SkipsEmptyMonth() {
+        // given
+        when(summaryRepository.findForUpdate(1L, 2024, 1)).thenReturn(Optional.empty());
+        when(salaryRepository.summarizeByWorkplaceAndYearAndMonth(1L, 2024, 1)).thenReturn(WorkplacePayrollTotals.EMPTY);
+
+        // when
+        summaryService.refresh(1L, 2024, 1);
+
+        // then
+        verify(summaryRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("요약 행 동시 생성 충돌 시 다시 잠그고 재집계")
+    void refresh_RetriesOnConcurrentInsert() {
+        // given
+        WorkplacePayrollSummary created = WorkplacePayrollSummary.builder().year(2024).month(1).build();
+        when(summaryRepository.findForUpdate(1L, 2024, 1))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(created));
+        when(salaryRepository.summarizeByWorkplaceAndYearAndMonth(1L, 2024, 1))
+                .thenReturn(totals(1L, "1000000", "100000", "900000", 0L));
+        when(workplaceRepository.getReferenceById(1L)).thenReturn(Workplace.builder().id(1L).build());
+        when(summaryRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        summaryService.refresh(1L, 2024, 1);
+
+        // then
+        verify(summaryRepository, times(2)).findForUpdate(1L, 2024, 1);
+        assertThat(created.getHeadcount()).isEqualTo(1);
+        assertThat(created.getUnpaidCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계약이 속한 사업장별로 한 번씩 재집계")
+    void refreshForContracts_RefreshesEachWorkplace() {
+        // given
+        when(workerContractRepository.findWorkplaceIdsByIds(List.of(10L, 11L, 12L))).thenReturn(List.of(1L, 2L));
+        when(summaryRepository.findForUpdate(any(), any(), any())).thenReturn(Optional.empty());
+        when(salaryRepository.summarizeByWorkplaceAndYearAndMonth(any(), any(), any())).thenReturn(WorkplacePayrollTotals.EMPTY);
+
+        // when
+        summaryService.refreshForContracts(2024, 1, List.of(10L, 11L, 12L));
+
+        // then
+        verify(salaryRepository).summarizeByWorkplaceAndYearAndMonth(1L, 2024, 1);
+        verify(salaryRepository).summarizeByWorkplaceAndYearAndMonth(2L, 2024, 1);
+    }
+
+    @Test
+    @DisplayName("요약 조회 - 요약 행이 없으면 0으로 응답")
+    void getSummary_EmptyWhenMissing() {
+        // given
+        when(summaryRepository.findByWorkplaceIdAndYearAndMonth(1L, 2024, 1)).thenReturn(Optional.empty());
+
+        // when
+        SalaryDto.WorkplaceSummaryResponse response = summaryService.getSummary(1L, 2024, 1);
+
+        // then
+        assertThat(response.getWorkplaceId()).isEqualTo(1L);
+        assertThat(response.getHeadcount()).isZero();
+        assertThat(response.getTotalNetPay()).isEqualByComparingTo("0");
+        verify(salaryRepository, never()).summarizeByWorkplaceAndYearAndMonth(any(), any(), any());
+    }
+
+    private WorkplacePayrollTotals totals(Long headcount, String gross, String deduction, String net, Long paid) {
+        return new WorkplacePayrollTotals(headcount, new BigDecimal(gross), new BigDecimal(deduction), new BigDecimal(net), paid);
+    }
+}
@@ -5,12 +5,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("DeductionCalculator 테스트")
 class DeductionCalculatorTest {
 
+    private static final LocalDate PAYMENT_DATE = LocalDate.of(2024, 6, 10);
+
     @Test
     @DisplayName("세금 계산 - 프리랜서")
     void calculate_Freelancer() {
@@ -18,7 +21,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(2000000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.FREELANCER);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.FREELANCER, PAYMENT_DATE);
 
         // then
         assertThat(result).isNotNull();
@@ -35,7 +38,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(1000000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_NONE);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_NONE, PAYMENT_DATE);
 
         // then
         assertThat(result).isNotNull();
@@ -52,7 +55,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(1500000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_ONLY);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_ONLY, PAYMENT_DATE);
 
         // then
         assertThat(result).isNotNull();
@@ -62,6 +65,36 @@ class DeductionCalculatorTest {
         assertThat(result.totalDeduction).isGreaterThan(BigDecimal.ZERO);
     }
 
+    @Test
+    @DisplayName("세금 계산 - 간이세액표가 없는 연도는 간이세액표 근사 적용")
+    void calculate_WithoutTaxTable_UsesApproximation() {
+        // given
+        BigDecimal totalGrossPay = BigDecimal.valueOf(1500000);
+
+        // when: 번들된 가장 이른 표(2024년)보다 앞선 지급일
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(
+                totalGrossPay, PayrollDeductionType.PART_TIME_TAX_ONLY, LocalDate.of(2023, 6, 10));
+
+        // then - 200만원 미만 3.5%
+        assertThat(result.incomeTax).isEqualByComparingTo("52500");
+        assertThat(result.localIncomeTax).isEqualByComparingTo("5250");
+    }
+
+    @Test
+    @DisplayName("세금 계산 - 간이세액표가 있는 연도는 표의 세액 적용")
+    void calculate_WithTaxTable_UsesTable() {
+        // given
+        BigDecimal totalGrossPay = BigDecimal.valueOf(2500000);
+
+        // when
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_ONLY, PAYMENT_DATE);
+
+        // then
+        long expected = WithholdingTaxTable.forYear(2024).orElseThrow().incomeTax(2_500_000L, 1);
+        assertThat(result.incomeTax).isEqualByComparingTo(BigDecimal.valueOf(expected));
+        assertThat(result.incomeTax).isNotEqualByComparingTo("100000");
+    }
+
     @Test
     @DisplayName("세금 계산 - 비정규직 세금+4대보험")
     void calculate_PartTimeTaxAndInsurance() {
@@ -69,7 +102,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(2500000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE, PAYMENT_DATE);
 
         // then
         assertThat(result).isNotNull();
@@ -0,0 +1,107 @@
+package com.example.wagemanager.domain.salary.util;
+
+import com.example.wagemanager.domain.salary.util.DeductionCalculator.PayrollDeductionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InsuranceRateRegistry 테스트")
+class InsuranceRateRegistryTest {
+
+    private static final String TABLE = String.join("\n",
+            "# 테스트용 요율표",
+            "effective-from,national-pension,health-insurance,long-term-care,employment-insurance,minimum-pension-wage",
+            "2023-01-01,0.045,0.03545,0.1281,0.009,370000",
+            "2024-01-01,0.045,0.03545,0.1295,0.009,390000",
+            "2025-07-01,0.05,0.04,0.13,0.01,400000");
+
+    @AfterEach
+    void tearDown() {
+        InsuranceRateRegistry.resetToDefault();
+    }
+
+    @Test
+    @DisplayName("기본 요율표 - 클래스패스 요율표 적재")
+    void defaultTable() {
+        // when
+        InsuranceRates rates = InsuranceRateRegistry.ratesOn(LocalDate.of(2024, 3, 21));
+
+        // then
+        assertThat(InsuranceRateRegistry.currentSource()).isEqualTo(InsuranceRateRegistry.DEFAULT_SOURCE);
+        assertThat(rates.getNationalPensionRate()).isEqualByComparingTo("0.045");
+        assertThat(rates.getHealthInsuranceRate()).isEqualByComparingTo("0.03545");
+        assertThat(rates.getLongTermCareRate()).isEqualByComparingTo("0.1295");
+        assertThat(rates.getEmploymentInsuranceRate()).isEqualByComparingTo("0.009");
+        assertThat(rates.getMinimumPensionWage()).isEqualByComparingTo("390000");
+    }
+
+    @Test
+    @DisplayName("요율 조회 - 지급일 이하의 가장 늦은 적용 시작일, 첫 행 이전은 첫 행")
+    void ratesOn_EffectiveDate() throws IOException {
+        // given
+        InsuranceRateRegistry.reload(new StringReader(TABLE), "test");
+
+        // when & then
+        assertThat(InsuranceRateRegistry.ratesOn(LocalDate.of(2022, 12, 31)).getEffectiveFrom()).isEqualTo(LocalDate.of(2023, 1, 1));
+        assertThat(InsuranceRateRegistry.ratesOn(LocalDate.of(2023, 12, 31)).getEffectiveFrom()).isEqualTo(LocalDate.of(2023, 1, 1));
+        assertThat(InsuranceRateRegistry.ratesOn(LocalDate.of(2024, 1, 1)).getEffectiveFrom()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(InsuranceRateRegistry.ratesOn(LocalDate.of(2025, 6, 30)).getEffectiveFrom()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(InsuranceRateRegistry.ratesOn(LocalDate.of(2030, 1, 1)).getEffectiveFrom()).isEqualTo(LocalDate.of(2025, 7, 1));
+    }
+
+    @Test
+    @DisplayName("공제 계산 - 지급일에 적용되는 요율로 계산")
+    void deduction_UsesRatesOfPaymentDate() throws IOException {
+        // given
+        InsuranceRateRegistry.reload(new StringReader(TABLE), "test");
+        BigDecimal grossPay = new BigDecimal("2000000");
+
+        // when
+        DeductionCalculator.TaxResult before = DeductionCalculator.calculate(
+                grossPay, PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE, LocalDate.of(2025, 6, 21));
+        DeductionCalculator.TaxResult after = DeductionCalculator.calculate(
+                grossPay, PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE, LocalDate.of(2025, 7, 21));
+
+        // then
+        assertThat(before.nationalPension).isEqualByComparingTo("90000");
+        assertThat(before.employmentInsurance).isEqualByComparingTo("18000");
+        assertThat(after.nationalPension).isEqualByComparingTo("100000");
+        assertThat(after.healthInsurance).isEqualByComparingTo("80000");
+        assertThat(after.longTermCare).isEqualByComparingTo("10400");
+        assertThat(after.employmentInsurance).isEqualByComparingTo("20000");
+    }
+
+    @Test
+    @DisplayName("재적재 실패 - 적용 시작일이 오름차순이 아니면 기존 요율표 유지")
+    void reload_Fail_KeepsCurrentTable() {
+        // given
+        String table = String.join("\n",
+                "2024-01-01,0.045,0.03545,0.1295,0.009,390000",
+                "2023-01-01,0.045,0.03545,0.1281,0.009,370000");
+
+        // when & then
+        assertThatThrownBy(() -> InsuranceRateRegistry.reload(new StringReader(table), "broken"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("오름차순");
+        assertThat(InsuranceRateRegistry.currentSource()).isEqualTo(InsuranceRateRegistry.DEFAULT_SOURCE);
+    }
+
+    @Test
+    @DisplayName("재적재 실패 - 요율이 0 이상 1 미만이 아님")
+    void reload_Fail_RateOutOfRange() {
+        // given
+        String table = "2024-01-01,4.5,0.03545,0.1295,0.009,390000";
+
+        // when & then
+        assertThatThrownBy(() -> InsuranceRateRegistry.reload(new StringReader(table), "broken"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("요율 범위");
+    }
+}
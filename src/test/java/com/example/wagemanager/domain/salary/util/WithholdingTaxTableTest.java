@@ -0,0 +1,115 @@
+package com.example.wagemanager.domain.salary.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WithholdingTaxTable 테스트")
+class WithholdingTaxTableTest {
+
+    private static final String TABLE = String.join("\n",
+            "# 테스트용 간이세액표",
+            "excess-rate,0.1",
+            "lower,upper,1,2,3,4,5,6,7,8,9,10,11",
+            "1000,1010,1000,900,800,700,600,500,400,300,200,100,0",
+            "1010,1030,2000,1900,1800,1700,1600,1500,1400,1300,1200,1100,1000",
+            "1030,1060,3000,2900,2800,2700,2600,2500,2400,2300,2200,2100,2000");
+
+    @Test
+    @DisplayName("세액 조회 - 구간 하한 이상 ~ 상한 미만")
+    void incomeTax_BandBoundaries() throws IOException {
+        // given
+        WithholdingTaxTable table = WithholdingTaxTable.parse(2024, new StringReader(TABLE));
+
+        // when & then
+        assertThat(table.incomeTax(999_999L, 1)).isZero();
+        assertThat(table.incomeTax(1_000_000L, 1)).isEqualTo(1000L);
+        assertThat(table.incomeTax(1_009_999L, 1)).isEqualTo(1000L);
+        assertThat(table.incomeTax(1_010_000L, 1)).isEqualTo(2000L);
+        assertThat(table.incomeTax(1_059_999L, 1)).isEqualTo(3000L);
+    }
+
+    @Test
+    @DisplayName("세액 조회 - 공제대상가족 수별 세액, 범위 밖은 1~11명으로 제한")
+    void incomeTax_Dependants() throws IOException {
+        // given
+        WithholdingTaxTable table = WithholdingTaxTable.parse(2024, new StringReader(TABLE));
+
+        // when & then
+        assertThat(table.incomeTax(1_020_000L, 3)).isEqualTo(1800L);
+        assertThat(table.incomeTax(1_020_000L, 0)).isEqualTo(2000L);
+        assertThat(table.incomeTax(1_020_000L, 20)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("세액 조회 - 마지막 구간 상한 이상은 초과분 세율 적용")
+    void incomeTax_AboveTable() throws IOException {
+        // given
+        WithholdingTaxTable table = WithholdingTaxTable.parse(2024, new StringReader(TABLE));
+
+        // when & then
+        // 3000 + (1,100,005 - 1,060,000) × 0.1 = 3000 + 4000 (원 미만 절사)
+        assertThat(table.incomeTax(1_100_005L, 1)).isEqualTo(7000L);
+        assertThat(table.incomeTax(new BigDecimal("1100005.99"), 1)).isEqualByComparingTo("7000");
+    }
+
+    @Test
+    @DisplayName("세액 조회 - BigDecimal 월급여액은 원 미만 절사 후 조회")
+    void incomeTax_BigDecimalTruncates() throws IOException {
+        // given
+        WithholdingTaxTable table = WithholdingTaxTable.parse(2024, new StringReader(TABLE));
+
+        // when & then
+        assertThat(table.incomeTax(new BigDecimal("1009999.9999"), 1)).isEqualByComparingTo("1000");
+        assertThat(table.incomeTax(new BigDecimal("-500.5"), 1)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("파싱 실패 - 구간이 연속되지 않음")
+    void parse_Fail_NotContiguous() {
+        // given
+        String table = String.join("\n",
+                "1000,1010,1,1,1,1,1,1,1,1,1,1,1",
+                "1020,1030,2,2,2,2,2,2,2,2,2,2,2");
+
+        // when & then
+        assertThatThrownBy(() -> WithholdingTaxTable.parse(2024, new StringReader(table)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("구간");
+    }
+
+    @Test
+    @DisplayName("연도 선택 - 해당 연도 표가 없으면 이전 가장 늦은 연도 표로 대체, 이전 표도 없으면 표 없음")
+    void resolve_FallsBackToLatestEarlierYear() throws IOException {
+        // given: 2023년 표만 있음
+        WithholdingTaxTable table2023 = WithholdingTaxTable.parse(2023, new StringReader(TABLE));
+        IntFunction<Optional<WithholdingTaxTable>> loader =
+                year -> year == 2023 ? Optional.of(table2023) : Optional.empty();
+
+        // when & then
+        assertThat(WithholdingTaxTable.resolve(2023, loader)).containsSame(table2023);
+        assertThat(WithholdingTaxTable.resolve(2025, loader)).containsSame(table2023);
+        assertThat(WithholdingTaxTable.resolve(2022, loader)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("번들된 간이세액표 - 2024년 표를 읽고 이후 연도는 2024년 표로 대체")
+    void forYear_LoadsBundledTable() {
+        // when
+        Optional<WithholdingTaxTable> table2024 = WithholdingTaxTable.forYear(2024);
+
+        // then
+        assertThat(table2024).isPresent();
+        assertThat(table2024.get().incomeTax(500_000L, 1)).isZero();
+        assertThat(table2024.get().incomeTax(3_000_000L, 1))
+                .isGreaterThan(table2024.get().incomeTax(3_000_000L, 3));
+        assertThat(WithholdingTaxTable.forYear(2030).map(WithholdingTaxTable::getTaxYear)).contains(2024);
+    }
+}
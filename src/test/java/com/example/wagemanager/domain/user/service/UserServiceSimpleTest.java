@@ -1,6 +1,7 @@
 package com.example.wagemanager.domain.user.service;
 
 import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
 import com.example.wagemanager.domain.employer.service.EmployerService;
 import com.example.wagemanager.domain.settings.service.UserSettingsService;
 import com.example.wagemanager.domain.user.dto.UserDto;
@@ -8,6 +9,7 @@ import com.example.wagemanager.domain.user.entity.User;
 import com.example.wagemanager.domain.user.enums.UserType;
 import com.example.wagemanager.domain.user.repository.UserRepository;
 import com.example.wagemanager.domain.worker.service.WorkerService;
+import com.example.wagemanager.domain.workrecord.event.WorkRecordChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -37,6 +41,12 @@ class UserServiceSimpleTest {
     @Mock
     private UserSettingsService userSettingsService;
 
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -97,6 +107,7 @@ class UserServiceSimpleTest {
                 .build();
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testWorker));
+        when(workerContractRepository.findWorkplaceIdsByWorkerUserId(1L)).thenReturn(List.of(3L));
 
         // when
         UserDto.Response result = userService.updateUser(1L, request);
@@ -104,6 +115,7 @@ class UserServiceSimpleTest {
         // then
         assertThat(result).isNotNull();
         verify(userRepository).findById(1L);
+        verify(eventPublisher).publishEvent(WorkRecordChangedEvent.ofWorkplace(3L));
     }
 
     @Test
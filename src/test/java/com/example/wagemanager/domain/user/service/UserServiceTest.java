@@ -1,6 +1,7 @@
 package com.example.wagemanager.domain.user.service;
 
 import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
 import com.example.wagemanager.domain.employer.entity.Employer;
 import com.example.wagemanager.domain.employer.service.EmployerService;
 import com.example.wagemanager.domain.settings.service.UserSettingsService;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -41,6 +43,12 @@ class UserServiceTest {
     @Mock
     private UserSettingsService userSettingsService;
 
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -7,6 +7,7 @@ import com.example.wagemanager.domain.employer.service.EmployerService;
 import com.example.wagemanager.domain.workplace.dto.WorkplaceDto;
 import com.example.wagemanager.domain.workplace.entity.Workplace;
 import com.example.wagemanager.domain.workplace.repository.WorkplaceRepository;
+import com.example.wagemanager.domain.workrecord.event.WorkRecordChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +38,9 @@ class WorkplaceServiceTest {
     @Mock
     private EmployerService employerService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private WorkplaceService workplaceService;
 
@@ -148,5 +153,6 @@ class WorkplaceServiceTest {
         // then
         assertThat(result).isNotNull();
         verify(workplaceRepository).findById(1L);
+        verify(eventPublisher).publishEvent(WorkRecordChangedEvent.ofWorkplace(1L));
     }
 }
@@ -0,0 +1,206 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
+import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CalendarWeekCache 테스트")
+class CalendarWeekCacheTest {
+
+    // 2024-01-01(월) ~ 2024-01-14(일): 두 주
+    private static final LocalDate WEEK1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate WEEK2 = LocalDate.of(2024, 1, 8);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CalendarCacheVersionStore versionStore;
+    private CalendarWeekCache cache;
+    private List<LocalDate[]> loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        versionStore = mock(CalendarCacheVersionStore.class);
+        cache = newCache(1024 * 1024);
+        loads = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 주는 DB 조회 없이 재사용")
+    void getRange_ReusesCachedWeeks() {
+        // given
+        List<WorkRecordDto.CalendarResponse> first = cache.getRange(1L, WEEK1, WEEK2.plusDays(6), this::load);
+
+        // when
+        List<WorkRecordDto.CalendarResponse> second = cache.getRange(1L, WEEK1, WEEK2.plusDays(6), this::load);
+
+        // then
+        assertThat(loads).hasSize(1);
+        assertThat(second).extracting(WorkRecordDto.CalendarResponse::getId)
+                .containsExactlyElementsOf(first.stream().map(WorkRecordDto.CalendarResponse::getId).toList());
+        assertThat(second.get(0).getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(meterRegistry.get("wagemanager.calendar.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("wagemanager.calendar.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("조회 기간 밖의 날짜는 제외하지만 주 전체를 캐시")
+    void getRange_TrimsToRequestedRange() {
+        // when
+        List<WorkRecordDto.CalendarResponse> result = cache.getRange(1L, WEEK1.plusDays(2), WEEK1.plusDays(4), this::load);
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), this::load);
+
+        // then
+        assertThat(result).extracting(WorkRecordDto.CalendarResponse::getWorkDate)
+                .containsExactly(WEEK1.plusDays(2), WEEK1.plusDays(4));
+        assertThat(loads).hasSize(1);
+        assertThat(loads.get(0)).containsExactly(WEEK1, WEEK1.plusDays(6));
+    }
+
+    @Test
+    @DisplayName("근무일이 속한 주만 제거되어 그 주만 다시 조회")
+    void evictWeek_ReloadsOnlyThatWeek() {
+        // given
+        cache.getRange(1L, WEEK1, WEEK2.plusDays(6), this::load);
+
+        // when
+        cache.evictWeek(1L, WEEK2.plusDays(3));
+        cache.getRange(1L, WEEK1, WEEK2.plusDays(6), this::load);
+
+        // then
+        assertThat(loads).hasSize(2);
+        assertThat(loads.get(1)).containsExactly(WEEK2, WEEK2.plusDays(6));
+        assertThat(meterRegistry.get("wagemanager.calendar.cache.evictions").tag("cause", "invalidation").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("사업장 전체 제거는 다른 사업장 캐시에 영향 없음")
+    void evictWorkplace_KeepsOtherWorkplaces() {
+        // given
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), this::load);
+        cache.getRange(2L, WEEK1, WEEK1.plusDays(6), this::load);
+
+        // when
+        cache.evictWorkplace(1L);
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), this::load);
+        cache.getRange(2L, WEEK1, WEEK1.plusDays(6), this::load);
+
+        // then
+        assertThat(loads).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("저장 바이트가 한도를 넘으면 가장 오래 사용하지 않은 주부터 제거")
+    void getRange_EvictsLeastRecentlyUsedWeekOverBudget() throws Exception {
+        // given (한 주만 담을 수 있는 크기)
+        int oneWeekBytes = new ObjectMapper().findAndRegisterModules()
+                .writeValueAsBytes(load(WEEK1, WEEK1.plusDays(6))).length;
+        cache = newCache(oneWeekBytes + 200);
+        loads.clear();
+
+        // when
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), this::load);
+        cache.getRange(1L, WEEK2, WEEK2.plusDays(6), this::load);
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), this::load);
+
+        // then
+        assertThat(loads).hasSize(3);
+        assertThat(meterRegistry.get("wagemanager.calendar.cache.evictions").tag("cause", "size").counter().count())
+                .isGreaterThanOrEqualTo(1.0);
+        assertThat(meterRegistry.get("wagemanager.calendar.cache.bytes").gauge().value())
+                .isLessThanOrEqualTo(oneWeekBytes + 200);
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화되면 읽은 결과를 저장하지 않음")
+    void getRange_DoesNotStoreStaleLoad() {
+        // given: DB 조회 도중 같은 사업장의 근무 기록 변경이 커밋됨
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), (start, end) -> {
+            List<WorkRecordDto.CalendarResponse> items = load(start, end);
+            cache.evictWeek(1L, WEEK1);
+            return items;
+        });
+
+        // when
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), this::load);
+
+        // then
+        assertThat(loads).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 사업장 버전을 올리면 캐시한 주를 다시 조회")
+    void getRange_ReloadsWhenVersionChanged() {
+        // given
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), this::load);
+
+        // when
+        when(versionStore.current(1L)).thenReturn(1L);
+        cache.getRange(1L, WEEK1, WEEK1.plusDays(6), this::load);
+
+        // then
+        assertThat(loads).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("이 노드의 변경으로 버전을 올리면 변경되지 않은 주는 계속 사용")
+    void broadcastInvalidation_KeepsUnchangedWeeks() {
+        // given
+        cache.getRange(1L, WEEK1, WEEK2.plusDays(6), this::load);
+        when(versionStore.increment(1L)).thenReturn(1L);
+        when(versionStore.current(1L)).thenReturn(1L);
+
+        // when
+        cache.evictWeek(1L, WEEK2);
+        cache.broadcastInvalidation(1L);
+        cache.getRange(1L, WEEK1, WEEK2.plusDays(6), this::load);
+
+        // then
+        assertThat(loads).hasSize(2);
+        assertThat(loads.get(1)).containsExactly(WEEK2, WEEK2.plusDays(6));
+    }
+
+    private CalendarWeekCache newCache(long maxBytes) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new CalendarWeekCache(new ObjectMapper().findAndRegisterModules(), versionStore, meterRegistry,
+                true, maxBytes, 600000);
+    }
+
+    // 월/수/금 근무 기록
+    private List<WorkRecordDto.CalendarResponse> load(LocalDate start, LocalDate end) {
+        loads.add(new LocalDate[]{start, end});
+        List<WorkRecordDto.CalendarResponse> items = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() % 2 == 1 && date.getDayOfWeek().getValue() <= 5) {
+                items.add(WorkRecordDto.CalendarResponse.builder()
+                        .id(date.toEpochDay())
+                        .contractId(1L)
+                        .workerName("근로자")
+                        .workplaceName("사업장")
+                        .workDate(date)
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(18, 0))
+                        .breakMinutes(60)
+                        .hourlyWage(BigDecimal.valueOf(10000))
+                        .status(WorkRecordStatus.SCHEDULED)
+                        .build());
+            }
+        }
+        return items;
+    }
+}
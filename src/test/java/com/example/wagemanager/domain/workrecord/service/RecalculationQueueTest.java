@@ -0,0 +1,216 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.allowance.repository.WeeklyAllowanceRepository;
+import com.example.wagemanager.domain.allowance.service.WeeklyAllowanceService;
+import com.example.wagemanager.domain.salary.service.SalaryService;
+import com.example.wagemanager.domain.salary.util.PayrollCalculator;
+import com.example.wagemanager.domain.workrecord.entity.RecalculationTask;
+import com.example.wagemanager.domain.workrecord.repository.RecalculationTaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecalculationQueue 테스트")
+class RecalculationQueueTest {
+
+    @Mock
+    private WeeklyAllowanceService weeklyAllowanceService;
+
+    @Mock
+    private WeeklyAllowanceRepository weeklyAllowanceRepository;
+
+    @Mock
+    private RecalculationTaskRepository recalculationTaskRepository;
+
+    @Mock
+    private SalaryService salaryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecalculationQueue recalculationQueue;
+
+    @BeforeEach
+    void setUp() {
+        recalculationQueue = newQueue(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recalculationQueue.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 재계산")
+    void noTransaction_RunsImmediately() {
+        // given
+        PayrollCalculator.WorkTotals delta = hours("8.00");
+
+        // when
+        recalculationQueue.markAllowanceDirty(1L);
+        recalculationQueue.markSalaryDirty(10L, 2024, 1, delta);
+
+        // then
+        verify(weeklyAllowanceService).recalculateAllowances(1L);
+        verify(salaryService).applyWorkRecordDelta(10L, 2024, 1, delta);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 내 중복 예약은 커밋 직전 한 번씩만 실행되고 급여 변경분은 합산")
+    void transaction_CoalescesUntilCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            recalculationQueue.markAllowanceDirty(1L);
+        }
+        recalculationQueue.markAllowanceDirty(2L);
+        recalculationQueue.markSalaryDirty(10L, 2024, 1, hours("8.00"));
+        recalculationQueue.markSalaryDirty(10L, 2024, 1, hours("4.00"));
+
+        // then - 커밋 전에는 실행되지 않음
+        verifyNoInteractions(weeklyAllowanceService, salaryService);
+
+        commit();
+
+        InOrder inOrder = inOrder(weeklyAllowanceService, salaryService);
+        inOrder.verify(weeklyAllowanceService).recalculateAllowances(1L);
+        inOrder.verify(weeklyAllowanceService).recalculateAllowances(2L);
+        ArgumentCaptor<PayrollCalculator.WorkTotals> captor = ArgumentCaptor.forClass(PayrollCalculator.WorkTotals.class);
+        inOrder.verify(salaryService).applyWorkRecordDelta(eq(10L), eq(2024), eq(1), captor.capture());
+        assertThat(captor.getValue().getTotalWorkHours()).isEqualByComparingTo("12.00");
+        verifyNoMoreInteractions(weeklyAllowanceService, salaryService);
+    }
+
+    @Test
+    @DisplayName("삭제된 WeeklyAllowance는 재계산 대상에서 제외")
+    void transaction_ForgetAllowance() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        recalculationQueue.markAllowanceDirty(1L);
+
+        // when
+        recalculationQueue.forgetAllowance(1L);
+        commit();
+
+        // then
+        verify(weeklyAllowanceService, never()).recalculateAllowances(any());
+    }
+
+    @Test
+    @DisplayName("async 모드는 커밋 직전 같은 트랜잭션에서 재계산 작업을 기록 (급여는 변경분 없이 급여 키만)")
+    void asyncMode_PersistsTasksBeforeCommit() {
+        // given
+        recalculationQueue.shutdown();
+        recalculationQueue = newQueue(true);
+        TransactionSynchronizationManager.initSynchronization();
+        recalculationQueue.markAllowanceDirty(1L);
+        recalculationQueue.markSalaryDirty(10L, 2024, 1, hours("8.00"));
+        recalculationQueue.markSalaryDirty(10L, 2024, 1, hours("4.00"));
+
+        // when
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RecalculationTask>> captor = ArgumentCaptor.forClass(List.class);
+        verify(recalculationTaskRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(captor.getValue().get(0).getWeeklyAllowanceId()).isEqualTo(1L);
+        assertThat(captor.getValue().get(1).getContractId()).isEqualTo(10L);
+        assertThat(captor.getValue().get(1).getYear()).isEqualTo(2024);
+        assertThat(captor.getValue().get(1).getMonth()).isEqualTo(1);
+        verifyNoInteractions(weeklyAllowanceService, salaryService);
+    }
+
+    @Test
+    @DisplayName("저장된 작업 배치가 실패하면 한 건씩 실행하고 실패한 작업만 재시도 대기")
+    void flushPersisted_IsolatesFailedTask() {
+        // given
+        RecalculationTask allowanceTask = RecalculationTask.builder()
+                .id(1L).weeklyAllowanceId(5L).nextAttemptAt(LocalDateTime.now()).createdAt(LocalDateTime.now()).build();
+        RecalculationTask salaryTask = RecalculationTask.salary(10L, 2024, 1, LocalDateTime.now());
+        ReflectionTestUtils.setField(salaryTask, "id", 2L);
+        when(recalculationTaskRepository.findDue(anyInt(), any(), any())).thenReturn(List.of(allowanceTask, salaryTask));
+        when(recalculationTaskRepository.findLockedById(1L)).thenReturn(Optional.of(allowanceTask));
+        when(recalculationTaskRepository.findLockedById(2L)).thenReturn(Optional.of(salaryTask));
+        when(weeklyAllowanceRepository.existsById(5L)).thenReturn(true);
+        doThrow(new IllegalStateException("계약 없음")).when(weeklyAllowanceService).recalculateAllowances(5L);
+
+        // when
+        int flushed = recalculationQueue.flushPersisted();
+
+        // then
+        assertThat(flushed).isZero();
+        verify(salaryService, times(1)).calculateSalaryByWorkRecords(10L, 2024, 1);
+        verify(recalculationTaskRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(recalculationTaskRepository).markFailed(eq(1L), any(LocalDateTime.class));
+        verify(recalculationTaskRepository, never()).markFailed(eq(2L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("저장된 급여 작업은 변경분을 더하지 않고 급여 키별로 한 번 전체 재계산")
+    void flushPersisted_RecalculatesSalaryOncePerKey() {
+        // given: 같은 급여 키의 작업 두 건 (그사이 전체 재계산이 커밋되었어도 이중 반영되지 않아야 함)
+        RecalculationTask first = RecalculationTask.salary(10L, 2024, 1, LocalDateTime.now());
+        RecalculationTask second = RecalculationTask.salary(10L, 2024, 1, LocalDateTime.now());
+        ReflectionTestUtils.setField(first, "id", 1L);
+        ReflectionTestUtils.setField(second, "id", 2L);
+        when(recalculationTaskRepository.findDue(anyInt(), any(), any())).thenReturn(List.of(first, second));
+
+        // when
+        int flushed = recalculationQueue.flushPersisted();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(salaryService, times(1)).calculateSalaryByWorkRecords(10L, 2024, 1);
+        verify(salaryService, never()).applyWorkRecordDelta(any(), any(), any(), any());
+        verify(recalculationTaskRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    private RecalculationQueue newQueue(boolean asyncMode) {
+        return new RecalculationQueue(weeklyAllowanceService, weeklyAllowanceRepository, recalculationTaskRepository,
+                salaryService, transactionManager, asyncMode, 60_000, 60_000, 200, 60_000, 10, 30_000);
+    }
+
+    private void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+    }
+
+    private PayrollCalculator.WorkTotals hours(String hours) {
+        return new PayrollCalculator.WorkTotals(new BigDecimal(hours), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
@@ -3,8 +3,13 @@ package com.example.wagemanager.domain.workrecord.service;
 import com.example.wagemanager.common.exception.BadRequestException;
 import com.example.wagemanager.common.exception.NotFoundException;
 import com.example.wagemanager.domain.allowance.entity.WeeklyAllowance;
+import com.example.wagemanager.domain.contract.dto.WorkScheduleDto;
 import com.example.wagemanager.domain.contract.entity.WorkerContract;
 import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.domain.contract.service.ContractWriteSerializer;
+import com.example.wagemanager.domain.contract.service.WorkScheduleCache;
+import com.example.wagemanager.domain.contract.util.CompiledWorkSchedule;
+import com.example.wagemanager.domain.correction.repository.CorrectionRequestRepository;
 import com.example.wagemanager.domain.user.entity.User;
 import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
 import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
@@ -14,19 +19,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doNothing;
 
@@ -46,6 +58,18 @@ class WorkRecordCommandServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private CorrectionRequestRepository correctionRequestRepository;
+
+    @Mock
+    private WorkRecordGenerationService workRecordGenerationService;
+
+    @Mock
+    private WorkScheduleCache workScheduleCache;
+
+    @Mock
+    private ContractWriteSerializer contractWriteSerializer;
+
     @InjectMocks
     private WorkRecordCommandService workRecordCommandService;
 
@@ -130,6 +154,7 @@ class WorkRecordCommandServiceTest {
     void completeWorkRecord_Success() {
         // given
         testWorkRecord = mock(WorkRecord.class);
+        when(workRecordRepository.findContractIdById(1L)).thenReturn(Optional.of(7L));
         when(workRecordRepository.findById(anyLong())).thenReturn(Optional.of(testWorkRecord));
 
         // when
@@ -137,7 +162,11 @@ class WorkRecordCommandServiceTest {
 
         // then
         verify(testWorkRecord).complete();
-        verify(coordinatorService).handleWorkRecordCompletion(testWorkRecord);
+        verify(coordinatorService).handleWorkRecordCompletion(eq(testWorkRecord), any());
+        // 계약 쓰기 락을 잡은 뒤 근무 기록을 읽음
+        InOrder inOrder = inOrder(contractWriteSerializer, workRecordRepository);
+        inOrder.verify(contractWriteSerializer).lock(7L);
+        inOrder.verify(workRecordRepository).findById(1L);
     }
 
     @Test
@@ -215,4 +244,196 @@ class WorkRecordCommandServiceTest {
         assertThat(result.getSkippedCount()).isEqualTo(1);
         verify(workRecordRepository, times(1)).save(any(WorkRecord.class));
     }
+
+    @Test
+    @DisplayName("근무 스케줄 변경 시 바뀐 요일의 근무 기록만 옮기거나 생성/삭제")
+    void regenerateFutureWorkRecords_AppliesOnlyChangedDays() {
+        // given
+        testContract = mock(WorkerContract.class);
+        LocalDate monday = LocalDate.now().plusDays(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        LocalDate lastDate = monday.plusDays(6);
+
+        // 변경 전: 월/수/금 09:00~18:00, 변경 후: 월 09:00~18:00, 수 13:00~18:00, 목 09:00~12:00
+        CompiledWorkSchedule previous = CompiledWorkSchedule.compile(List.of(
+                schedule(1, "09:00", "18:00"), schedule(3, "09:00", "18:00"), schedule(5, "09:00", "18:00")));
+        CompiledWorkSchedule current = CompiledWorkSchedule.compile(List.of(
+                schedule(1, "09:00", "18:00"), schedule(3, "13:00", "18:00"), schedule(4, "09:00", "12:00")));
+
+        WorkRecord mondayRecord = scheduledRecord(1L, monday, false);
+        WorkRecord wednesdayRecord = scheduledRecord(2L, monday.plusDays(2), false);
+        WorkRecord fridayRecord = scheduledRecord(3L, monday.plusDays(4), false);
+
+        when(workerContractRepository.findById(1L)).thenReturn(Optional.of(testContract));
+        when(workScheduleCache.get(testContract)).thenReturn(current);
+        when(workRecordGenerationService.materializationEnd(any(), any())).thenReturn(lastDate);
+        when(workRecordRepository.findByContractIdAndWorkDateAfter(eq(1L), any()))
+                .thenReturn(List.of(mondayRecord, wednesdayRecord, fridayRecord));
+        when(coordinatorService.getOrCreateWeeklyAllowance(eq(1L), any())).thenReturn(testWeeklyAllowance);
+
+        // when
+        workRecordCommandService.regenerateFutureWorkRecords(1L, previous);
+
+        // then
+        assertThat(mondayRecord.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(wednesdayRecord.getStartTime()).isEqualTo(LocalTime.of(13, 0));
+        assertThat(wednesdayRecord.getId()).isEqualTo(2L);
+        assertThat(wednesdayRecord.getScheduleSlot()).isZero();
+        assertThat(wednesdayRecord.getWeeklyAllowance()).isEqualTo(testWeeklyAllowance);
+        verify(coordinatorService).handleWorkRecordUpdate(eq(wednesdayRecord), isNull(), eq(testWeeklyAllowance), any());
+        verify(correctionRequestRepository).deleteByWorkRecordIds(List.of(3L));
+        verify(workRecordRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(coordinatorService).handleWorkRecordDeletion(null, fridayRecord, WorkRecordStatus.SCHEDULED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WorkRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(workRecordRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(WorkRecord::getWorkDate)
+                .contains(monday.plusDays(3))
+                .doesNotContain(monday, monday.plusDays(2), monday.plusDays(4));
+        assertThat(captor.getValue())
+                .allSatisfy(record -> {
+                    assertThat(record.getScheduleSlot()).isZero();
+                    assertThat(record.getWeeklyAllowance()).isEqualTo(testWeeklyAllowance);
+                });
+        verify(coordinatorService).handleBatchWorkRecordCreation(captor.getValue());
+    }
+
+    @Test
+    @DisplayName("근무 스케줄 변경 시 근무자가 수정한 근무 기록은 유지")
+    void regenerateFutureWorkRecords_KeepsModifiedRecords() {
+        // given
+        testContract = mock(WorkerContract.class);
+        LocalDate wednesday = LocalDate.now().plusDays(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.WEDNESDAY));
+
+        CompiledWorkSchedule previous = CompiledWorkSchedule.compile(List.of(schedule(3, "09:00", "18:00")));
+        CompiledWorkSchedule current = CompiledWorkSchedule.compile(List.of(schedule(3, "13:00", "18:00")));
+        WorkRecord modifiedRecord = scheduledRecord(1L, wednesday, true);
+
+        when(workerContractRepository.findById(1L)).thenReturn(Optional.of(testContract));
+        when(workScheduleCache.get(testContract)).thenReturn(current);
+        when(workRecordGenerationService.materializationEnd(any(), any())).thenReturn(wednesday);
+        when(workRecordRepository.findByContractIdAndWorkDateAfter(eq(1L), any())).thenReturn(List.of(modifiedRecord));
+
+        // when
+        workRecordCommandService.regenerateFutureWorkRecords(1L, previous);
+
+        // then
+        assertThat(modifiedRecord.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        verify(workRecordRepository, never()).deleteAllByIdInBatch(any());
+        verify(workRecordRepository, never()).saveAll(any());
+        verifyNoInteractions(correctionRequestRepository, coordinatorService);
+    }
+
+    @Test
+    @DisplayName("근무 기록 일괄 수정 - 삭제된 기록은 건너뛰고 근로자별 알림 1회")
+    void bulkUpdateWorkRecords_Success() {
+        // given
+        LocalDate workDate = LocalDate.now().plusDays(3);
+        WorkRecord first = bulkRecord(1L, workDate, WorkRecordStatus.SCHEDULED);
+        WorkRecord second = bulkRecord(2L, workDate.plusDays(1), WorkRecordStatus.SCHEDULED);
+        WorkRecord deleted = bulkRecord(3L, workDate.plusDays(2), WorkRecordStatus.DELETED);
+
+        WorkRecordDto.BulkUpdateRequest request = WorkRecordDto.BulkUpdateRequest.builder()
+                .workplaceId(10L)
+                .startDate(workDate)
+                .endDate(workDate.plusDays(2))
+                .patch(WorkRecordDto.UpdateRequest.builder()
+                        .startTime(LocalTime.of(10, 0))
+                        .endTime(LocalTime.of(15, 0))
+                        .build())
+                .build();
+
+        when(workRecordRepository.findByWorkplaceAndDateRangeWithWorker(10L, workDate, workDate.plusDays(2)))
+                .thenReturn(List.of(first, second, deleted));
+        when(coordinatorService.getOrCreateWeeklyAllowance(any(), any())).thenReturn(testWeeklyAllowance);
+
+        // when
+        WorkRecordDto.BulkUpdateResponse result = workRecordCommandService.bulkUpdateWorkRecords(request);
+
+        // then
+        assertThat(result.getUpdatedCount()).isEqualTo(2);
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        assertThat(result.getNotifiedWorkerCount()).isEqualTo(1);
+        assertThat(first.getStartTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(first.getTotalWorkMinutes()).isEqualTo(300);
+        assertThat(deleted.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        verify(coordinatorService, times(2)).handleWorkRecordUpdate(any(), any(), any(), any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(workRecordRepository, never()).save(any(WorkRecord.class));
+    }
+
+    @Test
+    @DisplayName("근무 기록 일괄 수정 실패 - 사업장에 없는 근무 기록 포함")
+    void bulkUpdateWorkRecords_RecordOutsideWorkplace() {
+        // given
+        WorkRecordDto.BulkUpdateRequest request = WorkRecordDto.BulkUpdateRequest.builder()
+                .workplaceId(10L)
+                .workRecordIds(List.of(1L, 2L))
+                .patch(WorkRecordDto.UpdateRequest.builder().memo("공휴일 단축 근무").build())
+                .build();
+        when(workRecordRepository.findByIdsAndWorkplaceId(List.of(1L, 2L), 10L))
+                .thenReturn(List.of(mock(WorkRecord.class)));
+
+        // when & then
+        assertThatThrownBy(() -> workRecordCommandService.bulkUpdateWorkRecords(request))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(coordinatorService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("근무 기록 일괄 수정 실패 - 수정 내용 없음")
+    void bulkUpdateWorkRecords_EmptyPatch() {
+        // given
+        WorkRecordDto.BulkUpdateRequest request = WorkRecordDto.BulkUpdateRequest.builder()
+                .workplaceId(10L)
+                .workRecordIds(List.of(1L))
+                .patch(WorkRecordDto.UpdateRequest.builder().build())
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> workRecordCommandService.bulkUpdateWorkRecords(request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("수정할 내용이 없습니다");
+        verifyNoInteractions(workRecordRepository);
+    }
+
+    private WorkRecord bulkRecord(Long id, LocalDate workDate, WorkRecordStatus status) {
+        if (testContract == null) {
+            testContract = mock(WorkerContract.class);
+            com.example.wagemanager.domain.worker.entity.Worker workerEntity = mock(com.example.wagemanager.domain.worker.entity.Worker.class);
+            lenient().when(testContract.getId()).thenReturn(1L);
+            lenient().when(testContract.getHourlyWage()).thenReturn(BigDecimal.valueOf(10000));
+            lenient().when(testContract.getWorker()).thenReturn(workerEntity);
+            lenient().when(workerEntity.getUser()).thenReturn(mock(User.class));
+        }
+        return WorkRecord.builder()
+                .id(id)
+                .contract(testContract)
+                .workDate(workDate)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .status(status)
+                .build();
+    }
+
+    private WorkScheduleDto schedule(int dayOfWeek, String startTime, String endTime) {
+        return WorkScheduleDto.builder()
+                .dayOfWeek(dayOfWeek)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+
+    private WorkRecord scheduledRecord(Long id, LocalDate workDate, boolean modified) {
+        return WorkRecord.builder()
+                .id(id)
+                .contract(testContract)
+                .workDate(workDate)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .status(WorkRecordStatus.SCHEDULED)
+                .isModified(modified)
+                .build();
+    }
 }
@@ -0,0 +1,127 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.service.WorkScheduleCache;
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import com.example.wagemanager.domain.workplace.entity.Workplace;
+import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
+import com.example.wagemanager.domain.workrecord.event.WorkRecordChangedEvent;
+import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkRecordGenerationService 테스트")
+class WorkRecordGenerationServiceTest {
+
+    // 월/수/금 09:00 ~ 18:00
+    private static final String SCHEDULES = "[{\"dayOfWeek\":1,\"startTime\":\"09:00\",\"endTime\":\"18:00\"}," +
+            "{\"dayOfWeek\":3,\"startTime\":\"09:00\",\"endTime\":\"18:00\"}," +
+            "{\"dayOfWeek\":5,\"startTime\":\"09:00\",\"endTime\":\"18:00\"}]";
+
+    @Mock
+    private WorkRecordRepository workRecordRepository;
+
+    @Mock
+    private WorkerContract contract;
+
+    @Mock
+    private Workplace workplace;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private WorkRecordGenerationService generationService;
+
+    @BeforeEach
+    void setUp() {
+        generationService = new WorkRecordGenerationService(workRecordRepository, new WorkScheduleCache(new ObjectMapper(), 100),
+                eventPublisher);
+        when(contract.getId()).thenReturn(1L);
+        when(contract.getWorkSchedules()).thenReturn(SCHEDULES);
+        lenient().when(contract.getWorkplace()).thenReturn(workplace);
+        lenient().when(workplace.getId()).thenReturn(10L);
+    }
+
+    @Test
+    @DisplayName("기존 근무일을 한 번에 조회하고 나머지 스케줄 날짜만 일괄 삽입")
+    void generateWorkRecordsForPeriod_PrefetchesOccupiedDates() {
+        // given (2024-01-01 월 ~ 2024-01-14 일: 월/수/금 6일)
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 14);
+        when(workRecordRepository.findWorkDatesByContractAndDateRange(1L, start, end))
+                .thenReturn(List.of(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 12)));
+        when(workRecordRepository.batchInsert(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        generationService.generateWorkRecordsForPeriod(contract, start, end);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WorkRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(workRecordRepository).batchInsert(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(WorkRecord::getWorkDate)
+                .containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5),
+                        LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 10));
+        assertThat(captor.getValue()).allMatch(wr -> wr.getStatus() == WorkRecordStatus.SCHEDULED);
+        verify(workRecordRepository, never()).existsByContractAndWorkDate(any(), any());
+        verify(workRecordRepository, never()).saveAll(any());
+        // 생성된 근무일이 속한 주(1/1, 1/8)마다 캘린더 캐시 무효화 이벤트 발행
+        verify(eventPublisher).publishEvent(new WorkRecordChangedEvent(10L, LocalDate.of(2024, 1, 1)));
+        verify(eventPublisher).publishEvent(new WorkRecordChangedEvent(10L, LocalDate.of(2024, 1, 8)));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("계약 종료일 이후 날짜는 조회/생성하지 않음")
+    void generateWorkRecordsForPeriod_StopsAtContractEnd() {
+        // given
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate contractEnd = LocalDate.of(2024, 1, 3);
+        when(contract.getContractEndDate()).thenReturn(contractEnd);
+        when(workRecordRepository.findWorkDatesByContractAndDateRange(1L, start, contractEnd)).thenReturn(List.of());
+
+        // when
+        generationService.generateWorkRecordsForPeriod(contract, start, LocalDate.of(2024, 1, 31));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WorkRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(workRecordRepository).batchInsert(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(WorkRecord::getWorkDate)
+                .containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3));
+    }
+
+    @Test
+    @DisplayName("모든 스케줄 날짜에 근무 기록이 있으면 삽입하지 않음")
+    void generateWorkRecordsForPeriod_NothingToInsert() {
+        // given
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 3);
+        when(workRecordRepository.findWorkDatesByContractAndDateRange(1L, start, end))
+                .thenReturn(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3)));
+
+        // when
+        generationService.generateWorkRecordsForPeriod(contract, start, end);
+
+        // then
+        verify(workRecordRepository, never()).batchInsert(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
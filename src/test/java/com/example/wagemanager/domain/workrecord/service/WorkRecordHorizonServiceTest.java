@@ -0,0 +1,246 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
+import com.example.wagemanager.global.batch.BoundedParallelExecutor;
+import com.example.wagemanager.global.batch.JobCheckpoint;
+import com.example.wagemanager.global.batch.JobCheckpointFailure;
+import com.example.wagemanager.global.batch.JobCheckpointFailureRepository;
+import com.example.wagemanager.global.batch.JobCheckpointRepository;
+import com.example.wagemanager.global.batch.SchedulerLeaseManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkRecordHorizonService 테스트")
+class WorkRecordHorizonServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private WorkRecordGenerationService workRecordGenerationService;
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Mock
+    private JobCheckpointFailureRepository jobCheckpointFailureRepository;
+
+    @Mock
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WorkRecordHorizonService horizonService;
+
+    @BeforeEach
+    void setUp() {
+        // 페이지 크기 2, 체크포인트마다 2페이지, 실패한 계약은 최대 3번 시도
+        horizonService = new WorkRecordHorizonService(workerContractRepository, workRecordGenerationService,
+                jobCheckpointRepository, jobCheckpointFailureRepository, schedulerLeaseManager,
+                new BoundedParallelExecutor("test", 2, 2), transactionManager, 2, 2, 60000, 3);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 가지고 있으면 실행하지 않음")
+    void generateMonth_SkipsWithoutLease() {
+        // given
+        when(schedulerLeaseManager.tryAcquire(eq(WorkRecordHorizonService.JOB_NAME), any())).thenReturn(false);
+
+        // when
+        horizonService.generateMonth(MONTH);
+
+        // then
+        verifyNoInteractions(jobCheckpointRepository, workerContractRepository, workRecordGenerationService);
+        verify(schedulerLeaseManager, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("기록된 진행 지점 이후 계약부터 키셋 페이지로 이어서 생성하고 완료 처리")
+    void generateMonth_ResumesFromCheckpoint() {
+        // given
+        JobCheckpoint checkpoint = checkpoint(10L);
+        WorkerContract c11 = mock(WorkerContract.class);
+        WorkerContract c12 = mock(WorkerContract.class);
+        WorkerContract c13 = mock(WorkerContract.class);
+        givenLease();
+        when(jobCheckpointRepository.findByJobNameAndRunKey(WorkRecordHorizonService.JOB_NAME, "2024-03"))
+                .thenReturn(Optional.of(checkpoint));
+        when(jobCheckpointRepository.findById(1L)).thenReturn(Optional.of(checkpoint));
+        when(workerContractRepository.findActiveIdsAfter(eq(10L), any())).thenReturn(List.of(11L, 12L));
+        when(workerContractRepository.findActiveIdsAfter(eq(12L), any())).thenReturn(List.of(13L));
+        when(workerContractRepository.findActiveIdsAfter(eq(13L), any())).thenReturn(List.of());
+        when(workerContractRepository.findAllById(List.of(11L, 12L))).thenReturn(List.of(c11, c12));
+        when(workerContractRepository.findAllById(List.of(13L))).thenReturn(List.of(c13));
+
+        // when
+        horizonService.generateMonth(MONTH);
+
+        // then
+        verify(workRecordGenerationService).generateWorkRecordsForMonth(c11, MONTH);
+        verify(workRecordGenerationService).generateWorkRecordsForMonth(c12, MONTH);
+        verify(workRecordGenerationService).generateWorkRecordsForMonth(c13, MONTH);
+        verify(workerContractRepository, never()).findActiveIdsAfter(eq(0L), any());
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(13L);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(3);
+        assertThat(checkpoint.isCompleted()).isTrue();
+        verify(schedulerLeaseManager).release(WorkRecordHorizonService.JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("페이지 생성 실패 시 계약별로 다시 생성하고 실패한 계약은 기록한 뒤 재시도 대기")
+    void generateMonth_IsolatesFailingContract() {
+        // given
+        JobCheckpoint checkpoint = checkpoint(0L);
+        WorkerContract c11 = mock(WorkerContract.class);
+        WorkerContract c12 = mock(WorkerContract.class);
+        givenLease();
+        when(jobCheckpointRepository.findByJobNameAndRunKey(WorkRecordHorizonService.JOB_NAME, "2024-03"))
+                .thenReturn(Optional.of(checkpoint));
+        when(jobCheckpointRepository.findById(1L)).thenReturn(Optional.of(checkpoint));
+        when(workerContractRepository.findActiveIdsAfter(eq(0L), any())).thenReturn(List.of(11L, 12L));
+        when(workerContractRepository.findActiveIdsAfter(eq(12L), any())).thenReturn(List.of());
+        when(workerContractRepository.findAllById(List.of(11L, 12L))).thenReturn(List.of(c11, c12));
+        when(workerContractRepository.findById(11L)).thenReturn(Optional.of(c11));
+        when(workerContractRepository.findById(12L)).thenReturn(Optional.of(c12));
+        doThrow(new RuntimeException("근무 스케줄 파싱 중 오류가 발생했습니다."))
+                .when(workRecordGenerationService).generateWorkRecordsForMonth(c12, MONTH);
+        JobCheckpointFailure failure = failure(12L, 1);
+        when(jobCheckpointFailureRepository.findByCheckpointIdOrderByItemIdAsc(1L)).thenReturn(List.of(failure));
+        when(jobCheckpointFailureRepository.findById(100L)).thenReturn(Optional.of(failure));
+
+        // when
+        horizonService.generateMonth(MONTH);
+
+        // then
+        verify(workRecordGenerationService, times(2)).generateWorkRecordsForMonth(c11, MONTH);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JobCheckpointFailure>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobCheckpointFailureRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(JobCheckpointFailure::getItemId).containsExactly(12L);
+        assertThat(failure.getAttempts()).isEqualTo(2);
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(12L);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(1);
+        assertThat(checkpoint.getFailedCount()).isEqualTo(1);
+        assertThat(checkpoint.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재개 시 기록된 실패 계약을 다시 생성하고 성공하면 완료 처리")
+    void generateMonth_RetriesRecordedFailures() {
+        // given
+        JobCheckpoint checkpoint = JobCheckpoint.builder()
+                .id(1L)
+                .jobName(WorkRecordHorizonService.JOB_NAME)
+                .runKey("2024-03")
+                .lastProcessedId(12L)
+                .processedCount(1)
+                .failedCount(1)
+                .build();
+        WorkerContract c12 = mock(WorkerContract.class);
+        JobCheckpointFailure failure = failure(12L, 2);
+        givenLease();
+        when(jobCheckpointRepository.findByJobNameAndRunKey(WorkRecordHorizonService.JOB_NAME, "2024-03"))
+                .thenReturn(Optional.of(checkpoint));
+        when(jobCheckpointRepository.findById(1L)).thenReturn(Optional.of(checkpoint));
+        when(workerContractRepository.findActiveIdsAfter(eq(12L), any())).thenReturn(List.of());
+        when(workerContractRepository.findById(12L)).thenReturn(Optional.of(c12));
+        when(jobCheckpointFailureRepository.findByCheckpointIdOrderByItemIdAsc(1L)).thenReturn(List.of(failure));
+
+        // when
+        horizonService.generateMonth(MONTH);
+
+        // then
+        verify(workRecordGenerationService).generateWorkRecordsForMonth(c12, MONTH);
+        verify(jobCheckpointFailureRepository).deleteById(100L);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(2);
+        assertThat(checkpoint.getFailedCount()).isZero();
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패한 계약은 더 시도하지 않고 완료 처리")
+    void generateMonth_CompletesWhenAttemptsExhausted() {
+        // given
+        JobCheckpoint checkpoint = checkpoint(12L);
+        givenLease();
+        when(jobCheckpointRepository.findByJobNameAndRunKey(WorkRecordHorizonService.JOB_NAME, "2024-03"))
+                .thenReturn(Optional.of(checkpoint));
+        when(jobCheckpointRepository.findById(1L)).thenReturn(Optional.of(checkpoint));
+        when(workerContractRepository.findActiveIdsAfter(eq(12L), any())).thenReturn(List.of());
+        when(jobCheckpointFailureRepository.findByCheckpointIdOrderByItemIdAsc(1L)).thenReturn(List.of(failure(12L, 3)));
+
+        // when
+        horizonService.generateMonth(MONTH);
+
+        // then
+        verify(workerContractRepository, never()).findById(any());
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("리스 연장에 실패하면 진행 지점만 기록하고 중단")
+    void generateMonth_StopsWhenLeaseLost() {
+        // given
+        JobCheckpoint checkpoint = checkpoint(0L);
+        WorkerContract c11 = mock(WorkerContract.class);
+        WorkerContract c12 = mock(WorkerContract.class);
+        when(schedulerLeaseManager.tryAcquire(eq(WorkRecordHorizonService.JOB_NAME), any())).thenReturn(true);
+        when(schedulerLeaseManager.renew(eq(WorkRecordHorizonService.JOB_NAME), any())).thenReturn(false);
+        when(jobCheckpointRepository.findByJobNameAndRunKey(WorkRecordHorizonService.JOB_NAME, "2024-03"))
+                .thenReturn(Optional.of(checkpoint));
+        when(jobCheckpointRepository.findById(1L)).thenReturn(Optional.of(checkpoint));
+        when(workerContractRepository.findActiveIdsAfter(eq(0L), any())).thenReturn(List.of(11L, 12L));
+        when(workerContractRepository.findActiveIdsAfter(eq(12L), any())).thenReturn(List.of());
+        when(workerContractRepository.findAllById(List.of(11L, 12L))).thenReturn(List.of(c11, c12));
+
+        // when
+        horizonService.generateMonth(MONTH);
+
+        // then
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(12L);
+        assertThat(checkpoint.isCompleted()).isFalse();
+    }
+
+    private void givenLease() {
+        when(schedulerLeaseManager.tryAcquire(eq(WorkRecordHorizonService.JOB_NAME), any())).thenReturn(true);
+        when(schedulerLeaseManager.renew(eq(WorkRecordHorizonService.JOB_NAME), any())).thenReturn(true);
+    }
+
+    private JobCheckpointFailure failure(Long contractId, int attempts) {
+        return JobCheckpointFailure.builder()
+                .id(100L)
+                .checkpointId(1L)
+                .itemId(contractId)
+                .attempts(attempts)
+                .build();
+    }
+
+    private JobCheckpoint checkpoint(long lastProcessedId) {
+        return JobCheckpoint.builder()
+                .id(1L)
+                .jobName(WorkRecordHorizonService.JOB_NAME)
+                .runKey("2024-03")
+                .lastProcessedId(lastProcessedId)
+                .build();
+    }
+}
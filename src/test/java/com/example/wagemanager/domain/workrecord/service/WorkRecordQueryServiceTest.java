@@ -1,9 +1,13 @@
 package com.example.wagemanager.domain.workrecord.service;
 
+import com.example.wagemanager.common.exception.BadRequestException;
 import com.example.wagemanager.common.exception.NotFoundException;
+import com.example.wagemanager.domain.contract.repository.WorkerContractRepository;
 import com.example.wagemanager.domain.correction.repository.CorrectionRequestRepository;
 import com.example.wagemanager.domain.worker.repository.WorkerRepository;
+import com.example.wagemanager.domain.workrecord.dto.WorkRecordCalendarRow;
 import com.example.wagemanager.domain.workrecord.dto.WorkRecordDto;
+import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
 import com.example.wagemanager.domain.workrecord.repository.WorkRecordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,13 +17,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +43,15 @@ class WorkRecordQueryServiceTest {
     @Mock
     private CorrectionRequestRepository correctionRequestRepository;
 
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private WorkScheduleProjectionService workScheduleProjectionService;
+
+    @Mock
+    private CalendarWeekCache calendarWeekCache;
+
     @InjectMocks
     private WorkRecordQueryService workRecordQueryService;
 
@@ -101,4 +118,57 @@ class WorkRecordQueryServiceTest {
                 .isInstanceOf(NotFoundException.class);
     }
 
+    @Test
+    @DisplayName("캘린더 커서 페이지 조회 - 한 건 더 조회하여 다음 커서 생성")
+    void getWorkRecordPageByWorkplace_HasNext() {
+        // given
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        LocalDate end = LocalDate.of(2024, 3, 31);
+        when(workRecordRepository.findCalendarRowsAfter(eq(1L), eq(start), eq(end),
+                eq(LocalDate.of(2024, 3, 5)), eq(10L), any()))
+                .thenReturn(List.of(row(11L, LocalDate.of(2024, 3, 5)), row(12L, LocalDate.of(2024, 3, 6)),
+                        row(13L, LocalDate.of(2024, 3, 6))));
+
+        // when
+        WorkRecordDto.CalendarPageResponse result =
+                workRecordQueryService.getWorkRecordPageByWorkplace(1L, start, end, "2024-03-05_10", 2);
+
+        // then
+        assertThat(result.getItems()).extracting(WorkRecordDto.CalendarResponse::getId).containsExactly(11L, 12L);
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo("2024-03-06_12");
+    }
+
+    @Test
+    @DisplayName("캘린더 커서 페이지 조회 - 첫 페이지는 시작일 이전부터, 마지막 페이지는 커서 없음")
+    void getWorkRecordPageByWorkplace_FirstAndLastPage() {
+        // given
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        LocalDate end = LocalDate.of(2024, 3, 31);
+        when(workRecordRepository.findCalendarRowsAfter(eq(1L), eq(start), eq(end),
+                eq(LocalDate.of(2024, 2, 29)), eq(0L), any()))
+                .thenReturn(List.of(row(1L, start)));
+
+        // when
+        WorkRecordDto.CalendarPageResponse result =
+                workRecordQueryService.getWorkRecordPageByWorkplace(1L, start, end, null, 100);
+
+        // then
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("캘린더 커서 페이지 조회 실패 - 잘못된 커서")
+    void getWorkRecordPageByWorkplace_InvalidCursor() {
+        assertThatThrownBy(() -> workRecordQueryService.getWorkRecordPageByWorkplace(
+                1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), "not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private WorkRecordCalendarRow row(Long id, LocalDate workDate) {
+        return new WorkRecordCalendarRow(id, 1L, "홍길동", "테스트 사업장", workDate,
+                LocalTime.of(9, 0), LocalTime.of(18, 0), 60, BigDecimal.valueOf(10000), WorkRecordStatus.SCHEDULED);
+    }
 }
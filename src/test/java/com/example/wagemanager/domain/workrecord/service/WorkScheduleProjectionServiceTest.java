@@ -0,0 +1,106 @@
+package com.example.wagemanager.domain.workrecord.service;
+
+import com.example.wagemanager.domain.contract.entity.WorkerContract;
+import com.example.wagemanager.domain.contract.service.WorkScheduleCache;
+import com.example.wagemanager.domain.workrecord.entity.WorkRecord;
+import com.example.wagemanager.domain.workrecord.enums.WorkRecordStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WorkScheduleProjectionService 테스트")
+class WorkScheduleProjectionServiceTest {
+
+    // 월/수 09:00 ~ 18:00
+    private static final String SCHEDULES = "[{\"dayOfWeek\":1,\"startTime\":\"09:00\",\"endTime\":\"18:00\"}," +
+            "{\"dayOfWeek\":3,\"startTime\":\"09:00\",\"endTime\":\"18:00\"}]";
+
+    private WorkScheduleProjectionService projectionService;
+
+    // 다음 주 이후의 월요일
+    private LocalDate monday;
+
+    @BeforeEach
+    void setUp() {
+        projectionService = new WorkScheduleProjectionService(new WorkScheduleCache(new ObjectMapper(), 100));
+        monday = LocalDate.now().plusDays(7).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    @DisplayName("실제 근무 기록이 없는 스케줄 날짜만 계산")
+    void forEachVirtualShift_SkipsOccupiedDates() {
+        // given
+        WorkerContract contract = contract(1L, monday.minusMonths(1), null);
+        WorkRecord deleted = WorkRecord.builder()
+                .contract(contract)
+                .workDate(monday)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .status(WorkRecordStatus.DELETED)
+                .build();
+
+        // when
+        List<LocalDate> dates = project(List.of(contract), List.of(deleted), monday, monday.plusDays(13));
+
+        // then
+        assertThat(dates).containsExactly(monday.plusDays(2), monday.plusDays(7), monday.plusDays(9));
+    }
+
+    @Test
+    @DisplayName("오늘 이전 날짜와 계약 기간 밖은 계산하지 않음")
+    void forEachVirtualShift_ClipsToFutureAndContractPeriod() {
+        // given
+        LocalDate today = LocalDate.now();
+        WorkerContract contract = contract(1L, monday.plusDays(1), monday.plusDays(8));
+
+        // when
+        List<LocalDate> dates = project(List.of(contract), List.of(), today.minusDays(14), monday.plusDays(13));
+
+        // then
+        assertThat(dates).containsExactly(monday.plusDays(2), monday.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("근무 스케줄이 없는 계약은 건너뜀")
+    void forEachVirtualShift_EmptySchedule() {
+        // given
+        WorkerContract contract = contract(1L, monday, null);
+        contract.update(null, "[]", null, null, null);
+
+        // when
+        List<LocalDate> dates = project(List.of(contract), List.of(), monday, monday.plusDays(6));
+
+        // then
+        assertThat(dates).isEmpty();
+    }
+
+    private List<LocalDate> project(List<WorkerContract> contracts, List<WorkRecord> records,
+                                    LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> dates = new ArrayList<>();
+        projectionService.forEachVirtualShift(contracts, records, startDate, endDate,
+                (contract, workDate, shift) -> dates.add(workDate));
+        return dates;
+    }
+
+    private WorkerContract contract(Long id, LocalDate startDate, LocalDate endDate) {
+        return WorkerContract.builder()
+                .id(id)
+                .hourlyWage(BigDecimal.valueOf(10000))
+                .workSchedules(SCHEDULES)
+                .contractStartDate(startDate)
+                .contractEndDate(endDate)
+                .paymentDay(25)
+                .build();
+    }
+}
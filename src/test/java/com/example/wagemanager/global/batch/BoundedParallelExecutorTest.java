@@ -0,0 +1,92 @@
+package com.example.wagemanager.global.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BoundedParallelExecutor 테스트")
+class BoundedParallelExecutorTest {
+
+    @Test
+    @DisplayName("입력 순서대로 결과 반환")
+    void invokeAll_PreservesOrder() {
+        // given
+        BoundedParallelExecutor executor = new BoundedParallelExecutor("test", 4, 2);
+        List<Integer> items = IntStream.rangeClosed(1, 20).boxed().toList();
+
+        // when
+        List<Integer> results = executor.invokeAll(items, i -> i * 10);
+
+        // then
+        assertThat(results).containsExactlyElementsOf(items.stream().map(i -> i * 10).toList());
+    }
+
+    @Test
+    @DisplayName("동시 실행 작업 수와 DB 구간 동시 실행 수를 각각 제한")
+    void invokeAll_RespectsLimits() {
+        // given
+        BoundedParallelExecutor executor = new BoundedParallelExecutor("test", 4, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger inDb = new AtomicInteger();
+        AtomicInteger maxInDb = new AtomicInteger();
+
+        // when
+        executor.invokeAll(IntStream.range(0, 30).boxed().toList(), i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                sleep(5);
+                return executor.withDbPermit(() -> {
+                    maxInDb.accumulateAndGet(inDb.incrementAndGet(), Math::max);
+                    sleep(5);
+                    inDb.decrementAndGet();
+                    return i;
+                });
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(4);
+        assertThat(maxInDb.get()).isLessThanOrEqualTo(2);
+        assertThat(executor.availableDbPermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업 예외는 모든 작업이 끝난 뒤 전파")
+    void invokeAll_PropagatesException() {
+        // given
+        BoundedParallelExecutor executor = new BoundedParallelExecutor("test", 2, 1);
+        AtomicInteger completed = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> executor.invokeAll(List.of(1, 2, 3), i -> {
+            if (i == 2) {
+                throw new IllegalArgumentException("실패");
+            }
+            return completed.incrementAndGet();
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(completed.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 실행 수가 1 미만이면 예외")
+    void constructor_InvalidLimits() {
+        assertThatThrownBy(() -> new BoundedParallelExecutor("test", 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.wagemanager.global.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchedulerLeaseManager 테스트")
+class SchedulerLeaseManagerTest {
+
+    private static final String LEASE = "test-job";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SchedulerLeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        leaseManager = new SchedulerLeaseManager(schedulerLeaseRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("같은 노드에서 리스를 보유 중이면 다시 획득하지 못하고 반환 후에는 획득")
+    void tryAcquire_NotReentrantOnSameNode() {
+        // given
+        when(schedulerLeaseRepository.tryAcquire(eq(LEASE), anyString(), any(), any())).thenReturn(1);
+        assertThat(leaseManager.tryAcquire(LEASE, TTL)).isTrue();
+
+        // when
+        boolean overlapping = leaseManager.tryAcquire(LEASE, TTL);
+        leaseManager.release(LEASE);
+        boolean afterRelease = leaseManager.tryAcquire(LEASE, TTL);
+
+        // then
+        assertThat(overlapping).isFalse();
+        assertThat(afterRelease).isTrue();
+        verify(schedulerLeaseRepository, times(2)).tryAcquire(eq(LEASE), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 보유 중이면 획득에 실패하고 이후 다시 시도할 수 있음")
+    void tryAcquire_HeldByOtherNode() {
+        // given
+        when(schedulerLeaseRepository.tryAcquire(eq(LEASE), anyString(), any(), any())).thenReturn(0, 1);
+        when(schedulerLeaseRepository.insert(eq(LEASE), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        boolean first = leaseManager.tryAcquire(LEASE, TTL);
+        boolean second = leaseManager.tryAcquire(LEASE, TTL);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+    }
+}